@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.hash.HashCode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Compare the cursor encoding with the Java serialization, gzip and hex encoding it replaces, on a
+ * project of a scan holding a scroll id. The size of the cursors encoded is reported as a counter.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PlanSerializerBenchmark {
+
+  @Param(value = {"5", "50"})
+  private int fields;
+
+  private final PlanSerializer planSerializer = new PlanSerializer(null);
+
+  private PhysicalPlan plan;
+
+  private String cursor;
+
+  private String javaCursor;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<NamedExpression> projectList =
+        IntStream.range(0, fields)
+            .mapToObj(i -> named("field" + i, ref("field" + i, STRING)))
+            .collect(Collectors.toList());
+    byte[] scrollId = new byte[200];
+    new Random(0).nextBytes(scrollId);
+    plan =
+        new ProjectOperator(
+            new ScrollScan(HashCode.fromBytes(scrollId).toString()), projectList, List.of());
+
+    cursor = planSerializer.convertToCursor(plan).toString();
+    javaCursor = javaEncode(plan);
+  }
+
+  @Benchmark
+  public String encode(CursorSize size) {
+    String encoded = planSerializer.convertToCursor(plan).toString();
+    size.chars = encoded.length();
+    return encoded;
+  }
+
+  @Benchmark
+  public PhysicalPlan decode() {
+    return planSerializer.convertToPlan(cursor);
+  }
+
+  @Benchmark
+  public String javaEncode(CursorSize size) throws IOException {
+    String encoded = javaEncode(plan);
+    size.chars = encoded.length();
+    return encoded;
+  }
+
+  @Benchmark
+  public Object javaDecode() throws IOException, ClassNotFoundException {
+    GZIPInputStream gzip =
+        new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(javaCursor).asBytes()));
+    return new ObjectInputStream(new ByteArrayInputStream(gzip.readAllBytes())).readObject();
+  }
+
+  private static String javaEncode(PhysicalPlan plan) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(plan);
+    objectOutput.flush();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GZIPOutputStream gzip =
+        new GZIPOutputStream(out) {
+          {
+            this.def.setLevel(Deflater.BEST_COMPRESSION);
+          }
+        };
+    gzip.write(output.toByteArray());
+    gzip.close();
+    return HashCode.fromBytes(out.toByteArray()).toString();
+  }
+
+  /** Size of the cursor encoded by a benchmark, reported next to its time. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CursorSize {
+    /** Number of characters of the cursor. */
+    public long chars;
+  }
+
+  /** Scan which only holds the scroll id of the next page, like a scroll request does. */
+  public static class ScrollScan extends TableScanOperator implements SerializablePlan {
+    private String scrollId;
+
+    public ScrollScan() {}
+
+    ScrollScan(String scrollId) {
+      this.scrollId = scrollId;
+    }
+
+    @Override
+    public String explain() {
+      return scrollId;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public ExprValue next() {
+      return null;
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      scrollId = in.readUTF();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      out.writeUTF(scrollId);
+    }
+  }
+}
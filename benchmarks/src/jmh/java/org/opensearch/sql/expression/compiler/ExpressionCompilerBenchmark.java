@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/** Compare the compiled expression with the interpretation of the same expression tree. */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionCompilerBenchmark {
+
+  private static final int ROWS = 1000;
+
+  @Param(value = {"filter", "arithmetic", "double"})
+  private String testExpression;
+
+  private Expression interpreted;
+
+  private Expression compiled;
+
+  private final List<BindingTuple> rows = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    switch (testExpression) {
+      case "filter":
+        interpreted =
+            DSL.and(
+                DSL.greater(ref("age", INTEGER), literal(30)),
+                DSL.not(DSL.equal(ref("balance", LONG), literal(0L))));
+        break;
+      case "arithmetic":
+        interpreted =
+            DSL.add(
+                DSL.multiply(ref("age", INTEGER), literal(2)),
+                DSL.subtract(ref("age", INTEGER), literal(1)));
+        break;
+      default:
+        interpreted =
+            DSL.lte(DSL.multiply(ref("price", DOUBLE), ref("price", DOUBLE)), literal(2500D));
+    }
+    compiled = ExpressionCompiler.compile(interpreted);
+
+    for (int i = 0; i < ROWS; i++) {
+      rows.add(
+          ExprValueUtils.tupleValue(
+                  ImmutableMap.of("age", i % 80, "balance", (long) i % 7, "price", i * 0.1D))
+              .bindingTuples());
+    }
+  }
+
+  @Benchmark
+  public void interpret(Blackhole blackhole) {
+    run(interpreted, blackhole);
+  }
+
+  @Benchmark
+  public void compile(Blackhole blackhole) {
+    run(compiled, blackhole);
+  }
+
+  private void run(Expression expression, Blackhole blackhole) {
+    for (BindingTuple row : rows) {
+      ExprValue value = expression.valueOf(row);
+      blackhole.consume(value);
+    }
+  }
+}
@@ -22,6 +22,7 @@ public abstract class Settings {
     SQL_ENABLED("plugins.sql.enabled"),
     SQL_SLOWLOG("plugins.sql.slowlog"),
     SQL_CURSOR_KEEP_ALIVE("plugins.sql.cursor.keep_alive"),
+    SQL_CURSOR_STORE_ENABLED("plugins.sql.cursor.store.enabled"),
     SQL_DELETE_ENABLED("plugins.sql.delete.enabled"),
 
     /** PPL Settings. */
@@ -30,6 +31,17 @@ public abstract class Settings {
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SORT_SPILL_THRESHOLD("plugins.query.sort.spill_threshold"),
+    QUERY_AGGREGATION_SPILL_THRESHOLD("plugins.query.aggregation.spill_threshold"),
+    QUERY_SCAN_PREFETCH_PAGES("plugins.query.scan.prefetch_pages"),
+    QUERY_SCAN_MAX_SLICES("plugins.query.scan.max_slices"),
+    QUERY_SCAN_POINT_IN_TIME("plugins.query.scan.point_in_time"),
+    QUERY_SCAN_DOC_VALUES("plugins.query.scan.doc_values"),
+    QUERY_SCAN_LATE_MATERIALIZATION_ROWS("plugins.query.scan.late_materialization_rows"),
+    QUERY_SCAN_DISTRIBUTED_FRAGMENTS("plugins.query.scan.distributed_fragments"),
+    QUERY_SCAN_EXPRESSION_CODEC("plugins.query.scan.expression_codec"),
+    QUERY_AGGREGATION_PAGE_SIZE("plugins.query.aggregation.page_size"),
+    QUERY_MAPPING_CACHE_ENABLED("plugins.query.mapping_cache.enabled"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
@@ -67,6 +67,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
@@ -285,17 +286,39 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     return visitIn(node.getField(), node.getValueList(), context);
   }
 
+  /**
+   * IN of literal values of the field type is analyzed to a hash set based {@link InPredicate}.
+   * Otherwise, it is the OR of equality comparisons, which is balanced to keep the expression
+   * shallow for a long value list.
+   */
   private Expression visitIn(
       UnresolvedExpression field, List<UnresolvedExpression> valueList, AnalysisContext context) {
+    if (valueList.isEmpty()) {
+      throw new SemanticCheckException("Values in In clause should not be empty");
+    } else if (valueList.size() == 1) {
+      return visitCompare(new Compare("=", field, valueList.get(0)), context);
+    }
+
+    Expression fieldExpr = analyze(field, context);
+    List<Expression> values =
+        valueList.stream().map(value -> analyze(value, context)).collect(Collectors.toList());
+    if (InPredicate.isApplicable(fieldExpr, values)) {
+      return new InPredicate(
+          fieldExpr,
+          values.stream().map(LiteralExpression.class::cast).collect(Collectors.toList()));
+    }
+    return visitEqualityComparisons(field, valueList, context);
+  }
+
+  private Expression visitEqualityComparisons(
+      UnresolvedExpression field, List<UnresolvedExpression> valueList, AnalysisContext context) {
     if (valueList.size() == 1) {
       return visitCompare(new Compare("=", field, valueList.get(0)), context);
-    } else if (valueList.size() > 1) {
-      return DSL.or(
-          visitCompare(new Compare("=", field, valueList.get(0)), context),
-          visitIn(field, valueList.subList(1, valueList.size()), context));
-    } else {
-      throw new SemanticCheckException("Values in In clause should not be empty");
     }
+    int middle = valueList.size() / 2;
+    return DSL.or(
+        visitEqualityComparisons(field, valueList.subList(0, middle), context),
+        visitEqualityComparisons(field, valueList.subList(middle, valueList.size()), context));
   }
 
   @Override
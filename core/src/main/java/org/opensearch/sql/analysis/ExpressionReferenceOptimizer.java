@@ -19,6 +19,7 @@ import org.opensearch.sql.expression.conditional.cases.CaseClause;
 import org.opensearch.sql.expression.conditional.cases.WhenClause;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
@@ -120,6 +121,14 @@ public class ExpressionReferenceOptimizer
         node.getCondition().accept(this, context), node.getResult().accept(this, context));
   }
 
+  @Override
+  public Expression visitIn(InPredicate node, AnalysisContext context) {
+    if (expressionMap.containsKey(node)) {
+      return expressionMap.get(node);
+    }
+    return new InPredicate(node.getField().accept(this, context), node.getValueList());
+  }
+
   /** Expression Map Builder. */
   class ExpressionMapBuilder extends LogicalPlanNodeVisitor<Void, Void> {
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/** Column vector of boolean values. */
+@Getter
+public class BooleanVector extends PrimitiveVector {
+
+  private final boolean[] values;
+
+  /**
+   * Constructor of BooleanVector.
+   *
+   * @param values values, the value of a null slot is ignored
+   * @param nulls null flags, or null if there is no null value
+   */
+  public BooleanVector(boolean[] values, boolean[] nulls) {
+    super(nulls);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public ExprValue get(int index) {
+    return isNull(index) ? ExprNullValue.of() : ExprBooleanValue.of(values[index]);
+  }
+
+  @Override
+  public ColumnVector select(boolean[] selected, int count) {
+    boolean[] result = new boolean[count];
+    for (int i = 0, j = 0; j < count; i++) {
+      if (selected[i]) {
+        result[j++] = values[i];
+      }
+    }
+    return new BooleanVector(result, selectNulls(selected, count));
+  }
+}
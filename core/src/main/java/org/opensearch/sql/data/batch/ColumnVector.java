@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.Arrays;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * The values of one field in a {@link RowBatch}. Integer, long, double and boolean values are kept
+ * in primitive arrays so that expressions on them can be evaluated in tight loops, all the other
+ * values are kept as {@link ExprValue}.
+ */
+public interface ColumnVector {
+
+  /** Number of values in the vector. */
+  int size();
+
+  /** Get the value at the index. */
+  ExprValue get(int index);
+
+  /**
+   * Keep the values whose selected flag is set.
+   *
+   * @param selected selected flag of each value
+   * @param count number of selected values
+   * @return vector of the selected values
+   */
+  ColumnVector select(boolean[] selected, int count);
+
+  /**
+   * Create a vector holding the values. The values are stored in a primitive array only if all the
+   * non-null values are of the same primitive value class.
+   *
+   * @param values values
+   * @return column vector
+   */
+  static ColumnVector of(ExprValue[] values) {
+    Class<?> clazz = null;
+    boolean[] nulls = new boolean[values.length];
+    boolean hasNull = false;
+    for (int i = 0; i < values.length; i++) {
+      if (values[i].isNull()) {
+        nulls[i] = hasNull = true;
+      } else if (clazz == null) {
+        clazz = values[i].getClass();
+      } else if (clazz != values[i].getClass()) {
+        return new ValueVector(values);
+      }
+    }
+
+    boolean[] nullFlags = hasNull ? nulls : null;
+    if (clazz == ExprIntegerValue.class || clazz == ExprLongValue.class) {
+      long[] longs = new long[values.length];
+      for (int i = 0; i < values.length; i++) {
+        longs[i] = nulls[i] ? 0L : values[i].longValue();
+      }
+      return new LongVector(clazz == ExprIntegerValue.class ? INTEGER : LONG, longs, nullFlags);
+    } else if (clazz == ExprDoubleValue.class) {
+      double[] doubles = new double[values.length];
+      for (int i = 0; i < values.length; i++) {
+        doubles[i] = nulls[i] ? 0D : values[i].doubleValue();
+      }
+      return new DoubleVector(doubles, nullFlags);
+    } else if (clazz == ExprBooleanValue.class) {
+      boolean[] booleans = new boolean[values.length];
+      for (int i = 0; i < values.length; i++) {
+        booleans[i] = !nulls[i] && values[i].booleanValue();
+      }
+      return new BooleanVector(booleans, nullFlags);
+    }
+    return new ValueVector(values);
+  }
+
+  /**
+   * Create a vector repeating the same value.
+   *
+   * @param value value
+   * @param size number of values
+   * @return column vector
+   */
+  static ColumnVector constant(ExprValue value, int size) {
+    ExprValue[] values = new ExprValue[size];
+    Arrays.fill(values, value);
+    return of(values);
+  }
+}
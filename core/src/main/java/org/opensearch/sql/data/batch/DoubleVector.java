@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/** Column vector of {@link ExprCoreType#DOUBLE} values. */
+@Getter
+public class DoubleVector extends PrimitiveVector {
+
+  private final double[] values;
+
+  /**
+   * Constructor of DoubleVector.
+   *
+   * @param values values, the value of a null slot is ignored
+   * @param nulls null flags, or null if there is no null value
+   */
+  public DoubleVector(double[] values, boolean[] nulls) {
+    super(nulls);
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public ExprValue get(int index) {
+    return isNull(index) ? ExprNullValue.of() : new ExprDoubleValue(values[index]);
+  }
+
+  @Override
+  public ColumnVector select(boolean[] selected, int count) {
+    double[] result = new double[count];
+    for (int i = 0, j = 0; j < count; i++) {
+      if (selected[i]) {
+        result[j++] = values[i];
+      }
+    }
+    return new DoubleVector(result, selectNulls(selected, count));
+  }
+}
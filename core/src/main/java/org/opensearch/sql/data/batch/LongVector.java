@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/** Column vector of {@link ExprCoreType#INTEGER} or {@link ExprCoreType#LONG} values. */
+@Getter
+public class LongVector extends PrimitiveVector {
+
+  private final ExprCoreType type;
+
+  private final long[] values;
+
+  /**
+   * Constructor of LongVector.
+   *
+   * @param type INTEGER or LONG
+   * @param values values, the value of a null slot is ignored
+   * @param nulls null flags, or null if there is no null value
+   */
+  public LongVector(ExprCoreType type, long[] values, boolean[] nulls) {
+    super(nulls);
+    this.type = type;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public ExprValue get(int index) {
+    if (isNull(index)) {
+      return ExprNullValue.of();
+    }
+    return (type == INTEGER)
+        ? new ExprIntegerValue((int) values[index])
+        : new ExprLongValue(values[index]);
+  }
+
+  @Override
+  public ColumnVector select(boolean[] selected, int count) {
+    long[] result = new long[count];
+    for (int i = 0, j = 0; j < count; i++) {
+      if (selected[i]) {
+        result[j++] = values[i];
+      }
+    }
+    return new LongVector(type, result, selectNulls(selected, count));
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Column vector of primitive values with optional null flags. */
+@RequiredArgsConstructor
+public abstract class PrimitiveVector implements ColumnVector {
+
+  /** Null flag of each value, or null if none of the values is null. */
+  @Getter private final boolean[] nulls;
+
+  /** Whether the value at the index is null. */
+  public boolean isNull(int index) {
+    return nulls != null && nulls[index];
+  }
+
+  /** Null flags of the selected values, see {@link ColumnVector#select}. */
+  protected boolean[] selectNulls(boolean[] selected, int count) {
+    if (nulls == null) {
+      return null;
+    }
+    boolean[] result = new boolean[count];
+    for (int i = 0, j = 0; j < count; i++) {
+      if (selected[i]) {
+        result[j++] = nulls[i];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Combine the null flags of two vectors of the same size. A value is null if it is null in any of
+   * the vectors.
+   */
+  public static boolean[] union(PrimitiveVector left, PrimitiveVector right) {
+    if (left.nulls == null) {
+      return right.nulls;
+    } else if (right.nulls == null) {
+      return left.nulls;
+    }
+    boolean[] result = new boolean[left.nulls.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = left.nulls[i] | right.nulls[i];
+    }
+    return result;
+  }
+}
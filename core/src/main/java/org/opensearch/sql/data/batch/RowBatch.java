@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
+
+/**
+ * A batch of rows moved between physical operators at once. The batch is either backed by rows or
+ * by one {@link ColumnVector} per field, and the other representation is built lazily on first
+ * access. Rows can be viewed as columns only if all of them are tuples with the same fields in the
+ * same order, so that the conversion in both directions is lossless.
+ */
+public class RowBatch {
+
+  /** Default max number of rows in a batch. */
+  public static final int DEFAULT_SIZE = 1024;
+
+  private static final RowBatch EMPTY = ofRows(Collections.emptyList());
+
+  private final int size;
+
+  private List<ExprValue> rows;
+
+  private Map<String, ColumnVector> columns;
+
+  /** Whether the rows have been tried to be converted to columns. */
+  private boolean columnsResolved;
+
+  private RowBatch(int size, List<ExprValue> rows, Map<String, ColumnVector> columns) {
+    this.size = size;
+    this.rows = rows;
+    this.columns = columns;
+    this.columnsResolved = (columns != null);
+  }
+
+  /** Empty batch which indicates the end of input. */
+  public static RowBatch empty() {
+    return EMPTY;
+  }
+
+  /** Create a batch backed by rows. */
+  public static RowBatch ofRows(List<ExprValue> rows) {
+    return new RowBatch(rows.size(), rows, null);
+  }
+
+  /**
+   * Create a batch backed by columns.
+   *
+   * @param size number of rows
+   * @param columns column vectors of the fields in order, each of the same size
+   * @return row batch
+   */
+  public static RowBatch ofColumns(int size, Map<String, ColumnVector> columns) {
+    return new RowBatch(size, null, columns);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Rows of the batch. */
+  public List<ExprValue> rows() {
+    if (rows == null) {
+      RowSchema schema = new RowSchema(new ArrayList<>(columns.keySet()));
+      List<ColumnVector> vectors = new ArrayList<>(columns.values());
+      List<ExprValue> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        ExprValue[] values = new ExprValue[vectors.size()];
+        for (int j = 0; j < values.length; j++) {
+          values[j] = vectors.get(j).get(i);
+        }
+        result.add(new ExprRowValue(schema, values));
+      }
+      rows = result;
+    }
+    return rows;
+  }
+
+  /** Whether the batch can be viewed as columns by {@link #columns()}. */
+  public boolean isColumnar() {
+    if (!columnsResolved) {
+      columns = toColumns(rows);
+      columnsResolved = true;
+    }
+    return columns != null;
+  }
+
+  /** Columns of the batch by field name. Only available if {@link #isColumnar()}. */
+  public Map<String, ColumnVector> columns() {
+    if (!isColumnar()) {
+      throw new IllegalStateException("Row batch can't be viewed as columns");
+    }
+    return columns;
+  }
+
+  /**
+   * Keep the rows whose selected flag is set.
+   *
+   * @param selected selected flag of each row
+   * @return batch of the selected rows
+   */
+  public RowBatch select(boolean[] selected) {
+    int count = 0;
+    for (boolean flag : selected) {
+      count += flag ? 1 : 0;
+    }
+    if (count == size) {
+      return this;
+    }
+
+    if (rows == null) {
+      Map<String, ColumnVector> result = new LinkedHashMap<>();
+      for (Map.Entry<String, ColumnVector> column : columns.entrySet()) {
+        result.put(column.getKey(), column.getValue().select(selected, count));
+      }
+      return ofColumns(count, result);
+    }
+    List<ExprValue> result = new ArrayList<>(count);
+    for (int i = 0; i < size; i++) {
+      if (selected[i]) {
+        result.add(rows.get(i));
+      }
+    }
+    return ofRows(result);
+  }
+
+  /**
+   * Replace the column of the field, or append it if the field doesn't exist. Only available if
+   * {@link #isColumnar()}.
+   *
+   * @param name field name
+   * @param column column vector of the same size
+   * @return new batch
+   */
+  public RowBatch withColumn(String name, ColumnVector column) {
+    Map<String, ColumnVector> result = new LinkedHashMap<>(columns());
+    result.put(name, column);
+    return ofColumns(size, result);
+  }
+
+  private static Map<String, ColumnVector> toColumns(List<ExprValue> rows) {
+    if (rows.isEmpty() || !(rows.get(0) instanceof ExprTupleValue)) {
+      return null;
+    }
+    List<String> names = new ArrayList<>(rows.get(0).tupleValue().keySet());
+    ExprValue[][] values = new ExprValue[names.size()][rows.size()];
+    for (int i = 0; i < rows.size(); i++) {
+      ExprValue row = rows.get(i);
+      if (!(row instanceof ExprTupleValue) || row.tupleValue().size() != names.size()) {
+        return null;
+      }
+      Iterator<Map.Entry<String, ExprValue>> fields = row.tupleValue().entrySet().iterator();
+      for (int j = 0; j < names.size(); j++) {
+        Map.Entry<String, ExprValue> field = fields.next();
+        if (!names.get(j).equals(field.getKey())) {
+          return null;
+        }
+        values[j][i] = field.getValue();
+      }
+    }
+
+    Map<String, ColumnVector> columns = new LinkedHashMap<>();
+    for (int j = 0; j < names.size(); j++) {
+      columns.put(names.get(j), ColumnVector.of(values[j]));
+    }
+    return columns;
+  }
+}
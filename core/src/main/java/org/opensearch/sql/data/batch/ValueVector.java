@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+
+/** Column vector of any {@link ExprValue}. */
+@RequiredArgsConstructor
+public class ValueVector implements ColumnVector {
+
+  private final ExprValue[] values;
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public ExprValue get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public ColumnVector select(boolean[] selected, int count) {
+    ExprValue[] result = new ExprValue[count];
+    for (int i = 0, j = 0; j < count; i++) {
+      if (selected[i]) {
+        result[j++] = values[i];
+      }
+    }
+    return new ValueVector(result);
+  }
+}
@@ -7,6 +7,7 @@ package org.opensearch.sql.data.model;
 
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
@@ -39,6 +40,11 @@ public class ExprIntervalValue extends AbstractExprValue {
     return interval.equals(other.intervalValue());
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(interval);
+  }
+
   @Override
   public TemporalAmount value() {
     return interval;
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tuple value backed by an array of values and a {@link RowSchema} shared with the other rows of
+ * the same operator. A field is accessed by its ordinal in the schema without any map lookup. The
+ * fields are still available as an ordered map through {@link #tupleValue()}, so a row is
+ * interchangeable with the {@link ExprTupleValue} of the same fields.
+ */
+public class ExprRowValue extends ExprTupleValue {
+
+  @Getter private final RowSchema schema;
+
+  private final ExprValue[] values;
+
+  /**
+   * Constructor of ExprRowValue.
+   *
+   * @param schema row schema
+   * @param values values in the order of the schema, the array is owned by the row
+   */
+  public ExprRowValue(RowSchema schema, ExprValue[] values) {
+    super(new FieldMap(schema, values));
+    this.schema = schema;
+    this.values = values;
+  }
+
+  /**
+   * Get the value by ordinal.
+   *
+   * @param ordinal ordinal of the field in the schema
+   * @return value
+   */
+  public ExprValue valueAt(int ordinal) {
+    return values[ordinal];
+  }
+
+  @Override
+  public ExprValue keyValue(String key) {
+    int ordinal = schema.ordinal(key);
+    return (ordinal < 0) ? ExprMissingValue.of() : values[ordinal];
+  }
+
+  /** Read-only ordered map view of the row. */
+  @RequiredArgsConstructor
+  private static class FieldMap extends AbstractMap<String, ExprValue> implements Serializable {
+    private final RowSchema schema;
+    private final ExprValue[] values;
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key instanceof String) && schema.ordinal((String) key) >= 0;
+    }
+
+    @Override
+    public ExprValue get(Object key) {
+      int ordinal = (key instanceof String) ? schema.ordinal((String) key) : -1;
+      return (ordinal < 0) ? null : values[ordinal];
+    }
+
+    @Override
+    public Set<Entry<String, ExprValue>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return values.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, ExprValue>> iterator() {
+          return new Iterator<>() {
+            private int ordinal = 0;
+
+            @Override
+            public boolean hasNext() {
+              return ordinal < values.length;
+            }
+
+            @Override
+            public Entry<String, ExprValue> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Entry<String, ExprValue> entry =
+                  new SimpleImmutableEntry<>(schema.getNames().get(ordinal), values[ordinal]);
+              ordinal++;
+              return entry;
+            }
+          };
+        }
+      };
+    }
+  }
+}
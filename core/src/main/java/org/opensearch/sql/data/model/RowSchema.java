@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Ordered field names of {@link ExprRowValue}. A physical operator creates the schema of its output
+ * once and shares it among all the rows it produces, so that each row only holds its values.
+ */
+@ToString(of = "names")
+public class RowSchema implements Serializable {
+
+  @Getter private final List<String> names;
+
+  private final Map<String, Integer> ordinals;
+
+  /**
+   * Constructor of RowSchema.
+   *
+   * @param names field names in order, which must be unique
+   */
+  public RowSchema(List<String> names) {
+    this.names = ImmutableList.copyOf(names);
+    ImmutableMap.Builder<String, Integer> builder = new ImmutableMap.Builder<>();
+    for (int i = 0; i < names.size(); i++) {
+      builder.put(names.get(i), i);
+    }
+    this.ordinals = builder.build();
+  }
+
+  /**
+   * Schema of the tuple value.
+   *
+   * @param tuple tuple value
+   * @return the schema of the row, or a new schema of the tuple fields
+   */
+  public static RowSchema of(ExprValue tuple) {
+    if (tuple instanceof ExprRowValue) {
+      return ((ExprRowValue) tuple).getSchema();
+    }
+    return new RowSchema(new ArrayList<>(tuple.tupleValue().keySet()));
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Ordinal of the field.
+   *
+   * @param name field name
+   * @return ordinal of the field, or -1 if the field doesn't exist
+   */
+  public int ordinal(String name) {
+    return ordinals.getOrDefault(name, -1);
+  }
+
+  /**
+   * Whether the tuple has exactly the fields of this schema in the same order. A row of this schema
+   * is matched without comparing the names.
+   *
+   * @param tuple tuple value
+   * @return true if matched
+   */
+  public boolean matches(ExprValue tuple) {
+    if (tuple instanceof ExprRowValue) {
+      return ((ExprRowValue) tuple).getSchema() == this;
+    }
+    Map<String, ExprValue> fields = tuple.tupleValue();
+    if (fields.size() != names.size()) {
+      return false;
+    }
+    Iterator<String> keys = fields.keySet().iterator();
+    for (String name : names) {
+      if (!name.equals(keys.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
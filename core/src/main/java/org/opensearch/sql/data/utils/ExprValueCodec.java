@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Compact binary encoding of {@link ExprValue}. Each value is written as a one byte tag followed by
+ * its payload. Core value classes are encoded field by field, any other value (for example storage
+ * specific subclasses) falls back to Java serialization so that the decoded value is always equal
+ * to, and of the same class as, the encoded one.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte DATETIME = 12;
+  private static final byte TIMESTAMP = 13;
+  private static final byte DURATION = 14;
+  private static final byte PERIOD = 15;
+  private static final byte STRUCT = 16;
+  private static final byte ARRAY = 17;
+  private static final byte SERIALIZED = 127;
+
+  /**
+   * Write value to the output.
+   *
+   * @param out data output
+   * @param value expression value
+   */
+  public static void write(DataOutput out, ExprValue value) throws IOException {
+    Class<?> clazz = value.getClass();
+    if (value.isNull()) {
+      out.writeByte(NULL);
+    } else if (value.isMissing()) {
+      out.writeByte(MISSING);
+    } else if (clazz == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (clazz == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (clazz == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (clazz == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (clazz == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (clazz == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (clazz == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (clazz == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(out, value.stringValue());
+    } else if (clazz == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (clazz == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (clazz == ExprDatetimeValue.class) {
+      out.writeByte(DATETIME);
+      LocalDateTime datetime = value.datetimeValue();
+      out.writeLong(datetime.toLocalDate().toEpochDay());
+      out.writeLong(datetime.toLocalTime().toNanoOfDay());
+    } else if (clazz == ExprTimestampValue.class) {
+      out.writeByte(TIMESTAMP);
+      Instant timestamp = value.timestampValue();
+      out.writeLong(timestamp.getEpochSecond());
+      out.writeInt(timestamp.getNano());
+    } else if (clazz == ExprIntervalValue.class && value.intervalValue() instanceof Duration) {
+      out.writeByte(DURATION);
+      Duration duration = (Duration) value.intervalValue();
+      out.writeLong(duration.getSeconds());
+      out.writeInt(duration.getNano());
+    } else if (clazz == ExprIntervalValue.class && value.intervalValue() instanceof Period) {
+      out.writeByte(PERIOD);
+      Period period = (Period) value.intervalValue();
+      out.writeInt(period.getYears());
+      out.writeInt(period.getMonths());
+      out.writeInt(period.getDays());
+    } else if (value instanceof ExprTupleValue) {
+      out.writeByte(STRUCT);
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(out, entry.getKey());
+        write(out, entry.getValue());
+      }
+    } else if (clazz == ExprCollectionValue.class) {
+      out.writeByte(ARRAY);
+      List<ExprValue> collection = value.collectionValue();
+      out.writeInt(collection.size());
+      for (ExprValue item : collection) {
+        write(out, item);
+      }
+    } else {
+      out.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Read value from the input.
+   *
+   * @param in data input
+   * @return expression value
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case DATETIME:
+        return new ExprDatetimeValue(
+            LocalDateTime.of(
+                LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong())));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case DURATION:
+        return new ExprIntervalValue(Duration.ofSeconds(in.readLong(), in.readInt()));
+      case PERIOD:
+        TemporalAmount period = Period.of(in.readInt(), in.readInt(), in.readInt());
+        return new ExprIntervalValue(period);
+      case STRUCT:
+        int size = in.readInt();
+        LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          String key = readString(in);
+          tuple.put(key, read(in));
+        }
+        return new ExprTupleValue(tuple);
+      case ARRAY:
+        int length = in.readInt();
+        List<ExprValue> collection = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          collection.add(read(in));
+        }
+        return new ExprCollectionValue(collection);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectInput =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (ExprValue) objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException("Failed to deserialize expression value", e);
+        }
+      default:
+        throw new IOException(String.format("Unknown expression value tag %d", tag));
+    }
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -30,9 +30,12 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.StreamingAggregationOperator;
+import org.opensearch.sql.planner.physical.TopKOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 
 /** Visitor that explains a physical plan to JSON format. */
 public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object>
@@ -93,6 +96,19 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                     "groupBy", node.getGroupByExprList().toString())));
   }
 
+  @Override
+  public ExplainResponseNode visitStreamingAggregation(
+      StreamingAggregationOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode ->
+            explainNode.setDescription(
+                ImmutableMap.of(
+                    "aggregators", node.getAggregatorList().toString(),
+                    "groupBy", node.getGroupByExprList().toString())));
+  }
+
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
     return explain(
@@ -171,6 +187,14 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                     "groupBy", node.getGroupByExprList().toString())));
   }
 
+  @Override
+  public ExplainResponseNode visitTableFetch(TableFetchOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode -> explainNode.setDescription(ImmutableMap.of("request", node.explain())));
+  }
+
   @Override
   public ExplainResponseNode visitValues(ValuesOperator node, Object context) {
     return explain(
@@ -189,6 +213,22 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                 ImmutableMap.of("limit", node.getLimit(), "offset", node.getOffset())));
   }
 
+  @Override
+  public ExplainResponseNode visitTopK(TopKOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode ->
+            explainNode.setDescription(
+                ImmutableMap.of(
+                    "sortList",
+                    describeSortList(node.getSortList()),
+                    "limit",
+                    node.getLimit(),
+                    "offset",
+                    node.getOffset())));
+  }
+
   @Override
   public ExplainResponseNode visitNested(NestedOperator node, Object context) {
     return explain(
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.execution;
+
+import java.util.function.BiFunction;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.pagination.CursorStore;
+
+/**
+ * Plan of a request which sends back the cursor of a paged query. The cursor is resolved by the
+ * {@link CursorStore} once the plan is executed, by the worker thread rather than the thread which
+ * received the request, as it may be fetched from another node. It is released once the request
+ * succeeds, and kept to retry the request otherwise.
+ */
+public class CursorPlan extends AbstractPlan {
+
+  private final String cursor;
+
+  private final CursorStore cursorStore;
+
+  /** Plan of the request over the resolved cursor, which responds to the given listener. */
+  private final BiFunction<String, ResponseListener<ExecutionEngine.QueryResponse>, AbstractPlan>
+      planOf;
+
+  private final ResponseListener<ExecutionEngine.QueryResponse> listener;
+
+  /** Constructor. */
+  public CursorPlan(
+      QueryId queryId,
+      String cursor,
+      CursorStore cursorStore,
+      BiFunction<String, ResponseListener<ExecutionEngine.QueryResponse>, AbstractPlan> planOf,
+      ResponseListener<ExecutionEngine.QueryResponse> listener) {
+    super(queryId);
+    this.cursor = cursor;
+    this.cursorStore = cursorStore;
+    this.planOf = planOf;
+    this.listener = listener;
+  }
+
+  @Override
+  public void execute() {
+    AbstractPlan plan;
+    try {
+      plan =
+          planOf.apply(
+              cursorStore.resolve(cursor),
+              new ResponseListener<>() {
+                @Override
+                public void onResponse(ExecutionEngine.QueryResponse response) {
+                  cursorStore.release(cursor);
+                  listener.onResponse(response);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                  listener.onFailure(e);
+                }
+              });
+    } catch (Exception e) {
+      listener.onFailure(e);
+      return;
+    }
+    plan.execute();
+  }
+
+  @Override
+  public void explain(ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
+    String resolved;
+    try {
+      resolved = cursorStore.resolve(cursor);
+    } catch (Exception e) {
+      explainListener.onFailure(e);
+      return;
+    }
+    planOf.apply(resolved, listener).explain(explainListener);
+  }
+}
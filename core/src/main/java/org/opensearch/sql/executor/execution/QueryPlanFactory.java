@@ -26,6 +26,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 /** QueryExecution Factory. */
 @RequiredArgsConstructor
@@ -39,6 +40,13 @@ public class QueryPlanFactory
   /** Query Service. */
   private final QueryService queryService;
 
+  /** Store of the cursors sent back by the clients as short ids. */
+  private final CursorStore cursorStore;
+
+  public QueryPlanFactory(QueryService queryService) {
+    this(queryService, CursorStore.NONE);
+  }
+
   /**
    * NO_CONSUMER_RESPONSE_LISTENER should never be called. It is only used as constructor parameter
    * of {@link QueryPlan}.
@@ -75,7 +83,14 @@ public class QueryPlanFactory
       ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     QueryId queryId = QueryId.queryId();
-    var plan = new QueryPlan(queryId, new FetchCursor(cursor), queryService, queryResponseListener);
+    var plan =
+        new CursorPlan(
+            queryId,
+            cursor,
+            cursorStore,
+            (resolved, listener) ->
+                new QueryPlan(queryId, new FetchCursor(resolved), queryService, listener),
+            queryResponseListener);
     return isExplain ? new ExplainPlan(queryId, plan, explainListener) : plan;
   }
 
@@ -86,10 +101,17 @@ public class QueryPlanFactory
   /** Creates a {@link CloseCursor} command on a cursor. */
   public AbstractPlan createCloseCursor(
       String cursor, ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener) {
-    return new CommandPlan(
-        QueryId.queryId(),
-        new CloseCursor().attach(new FetchCursor(cursor)),
-        queryService,
+    QueryId queryId = QueryId.queryId();
+    return new CursorPlan(
+        queryId,
+        cursor,
+        cursorStore,
+        (resolved, listener) ->
+            new CommandPlan(
+                queryId,
+                new CloseCursor().attach(new FetchCursor(resolved)),
+                queryService,
+                listener),
         queryResponseListener);
   }
 
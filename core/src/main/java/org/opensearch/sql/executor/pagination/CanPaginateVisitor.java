@@ -7,6 +7,7 @@ package org.opensearch.sql.executor.pagination;
 
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.Node;
+import org.opensearch.sql.ast.expression.AggregateFunction;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.AllFields;
 import org.opensearch.sql.ast.expression.And;
@@ -52,7 +53,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionName;
  * Currently, V2 engine does not support queries with:<br>
  *
  * <ul>
- *   <li>aggregation (GROUP BY clause or aggregation functions like min/max)
+ *   <li>aggregation without GROUP BY clause, or with HAVING or ORDER BY clause
  *   <li>in memory aggregation (window function)
  *   <li>LIMIT/OFFSET clause(s)
  *   <li>without FROM clause
@@ -86,23 +87,37 @@ public class CanPaginateVisitor extends AbstractNodeVisitor<Boolean, Object> {
   // Only column references in ORDER BY clause are supported in pagination,
   // because expressions can't be pushed down due to #1471.
   // https://github.com/opensearch-project/sql/issues/1471
+  // Groups sorted by an aggregator are sorted in memory, so the sort of groups isn't paged through.
   @Override
   public Boolean visitSort(Sort node, Object context) {
-    return node.getSortList().stream()
+    return !(node.getChild().get(0) instanceof Aggregation)
+        && node.getSortList().stream()
             .allMatch(f -> f.getField() instanceof QualifiedName && visitField(f, context))
         && canPaginate(node, context);
   }
 
-  // For queries with WHERE clause:
+  // For queries with WHERE clause, but not HAVING clause which filters the groups in memory:
   @Override
   public Boolean visitFilter(Filter node, Object context) {
-    return canPaginate(node, context) && node.getCondition().accept(this, context);
+    return !(node.getChild().get(0) instanceof Aggregation)
+        && canPaginate(node, context)
+        && node.getCondition().accept(this, context);
   }
 
-  // Queries with GROUP BY clause are not supported
+  // Queries with GROUP BY clause are paged through the groups, which are returned in order of the
+  // group keys. Aggregations without GROUP BY clause and PPL spans are not supported.
   @Override
   public Boolean visitAggregation(Aggregation node, Object context) {
-    return Boolean.FALSE;
+    return !node.getGroupExprList().isEmpty()
+        && node.getSpan() == null
+        && node.getAggExprList().stream().allMatch(n -> n.accept(this, context))
+        && node.getGroupExprList().stream().allMatch(n -> n.accept(this, context))
+        && canPaginate(node, context);
+  }
+
+  @Override
+  public Boolean visitAggregateFunction(AggregateFunction node, Object context) {
+    return canPaginate(node, context);
   }
 
   // For queries without FROM clause:
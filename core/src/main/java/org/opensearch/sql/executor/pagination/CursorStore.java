@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+/**
+ * Store of the cursors of paged queries, which keeps the self-contained cursors made by {@link
+ * PlanSerializer} on the server and hands out short ids of them to the clients instead.
+ */
+public interface CursorStore {
+
+  /** Store which keeps no cursor, so that the clients get the self-contained cursors. */
+  CursorStore NONE =
+      new CursorStore() {
+        @Override
+        public Cursor store(Cursor cursor) {
+          return cursor;
+        }
+
+        @Override
+        public String resolve(String cursor) {
+          return cursor;
+        }
+
+        @Override
+        public void release(String cursor) {}
+      };
+
+  /**
+   * Store a cursor.
+   *
+   * @param cursor self-contained cursor
+   * @return id of the stored cursor, or the self-contained cursor if it isn't stored
+   */
+  Cursor store(Cursor cursor);
+
+  /**
+   * Get the cursor stored under an id, which is kept until {@link #release released} so that a
+   * failed request can be retried with the same id. The cursor may have to be fetched from another
+   * node, so it is only resolved by the worker thread executing the request.
+   *
+   * @param cursor cursor sent by the client
+   * @return self-contained cursor stored under the id, or the cursor if it isn't an id
+   */
+  String resolve(String cursor);
+
+  /**
+   * Drop the cursor stored under an id once the request which resolved it succeeded.
+   *
+   * @param cursor cursor sent by the client
+   */
+  void release(String cursor);
+}
@@ -5,18 +5,24 @@
 
 package org.opensearch.sql.executor.pagination;
 
-import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
+import java.io.ObjectInput;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import java.util.zip.Deflater;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -26,11 +32,24 @@ import org.opensearch.sql.storage.StorageEngine;
 /**
  * This class is entry point to paged requests. It is responsible to cursor serialization and
  * deserialization.
+ *
+ * <p>A cursor is the {@link #CURSOR_PREFIX} followed by the URL-safe Base64 encoding, without
+ * padding, of a version byte and the raw deflated body. In the body each object is written as a one
+ * byte tag followed by its payload: a {@link SerializablePlan} node is its class name and the
+ * fields written by {@link SerializablePlan#writeExternal}, any other object (for example the
+ * expressions of a plan) falls back to Java serialization.
  */
 @RequiredArgsConstructor
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the cursor encoding, which is the first byte of the encoded cursor. */
+  static final byte VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte PLAN = 1;
+  private static final byte SERIALIZED = 2;
+
   private final StorageEngine engine;
 
   /** Converts a physical plan tree to a cursor. */
@@ -52,23 +71,21 @@ public class PlanSerializer {
    */
   protected String serialize(Serializable object) throws NotSerializableException {
     try {
-      ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(object);
-      objectOutput.flush();
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try (CursorSerializationStream output = new CursorSerializationStream(body)) {
+        output.writeObject(object);
+      }
 
       ByteArrayOutputStream out = new ByteArrayOutputStream();
-      // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
-      GZIPOutputStream gzip =
-          new GZIPOutputStream(out) {
-            {
-              this.def.setLevel(Deflater.BEST_COMPRESSION);
-            }
-          };
-      gzip.write(output.toByteArray());
-      gzip.close();
-
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      out.write(VERSION);
+      // Cursors are encoded on every page, so compression speed matters more than a few % of size
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+      try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+        body.writeTo(deflate);
+      } finally {
+        deflater.end();
+      }
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
@@ -84,11 +101,20 @@ public class PlanSerializer {
    */
   protected Serializable deserialize(String code) {
     try {
-      GZIPInputStream gzip =
-          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
-      ObjectInputStream objectInput =
-          new CursorDeserializationStream(new ByteArrayInputStream(gzip.readAllBytes()));
-      return (Serializable) objectInput.readObject();
+      byte[] bytes = Base64.getUrlDecoder().decode(code);
+      if (bytes.length == 0 || bytes[0] != VERSION) {
+        throw new IOException("Unsupported cursor encoding version");
+      }
+      Inflater inflater = new Inflater(true);
+      byte[] body;
+      try (InflaterInputStream inflate =
+          new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater)) {
+        body = inflate.readAllBytes();
+      } finally {
+        inflater.end();
+      }
+      return (Serializable)
+          new CursorDeserializationStream(new ByteArrayInputStream(body)).readObject();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize object", e);
     }
@@ -109,19 +135,81 @@ public class PlanSerializer {
   /**
    * This function is used in testing only, to get access to {@link CursorDeserializationStream}.
    */
-  public CursorDeserializationStream getCursorDeserializationStream(InputStream in)
-      throws IOException {
+  public CursorDeserializationStream getCursorDeserializationStream(InputStream in) {
     return new CursorDeserializationStream(in);
   }
 
-  public class CursorDeserializationStream extends ObjectInputStream {
-    public CursorDeserializationStream(InputStream in) throws IOException {
+  /** Output of the cursor body, which plans write their fields to. */
+  static class CursorSerializationStream extends DataOutputStream implements ObjectOutput {
+    CursorSerializationStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void writeObject(Object obj) throws IOException {
+      if (obj == null) {
+        writeByte(NULL);
+      } else if (obj instanceof SerializablePlan) {
+        writeByte(PLAN);
+        writeUTF(obj.getClass().getName());
+        ((SerializablePlan) obj).writeExternal(this);
+      } else {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+          objectOutput.writeObject(obj);
+        }
+        writeByte(SERIALIZED);
+        writeInt(bytes.size());
+        bytes.writeTo(this);
+      }
+    }
+  }
+
+  /** Input of the cursor body, which plans read their fields and the storage engine from. */
+  public class CursorDeserializationStream extends DataInputStream implements ObjectInput {
+    public CursorDeserializationStream(InputStream in) {
       super(in);
     }
 
+    /** Storage engine to resolve the tables of the deserialized plans. */
+    public StorageEngine getEngine() {
+      return engine;
+    }
+
     @Override
-    public Object resolveObject(Object obj) throws IOException {
-      return obj.equals("engine") ? engine : obj;
+    public Object readObject() throws ClassNotFoundException, IOException {
+      byte tag = readByte();
+      switch (tag) {
+        case NULL:
+          return null;
+        case PLAN:
+          return readPlan(readUTF());
+        case SERIALIZED:
+          byte[] bytes = new byte[readInt()];
+          readFully(bytes);
+          try (ObjectInputStream objectInput =
+              new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInput.readObject();
+          }
+        default:
+          throw new IOException(String.format("Unknown cursor object tag %d", tag));
+      }
+    }
+
+    private SerializablePlan readPlan(String className) throws ClassNotFoundException, IOException {
+      // Check the class before initializing it, so a cursor can't instantiate anything but a plan
+      Class<?> clazz = Class.forName(className, false, PlanSerializer.class.getClassLoader());
+      if (!SerializablePlan.class.isAssignableFrom(clazz)) {
+        throw new IOException("Not a serializable plan: " + className);
+      }
+      SerializablePlan plan;
+      try {
+        plan = (SerializablePlan) clazz.getConstructor().newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IOException("Failed to instantiate plan " + className, e);
+      }
+      plan.readExternal(this);
+      return plan;
     }
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * An occurrence of the subexpression which appears more than once in the expressions of an
+ * operator. All the occurrences share a {@link Slot}, so the subexpression is evaluated only once
+ * for the same {@link Environment}. It behaves as the source expression in any other aspect, and
+ * the source expression is serialized instead.
+ */
+@EqualsAndHashCode(of = "source")
+@RequiredArgsConstructor
+public class CommonSubexpression implements Expression {
+
+  @Getter private final Expression source;
+
+  private final transient Slot slot;
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (slot.env != valueEnv) {
+      slot.value = source.valueOf(valueEnv);
+      slot.env = valueEnv;
+    }
+    return slot.value;
+  }
+
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    return source.valueOfBatch(batch);
+  }
+
+  @Override
+  public ExprType type() {
+    return source.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return source.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+
+  private Object writeReplace() {
+    return source;
+  }
+
+  /**
+   * Value of the subexpression evaluated for the last environment. The environment is compared by
+   * identity, which is safe because it is immutable and referenced until replaced.
+   */
+  public static class Slot {
+    private Environment<Expression, ExprValue> env;
+    private ExprValue value;
+  }
+}
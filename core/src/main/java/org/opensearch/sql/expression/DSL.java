@@ -19,6 +19,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionImplementation;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
 import org.opensearch.sql.expression.parse.GrokExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.expression.parse.PatternsExpression;
@@ -771,6 +772,10 @@ public class DSL {
     return new WhenClause(condition, result);
   }
 
+  public static InPredicate in(Expression field, LiteralExpression... valueList) {
+    return new InPredicate(field, Arrays.asList(valueList));
+  }
+
   public static FunctionExpression interval(Expression value, Expression unit) {
     return compile(FunctionProperties.None, BuiltinFunctionName.INTERVAL, value, unit);
   }
@@ -6,6 +6,9 @@
 package org.opensearch.sql.expression;
 
 import java.io.Serializable;
+import java.util.List;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -21,6 +24,19 @@ public interface Expression extends Serializable {
   /** Evaluate the value of expression in the value environment. */
   ExprValue valueOf(Environment<Expression, ExprValue> valueEnv);
 
+  /**
+   * Evaluate the value of expression for each row in the batch. By default the expression is
+   * evaluated row by row, expressions which can be evaluated on columns directly override it.
+   */
+  default ColumnVector valueOfBatch(RowBatch batch) {
+    List<ExprValue> rows = batch.rows();
+    ExprValue[] values = new ExprValue[rows.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = valueOf(rows.get(i).bindingTuples());
+    }
+    return ColumnVector.of(values);
+  }
+
   /** The type of the expression. */
   ExprType type();
 
@@ -10,6 +10,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.conditional.cases.CaseClause;
 import org.opensearch.sql.expression.conditional.cases.WhenClause;
 import org.opensearch.sql.expression.function.FunctionImplementation;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
 import org.opensearch.sql.expression.parse.ParseExpression;
 
 /**
@@ -82,12 +83,12 @@ public abstract class ExpressionNodeVisitor<T, C> {
   }
 
   /**
-   * Call visitFunction() by default rather than visitChildren(). This makes CASE/WHEN able to be
+   * Call visitFunction() by default rather than visitChildren(). This makes CASE/WHEN/IN able to be
    * handled:
    *
    * <ol>
    *   <li>by visitFunction() if not overwritten: ex. FilterQueryBuilder
-   *   <li>by visitCase/When() otherwise if any special logic: ex. ExprReferenceOptimizer
+   *   <li>by visitCase/When/In() otherwise if any special logic: ex. ExprReferenceOptimizer
    * </ol>
    */
   public T visitCase(CaseClause node, C context) {
@@ -98,6 +99,10 @@ public abstract class ExpressionNodeVisitor<T, C> {
     return visitFunction(node, context);
   }
 
+  public T visitIn(InPredicate node, C context) {
+    return visitFunction(node, context);
+  }
+
   public T visitNamedArgument(NamedArgumentExpression node, C context) {
     return visitNode(node, context);
   }
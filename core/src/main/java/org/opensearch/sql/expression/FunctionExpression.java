@@ -6,12 +6,19 @@
 package org.opensearch.sql.expression;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.expression.function.FunctionImplementation;
 import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.operator.VectorizedOperators;
 
 /** Function Expression. */
 @EqualsAndHashCode
@@ -22,6 +29,44 @@ public abstract class FunctionExpression implements Expression, FunctionImplemen
 
   @Getter private final List<Expression> arguments;
 
+  /**
+   * Builder of the same function for other arguments of the same types. It is only set on the
+   * function compiled by {@link org.opensearch.sql.expression.function.BuiltinFunctionRepository}.
+   */
+  @Setter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private transient Function<List<Expression>, Expression> builder;
+
+  /**
+   * Properties the function is compiled with, by which the same function can be resolved again from
+   * its name and arguments. It is only set on the built-in function compiled by {@link
+   * org.opensearch.sql.expression.function.BuiltinFunctionRepository}.
+   */
+  @Getter @Setter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private transient FunctionProperties functionProperties;
+
+  /** Whether the function can be rebuilt by {@link FunctionExpression#withArguments}. */
+  public boolean isRebuildable() {
+    return builder != null;
+  }
+
+  /**
+   * Build the same function with the arguments replaced, for example by an optimized form. The new
+   * arguments must have the same types as the current ones, thus the same function implementation
+   * is resolved.
+   *
+   * @param newArguments new arguments
+   * @return new function expression, or empty if the function can't be rebuilt
+   */
+  public Optional<Expression> withArguments(List<Expression> newArguments) {
+    return Optional.ofNullable(builder).map(b -> b.apply(newArguments));
+  }
+
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    return VectorizedOperators.valueOfBatch(this, batch)
+        .orElseGet(() -> Expression.super.valueOfBatch(batch));
+  }
+
   @Override
   public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
     return visitor.visitFunction(this, context);
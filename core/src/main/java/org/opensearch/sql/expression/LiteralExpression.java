@@ -7,6 +7,8 @@ package org.opensearch.sql.expression;
 
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -22,6 +24,11 @@ public class LiteralExpression implements Expression {
     return exprValue;
   }
 
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    return ColumnVector.constant(exprValue, batch.size());
+  }
+
   @Override
   public ExprType type() {
     return exprValue.type();
@@ -10,6 +10,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -39,6 +41,11 @@ public class NamedExpression implements Expression {
     return delegated.valueOf(valueEnv);
   }
 
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    return delegated.valueOfBatch(batch);
+  }
+
   @Override
   public ExprType type() {
     return delegated.type();
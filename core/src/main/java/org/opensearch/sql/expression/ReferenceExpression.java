@@ -12,8 +12,13 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -27,6 +32,9 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /** Ordinal of the field bound to the schema of the last {@link ExprRowValue} resolved. */
+  @EqualsAndHashCode.Exclude private transient Binding binding;
+
   /**
    * Constructor of ReferenceExpression.
    *
@@ -45,6 +53,15 @@ public class ReferenceExpression implements Expression {
     return env.resolve(this);
   }
 
+  /** Top level field is read from the column of the batch directly if exists. */
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    if (paths.size() == 1 && batch.isColumnar() && batch.columns().containsKey(attr)) {
+      return batch.columns().get(attr);
+    }
+    return Expression.super.valueOfBatch(batch);
+  }
+
   @Override
   public ExprType type() {
     return type;
@@ -97,9 +114,32 @@ public class ReferenceExpression implements Expression {
    * </pre>
    */
   public ExprValue resolve(ExprTupleValue value) {
+    if (value instanceof ExprRowValue) {
+      return resolve((ExprRowValue) value);
+    }
     return resolve(value, paths);
   }
 
+  /**
+   * Resolve the whole path by ordinal. The ordinal is looked up only once for each schema, which is
+   * shared by all the rows of the same operator.
+   */
+  private ExprValue resolve(ExprRowValue row) {
+    Binding current = binding;
+    if (current == null || current.schema != row.getSchema()) {
+      current = new Binding(row.getSchema(), row.getSchema().ordinal(String.join(PATH_SEP, paths)));
+      binding = current;
+    }
+
+    ExprValue wholePathValue =
+        (current.ordinal < 0) ? ExprMissingValue.of() : row.valueAt(current.ordinal);
+    if (!wholePathValue.isMissing() || paths.size() == 1) {
+      return wholePathValue;
+    } else {
+      return resolve(row.keyValue(paths.get(0)), paths.subList(1, paths.size()));
+    }
+  }
+
   private ExprValue resolve(ExprValue value, List<String> paths) {
     ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
     // For array types only first index currently supported.
@@ -113,4 +153,10 @@ public class ReferenceExpression implements Expression {
       return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
     }
   }
+
+  @RequiredArgsConstructor
+  private static class Binding {
+    private final RowSchema schema;
+    private final int ordinal;
+  }
 }
@@ -12,4 +12,10 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 public interface AggregationState {
   /** Get {@link ExprValue} result. */
   ExprValue result();
+
+  /**
+   * Get the intermediate state as {@link ExprValue}, so it can be spilled and merged later into
+   * another state of the same {@link Aggregator} by {@link Aggregator#merge}.
+   */
+  ExprValue partialResult();
 }
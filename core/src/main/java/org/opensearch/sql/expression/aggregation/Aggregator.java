@@ -59,6 +59,15 @@ public abstract class Aggregator<S extends AggregationState>
    */
   protected abstract S iterate(ExprValue value, S state);
 
+  /**
+   * Merge the intermediate state of another {@link AggregationState} into the state.
+   *
+   * @param partialResult {@link AggregationState#partialResult()} of the other state
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  public abstract S merge(ExprValue partialResult, S state);
+
   /**
    * Let the aggregator iterate on the {@link BindingTuple} To filter out ExprValues that are
    * missing, null or cannot satisfy {@link #condition} Before the specific aggregator iterating
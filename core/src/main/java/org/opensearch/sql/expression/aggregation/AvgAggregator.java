@@ -8,10 +8,12 @@ package org.opensearch.sql.expression.aggregation;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
@@ -19,6 +21,7 @@ import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.DSL;
@@ -66,6 +69,11 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return state.iterate(value);
   }
 
+  @Override
+  public AvgState merge(ExprValue partialResult, AvgState state) {
+    return state.merge(partialResult);
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
@@ -73,6 +81,9 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
 
   /** Average State. */
   protected abstract static class AvgState implements AggregationState {
+    private static final String COUNT = "count";
+    private static final String TOTAL = "total";
+
     protected ExprValue count;
     protected ExprValue total;
 
@@ -88,6 +99,18 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
       count = DSL.add(DSL.literal(count), DSL.literal(1)).valueOf();
       return this;
     }
+
+    protected AvgState merge(ExprValue partialResult) {
+      Map<String, ExprValue> partial = partialResult.tupleValue();
+      count = DSL.add(DSL.literal(count), DSL.literal(partial.get(COUNT))).valueOf();
+      total = DSL.add(DSL.literal(total), DSL.literal(partial.get(TOTAL))).valueOf();
+      return this;
+    }
+
+    @Override
+    public ExprValue partialResult() {
+      return ExprTupleValue.fromExprValueMap(ImmutableMap.of(COUNT, count, TOTAL, total));
+    }
   }
 
   protected static class DoubleAvgState extends AvgState {
@@ -7,10 +7,12 @@ package org.opensearch.sql.expression.aggregation;
 
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -35,6 +37,12 @@ public class CountAggregator extends Aggregator<CountState> {
     return state;
   }
 
+  @Override
+  public CountState merge(ExprValue partialResult, CountState state) {
+    state.merge(partialResult);
+    return state;
+  }
+
   @Override
   public String toString() {
     return distinct
@@ -54,10 +62,19 @@ public class CountAggregator extends Aggregator<CountState> {
       count++;
     }
 
+    public void merge(ExprValue partialResult) {
+      count += partialResult.integerValue();
+    }
+
     @Override
     public ExprValue result() {
       return ExprValueUtils.integerValue(count);
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return result();
+    }
   }
 
   protected static class DistinctCountState extends CountState {
@@ -70,5 +87,15 @@ public class CountAggregator extends Aggregator<CountState> {
         count++;
       }
     }
+
+    @Override
+    public void merge(ExprValue partialResult) {
+      partialResult.collectionValue().forEach(this::count);
+    }
+
+    @Override
+    public ExprValue partialResult() {
+      return new ExprCollectionValue(new ArrayList<>(distinctValues));
+    }
   }
 }
@@ -31,6 +31,14 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
     return state;
   }
 
+  @Override
+  public MaxState merge(ExprValue partialResult, MaxState state) {
+    if (!partialResult.isNull()) {
+      state.max(partialResult);
+    }
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("max(%s)", format(getArguments()));
@@ -51,5 +59,10 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
     public ExprValue result() {
       return maxResult;
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return maxResult;
+    }
   }
 }
@@ -35,6 +35,14 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
     return state;
   }
 
+  @Override
+  public MinState merge(ExprValue partialResult, MinState state) {
+    if (!partialResult.isNull()) {
+      state.min(partialResult);
+    }
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("min(%s)", format(getArguments()));
@@ -55,5 +63,10 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
     public ExprValue result() {
       return minResult;
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return minResult;
+    }
   }
 }
@@ -49,6 +49,11 @@ public class NamedAggregator extends Aggregator<AggregationState> {
     return delegated.iterate(value, state);
   }
 
+  @Override
+  public AggregationState merge(ExprValue partialResult, AggregationState state) {
+    return delegated.merge(partialResult, state);
+  }
+
   /**
    * Get expression name using name or its alias (if it's present).
    *
@@ -18,10 +18,13 @@ import static org.opensearch.sql.utils.ExpressionUtils.format;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.math3.stat.descriptive.moment.StandardDeviation;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
@@ -72,6 +75,13 @@ public class StdDevAggregator extends Aggregator<StdDevAggregator.StdDevState> {
     return state;
   }
 
+  @Override
+  public StdDevAggregator.StdDevState merge(
+      ExprValue partialResult, StdDevAggregator.StdDevState state) {
+    partialResult.collectionValue().forEach(state::evaluate);
+    return state;
+  }
+
   @Override
   public String toString() {
     return StringUtils.format(
@@ -98,5 +108,11 @@ public class StdDevAggregator extends Aggregator<StdDevAggregator.StdDevState> {
           ? ExprNullValue.of()
           : doubleValue(standardDeviation.evaluate(values.stream().mapToDouble(d -> d).toArray()));
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return new ExprCollectionValue(
+          values.stream().map(ExprValueUtils::doubleValue).collect(Collectors.toList()));
+    }
   }
 }
@@ -48,6 +48,14 @@ public class SumAggregator extends Aggregator<SumState> {
     return state;
   }
 
+  @Override
+  public SumState merge(ExprValue partialResult, SumState state) {
+    if (!partialResult.isNull()) {
+      iterate(partialResult, state);
+    }
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "sum(%s)", format(getArguments()));
@@ -91,5 +99,10 @@ public class SumAggregator extends Aggregator<SumState> {
     public ExprValue result() {
       return isEmptyCollection ? ExprNullValue.of() : sumResult;
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return result();
+    }
   }
 }
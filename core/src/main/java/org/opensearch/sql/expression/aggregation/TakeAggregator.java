@@ -37,6 +37,12 @@ public class TakeAggregator extends Aggregator<TakeAggregator.TakeState> {
     return state;
   }
 
+  @Override
+  public TakeState merge(ExprValue partialResult, TakeState state) {
+    partialResult.collectionValue().forEach(state::take);
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "take(%s)", format(getArguments()));
@@ -68,5 +74,10 @@ public class TakeAggregator extends Aggregator<TakeAggregator.TakeState> {
     public ExprValue result() {
       return new ExprCollectionValue(hits);
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return result();
+    }
   }
 }
@@ -18,10 +18,13 @@ import static org.opensearch.sql.utils.ExpressionUtils.format;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
@@ -71,6 +74,12 @@ public class VarianceAggregator extends Aggregator<VarianceAggregator.VarianceSt
     return state;
   }
 
+  @Override
+  public VarianceState merge(ExprValue partialResult, VarianceState state) {
+    partialResult.collectionValue().forEach(state::evaluate);
+    return state;
+  }
+
   @Override
   public String toString() {
     return StringUtils.format(
@@ -97,5 +106,11 @@ public class VarianceAggregator extends Aggregator<VarianceAggregator.VarianceSt
           ? ExprNullValue.of()
           : doubleValue(variance.evaluate(values.stream().mapToDouble(d -> d).toArray()));
     }
+
+    @Override
+    public ExprValue partialResult() {
+      return new ExprCollectionValue(
+          values.stream().map(ExprValueUtils::doubleValue).collect(Collectors.toList()));
+    }
   }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/** Compiled expression which evaluates into a primitive boolean without boxing. */
+@FunctionalInterface
+interface BooleanNode {
+
+  /**
+   * Evaluate the expression.
+   *
+   * @param env value environment
+   * @param state set to null or missing if the result is not a value
+   * @return result, which is meaningless if the state is set
+   */
+  boolean eval(Environment<Expression, ExprValue> env, ValueState state);
+}
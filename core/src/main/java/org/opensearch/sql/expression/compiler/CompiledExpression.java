@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression evaluated by the code compiled from the source expression by {@link
+ * ExpressionCompiler}. It gives the same result as the source expression, and behaves as the source
+ * expression in any other aspect. The compiled code is not serialized, the source expression is
+ * serialized instead.
+ */
+@RequiredArgsConstructor
+public class CompiledExpression implements Expression {
+
+  @Getter private final Expression source;
+
+  private final transient Function<Environment<Expression, ExprValue>, ExprValue> code;
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    return code.apply(valueEnv);
+  }
+
+  @Override
+  public ColumnVector valueOfBatch(RowBatch batch) {
+    return source.valueOfBatch(batch);
+  }
+
+  @Override
+  public ExprType type() {
+    return source.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return source.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+
+  private Object writeReplace() {
+    return source;
+  }
+}
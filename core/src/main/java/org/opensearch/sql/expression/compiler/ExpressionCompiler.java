@@ -0,0 +1,354 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.compiler.ValueState.VALUE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADDFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.AND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.EQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GREATER;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LESS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLYFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOTEQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.OR;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACTFUNCTION;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Compile an analyzed expression tree into specialized code. The arithmetic, comparison and logical
+ * operators on INTEGER, LONG, DOUBLE and BOOLEAN values are compiled into primitive nodes, which
+ * pass the intermediate results as primitives and check null and missing by a shared {@link
+ * ValueState} instead of going through the function implementation layers and boxing every
+ * intermediate {@link ExprValue}. Any other expression in the tree, e.g. a reference or an
+ * unsupported function, is interpreted as usual and its result is unboxed for the parent node. The
+ * compiled code gives the same result, including null and missing handling and overflow errors, as
+ * the interpretation.
+ */
+@UtilityClass
+public class ExpressionCompiler {
+
+  private static final Set<BuiltinFunctionName> ARITHMETIC =
+      Set.of(ADD, ADDFUNCTION, SUBTRACT, SUBTRACTFUNCTION, MULTIPLY, MULTIPLYFUNCTION);
+
+  private static final Set<BuiltinFunctionName> COMPARISON =
+      Set.of(EQUAL, NOTEQUAL, LESS, LTE, GREATER, GTE);
+
+  private static final Set<BuiltinFunctionName> LOGICAL = Set.of(AND, OR, NOT);
+
+  private static final Set<ExprType> NUMBER_TYPES = Set.of(INTEGER, LONG, DOUBLE);
+
+  private static final Map<FunctionName, BuiltinFunctionName> OPERATORS =
+      Stream.of(ARITHMETIC, COMPARISON, LOGICAL)
+          .flatMap(Set::stream)
+          .collect(ImmutableMap.toImmutableMap(BuiltinFunctionName::getName, Function.identity()));
+
+  /**
+   * Compile the expression.
+   *
+   * @param expression analyzed expression
+   * @return compiled expression, or the expression itself if it can't be compiled
+   */
+  public static Expression compile(Expression expression) {
+    Expression root =
+        (expression instanceof NamedExpression)
+            ? ((NamedExpression) expression).getDelegated()
+            : expression;
+    if (!isCompilable(root)) {
+      return expression;
+    }
+
+    ExprType type = root.type();
+    Function<Environment<Expression, ExprValue>, ExprValue> code;
+    if (type.equals(BOOLEAN)) {
+      BooleanNode node = compileBoolean(root);
+      code =
+          env -> {
+            ValueState state = new ValueState();
+            boolean value = node.eval(env, state);
+            int result = state.take();
+            return (result == VALUE) ? ExprBooleanValue.of(value) : ValueState.toValue(result);
+          };
+    } else if (type.equals(DOUBLE)) {
+      DoubleNode node = compileDouble(root);
+      code =
+          env -> {
+            ValueState state = new ValueState();
+            double value = node.eval(env, state);
+            int result = state.take();
+            return (result == VALUE) ? new ExprDoubleValue(value) : ValueState.toValue(result);
+          };
+    } else {
+      LongNode node = compileLong(root);
+      boolean isInteger = type.equals(INTEGER);
+      code =
+          env -> {
+            ValueState state = new ValueState();
+            long value = node.eval(env, state);
+            int result = state.take();
+            if (result != VALUE) {
+              return ValueState.toValue(result);
+            }
+            return isInteger ? new ExprIntegerValue((int) value) : new ExprLongValue(value);
+          };
+    }
+    return new CompiledExpression(expression, code);
+  }
+
+  /** Whether the expression is an operator supported on the primitive type of its arguments. */
+  private static boolean isCompilable(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return false;
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    BuiltinFunctionName operator = OPERATORS.get(function.getFunctionName());
+    List<Expression> arguments = function.getArguments();
+    if (operator == null || arguments.size() != (operator == NOT ? 1 : 2)) {
+      return false;
+    }
+    ExprType type = arguments.get(0).type();
+    if (!arguments.get(arguments.size() - 1).type().equals(type)) {
+      return false;
+    }
+    return LOGICAL.contains(operator) ? type.equals(BOOLEAN) : NUMBER_TYPES.contains(type);
+  }
+
+  private static LongNode compileLong(Expression expression) {
+    boolean isInteger = expression.type().equals(INTEGER);
+    if (isConstant(expression)) {
+      ExprValue literal = expression.valueOf();
+      long value = isInteger ? literal.integerValue() : literal.longValue();
+      return (env, state) -> value;
+    } else if (!isCompilable(expression)) {
+      return (env, state) -> {
+        ExprValue value = expression.valueOf(env);
+        int result = ValueState.of(value);
+        if (result != VALUE) {
+          state.set(result);
+          return 0L;
+        }
+        return isInteger ? value.integerValue() : value.longValue();
+      };
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    LongNode left = compileLong(function.getArguments().get(0));
+    LongNode right = compileLong(function.getArguments().get(1));
+    LongBinaryOperator operator = arithmetic(OPERATORS.get(function.getFunctionName()), isInteger);
+    return (env, state) -> {
+      long a = left.eval(env, state);
+      int leftState = state.take();
+      long b = right.eval(env, state);
+      int result = Math.max(leftState, state.take());
+      if (result != VALUE) {
+        state.set(result);
+        return 0L;
+      }
+      return operator.applyAsLong(a, b);
+    };
+  }
+
+  /** Integer and long arithmetic throws on overflow as the function implementation. */
+  private static LongBinaryOperator arithmetic(BuiltinFunctionName operator, boolean isInteger) {
+    switch (operator) {
+      case ADD:
+      case ADDFUNCTION:
+        return isInteger ? (a, b) -> Math.addExact((int) a, (int) b) : Math::addExact;
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        return isInteger ? (a, b) -> Math.subtractExact((int) a, (int) b) : Math::subtractExact;
+      default:
+        return isInteger ? (a, b) -> Math.multiplyExact((int) a, (int) b) : Math::multiplyExact;
+    }
+  }
+
+  private static DoubleNode compileDouble(Expression expression) {
+    if (isConstant(expression)) {
+      double value = expression.valueOf().doubleValue();
+      return (env, state) -> value;
+    } else if (!isCompilable(expression)) {
+      return (env, state) -> {
+        ExprValue value = expression.valueOf(env);
+        int result = ValueState.of(value);
+        if (result != VALUE) {
+          state.set(result);
+          return 0D;
+        }
+        return value.doubleValue();
+      };
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    DoubleNode left = compileDouble(function.getArguments().get(0));
+    DoubleNode right = compileDouble(function.getArguments().get(1));
+    DoubleBinaryOperator operator = arithmetic(OPERATORS.get(function.getFunctionName()));
+    return (env, state) -> {
+      double a = left.eval(env, state);
+      int leftState = state.take();
+      double b = right.eval(env, state);
+      int result = Math.max(leftState, state.take());
+      if (result != VALUE) {
+        state.set(result);
+        return 0D;
+      }
+      return operator.applyAsDouble(a, b);
+    };
+  }
+
+  private static DoubleBinaryOperator arithmetic(BuiltinFunctionName operator) {
+    switch (operator) {
+      case ADD:
+      case ADDFUNCTION:
+        return (a, b) -> a + b;
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        return (a, b) -> a - b;
+      default:
+        return (a, b) -> a * b;
+    }
+  }
+
+  private static BooleanNode compileBoolean(Expression expression) {
+    if (isConstant(expression)) {
+      boolean value = expression.valueOf().booleanValue();
+      return (env, state) -> value;
+    } else if (!isCompilable(expression)) {
+      return (env, state) -> {
+        ExprValue value = expression.valueOf(env);
+        int result = ValueState.of(value);
+        if (result != VALUE) {
+          state.set(result);
+          return false;
+        }
+        return value.booleanValue();
+      };
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    BuiltinFunctionName operator = OPERATORS.get(function.getFunctionName());
+    List<Expression> arguments = function.getArguments();
+    if (operator == NOT) {
+      BooleanNode operand = compileBoolean(arguments.get(0));
+      return (env, state) -> !operand.eval(env, state);
+    } else if (LOGICAL.contains(operator)) {
+      return logical(
+          operator == OR, compileBoolean(arguments.get(0)), compileBoolean(arguments.get(1)));
+    }
+
+    IntPredicate predicate = comparison(operator);
+    if (arguments.get(0).type().equals(DOUBLE)) {
+      DoubleNode left = compileDouble(arguments.get(0));
+      DoubleNode right = compileDouble(arguments.get(1));
+      return (env, state) -> {
+        double a = left.eval(env, state);
+        int leftState = state.take();
+        double b = right.eval(env, state);
+        int result = Math.max(leftState, state.take());
+        if (result != VALUE) {
+          state.set(result);
+          return false;
+        }
+        return predicate.test(Double.compare(a, b));
+      };
+    }
+    LongNode left = compileLong(arguments.get(0));
+    LongNode right = compileLong(arguments.get(1));
+    return (env, state) -> {
+      long a = left.eval(env, state);
+      int leftState = state.take();
+      long b = right.eval(env, state);
+      int result = Math.max(leftState, state.take());
+      if (result != VALUE) {
+        state.set(result);
+        return false;
+      }
+      return predicate.test(Long.compare(a, b));
+    };
+  }
+
+  /** Predicate on the result of comparing the left to the right. */
+  private static IntPredicate comparison(BuiltinFunctionName operator) {
+    switch (operator) {
+      case EQUAL:
+        return comparison -> comparison == 0;
+      case NOTEQUAL:
+        return comparison -> comparison != 0;
+      case LESS:
+        return comparison -> comparison < 0;
+      case LTE:
+        return comparison -> comparison <= 0;
+      case GREATER:
+        return comparison -> comparison > 0;
+      default:
+        return comparison -> comparison >= 0;
+    }
+  }
+
+  /**
+   * AND and OR as the lookup tables of the function implementation. The result is decided by either
+   * side if it is the dominant value (false for AND, true for OR). Otherwise, it is the other value
+   * if any side is a value, or else missing for AND and null for OR.
+   */
+  private static BooleanNode logical(boolean dominant, BooleanNode left, BooleanNode right) {
+    return (env, state) -> {
+      boolean a = left.eval(env, state);
+      int leftState = state.take();
+      boolean b = right.eval(env, state);
+      int rightState = state.take();
+      if ((leftState == VALUE && a == dominant) || (rightState == VALUE && b == dominant)) {
+        return dominant;
+      }
+
+      int result;
+      if (leftState == VALUE) {
+        result = rightState;
+      } else if (rightState == VALUE) {
+        result = leftState;
+      } else {
+        result = dominant ? Math.min(leftState, rightState) : Math.max(leftState, rightState);
+      }
+      state.set(result);
+      return !dominant;
+    };
+  }
+
+  /** Literal argument is never null or missing because its type is the same as the operator's. */
+  private static boolean isConstant(Expression expression) {
+    return expression instanceof LiteralExpression;
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Compiled expression which evaluates into a primitive long without boxing. Both INTEGER and LONG
+ * values are held in a long.
+ */
+@FunctionalInterface
+interface LongNode {
+
+  /**
+   * Evaluate the expression.
+   *
+   * @param env value environment
+   * @param state set to null or missing if the result is not a value
+   * @return result, which is meaningless if the state is set
+   */
+  long eval(Environment<Expression, ExprValue> env, ValueState state);
+}
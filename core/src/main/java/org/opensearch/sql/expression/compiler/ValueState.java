@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Whether the primitive result of a compiled node is a value, null or missing. One instance is
+ * shared by all the nodes of an expression during a single evaluation, so that the null and missing
+ * checks are plain int comparisons instead of boxed {@link ExprValue}.
+ */
+final class ValueState {
+  static final int VALUE = 0;
+  static final int NULL = 1;
+  static final int MISSING = 2;
+
+  private int state = VALUE;
+
+  /** Mark the result of the current node as null or missing. */
+  void set(int state) {
+    this.state = state;
+  }
+
+  /** Get the state of the last evaluated node, and reset it for the next node. */
+  int take() {
+    int result = state;
+    state = VALUE;
+    return result;
+  }
+
+  static int of(ExprValue value) {
+    if (value.isMissing()) {
+      return MISSING;
+    }
+    return value.isNull() ? NULL : VALUE;
+  }
+
+  /** Null or missing value of the state. */
+  static ExprValue toValue(int state) {
+    return (state == MISSING) ? ExprMissingValue.of() : ExprNullValue.of();
+  }
+}
@@ -158,6 +158,7 @@ public enum BuiltinFunctionName {
   GTE(FunctionName.of(">=")),
   LIKE(FunctionName.of("like")),
   NOT_LIKE(FunctionName.of("not like")),
+  IN(FunctionName.of("in")),
 
   /** Aggregation Function. */
   AVG(FunctionName.of("avg")),
@@ -24,6 +24,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.aggregation.AggregatorFunction;
 import org.opensearch.sql.expression.datetime.DateTimeFunction;
 import org.opensearch.sql.expression.datetime.IntervalClause;
@@ -114,7 +115,19 @@ public class BuiltinFunctionRepository {
             new FunctionSignature(
                 functionName,
                 expressions.stream().map(Expression::type).collect(Collectors.toList())));
-    return resolvedFunctionBuilder.apply(functionProperties, expressions);
+    FunctionImplementation function =
+        resolvedFunctionBuilder.apply(functionProperties, expressions);
+    if (function instanceof FunctionExpression) {
+      FunctionExpression expression = (FunctionExpression) function;
+      expression.setBuilder(
+          arguments ->
+              (Expression)
+                  compile(functionProperties, dataSourceFunctionResolver, functionName, arguments));
+      if (dataSourceFunctionResolver.isEmpty()) {
+        expression.setFunctionProperties(functionProperties);
+      }
+    }
+    return function;
   }
 
   /**
@@ -0,0 +1,273 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADDFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.AND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.EQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GREATER;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LESS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLYFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOTEQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.OR;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACTFUNCTION;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.batch.BooleanVector;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.DoubleVector;
+import org.opensearch.sql.data.batch.LongVector;
+import org.opensearch.sql.data.batch.PrimitiveVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Column-wise implementation of the arithmetic, comparison and logical operators. An operator is
+ * evaluated on the primitive arrays of the argument vectors in a single loop, and gives the same
+ * result as its row by row implementation. Any other function, or argument which is not a primitive
+ * vector, is left to the row by row evaluation.
+ */
+@UtilityClass
+public class VectorizedOperators {
+
+  private static final Set<BuiltinFunctionName> ARITHMETIC =
+      Set.of(ADD, ADDFUNCTION, SUBTRACT, SUBTRACTFUNCTION, MULTIPLY, MULTIPLYFUNCTION);
+
+  private static final Set<BuiltinFunctionName> COMPARISON =
+      Set.of(EQUAL, NOTEQUAL, LESS, LTE, GREATER, GTE);
+
+  private static final Set<BuiltinFunctionName> LOGICAL = Set.of(AND, OR);
+
+  private static final Set<ExprType> NUMBER_TYPES = Set.of(INTEGER, LONG, DOUBLE);
+
+  private static final Map<FunctionName, BuiltinFunctionName> OPERATORS =
+      Stream.of(ARITHMETIC, COMPARISON, LOGICAL)
+          .flatMap(Set::stream)
+          .collect(ImmutableMap.toImmutableMap(BuiltinFunctionName::getName, Function.identity()));
+
+  /**
+   * Evaluate the function on the columns of the batch.
+   *
+   * @param function function expression
+   * @param batch row batch
+   * @return result vector, or empty if the function can't be evaluated column-wise
+   */
+  public static Optional<ColumnVector> valueOfBatch(FunctionExpression function, RowBatch batch) {
+    BuiltinFunctionName operator = OPERATORS.get(function.getFunctionName());
+    List<Expression> arguments = function.getArguments();
+    if (operator == null
+        || arguments.size() != 2
+        || !arguments.get(0).type().equals(arguments.get(1).type())) {
+      return Optional.empty();
+    }
+
+    ExprType type = arguments.get(0).type();
+    boolean supported =
+        LOGICAL.contains(operator) ? type.equals(BOOLEAN) : NUMBER_TYPES.contains(type);
+    if (!supported) {
+      return Optional.empty();
+    }
+
+    ColumnVector left = arguments.get(0).valueOfBatch(batch);
+    ColumnVector right = arguments.get(1).valueOfBatch(batch);
+    if (left instanceof LongVector
+        && right instanceof LongVector
+        && ((LongVector) left).getType() == type
+        && ((LongVector) right).getType() == type) {
+      return Optional.of(
+          ARITHMETIC.contains(operator)
+              ? arithmetic(operator, (LongVector) left, (LongVector) right)
+              : compare(operator, (LongVector) left, (LongVector) right));
+    } else if (type.equals(DOUBLE)
+        && left instanceof DoubleVector
+        && right instanceof DoubleVector) {
+      return Optional.of(
+          ARITHMETIC.contains(operator)
+              ? arithmetic(operator, (DoubleVector) left, (DoubleVector) right)
+              : compare(operator, (DoubleVector) left, (DoubleVector) right));
+    } else if (type.equals(BOOLEAN)
+        && left instanceof BooleanVector
+        && right instanceof BooleanVector) {
+      return Optional.of(logical(operator, (BooleanVector) left, (BooleanVector) right));
+    }
+    return Optional.empty();
+  }
+
+  /** Integer and long arithmetic throws on overflow as the row by row implementation. */
+  private static ColumnVector arithmetic(
+      BuiltinFunctionName operator, LongVector left, LongVector right) {
+    boolean[] nulls = PrimitiveVector.union(left, right);
+    long[] a = left.getValues();
+    long[] b = right.getValues();
+    long[] result = new long[a.length];
+    boolean isInteger = (left.getType() == INTEGER);
+    for (int i = 0; i < result.length; i++) {
+      if (nulls == null || !nulls[i]) {
+        result[i] =
+            isInteger ? exact(operator, (int) a[i], (int) b[i]) : exact(operator, a[i], b[i]);
+      }
+    }
+    return new LongVector(left.getType(), result, nulls);
+  }
+
+  private static int exact(BuiltinFunctionName operator, int a, int b) {
+    switch (operator) {
+      case ADD:
+      case ADDFUNCTION:
+        return Math.addExact(a, b);
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        return Math.subtractExact(a, b);
+      default:
+        return Math.multiplyExact(a, b);
+    }
+  }
+
+  private static long exact(BuiltinFunctionName operator, long a, long b) {
+    switch (operator) {
+      case ADD:
+      case ADDFUNCTION:
+        return Math.addExact(a, b);
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        return Math.subtractExact(a, b);
+      default:
+        return Math.multiplyExact(a, b);
+    }
+  }
+
+  private static ColumnVector arithmetic(
+      BuiltinFunctionName operator, DoubleVector left, DoubleVector right) {
+    double[] a = left.getValues();
+    double[] b = right.getValues();
+    double[] result = new double[a.length];
+    switch (operator) {
+      case ADD:
+      case ADDFUNCTION:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = a[i] + b[i];
+        }
+        break;
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = a[i] - b[i];
+        }
+        break;
+      default:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = a[i] * b[i];
+        }
+    }
+    return new DoubleVector(result, PrimitiveVector.union(left, right));
+  }
+
+  private static ColumnVector compare(
+      BuiltinFunctionName operator, LongVector left, LongVector right) {
+    long[] a = left.getValues();
+    long[] b = right.getValues();
+    int[] comparison = new int[a.length];
+    for (int i = 0; i < comparison.length; i++) {
+      comparison[i] = Long.compare(a[i], b[i]);
+    }
+    return compare(operator, comparison, PrimitiveVector.union(left, right));
+  }
+
+  /** Double is compared by {@link Double#compare} as the row by row implementation. */
+  private static ColumnVector compare(
+      BuiltinFunctionName operator, DoubleVector left, DoubleVector right) {
+    double[] a = left.getValues();
+    double[] b = right.getValues();
+    int[] comparison = new int[a.length];
+    for (int i = 0; i < comparison.length; i++) {
+      comparison[i] = Double.compare(a[i], b[i]);
+    }
+    return compare(operator, comparison, PrimitiveVector.union(left, right));
+  }
+
+  private static ColumnVector compare(
+      BuiltinFunctionName operator, int[] comparison, boolean[] nulls) {
+    boolean[] result = new boolean[comparison.length];
+    switch (operator) {
+      case EQUAL:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] == 0;
+        }
+        break;
+      case NOTEQUAL:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] != 0;
+        }
+        break;
+      case LESS:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] < 0;
+        }
+        break;
+      case LTE:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] <= 0;
+        }
+        break;
+      case GREATER:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] > 0;
+        }
+        break;
+      default:
+        for (int i = 0; i < result.length; i++) {
+          result[i] = comparison[i] >= 0;
+        }
+    }
+    return new BooleanVector(result, nulls);
+  }
+
+  /**
+   * Three-valued AND and OR. The result is decided by either side if it is the dominant value
+   * (false for AND, true for OR), otherwise it is null if any side is null.
+   */
+  private static ColumnVector logical(
+      BuiltinFunctionName operator, BooleanVector left, BooleanVector right) {
+    boolean dominant = (operator == OR);
+    boolean[] a = left.getValues();
+    boolean[] b = right.getValues();
+    boolean[] result = new boolean[a.length];
+    boolean[] nulls = new boolean[a.length];
+    boolean hasNull = false;
+    for (int i = 0; i < result.length; i++) {
+      boolean leftKnown = !left.isNull(i);
+      boolean rightKnown = !right.isNull(i);
+      if ((leftKnown && a[i] == dominant) || (rightKnown && b[i] == dominant)) {
+        result[i] = dominant;
+      } else if (leftKnown && rightKnown) {
+        result[i] = !dominant;
+      } else {
+        nulls[i] = hasNull = true;
+      }
+    }
+    return new BooleanVector(result, hasNull ? nulls : null);
+  }
+}
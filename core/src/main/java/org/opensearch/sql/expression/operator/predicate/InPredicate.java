@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * IN predicate of a list of literal values, e.g. a IN (1, 2, 3). The values are put in a hash set
+ * once, so the predicate is evaluated in constant time however long the list is. It gives the same
+ * result as the OR of equality comparisons only if the values are of the same type as the field,
+ * and none of them is null, see {@link InPredicate#isApplicable}.
+ */
+public class InPredicate extends FunctionExpression {
+
+  /** Literal values in the original order. */
+  @Getter private final List<LiteralExpression> valueList;
+
+  /** Literal values as a hash set. */
+  private final Set<ExprValue> valueSet;
+
+  /** Initialize IN predicate. */
+  public InPredicate(Expression field, List<LiteralExpression> valueList) {
+    super(
+        BuiltinFunctionName.IN.getName(),
+        ImmutableList.<Expression>builder().add(field).addAll(valueList).build());
+    this.valueList = valueList;
+    this.valueSet =
+        valueList.stream().map(Expression::valueOf).collect(ImmutableSet.toImmutableSet());
+    setBuilder(arguments -> new InPredicate(arguments.get(0), valueList));
+  }
+
+  /**
+   * Whether the IN predicate is equivalent to the OR of equality comparisons. It requires the
+   * values to be non-null literals of the same type as the field, thus a field value equals to a
+   * value in the list if and only if it is in the hash set.
+   *
+   * @param field field
+   * @param valueList values
+   * @return true if applicable
+   */
+  public static boolean isApplicable(Expression field, List<Expression> valueList) {
+    ExprType fieldType = field.type();
+    return valueList.stream()
+        .allMatch(
+            value ->
+                value instanceof LiteralExpression
+                    && !value.valueOf().isNull()
+                    && (value.type().equals(fieldType)
+                        || value.type().typeName().equals(fieldType.typeName())));
+  }
+
+  public Expression getField() {
+    return getArguments().get(0);
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    ExprValue value = getField().valueOf(valueEnv);
+    if (value.isMissing()) {
+      return ExprValueUtils.missingValue();
+    } else if (value.isNull()) {
+      return ExprValueUtils.nullValue();
+    }
+    return ExprBooleanValue.of(valueSet.contains(value));
+  }
+
+  @Override
+  public ExprType type() {
+    return BOOLEAN;
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return visitor.visitIn(this, context);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s(%s)",
+        getFunctionName(),
+        getArguments().stream().map(Object::toString).collect(Collectors.joining(", ")));
+  }
+}
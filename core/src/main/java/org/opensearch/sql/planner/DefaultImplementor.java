@@ -5,7 +5,12 @@
 
 package org.opensearch.sql.planner;
 
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalCloseCursor;
 import org.opensearch.sql.planner.logical.LogicalDedupe;
@@ -23,6 +28,7 @@ import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalRemove;
 import org.opensearch.sql.planner.logical.LogicalRename;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopK;
 import org.opensearch.sql.planner.logical.LogicalValues;
 import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.opensearch.sql.planner.physical.AggregationOperator;
@@ -38,8 +44,11 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.StreamingAggregationOperator;
+import org.opensearch.sql.planner.physical.TopKOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 import org.opensearch.sql.storage.write.TableWriteBuilder;
 
@@ -49,6 +58,8 @@ import org.opensearch.sql.storage.write.TableWriteBuilder;
  * post-processing style in memory. Different storage can override methods here to optimize default
  * pipelining operator, for example a storage has the flexibility to override visitFilter and
  * visitRelation to push down filtering operation and return a single physical index scan operator.
+ * Aggregation on top of an input already sorted by the group keys is translated to a streaming
+ * aggregation instead of a hash aggregation.
  *
  * @param <C> context type
  */
@@ -113,6 +124,10 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitAggregation(LogicalAggregation node, C context) {
+    if (isInputOrderedByGroupKeys(node)) {
+      return new StreamingAggregationOperator(
+          visitChild(node, context), node.getAggregatorList(), node.getGroupByList());
+    }
     return new AggregationOperator(
         visitChild(node, context), node.getAggregatorList(), node.getGroupByList());
   }
@@ -132,11 +147,22 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
+  @Override
+  public PhysicalPlan visitTopK(LogicalTopK node, C context) {
+    return new TopKOperator(
+        visitChild(node, context), node.getSortList(), node.getLimit(), node.getOffset());
+  }
+
   @Override
   public PhysicalPlan visitTableScanBuilder(TableScanBuilder plan, C context) {
     return plan.build();
   }
 
+  @Override
+  public PhysicalPlan visitTableFetchBuilder(TableFetchBuilder plan, C context) {
+    return plan.build(visitChild(plan, context));
+  }
+
   @Override
   public PhysicalPlan visitTableWriteBuilder(TableWriteBuilder plan, C context) {
     return plan.build(visitChild(plan, context));
@@ -165,6 +191,37 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return visitChild(plan, context);
   }
 
+  /**
+   * Input of aggregation is known to be ordered by group keys if it is a sort whose leading sort
+   * fields are the group by expressions in the same order and sorted the same way as the output of
+   * {@link AggregationOperator}. Aggregation without group by is always done by {@link
+   * AggregationOperator} because it returns a row even if there is no input.
+   */
+  private boolean isInputOrderedByGroupKeys(LogicalAggregation node) {
+    LogicalPlan child = node.getChild().get(0);
+    List<Pair<SortOption, Expression>> sortList;
+    if (child instanceof LogicalSort) {
+      sortList = ((LogicalSort) child).getSortList();
+    } else if (child instanceof LogicalTopK) {
+      sortList = ((LogicalTopK) child).getSortList();
+    } else {
+      return false;
+    }
+
+    List<NamedExpression> groupByList = node.getGroupByList();
+    if (groupByList.isEmpty() || sortList.size() < groupByList.size()) {
+      return false;
+    }
+    for (int i = 0; i < groupByList.size(); i++) {
+      Pair<SortOption, Expression> sortItem = sortList.get(i);
+      if (!SortOption.DEFAULT_ASC.equals(sortItem.getLeft())
+          || !groupByList.get(i).getDelegated().equals(sortItem.getRight())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected PhysicalPlan visitChild(LogicalPlan node, C context) {
     // Logical operators visited here must have a single child
     return node.getChild().get(0).accept(this, context);
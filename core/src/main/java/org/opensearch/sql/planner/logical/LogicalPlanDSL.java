@@ -138,4 +138,9 @@ public class LogicalPlanDSL {
   public static LogicalPlan limit(LogicalPlan input, Integer limit, Integer offset) {
     return new LogicalLimit(input, limit, offset);
   }
+
+  public static LogicalPlan topK(
+      LogicalPlan input, Integer limit, Integer offset, Pair<SortOption, Expression>... sorts) {
+    return new LogicalTopK(input, Arrays.asList(sorts), limit, offset);
+  }
 }
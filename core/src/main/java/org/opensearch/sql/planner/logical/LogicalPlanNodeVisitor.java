@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.planner.logical;
 
+import org.opensearch.sql.storage.read.TableFetchBuilder;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 import org.opensearch.sql.storage.write.TableWriteBuilder;
 
@@ -28,6 +29,10 @@ public abstract class LogicalPlanNodeVisitor<R, C> {
     return visitNode(plan, context);
   }
 
+  public R visitTableFetchBuilder(TableFetchBuilder plan, C context) {
+    return visitNode(plan, context);
+  }
+
   public R visitWrite(LogicalWrite plan, C context) {
     return visitNode(plan, context);
   }
@@ -92,6 +97,10 @@ public abstract class LogicalPlanNodeVisitor<R, C> {
     return visitNode(plan, context);
   }
 
+  public R visitTopK(LogicalTopK plan, C context) {
+    return visitNode(plan, context);
+  }
+
   public R visitMLCommons(LogicalMLCommons plan, C context) {
     return visitNode(plan, context);
   }
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.logical;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+
+/** Top-K Plan. Sort the input by the sort fields and return the rows in the limit window. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class LogicalTopK extends LogicalPlan {
+
+  private final List<Pair<SortOption, Expression>> sortList;
+  private final Integer limit;
+  private final Integer offset;
+
+  /** Constructor of LogicalTopK. */
+  public LogicalTopK(
+      LogicalPlan child,
+      List<Pair<SortOption, Expression>> sortList,
+      Integer limit,
+      Integer offset) {
+    super(Collections.singletonList(child));
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTopK(this, context);
+  }
+}
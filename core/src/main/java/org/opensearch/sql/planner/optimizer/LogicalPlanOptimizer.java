@@ -12,9 +12,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.rule.EliminateCommonSubexpressions;
+import org.opensearch.sql.planner.optimizer.rule.FoldConstants;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
+import org.opensearch.sql.planner.optimizer.rule.MergeLimitAndSort;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
+import org.opensearch.sql.planner.optimizer.rule.read.LateMaterialization;
 import org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown;
 import org.opensearch.sql.planner.optimizer.rule.write.CreateTableWriteBuilder;
 
@@ -46,6 +50,7 @@ public class LogicalPlanOptimizer {
              */
             new MergeFilterAndFilter(),
             new PushFilterUnderSort(),
+            new FoldConstants(),
             /*
              * Phase 2: Transformations that rely on data source push down capability
              */
@@ -58,7 +63,13 @@ public class LogicalPlanOptimizer {
             TableScanPushDown.PUSH_DOWN_HIGHLIGHT,
             TableScanPushDown.PUSH_DOWN_NESTED,
             TableScanPushDown.PUSH_DOWN_PROJECT,
-            new CreateTableWriteBuilder()));
+            new CreateTableWriteBuilder(),
+            /*
+             * Phase 3: Transformations that apply to what is left after push down
+             */
+            new MergeLimitAndSort(),
+            new LateMaterialization(),
+            new EliminateCommonSubexpressions()));
   }
 
   /** Optimize {@link LogicalPlan}. */
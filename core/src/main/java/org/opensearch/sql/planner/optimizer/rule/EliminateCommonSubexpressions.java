@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.storage.read.TableScanBuilder;
+
+/**
+ * Share the deterministic function which appears more than once in the expressions evaluated
+ * together for a row, e.g. abs(a - b) in SELECT abs(a - b), abs(a - b) * 2. Each occurrence is
+ * replaced by a {@link CommonSubexpression} of the same slot, so it is evaluated once per row. The
+ * filter on top of table is skipped because its condition is going to be pushed down to the data
+ * source.
+ */
+public class EliminateCommonSubexpressions extends ExpressionRewriteRule {
+
+  @Override
+  protected boolean isApplied(LogicalPlan plan) {
+    if (plan instanceof LogicalFilter) {
+      LogicalPlan child = plan.getChild().get(0);
+      return !(child instanceof LogicalRelation || child instanceof TableScanBuilder);
+    }
+    return super.isApplied(plan);
+  }
+
+  @Override
+  protected List<Expression> rewrite(List<Expression> expressions) {
+    Map<Expression, Integer> occurrences = new HashMap<>();
+    expressions.forEach(expression -> count(expression, occurrences));
+
+    Map<Expression, CommonSubexpression.Slot> slots = new HashMap<>();
+    occurrences.forEach(
+        (expression, count) -> {
+          if (count > 1) {
+            slots.put(expression, new CommonSubexpression.Slot());
+          }
+        });
+
+    List<Expression> rewritten = new ArrayList<>();
+    expressions.forEach(expression -> rewritten.add(share(expression, slots)));
+    return rewritten;
+  }
+
+  /**
+   * Count the occurrences of deterministic functions. The arguments of a repeated occurrence are
+   * not counted again, because they are evaluated only once as part of it.
+   *
+   * @return whether the expression is deterministic
+   */
+  private boolean count(Expression expression, Map<Expression, Integer> occurrences) {
+    if (!(expression instanceof FunctionExpression)) {
+      return !(expression instanceof CommonSubexpression);
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    if (occurrences.containsKey(function)) {
+      occurrences.merge(function, 1, Integer::sum);
+      return true;
+    }
+
+    boolean deterministic = isDeterministic(function);
+    for (Expression argument : function.getArguments()) {
+      deterministic &= count(argument, occurrences);
+    }
+    if (deterministic) {
+      occurrences.put(function, 1);
+    }
+    return deterministic;
+  }
+
+  private Expression share(Expression expression, Map<Expression, CommonSubexpression.Slot> slots) {
+    if (!(expression instanceof FunctionExpression)) {
+      return expression;
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    Expression shared = function;
+    if (function.isRebuildable()) {
+      List<Expression> arguments = new ArrayList<>();
+      boolean changed = false;
+      for (Expression argument : function.getArguments()) {
+        Expression sharedArgument = share(argument, slots);
+        changed |= (sharedArgument != argument);
+        arguments.add(sharedArgument);
+      }
+      if (changed) {
+        shared = function.withArguments(arguments).orElseThrow();
+      }
+    }
+
+    CommonSubexpression.Slot slot = slots.get(function);
+    return (slot == null) ? shared : new CommonSubexpression(shared, slot);
+  }
+}
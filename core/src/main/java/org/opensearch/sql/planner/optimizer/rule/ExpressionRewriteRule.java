@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.RAND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SYSDATE;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Rule template for the rules which rewrite the expressions of Filter, Eval and Project. The plan
+ * node is replaced only if any of its expressions is rewritten, otherwise the same node is returned
+ * as required by the optimizer.
+ */
+public abstract class ExpressionRewriteRule implements Rule<LogicalPlan> {
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalPlan> pattern = typeOf(LogicalPlan.class).matching(this::isApplied);
+
+  /**
+   * Rewrite the expressions which are evaluated together for each row.
+   *
+   * @param expressions expressions
+   * @return rewritten expressions in the same order, with the same instance if not rewritten
+   */
+  protected abstract List<Expression> rewrite(List<Expression> expressions);
+
+  /** Whether the rule is applied to the plan node. */
+  protected boolean isApplied(LogicalPlan plan) {
+    return plan instanceof LogicalFilter
+        || plan instanceof LogicalEval
+        || plan instanceof LogicalProject;
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalPlan plan, Captures captures) {
+    LogicalPlan child = plan.getChild().get(0);
+    if (plan instanceof LogicalFilter) {
+      Expression condition = ((LogicalFilter) plan).getCondition();
+      Expression rewritten = rewrite(List.of(condition)).get(0);
+      return (rewritten == condition) ? plan : new LogicalFilter(child, rewritten);
+    } else if (plan instanceof LogicalEval) {
+      return apply((LogicalEval) plan, child);
+    } else {
+      return apply((LogicalProject) plan, child);
+    }
+  }
+
+  /** Each eval expression is evaluated with the fields assigned by the previous ones. */
+  private LogicalPlan apply(LogicalEval eval, LogicalPlan child) {
+    boolean changed = false;
+    List<Pair<ReferenceExpression, Expression>> expressions = new ArrayList<>();
+    for (Pair<ReferenceExpression, Expression> pair : eval.getExpressions()) {
+      Expression rewritten = rewrite(List.of(pair.getValue())).get(0);
+      changed |= (rewritten != pair.getValue());
+      expressions.add(Pair.of(pair.getKey(), rewritten));
+    }
+    return changed ? new LogicalEval(child, expressions) : eval;
+  }
+
+  private LogicalPlan apply(LogicalProject project, LogicalPlan child) {
+    List<NamedExpression> projectList = project.getProjectList();
+    List<Expression> rewritten =
+        rewrite(
+            projectList.stream().map(NamedExpression::getDelegated).collect(Collectors.toList()));
+
+    boolean changed = false;
+    List<NamedExpression> newProjectList = new ArrayList<>();
+    for (int i = 0; i < projectList.size(); i++) {
+      NamedExpression named = projectList.get(i);
+      if (rewritten.get(i) == named.getDelegated()) {
+        newProjectList.add(named);
+      } else {
+        changed = true;
+        newProjectList.add(
+            new NamedExpression(named.getName(), rewritten.get(i), named.getAlias()));
+      }
+    }
+    return changed
+        ? new LogicalProject(child, newProjectList, project.getNamedParseExpressions())
+        : project;
+  }
+
+  /**
+   * Whether the function gives the same result for the same arguments within a query. The current
+   * time functions are deterministic because they use the start time of the query, except SYSDATE.
+   */
+  protected static boolean isDeterministic(FunctionExpression function) {
+    return !function.getFunctionName().equals(SYSDATE.getName())
+        && !(function.getFunctionName().equals(RAND.getName())
+            && function.getArguments().isEmpty());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+
+/**
+ * Evaluate the deterministic function of literal arguments only once during optimization, and
+ * replace it by the literal of its value, e.g. age > 10 * 2 is rewritten to age > 20. The function
+ * is kept as is if its evaluation fails, so that the error is still reported on evaluation, or if
+ * the value is not of the function type, e.g. null.
+ */
+public class FoldConstants extends ExpressionRewriteRule {
+
+  @Override
+  protected List<Expression> rewrite(List<Expression> expressions) {
+    List<Expression> folded = new ArrayList<>();
+    expressions.forEach(expression -> folded.add(fold(expression)));
+    return folded;
+  }
+
+  private Expression fold(Expression expression) {
+    if (!(expression instanceof FunctionExpression)
+        || !((FunctionExpression) expression).isRebuildable()) {
+      return expression;
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    List<Expression> arguments = new ArrayList<>();
+    boolean changed = false;
+    for (Expression argument : function.getArguments()) {
+      Expression folded = fold(argument);
+      changed |= (folded != argument);
+      arguments.add(folded);
+    }
+
+    if (changed) {
+      expression = function.withArguments(arguments).orElseThrow();
+    }
+    if (isDeterministic(function)
+        && arguments.stream().allMatch(argument -> argument instanceof LiteralExpression)) {
+      try {
+        ExprValue value = expression.valueOf();
+        if (value.type().equals(expression.type())) {
+          return DSL.literal(value);
+        }
+      } catch (RuntimeException e) {
+        // Leave the error to evaluation
+      }
+    }
+    return expression;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopK;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Limit --> Sort to the single TopK.<br>
+ * The rule only applies once the sort child plans are optimized, which means there is no {@link
+ * LogicalRelation} left under the sort. Thus, the sort and limit are merged only if the data source
+ * failed to push down the sort.
+ */
+public class MergeLimitAndSort implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalSort> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /** Constructor of MergeLimitAndSort. */
+  public MergeLimitAndSort() {
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalLimit.class)
+            .with(
+                source()
+                    .matching(
+                        typeOf(LogicalSort.class)
+                            .matching(sort -> !containsRelation(sort))
+                            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit, Captures captures) {
+    LogicalSort sort = captures.get(capture);
+    return new LogicalTopK(
+        sort.getChild().get(0), sort.getSortList(), limit.getLimit(), limit.getOffset());
+  }
+
+  private static boolean containsRelation(LogicalPlan plan) {
+    return plan instanceof LogicalRelation
+        || plan.getChild().stream().anyMatch(MergeLimitAndSort::containsRelation);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule.read;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalTopK;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.storage.read.TableScanBuilder;
+
+/**
+ * Rule that lets the table scan under a top-k read only the fields the top-k needs, and fetch the
+ * rest of the columns for the rows left by the top-k only. It applies to Project --> TopK --> (Eval
+ * | Filter)* --> TableScanBuilder, which is left after the data source failed to push down the
+ * sort. The table scan builder decides whether it is worth it.
+ */
+public class LateMaterialization implements Rule<LogicalProject> {
+
+  /** Capture the top-k under the project. */
+  private final Capture<LogicalTopK> capture;
+
+  /** Pattern that matches project on top of top-k. */
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalProject> pattern;
+
+  /** Construct late materialization rule. */
+  public LateMaterialization() {
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalProject.class)
+            .with(source().matching(typeOf(LogicalTopK.class).capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalProject project, Captures captures) {
+    LogicalTopK topK = captures.get(capture);
+    Set<ReferenceExpression> fields = new HashSet<>();
+    topK.getSortList().forEach(sortItem -> collectReferences(sortItem.getRight(), fields));
+
+    LogicalPlan plan = topK.getChild().get(0);
+    while (plan instanceof LogicalEval || plan instanceof LogicalFilter) {
+      if (plan instanceof LogicalEval) {
+        ((LogicalEval) plan)
+            .getExpressions()
+            .forEach(expression -> collectReferences(expression.getRight(), fields));
+      } else {
+        collectReferences(((LogicalFilter) plan).getCondition(), fields);
+      }
+      plan = plan.getChild().get(0);
+    }
+    if (!(plan instanceof TableScanBuilder)) {
+      return project;
+    }
+
+    return ((TableScanBuilder) plan)
+        .pushDownLateMaterialization(topK, fields)
+        .<LogicalPlan>map(
+            fetch ->
+                new LogicalProject(
+                    fetch, project.getProjectList(), project.getNamedParseExpressions()))
+        .orElse(project);
+  }
+
+  private static void collectReferences(Expression expression, Set<ReferenceExpression> fields) {
+    expression.accept(
+        new ExpressionNodeVisitor<Void, Void>() {
+          @Override
+          public Void visitReference(ReferenceExpression node, Void context) {
+            fields.add(node);
+            return null;
+          }
+
+          @Override
+          public Void visitParse(ParseExpression node, Void context) {
+            return node.getSourceField().accept(this, context);
+          }
+        },
+        null);
+  }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
@@ -22,6 +23,12 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 /**
  * Group the all the input {@link BindingTuple} by {@link AggregationOperator#groupByExprList},
  * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}.
+ *
+ * <p>If {@link AggregationOperator#spillThreshold} is positive, at most that many groups are kept
+ * in memory. The partial aggregation states of the groups over the threshold are spilled to disk
+ * and merged when building the result.
+ *
+ * <p>The input is consumed batch by batch by {@link PhysicalPlan#nextBatch(int)}.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -30,6 +37,9 @@ public class AggregationOperator extends PhysicalPlan {
   @Getter private final List<NamedAggregator> aggregatorList;
   @Getter private final List<NamedExpression> groupByExprList;
 
+  /** Max number of groups kept in memory before spilling. Non-positive disables spilling. */
+  @Getter private final int spillThreshold;
+
   /** {@link BindingTuple} Collector. */
   @EqualsAndHashCode.Exclude private final Collector collector;
 
@@ -46,10 +56,27 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, 0);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param spillThreshold max number of groups kept in memory, non-positive value means no limit
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      int spillThreshold) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.spillThreshold = spillThreshold;
+    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList, spillThreshold);
   }
 
   @Override
@@ -75,9 +102,19 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    for (RowBatch batch = input.nextBatch(RowBatch.DEFAULT_SIZE);
+        !batch.isEmpty();
+        batch = input.nextBatch(RowBatch.DEFAULT_SIZE)) {
+      for (ExprValue row : batch.rows()) {
+        collector.collect(row.bindingTuples());
+      }
     }
-    iterator = collector.results().iterator();
+    iterator = collector.resultIterator();
+  }
+
+  @Override
+  public void close() {
+    collector.close();
+    super.close();
   }
 }
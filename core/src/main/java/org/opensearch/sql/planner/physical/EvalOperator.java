@@ -8,23 +8,27 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
-import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 
 /**
@@ -43,6 +47,15 @@ public class EvalOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /** Expressions compiled on first use for row by row evaluation. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private List<Pair<ReferenceExpression, Expression>> compiledExpressionList;
+
+  /** Schema of the last input row, and the output schema derived from it. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private RowSchema inputSchema;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private RowSchema outputSchema;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -60,27 +73,59 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return eval(input.next());
+  }
+
+  /**
+   * Evaluate the expressions on the whole batch at once if the batch can be viewed as columns. Each
+   * evaluated column replaces or is appended to the columns of the batch so that it is visible to
+   * the following expressions.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    if (batch.isEmpty() || !batch.isColumnar()) {
+      return RowBatch.ofRows(batch.rows().stream().map(this::eval).collect(Collectors.toList()));
+    }
+    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
+      batch = batch.withColumn(pair.getKey().toString(), pair.getValue().valueOfBatch(batch));
+    }
+    return batch;
+  }
+
+  private ExprValue eval(ExprValue inputValue) {
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (evalMap.containsKey(valueEntry.getKey())) {
-          resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
-          evalMap.remove(valueEntry.getKey());
-        } else {
-          resultBuilder.put(valueEntry);
-        }
+      RowSchema schema = outputSchema(inputValue, evalMap.keySet());
+      ExprValue[] values = new ExprValue[schema.size()];
+      int ordinal = 0;
+      for (ExprValue value : ExprValueUtils.getTupleValue(inputValue).values()) {
+        values[ordinal++] = value;
+      }
+      for (Entry<String, ExprValue> entry : evalMap.entrySet()) {
+        values[schema.ordinal(entry.getKey())] = entry.getValue();
       }
-      resultBuilder.putAll(evalMap);
-      return ExprTupleValue.fromExprValueMap(resultBuilder.build());
+      return new ExprRowValue(schema, values);
     } else {
       return inputValue;
     }
   }
 
+  /**
+   * Output schema is the input fields in order followed by the new fields. It is only rebuilt if
+   * the fields of the input row change.
+   */
+  private RowSchema outputSchema(ExprValue inputValue, Set<String> evalNames) {
+    if (inputSchema == null || !inputSchema.matches(inputValue)) {
+      inputSchema = RowSchema.of(inputValue);
+      List<String> names = new ArrayList<>(inputSchema.getNames());
+      evalNames.stream().filter(name -> inputSchema.ordinal(name) < 0).forEach(names::add);
+      outputSchema = new RowSchema(names);
+    }
+    return outputSchema;
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
    *
@@ -88,8 +133,14 @@ public class EvalOperator extends PhysicalPlan {
    * @return The mapping of reference and {@link ExprValue} for each expression.
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
+    if (compiledExpressionList == null) {
+      compiledExpressionList =
+          expressionList.stream()
+              .map(pair -> Pair.of(pair.getKey(), ExpressionCompiler.compile(pair.getValue())))
+              .collect(Collectors.toList());
+    }
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
+    for (Pair<ReferenceExpression, Expression> pair : compiledExpressionList) {
       ReferenceExpression var = pair.getKey();
       ExprValue value = pair.getValue().valueOf(env);
       env = extendEnv(env, var, value);
@@ -11,8 +11,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.opensearch.sql.data.batch.BooleanVector;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -29,6 +33,9 @@ public class FilterOperator extends PhysicalPlan {
   @Getter private final Expression conditions;
   @ToString.Exclude private ExprValue next = null;
 
+  /** Conditions compiled on first use for row by row evaluation. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private Expression compiledConditions;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -41,10 +48,13 @@ public class FilterOperator extends PhysicalPlan {
 
   @Override
   public boolean hasNext() {
+    if (compiledConditions == null) {
+      compiledConditions = ExpressionCompiler.compile(conditions);
+    }
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      ExprValue exprValue = compiledConditions.valueOf(inputValue.bindingTuples());
+      if (isTrue(exprValue)) {
         next = inputValue;
         return true;
       }
@@ -56,4 +66,38 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  /** Filter the input batch by the condition evaluated on the whole batch at once. */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    while (!batch.isEmpty()) {
+      RowBatch selected = batch.select(select(conditions.valueOfBatch(batch)));
+      if (!selected.isEmpty()) {
+        return selected;
+      }
+      batch = input.nextBatch(maxSize);
+    }
+    return batch;
+  }
+
+  private boolean[] select(ColumnVector condition) {
+    boolean[] selected = new boolean[condition.size()];
+    if (condition instanceof BooleanVector) {
+      BooleanVector booleans = (BooleanVector) condition;
+      boolean[] values = booleans.getValues();
+      for (int i = 0; i < selected.length; i++) {
+        selected[i] = values[i] && !booleans.isNull(i);
+      }
+    } else {
+      for (int i = 0; i < selected.length; i++) {
+        selected[i] = isTrue(condition.get(i));
+      }
+    }
+    return selected;
+  }
+
+  private static boolean isTrue(ExprValue exprValue) {
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
@@ -5,7 +5,10 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
@@ -33,6 +36,23 @@ public abstract class PhysicalPlan
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Get the next batch of at most maxSize rows, an empty batch means there are no more rows. Row
+   * iteration and batch iteration shouldn't be mixed on the same plan. By default the batch is
+   * built by {@link #hasNext()} and {@link #next()}, operators which can process a whole batch at
+   * once override it.
+   *
+   * @param maxSize max number of rows in the batch
+   * @return row batch
+   */
+  public RowBatch nextBatch(int maxSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < maxSize && hasNext()) {
+      rows.add(next());
+    }
+    return RowBatch.ofRows(rows);
+  }
+
   public void add(Split split) {
     getChild().forEach(child -> child.add(split));
   }
@@ -31,6 +31,19 @@ public class PhysicalPlanDSL {
     return new AggregationOperator(input, aggregators, groups);
   }
 
+  public static AggregationOperator agg(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregators,
+      List<NamedExpression> groups,
+      int spillThreshold) {
+    return new AggregationOperator(input, aggregators, groups, spillThreshold);
+  }
+
+  public static StreamingAggregationOperator streamingAgg(
+      PhysicalPlan input, List<NamedAggregator> aggregators, List<NamedExpression> groups) {
+    return new StreamingAggregationOperator(input, aggregators, groups);
+  }
+
   public static FilterOperator filter(PhysicalPlan input, Expression condition) {
     return new FilterOperator(input, condition);
   }
@@ -64,6 +77,11 @@ public class PhysicalPlanDSL {
     return new SortOperator(input, Arrays.asList(sorts));
   }
 
+  public static SortOperator sort(
+      PhysicalPlan input, int spillThreshold, Pair<SortOption, Expression>... sorts) {
+    return new SortOperator(input, Arrays.asList(sorts), spillThreshold);
+  }
+
   public static DedupeOperator dedupe(PhysicalPlan input, Expression... expressions) {
     return new DedupeOperator(input, Arrays.asList(expressions));
   }
@@ -110,6 +128,11 @@ public class PhysicalPlanDSL {
     return new LimitOperator(input, limit, offset);
   }
 
+  public static TopKOperator topK(
+      PhysicalPlan input, Integer limit, Integer offset, Pair<SortOption, Expression>... sorts) {
+    return new TopKOperator(input, Arrays.asList(sorts), limit, offset);
+  }
+
   public static NestedOperator nested(
       PhysicalPlan input, Set<String> args, Map<String, List<String>> groupedFieldsByPath) {
     return new NestedOperator(input, args, groupedFieldsByPath);
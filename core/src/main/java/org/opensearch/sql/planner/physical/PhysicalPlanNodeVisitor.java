@@ -6,6 +6,7 @@
 package org.opensearch.sql.planner.physical;
 
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 import org.opensearch.sql.storage.write.TableWriteOperator;
 
 /**
@@ -28,6 +29,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitStreamingAggregation(StreamingAggregationOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitRename(RenameOperator node, C context) {
     return visitNode(node, context);
   }
@@ -36,6 +41,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitTableFetch(TableFetchOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitTableWrite(TableWriteOperator node, C context) {
     return visitNode(node, context);
   }
@@ -80,6 +89,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitTopK(TopKOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitMLCommons(PhysicalPlan node, C context) {
     return visitNode(node, context);
   }
@@ -14,27 +14,54 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@AllArgsConstructor
 public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter private PhysicalPlan input;
   @Getter private List<NamedExpression> projectList;
   @Getter private List<NamedExpression> namedParseExpressions;
 
+  /** Schema shared by all the output rows, created on first use. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private RowSchema rowSchema;
+
+  /** Project expressions compiled on first use for row by row evaluation. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private List<Expression> compiledProjectList;
+
+  /**
+   * Constructor of ProjectOperator.
+   *
+   * @param input input plan
+   * @param projectList expressions to project
+   * @param namedParseExpressions parse expressions which override the projected fields
+   */
+  public ProjectOperator(
+      PhysicalPlan input,
+      List<NamedExpression> projectList,
+      List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -52,7 +79,37 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return project(input.next());
+  }
+
+  /** Evaluate the projection on the whole batch at once if the batch can be viewed as columns. */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    if (!namedParseExpressions.isEmpty() || batch.isEmpty() || !batch.isColumnar()) {
+      return RowBatch.ofRows(batch.rows().stream().map(this::project).collect(Collectors.toList()));
+    }
+    ImmutableMap.Builder<String, ColumnVector> columns = new Builder<>();
+    for (NamedExpression expr : projectList) {
+      columns.put(expr.getNameOrAlias(), expr.valueOfBatch(batch));
+    }
+    return RowBatch.ofColumns(batch.size(), columns.build());
+  }
+
+  private ExprValue project(ExprValue inputValue) {
+    if (namedParseExpressions.isEmpty()) {
+      if (compiledProjectList == null) {
+        compiledProjectList =
+            projectList.stream().map(ExpressionCompiler::compile).collect(Collectors.toList());
+      }
+      BindingTuple env = inputValue.bindingTuples();
+      ExprValue[] values = new ExprValue[compiledProjectList.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = compiledProjectList.get(i).valueOf(env);
+      }
+      return new ExprRowValue(rowSchema(), values);
+    }
+
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
@@ -89,6 +146,17 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
+  private RowSchema rowSchema() {
+    if (rowSchema == null) {
+      rowSchema =
+          new RowSchema(
+              projectList.stream()
+                  .map(NamedExpression::getNameOrAlias)
+                  .collect(Collectors.toList()));
+    }
+    return rowSchema;
+  }
+
   @Override
   public ExecutionEngine.Schema schema() {
     return new ExecutionEngine.Schema(
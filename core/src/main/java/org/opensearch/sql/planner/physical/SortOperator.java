@@ -8,6 +8,8 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -24,11 +26,16 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}. The count indicate
  * how many sorted result should been return.
+ *
+ * <p>If {@link SortOperator#spillThreshold} is positive, at most that many rows are kept in memory.
+ * Whenever the buffer is full, it is sorted and spilled to a temporary {@link SpillFile} as a
+ * sorted run. The runs and the remaining in-memory rows are k-way merged on output.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -36,8 +43,13 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  /** Max number of rows buffered in memory before spilling. Non-positive disables spilling. */
+  @Getter private final int spillThreshold;
+
   @EqualsAndHashCode.Exclude private final Sorter sorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+  @EqualsAndHashCode.Exclude private final List<SpillFile> spillFiles = new ArrayList<>();
 
   /**
    * Sort Operator Constructor.
@@ -47,20 +59,23 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, 0);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param spillThreshold max number of rows kept in memory, non-positive value means no limit
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, int spillThreshold) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.spillThreshold = spillThreshold;
+    this.sorter = Sorter.of(sortList);
   }
 
   @Override
@@ -71,12 +86,23 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
-    while (input.hasNext()) {
-      sorted.add(input.next());
+    if (spillThreshold <= 0) {
+      PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+      while (input.hasNext()) {
+        sorted.add(input.next());
+      }
+
+      iterator = iterator(sorted);
+    } else {
+      iterator = externalSort();
     }
+  }
 
-    iterator = iterator(sorted);
+  @Override
+  public void close() {
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
+    super.close();
   }
 
   @Override
@@ -98,6 +124,27 @@ public class SortOperator extends PhysicalPlan {
   public static class Sorter implements Comparator<ExprValue> {
     @Singular private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
 
+    /**
+     * Create the {@link Sorter} for the sort fields.
+     *
+     * @param sortList list of sort field with {@link SortOption}
+     * @return sorter which compares {@link ExprValue} by the sort fields in order
+     */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      SorterBuilder sorterBuilder = Sorter.builder();
+      for (Pair<SortOption, Expression> pair : sortList) {
+        SortOption option = pair.getLeft();
+        ExprValueOrdering ordering =
+            ASC.equals(option.getSortOrder())
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        ordering =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
+      }
+      return sorterBuilder.build();
+    }
+
     @Override
     public int compare(ExprValue o1, ExprValue o2) {
       for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
@@ -115,6 +162,31 @@ public class SortOperator extends PhysicalPlan {
     }
   }
 
+  /**
+   * Sort the input with at most {@link SortOperator#spillThreshold} rows in memory. Each full
+   * buffer is sorted and spilled as a run, then all runs are merged lazily.
+   */
+  private Iterator<ExprValue> externalSort() {
+    List<ExprValue> buffer = new ArrayList<>();
+    while (input.hasNext()) {
+      buffer.add(input.next());
+      if (buffer.size() >= spillThreshold) {
+        buffer.sort(sorter);
+        spillFiles.add(SpillFile.write("sort", buffer.iterator()));
+        buffer.clear();
+      }
+    }
+    buffer.sort(sorter);
+    if (spillFiles.isEmpty()) {
+      return buffer.iterator();
+    }
+
+    List<Iterator<ExprValue>> runs = new ArrayList<>();
+    spillFiles.forEach(file -> runs.add(file.iterator()));
+    runs.add(buffer.iterator());
+    return Iterators.mergeSorted(runs, sorter);
+  }
+
   private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
     return new Iterator<ExprValue>() {
       @Override
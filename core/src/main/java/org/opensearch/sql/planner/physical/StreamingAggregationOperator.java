@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.collector.MetricCollector;
+
+/**
+ * Streaming aggregation operator. It requires the input rows to be ordered, or at least clustered,
+ * by {@link StreamingAggregationOperator#groupByExprList}, so that all the rows of a group are
+ * adjacent. Each group is emitted as soon as the group key changes, thus only the state of the
+ * current group is kept in memory and the operator doesn't consume more input than the parent
+ * requires.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+@RequiredArgsConstructor
+public class StreamingAggregationOperator extends PhysicalPlan {
+  @Getter private final PhysicalPlan input;
+  @Getter private final List<NamedAggregator> aggregatorList;
+  @Getter private final List<NamedExpression> groupByExprList;
+
+  /** First row of the next group which has been read ahead from input. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private ExprValue lookahead;
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitStreamingAggregation(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return lookahead != null || input.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    ExprValue row = (lookahead != null) ? lookahead : input.next();
+    lookahead = null;
+    List<ExprValue> key = groupKey(row);
+    MetricCollector collector = new MetricCollector(aggregatorList);
+    collector.collect(row.bindingTuples());
+    while (input.hasNext()) {
+      row = input.next();
+      if (!key.equals(groupKey(row))) {
+        lookahead = row;
+        break;
+      }
+      collector.collect(row.bindingTuples());
+    }
+
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    for (int i = 0; i < groupByExprList.size(); i++) {
+      result.put(groupByExprList.get(i).getNameOrAlias(), key.get(i));
+    }
+    result.putAll(collector.results().get(0).tupleValue());
+    return ExprTupleValue.fromExprValueMap(result);
+  }
+
+  /**
+   * Key of the group of a row. A missing value is the same as null, since the sort of the input
+   * doesn't tell them apart and may interleave them.
+   */
+  private List<ExprValue> groupKey(ExprValue row) {
+    ExprValue[] key = new ExprValue[groupByExprList.size()];
+    for (int i = 0; i < key.length; i++) {
+      ExprValue value = groupByExprList.get(i).valueOf(row.bindingTuples());
+      key[i] = value.isMissing() ? ExprNullValue.of() : value;
+    }
+    return Arrays.asList(key);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * Top-K Operator. It is equivalent to a {@link LimitOperator} on top of a {@link SortOperator} but
+ * only keeps the first {@link TopKOperator#offset} + {@link TopKOperator#limit} rows in memory.
+ *
+ * <p>The input rows are pushed into a bounded max-heap ordered by the sort fields. Once the heap is
+ * full, a new row replaces the head only if it sorts before it, so the heap holds the smallest rows
+ * seen so far. On output the rows are sorted and the leading {@link TopKOperator#offset} rows are
+ * skipped.
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class TopKOperator extends PhysicalPlan {
+  @Getter private final PhysicalPlan input;
+
+  @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  @Getter private final Integer limit;
+
+  @Getter private final Integer offset;
+
+  @EqualsAndHashCode.Exclude private final Sorter sorter;
+  @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+
+  /**
+   * Top-K Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort field. The sort field is specified by the {@link Expression} with
+   *     {@link SortOption}
+   * @param limit max number of rows to return
+   * @param offset number of leading sorted rows to skip
+   */
+  public TopKOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      Integer limit,
+      Integer offset) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTopK(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    long k = (long) offset + limit;
+    List<ExprValue> result = new ArrayList<>();
+    if (k > 0) {
+      PriorityQueue<ExprValue> heap =
+          new PriorityQueue<>((int) Math.min(k, 1024), sorter.reversed());
+      while (input.hasNext()) {
+        ExprValue row = input.next();
+        if (heap.size() < k) {
+          heap.add(row);
+        } else if (sorter.compare(row, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(row);
+        }
+      }
+      result.addAll(heap);
+      result.sort(sorter);
+    }
+    iterator = result.subList(Math.min(offset, result.size()), result.size()).iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+}
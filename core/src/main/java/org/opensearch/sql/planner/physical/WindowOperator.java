@@ -5,16 +5,17 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
-import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
@@ -39,6 +40,11 @@ public class WindowOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude @ToString.Exclude
   private final PeekingIterator<ExprValue> peekingIterator;
 
+  /** Schema of the last input row, and the output schema derived from it. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private RowSchema inputSchema;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private RowSchema outputSchema;
+
   /**
    * Initialize window operator.
    *
@@ -82,19 +88,36 @@ public class WindowOperator extends PhysicalPlan {
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    ExprValue inputValue = windowFrame.current();
+    RowSchema schema = outputSchema(inputValue);
+    ExprValue[] values = new ExprValue[schema.size()];
+    preserveAllOriginalColumns(inputValue, values);
+    addWindowFunctionResultColumn(values);
+    return new ExprRowValue(schema, values);
   }
 
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
+  /**
+   * Output schema is the input fields followed by the window function result. It is only rebuilt if
+   * the fields of the input row change.
+   */
+  private RowSchema outputSchema(ExprValue inputValue) {
+    if (inputSchema == null || !inputSchema.matches(inputValue)) {
+      inputSchema = RowSchema.of(inputValue);
+      List<String> names = new ArrayList<>(inputSchema.getNames());
+      names.add(windowFunction.getName());
+      outputSchema = new RowSchema(names);
+    }
+    return outputSchema;
+  }
+
+  private void preserveAllOriginalColumns(ExprValue inputValue, ExprValue[] values) {
+    int ordinal = 0;
+    for (ExprValue value : inputValue.tupleValue().values()) {
+      values[ordinal++] = value;
+    }
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  private void addWindowFunctionResultColumn(ExprValue[] values) {
+    values[values.length - 1] = windowFunction.valueOf(windowFrame);
   }
 }
@@ -5,40 +5,61 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
-/** Collect Bucket from {@link BindingTuple}. */
+/**
+ * Collect Bucket from {@link BindingTuple}. All the bucket expressions are evaluated into a single
+ * composite bucket key, and the buckets are kept in a flat hash table. The buckets are sorted by
+ * key only once when building the results.
+ *
+ * <p>If {@link BucketCollector#spillThreshold} is positive, at most that many buckets are kept in
+ * memory. Whenever the hash table is full, the buckets are sorted by key and their partial
+ * aggregation states are spilled to a temporary {@link SpillFile}. On output, the spilled runs and
+ * the remaining in-memory buckets are k-way merged, and the states of the same bucket are merged.
+ */
 @RequiredArgsConstructor
 public class BucketCollector implements Collector {
 
-  /** Bucket Expression. */
-  private final NamedExpression bucketExpr;
+  /** Ordering of bucket key values, null and missing value comes first. */
+  private static final Comparator<ExprValue> KEY_ORDERING =
+      ExprValueOrdering.natural().nullsFirst();
+
+  /** Bucket Expressions. */
+  private final List<NamedExpression> bucketExprs;
 
   /** Collector Constructor. */
-  private final Supplier<Collector> supplier;
+  private final Supplier<MetricCollector> supplier;
 
-  /**
-   * Map from bucketKey to nested collector sorted by key to make sure final result is in order
-   * after traversal.
-   */
-  private final Map<ExprValue, Collector> collectorMap = new TreeMap<>();
+  /** Max number of buckets kept in memory before spilling. Non-positive disables spilling. */
+  private final int spillThreshold;
 
-  /** Bucket Index. */
-  private int bucketIndex = 0;
+  /** Map from composite bucketKey to the collector of the bucket. */
+  private final Map<List<ExprValue>, MetricCollector> collectorMap = new HashMap<>();
+
+  /** Sorted runs of the spilled buckets. */
+  private final List<SpillFile> spillFiles = new ArrayList<>();
 
   /**
    * Collect Bucket from {@link BindingTuple}. If bucket not exist, create new bucket and {@link
@@ -49,61 +70,133 @@ public class BucketCollector implements Collector {
    */
   @Override
   public void collect(BindingTuple input) {
-    ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+    collectorMap.computeIfAbsent(bucketKey(input), key -> supplier.get()).collect(input);
+    if (spillThreshold > 0 && collectorMap.size() >= spillThreshold) {
+      spillFiles.add(SpillFile.write("aggregation", partialResults()));
+      collectorMap.clear();
+    }
   }
 
   /**
-   * Bucket Key.
+   * Composite Bucket Key. A missing value is the same bucket as null, since both are grouped into
+   * the null bucket by the other aggregation operators.
    *
    * @param tuple {@link BindingTuple}.
-   * @return Bucket Key.
+   * @return Bucket Key with one value per bucket expression.
    */
-  protected ExprValue bucketKey(BindingTuple tuple) {
-    return bucketExpr.valueOf(tuple);
+  protected List<ExprValue> bucketKey(BindingTuple tuple) {
+    ExprValue[] key = new ExprValue[bucketExprs.size()];
+    for (int i = 0; i < key.length; i++) {
+      ExprValue value = bucketExprs.get(i).valueOf(tuple);
+      key[i] = value.isMissing() ? ExprNullValue.of() : value;
+    }
+    return Arrays.asList(key);
   }
 
   /**
-   * Get result from all the buckets.
+   * Get result from all the buckets in bucket key order.
    *
    * @return list of {@link ExprValue}.
    */
   @Override
   public List<ExprValue> results() {
-    ExprValue[] buckets = allocateBuckets();
-    for (Map.Entry<ExprValue, Collector> entry : collectorMap.entrySet()) {
-      ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
-      for (ExprValue tuple : entry.getValue().results()) {
-        LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
-        tmp.put(bucketExpr.getNameOrAlias(), entry.getKey());
-        tmp.putAll(tuple.tupleValue());
-        builder.add(ExprTupleValue.fromExprValueMap(tmp));
-      }
-      buckets[locateBucket(entry.getKey())] = new ExprCollectionValue(builder.build());
-    }
-    return Arrays.stream(buckets)
-        .filter(Objects::nonNull)
-        .flatMap(v -> v.collectionValue().stream())
-        .collect(Collectors.toList());
+    return ImmutableList.copyOf(resultIterator());
   }
 
   /**
-   * Allocates Buckets for building results.
+   * Get result from all the buckets in bucket key order. If any bucket has been spilled, the result
+   * is built lazily while merging the spilled runs.
    *
-   * @return buckets.
+   * @return iterator of {@link ExprValue}.
    */
-  protected ExprValue[] allocateBuckets() {
-    return new ExprValue[collectorMap.size()];
+  @Override
+  public Iterator<ExprValue> resultIterator() {
+    Iterator<Map.Entry<List<ExprValue>, MetricCollector>> buckets;
+    if (spillFiles.isEmpty()) {
+      buckets = sortedBuckets().iterator();
+    } else {
+      List<Iterator<ExprValue>> runs = new ArrayList<>();
+      spillFiles.forEach(file -> runs.add(file.iterator()));
+      runs.add(partialResults());
+      buckets =
+          mergeBuckets(
+              Iterators.peekingIterator(
+                  Iterators.mergeSorted(
+                      runs, Comparator.comparing(BucketCollector::recordKey, keyComparator()))));
+    }
+    return Iterators.concat(Iterators.transform(buckets, this::bucketResults));
+  }
+
+  @Override
+  public void close() {
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
+  }
+
+  private List<Map.Entry<List<ExprValue>, MetricCollector>> sortedBuckets() {
+    List<Map.Entry<List<ExprValue>, MetricCollector>> buckets =
+        new ArrayList<>(collectorMap.entrySet());
+    buckets.sort(Map.Entry.comparingByKey(keyComparator()));
+    return buckets;
+  }
+
+  /** Sorted in-memory buckets as records of bucket key and partial aggregation states. */
+  private Iterator<ExprValue> partialResults() {
+    return Iterators.transform(
+        sortedBuckets().iterator(),
+        entry ->
+            new ExprCollectionValue(
+                ImmutableList.of(
+                    new ExprCollectionValue(entry.getKey()), entry.getValue().partialResult())));
   }
 
   /**
-   * Current Bucket index in allocated buckets.
-   *
-   * @param value bucket key.
-   * @return index.
+   * Merge the partial aggregation states of adjacent records with the same bucket key. Keys are
+   * compared with the same comparator the runs are merged by, so the grouping agrees with the order.
    */
-  protected int locateBucket(ExprValue value) {
-    return bucketIndex++;
+  private Iterator<Map.Entry<List<ExprValue>, MetricCollector>> mergeBuckets(
+      PeekingIterator<ExprValue> records) {
+    Comparator<List<ExprValue>> comparator = keyComparator();
+    return new AbstractIterator<>() {
+      @Override
+      protected Map.Entry<List<ExprValue>, MetricCollector> computeNext() {
+        if (!records.hasNext()) {
+          return endOfData();
+        }
+        List<ExprValue> key = recordKey(records.peek());
+        MetricCollector collector = supplier.get();
+        while (records.hasNext() && comparator.compare(key, recordKey(records.peek())) == 0) {
+          collector.merge(records.next().collectionValue().get(1));
+        }
+        return new AbstractMap.SimpleEntry<>(key, collector);
+      }
+    };
+  }
+
+  private static List<ExprValue> recordKey(ExprValue record) {
+    return record.collectionValue().get(0).collectionValue();
+  }
+
+  private Iterator<ExprValue> bucketResults(Map.Entry<List<ExprValue>, MetricCollector> bucket) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    for (ExprValue tuple : bucket.getValue().results()) {
+      LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
+      for (int i = 0; i < bucketExprs.size(); i++) {
+        tmp.put(bucketExprs.get(i).getNameOrAlias(), bucket.getKey().get(i));
+      }
+      tmp.putAll(tuple.tupleValue());
+      builder.add(ExprTupleValue.fromExprValueMap(tmp));
+    }
+    return builder.build().iterator();
+  }
+
+  /** Compare bucket keys value by value in the order of bucket expressions. */
+  private Comparator<List<ExprValue>> keyComparator() {
+    Comparator<List<ExprValue>> comparator = (key1, key2) -> 0;
+    for (int i = 0; i < bucketExprs.size(); i++) {
+      int index = i;
+      comparator = comparator.thenComparing(key -> key.get(index), KEY_ORDERING);
+    }
+    return comparator;
   }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.planner.physical.collector;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Iterator;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
@@ -30,18 +31,29 @@ public interface Collector {
    */
   List<ExprValue> results();
 
+  /**
+   * Get Result from Collector as iterator. The result could be built lazily while iterating.
+   *
+   * @return iterator of {@link ExprValue}.
+   */
+  default Iterator<ExprValue> resultIterator() {
+    return results().iterator();
+  }
+
+  /** Release the resources held by Collector, e.g. the spilled intermediate result. */
+  default void close() {}
+
   /** {@link Collector} tree builder. */
   @UtilityClass
   class Builder {
-    /** build {@link Collector}. */
+    /** build {@link Collector}, buckets over the spill threshold are spilled to disk. */
     public static Collector build(
-        List<NamedExpression> buckets, List<NamedAggregator> aggregators) {
+        List<NamedExpression> buckets, List<NamedAggregator> aggregators, int spillThreshold) {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
         return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+            ImmutableList.copyOf(buckets), () -> new MetricCollector(aggregators), spillThreshold);
       }
     }
   }
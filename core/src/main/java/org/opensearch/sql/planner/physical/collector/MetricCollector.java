@@ -11,6 +11,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.aggregation.AggregationState;
@@ -59,4 +60,30 @@ public class MetricCollector implements Collector {
     aggregators.forEach(agg -> map.put(agg.getKey().getName(), agg.getValue().result()));
     return Collections.singletonList(ExprTupleValue.fromExprValueMap(map));
   }
+
+  /**
+   * Get intermediate states of all the aggregators which could be spilled and merged back later by
+   * {@link MetricCollector#merge(ExprValue)}.
+   *
+   * @return list of {@link AggregationState#partialResult()} in aggregator order.
+   */
+  public ExprValue partialResult() {
+    return new ExprCollectionValue(
+        aggregators.stream()
+            .map(agg -> agg.getValue().partialResult())
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Merge intermediate states of all the aggregators.
+   *
+   * @param partialResult {@link MetricCollector#partialResult()} of another collector.
+   */
+  public void merge(ExprValue partialResult) {
+    List<ExprValue> partialResults = partialResult.collectionValue();
+    for (int i = 0; i < aggregators.size(); i++) {
+      Map.Entry<NamedAggregator, AggregationState> agg = aggregators.get(i);
+      agg.getKey().merge(partialResults.get(i), agg.getValue());
+    }
+  }
 }
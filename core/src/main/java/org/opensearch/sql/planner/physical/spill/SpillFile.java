@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import com.google.common.io.Closeables;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * A local temporary file holding a sequence of {@link ExprValue} encoded by {@link ExprValueCodec}.
+ * Physical operators which run out of their in-memory budget write partial results into spill files
+ * and read them back once the input is exhausted. The file is deleted on {@link #close()}.
+ */
+public class SpillFile implements AutoCloseable {
+
+  private static final String PREFIX = "opensearch-sql-";
+
+  private static final String SUFFIX = ".spill";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+
+  /** Number of values written into the file. */
+  @Getter private final long size;
+
+  private DataInputStream input;
+
+  private SpillFile(Path path, long size) {
+    this.path = path;
+    this.size = size;
+  }
+
+  /**
+   * Write all the values into a new spill file.
+   *
+   * @param name name of the operator which spills, used as part of the file name.
+   * @param values values to write in order.
+   * @return spill file
+   */
+  public static SpillFile write(String name, Iterator<ExprValue> values) {
+    Path path = null;
+    try {
+      path = Files.createTempFile(PREFIX + name, SUFFIX);
+      long size = 0;
+      try (DataOutputStream output =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+        while (values.hasNext()) {
+          ExprValueCodec.write(output, values.next());
+          size++;
+        }
+      }
+      return new SpillFile(path, size);
+    } catch (IOException e) {
+      delete(path);
+      throw new IllegalStateException("Failed to spill intermediate result to disk", e);
+    }
+  }
+
+  /**
+   * Read the values back in the order they were written. The file can only be read once.
+   *
+   * @return value iterator
+   */
+  public Iterator<ExprValue> iterator() {
+    try {
+      input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read spilled intermediate result", e);
+    }
+    return new Iterator<>() {
+      private long read = 0;
+
+      @Override
+      public boolean hasNext() {
+        return read < size;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        try {
+          ExprValue value = ExprValueCodec.read(input);
+          read++;
+          return value;
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read spilled intermediate result", e);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    Closeables.closeQuietly(input);
+    delete(path);
+  }
+
+  private static void delete(Path path) {
+    if (path != null) {
+      path.toFile().delete();
+    }
+  }
+}
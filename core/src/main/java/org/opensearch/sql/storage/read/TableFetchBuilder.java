@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.storage.read;
+
+import java.util.Collections;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+/**
+ * A {@link TableFetchBuilder} represents transition state between logical planning and physical
+ * planning for the operator which fetches the rest of the columns of the rows left by its child. It
+ * is created by a {@link TableScanBuilder} which agrees to read only the columns its parent plans
+ * need, so that the other columns are fetched for far fewer rows.
+ */
+public abstract class TableFetchBuilder extends LogicalPlan {
+
+  /** Construct table fetch builder with child node. */
+  public TableFetchBuilder(LogicalPlan child) {
+    super(Collections.singletonList(child));
+  }
+
+  /**
+   * Build table fetch operator with given child node.
+   *
+   * @param child child operator node
+   * @return table fetch operator
+   */
+  public abstract TableFetchOperator build(PhysicalPlan child);
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTableFetchBuilder(this, context);
+  }
+}
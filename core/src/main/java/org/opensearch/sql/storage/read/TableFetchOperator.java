@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.storage.read;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+
+/**
+ * {@link TableFetchOperator} is the abstraction for data source to implement different physical
+ * operators which fetch the rest of the columns of the rows left by the input from a data source.
+ */
+@RequiredArgsConstructor
+public abstract class TableFetchOperator extends PhysicalPlan {
+
+  /** Input physical node. */
+  @Getter protected final PhysicalPlan input;
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTableFetch(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  /**
+   * Copy the operator with another input, for example the input decorated by a plan protector.
+   *
+   * @param input input physical node
+   * @return operator fetching the rows of the input
+   */
+  public abstract TableFetchOperator withInput(PhysicalPlan input);
+
+  /**
+   * Explain the execution plan.
+   *
+   * @return explain output
+   */
+  public abstract String explain();
+}
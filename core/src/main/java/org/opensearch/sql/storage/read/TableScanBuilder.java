@@ -6,6 +6,9 @@
 package org.opensearch.sql.storage.read;
 
 import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
@@ -16,6 +19,7 @@ import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopK;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
@@ -119,6 +123,21 @@ public abstract class TableScanBuilder extends LogicalPlan {
     return false;
   }
 
+  /**
+   * Can the table scan read only the given fields for a top-k operator above it, and leave the rest
+   * of the columns to be fetched for the rows left by the top-k. Assume no such support by default
+   * unless subclass override this.
+   *
+   * @param topK logical top-k operator
+   * @param fields fields read by the top-k and the operators between it and the table scan
+   * @return builder of the operator fetching the rest of the columns if pushed down, otherwise
+   *     empty
+   */
+  public Optional<TableFetchBuilder> pushDownLateMaterialization(
+      LogicalTopK topK, Set<ReferenceExpression> fields) {
+    return Optional.empty();
+  }
+
   @Override
   public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitTableScanBuilder(this, context);
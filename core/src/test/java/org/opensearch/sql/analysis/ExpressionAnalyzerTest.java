@@ -13,6 +13,7 @@ import static org.opensearch.sql.ast.dsl.AstDSL.field;
 import static org.opensearch.sql.ast.dsl.AstDSL.floatLiteral;
 import static org.opensearch.sql.ast.dsl.AstDSL.function;
 import static org.opensearch.sql.ast.dsl.AstDSL.intLiteral;
+import static org.opensearch.sql.ast.dsl.AstDSL.longLiteral;
 import static org.opensearch.sql.ast.dsl.AstDSL.qualifiedName;
 import static org.opensearch.sql.ast.dsl.AstDSL.stringLiteral;
 import static org.opensearch.sql.ast.dsl.AstDSL.unresolvedArg;
@@ -27,6 +28,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -48,6 +50,8 @@ import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 
 class ExpressionAnalyzerTest extends AnalyzerTestBase {
@@ -389,18 +393,46 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
   @Test
   void visit_in() {
     assertAnalyzeEqual(
-        DSL.or(
-            DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(1)),
-            DSL.or(
-                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(2)),
-                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(3)))),
+        DSL.in(DSL.ref("integer_value", INTEGER), DSL.literal(1), DSL.literal(2), DSL.literal(3)),
         AstDSL.in(field("integer_value"), intLiteral(1), intLiteral(2), intLiteral(3)));
 
+    assertAnalyzeEqual(
+        DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(1)),
+        AstDSL.in(field("integer_value"), intLiteral(1)));
+
     assertThrows(
         SemanticCheckException.class,
         () -> analyze(AstDSL.in(field("integer_value"), Collections.emptyList())));
   }
 
+  /** IN of values not all of the field type is analyzed to balanced OR of comparisons. */
+  @Test
+  void visit_in_of_other_types() {
+    assertAnalyzeEqual(
+        DSL.or(
+            DSL.or(
+                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(1)),
+                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(2))),
+            DSL.or(
+                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(3)),
+                DSL.equal(DSL.ref("integer_value", INTEGER), DSL.literal(4L)))),
+        AstDSL.in(
+            field("integer_value"), intLiteral(1), intLiteral(2), intLiteral(3), longLiteral(4L)));
+  }
+
+  @Test
+  void visit_in_of_long_value_list() {
+    List<UnresolvedExpression> valueList = new ArrayList<>();
+    List<LiteralExpression> literals = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      valueList.add(intLiteral(i));
+      literals.add(DSL.literal(i));
+    }
+    assertAnalyzeEqual(
+        new InPredicate(DSL.ref("integer_value", INTEGER), literals),
+        AstDSL.in(field("integer_value"), valueList));
+  }
+
   @Test
   void multi_match_expression() {
     assertAnalyzeEqual(
@@ -7,6 +7,7 @@ package org.opensearch.sql.analysis;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -112,6 +113,25 @@ class ExpressionReferenceOptimizerTest extends AnalyzerTestBase {
         optimize(caseClause, logicalPlan));
   }
 
+  @Test
+  void aggregation_in_in_predicate_should_be_replaced() {
+    assertEquals(
+        DSL.in(DSL.ref("AVG(age)", DOUBLE), DSL.literal(1.0), DSL.literal(2.0)),
+        optimize(DSL.in(DSL.avg(DSL.ref("age", INTEGER)), DSL.literal(1.0), DSL.literal(2.0))));
+  }
+
+  @Test
+  void in_predicate_should_be_replaced() {
+    Expression in = DSL.in(DSL.ref("age", INTEGER), DSL.literal(1), DSL.literal(2));
+    LogicalPlan logicalPlan =
+        LogicalPlanDSL.aggregation(
+            LogicalPlanDSL.relation("test", table),
+            emptyList(),
+            ImmutableList.of(DSL.named("in(age, 1, 2)", in)));
+
+    assertEquals(DSL.ref("in(age, 1, 2)", BOOLEAN), optimize(in, logicalPlan));
+  }
+
   @Test
   void window_expression_should_be_replaced() {
     LogicalPlan logicalPlan =
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+
+class ColumnVectorTest {
+
+  private static Stream<Arguments> vectors() {
+    return Stream.of(
+        Arguments.of(LongVector.class, List.of(integerValue(1), LITERAL_NULL, integerValue(3))),
+        Arguments.of(LongVector.class, List.of(longValue(1L), longValue(2L), longValue(3L))),
+        Arguments.of(DoubleVector.class, List.of(doubleValue(1D), doubleValue(2D), LITERAL_NULL)),
+        Arguments.of(BooleanVector.class, List.of(LITERAL_NULL, LITERAL_TRUE, LITERAL_FALSE)),
+        Arguments.of(ValueVector.class, List.of(stringValue("a"), LITERAL_NULL, stringValue("c"))),
+        Arguments.of(ValueVector.class, List.of(integerValue(1), longValue(2L), longValue(3L))),
+        Arguments.of(ValueVector.class, List.of(integerValue(1), LITERAL_MISSING, LITERAL_NULL)),
+        Arguments.of(ValueVector.class, List.of(LITERAL_NULL, LITERAL_NULL, LITERAL_NULL)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("vectors")
+  void of_values(Class<?> expectedClass, List<ExprValue> values) {
+    ColumnVector vector = ColumnVector.of(values.toArray(new ExprValue[0]));
+    assertTrue(expectedClass.isInstance(vector));
+    assertEquals(values, values(vector));
+
+    ColumnVector selected = vector.select(new boolean[] {true, false, true}, 2);
+    assertTrue(expectedClass.isInstance(selected));
+    assertEquals(List.of(values.get(0), values.get(2)), values(selected));
+  }
+
+  @Test
+  void primitive_type_is_kept() {
+    assertEquals(INTEGER, ((LongVector) ColumnVector.constant(integerValue(1), 2)).getType());
+    assertEquals(LONG, ((LongVector) ColumnVector.constant(longValue(1L), 2)).getType());
+    assertEquals(
+        List.of(integerValue(1), integerValue(1)),
+        values(ColumnVector.constant(integerValue(1), 2)));
+  }
+
+  @Test
+  void null_flags_are_only_kept_if_any_value_is_null() {
+    PrimitiveVector noNull = (PrimitiveVector) ColumnVector.of(new ExprValue[] {longValue(1L)});
+    PrimitiveVector withNull =
+        (PrimitiveVector) ColumnVector.of(new ExprValue[] {LITERAL_NULL, longValue(1L)});
+    assertNull(noNull.getNulls());
+    assertArrayEquals(new boolean[] {true, false}, withNull.getNulls());
+  }
+
+  @Test
+  void union_of_null_flags() {
+    PrimitiveVector noNull =
+        (PrimitiveVector) ColumnVector.of(new ExprValue[] {longValue(1L), longValue(2L)});
+    PrimitiveVector firstNull =
+        (PrimitiveVector) ColumnVector.of(new ExprValue[] {LITERAL_NULL, longValue(2L)});
+    PrimitiveVector secondNull =
+        (PrimitiveVector) ColumnVector.of(new ExprValue[] {longValue(1L), LITERAL_NULL});
+
+    assertNull(PrimitiveVector.union(noNull, noNull));
+    assertArrayEquals(new boolean[] {true, false}, PrimitiveVector.union(noNull, firstNull));
+    assertArrayEquals(new boolean[] {false, true}, PrimitiveVector.union(secondNull, noNull));
+    assertArrayEquals(new boolean[] {true, true}, PrimitiveVector.union(firstNull, secondNull));
+  }
+
+  private static List<ExprValue> values(ColumnVector vector) {
+    List<ExprValue> result = new ArrayList<>();
+    for (int i = 0; i < vector.size(); i++) {
+      result.add(vector.get(i));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+class RowBatchTest {
+
+  private final List<ExprValue> rows =
+      List.of(
+          tupleValue(ImmutableMap.of("name", "a", "age", 1)),
+          tupleValue(ImmutableMap.of("name", "b", "age", 2)),
+          tupleValue(ImmutableMap.of("name", "c", "age", 3)));
+
+  @Test
+  void empty_batch() {
+    RowBatch batch = RowBatch.empty();
+    assertTrue(batch.isEmpty());
+    assertEquals(0, batch.size());
+    assertFalse(batch.isColumnar());
+  }
+
+  @Test
+  void rows_to_columns() {
+    RowBatch batch = RowBatch.ofRows(rows);
+    assertFalse(batch.isEmpty());
+    assertTrue(batch.isColumnar());
+    assertEquals(List.of("name", "age"), List.copyOf(batch.columns().keySet()));
+    assertTrue(batch.columns().get("age") instanceof LongVector);
+    assertEquals(stringValue("b"), batch.columns().get("name").get(1));
+    assertSame(rows, batch.rows());
+  }
+
+  @Test
+  void columns_to_rows() {
+    RowBatch batch =
+        RowBatch.ofColumns(
+            2,
+            ImmutableMap.of(
+                "name",
+                ColumnVector.of(new ExprValue[] {stringValue("a"), stringValue("b")}),
+                "age",
+                ColumnVector.of(new ExprValue[] {integerValue(1), integerValue(2)})));
+    assertEquals(rows.subList(0, 2), batch.rows());
+    assertSame(batch.rows(), batch.rows());
+  }
+
+  @Test
+  void rows_not_viewed_as_columns() {
+    assertNotColumnar(RowBatch.ofRows(List.of(integerValue(1))));
+    assertNotColumnar(RowBatch.ofRows(List.of(rows.get(0), integerValue(1))));
+    assertNotColumnar(
+        RowBatch.ofRows(List.of(rows.get(0), tupleValue(ImmutableMap.of("name", "b")))));
+    assertNotColumnar(
+        RowBatch.ofRows(List.of(rows.get(0), tupleValue(ImmutableMap.of("age", 2, "name", "b")))));
+  }
+
+  @Test
+  void select_rows() {
+    RowBatch batch = RowBatch.ofRows(rows);
+    assertSame(batch, batch.select(new boolean[] {true, true, true}));
+    assertEquals(
+        List.of(rows.get(0), rows.get(2)), batch.select(new boolean[] {true, false, true}).rows());
+  }
+
+  @Test
+  void select_columns() {
+    RowBatch batch = RowBatch.ofColumns(3, RowBatch.ofRows(rows).columns());
+    RowBatch selected = batch.select(new boolean[] {false, true, false});
+    assertTrue(selected.isColumnar());
+    assertEquals(List.of(rows.get(1)), selected.rows());
+  }
+
+  @Test
+  void with_column() {
+    RowBatch batch = RowBatch.ofRows(rows);
+    ColumnVector ages = ColumnVector.constant(integerValue(0), 3);
+    RowBatch replaced = batch.withColumn("age", ages);
+    assertEquals(List.of("name", "age"), List.copyOf(replaced.columns().keySet()));
+    assertSame(ages, replaced.columns().get("age"));
+    RowBatch appended = batch.withColumn("id", ages);
+    assertEquals(List.of("name", "age", "id"), List.copyOf(appended.columns().keySet()));
+  }
+
+  private static void assertNotColumnar(RowBatch batch) {
+    assertFalse(batch.isColumnar());
+    IllegalStateException exception = assertThrows(IllegalStateException.class, batch::columns);
+    assertEquals("Row batch can't be viewed as columns", exception.getMessage());
+  }
+}
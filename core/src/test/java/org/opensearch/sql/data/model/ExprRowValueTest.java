@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+class ExprRowValueTest {
+
+  private final RowSchema schema = new RowSchema(List.of("name", "age"));
+
+  private final ExprRowValue row =
+      new ExprRowValue(schema, new ExprValue[] {stringValue("bob"), integerValue(30)});
+
+  private final ExprValue tuple =
+      ExprValueUtils.tupleValue(ImmutableMap.of("name", "bob", "age", 30));
+
+  @Test
+  public void equal_to_tuple_with_same_fields() {
+    assertEquals(tuple, row);
+    assertEquals(row, tuple);
+    assertEquals(tuple.hashCode(), row.hashCode());
+    assertEquals(tuple.toString(), row.toString());
+    assertEquals(tuple.value(), row.value());
+    assertEquals(ExprCoreType.STRUCT, row.type());
+    assertFalse(row.equals(ExprValueUtils.tupleValue(ImmutableMap.of("age", 30, "name", "bob"))));
+  }
+
+  @Test
+  public void access_field_by_ordinal_and_name() {
+    assertEquals(integerValue(30), row.valueAt(1));
+    assertEquals(stringValue("bob"), row.keyValue("name"));
+    assertEquals(LITERAL_MISSING, row.keyValue("unknown"));
+  }
+
+  @Test
+  public void tuple_value_is_map_view() {
+    Map<String, ExprValue> map = row.tupleValue();
+    assertEquals(2, map.size());
+    assertEquals(List.of("name", "age"), List.copyOf(map.keySet()));
+    assertEquals(integerValue(30), map.get("age"));
+    assertNull(map.get("unknown"));
+    assertNull(map.get(1));
+    assertTrue(map.containsKey("name"));
+    assertFalse(map.containsKey("unknown"));
+    assertFalse(map.containsKey(1));
+    assertThrows(UnsupportedOperationException.class, () -> map.put("age", integerValue(1)));
+
+    Iterator<Map.Entry<String, ExprValue>> iterator = map.entrySet().iterator();
+    iterator.next();
+    iterator.next();
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+}
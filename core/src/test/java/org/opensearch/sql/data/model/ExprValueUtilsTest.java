@@ -266,5 +266,8 @@ public class ExprValueUtilsTest {
     assertEquals(
         new ExprTimestampValue("2012-08-07 18:00:00").hashCode(),
         new ExprTimestampValue("2012-08-07 18:00:00").hashCode());
+    assertEquals(
+        new ExprIntervalValue(Duration.ofMinutes(1)).hashCode(),
+        new ExprIntervalValue(Duration.ofSeconds(60)).hashCode());
   }
 }
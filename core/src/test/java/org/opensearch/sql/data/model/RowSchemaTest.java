@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RowSchemaTest {
+
+  private final RowSchema schema = new RowSchema(List.of("name", "age"));
+
+  @Test
+  public void ordinal_of_field() {
+    assertEquals(2, schema.size());
+    assertEquals(0, schema.ordinal("name"));
+    assertEquals(1, schema.ordinal("age"));
+    assertEquals(-1, schema.ordinal("unknown"));
+    assertEquals("RowSchema(names=[name, age])", schema.toString());
+  }
+
+  @Test
+  public void duplicate_field_name_is_not_allowed() {
+    assertThrows(IllegalArgumentException.class, () -> new RowSchema(List.of("name", "name")));
+  }
+
+  @Test
+  public void match_tuple() {
+    assertTrue(schema.matches(ExprValueUtils.tupleValue(ImmutableMap.of("name", "a", "age", 1))));
+    assertFalse(schema.matches(ExprValueUtils.tupleValue(ImmutableMap.of("age", 1, "name", "a"))));
+    assertFalse(schema.matches(ExprValueUtils.tupleValue(ImmutableMap.of("name", "a"))));
+  }
+
+  @Test
+  public void match_row_by_schema() {
+    ExprValue[] values = {integerValue(1), integerValue(2)};
+    assertTrue(schema.matches(new ExprRowValue(schema, values)));
+    assertFalse(schema.matches(new ExprRowValue(new RowSchema(List.of("name", "age")), values)));
+  }
+
+  @Test
+  public void schema_of_tuple() {
+    ExprRowValue row = new ExprRowValue(schema, new ExprValue[] {integerValue(1), integerValue(2)});
+    assertSame(schema, RowSchema.of(row));
+    assertEquals(
+        List.of("age", "name"),
+        RowSchema.of(ExprValueUtils.tupleValue(ImmutableMap.of("age", 1, "name", "a"))).getNames());
+  }
+}
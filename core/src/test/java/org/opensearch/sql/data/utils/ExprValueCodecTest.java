@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.byteValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.dateValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.datetimeValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.intervalValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.timeValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.timestampValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.chrono.HijrahChronology;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+class ExprValueCodecTest {
+
+  private static ExprValue[] values() {
+    return new ExprValue[] {
+      LITERAL_TRUE,
+      byteValue((byte) 1),
+      shortValue((short) 2),
+      integerValue(3),
+      longValue(4L),
+      floatValue(5.5f),
+      doubleValue(6.6),
+      stringValue("caf\u00e9 text"),
+      dateValue(LocalDate.of(2020, 1, 2)),
+      timeValue(LocalTime.of(3, 4, 5, 6)),
+      datetimeValue(LocalDateTime.of(2020, 1, 2, 3, 4, 5, 6)),
+      timestampValue(Instant.ofEpochSecond(1234567890L, 123)),
+      intervalValue(Duration.ofSeconds(7, 8)),
+      intervalValue(Period.of(1, 2, 3)),
+      intervalValue(HijrahChronology.INSTANCE.period(1, 2, 3)),
+      tupleValue(ImmutableMap.of("name", "John", "age", 30)),
+      collectionValue(Arrays.asList(1, "a", true)),
+      new CustomStringValue("custom")
+    };
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  public void round_trip(ExprValue value) throws IOException {
+    ExprValue decoded = roundTrip(value);
+    assertEquals(value, decoded);
+    assertEquals(value.getClass(), decoded.getClass());
+  }
+
+  @Test
+  public void null_and_missing_are_singletons() throws IOException {
+    assertSame(LITERAL_NULL, roundTrip(LITERAL_NULL));
+    assertSame(LITERAL_MISSING, roundTrip(LITERAL_MISSING));
+  }
+
+  @Test
+  public void unknown_tag() {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(new byte[] {100}));
+    IOException exception = assertThrows(IOException.class, () -> ExprValueCodec.read(input));
+    assertEquals("Unknown expression value tag 100", exception.getMessage());
+  }
+
+  @Test
+  public void unknown_value_class() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(new DataOutputStream(bytes), new CustomStringValue("custom"));
+    byte[] encoded =
+        new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1)
+            .replace("CustomStringValue", "MissedStringValue")
+            .getBytes(StandardCharsets.ISO_8859_1);
+
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(encoded));
+    IOException exception = assertThrows(IOException.class, () -> ExprValueCodec.read(input));
+    assertEquals("Failed to deserialize expression value", exception.getMessage());
+  }
+
+  private ExprValue roundTrip(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(new DataOutputStream(bytes), value);
+    return ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+  /** Value class unknown to the codec. */
+  static class CustomStringValue extends ExprStringValue {
+    CustomStringValue(String value) {
+      super(value);
+    }
+  }
+}
@@ -27,6 +27,8 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.streamingAgg;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topK;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -52,6 +54,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class ExplainTest extends ExpressionTestBase {
@@ -104,6 +107,23 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_streaming_aggregations() {
+    List<NamedAggregator> aggList = List.of(named("avg(balance)", DSL.avg(ref("balance", DOUBLE))));
+    List<NamedExpression> groupByList = List.of(named("state", ref("state", STRING)));
+
+    PhysicalPlan plan = streamingAgg(new FakeTableScan(), aggList, groupByList);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "StreamingAggregationOperator",
+                Map.of(
+                    "aggregators", "[avg(balance)]",
+                    "groupBy", "[state]"),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_rare_top_n() {
     Expression field = ref("state", STRING);
@@ -220,6 +240,24 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_top_k() {
+    PhysicalPlan plan = topK(tableScan, 10, 5, ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TopKOperator",
+                Map.of(
+                    "sortList",
+                    Map.of("age", Map.of("sortOrder", "ASC", "nullOrder", "NULL_FIRST")),
+                    "limit",
+                    10,
+                    "offset",
+                    5),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_nested() {
     Set<String> nestedOperatorArgs = Set.of("message.info", "message");
@@ -235,6 +273,44 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_table_fetch() {
+    PhysicalPlan plan = new FakeTableFetch(tableScan);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "FakeTableFetch",
+                Map.of("request", "Fake fetch request"),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
+  private static class FakeTableFetch extends TableFetchOperator {
+    FakeTableFetch(PhysicalPlan input) {
+      super(input);
+    }
+
+    @Override
+    public TableFetchOperator withInput(PhysicalPlan input) {
+      return new FakeTableFetch(input);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public ExprValue next() {
+      return null;
+    }
+
+    @Override
+    public String explain() {
+      return "Fake fetch request";
+    }
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.execution;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.FetchCursor;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.pagination.CursorStore;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CursorPlanTest {
+
+  @Mock private CursorStore cursorStore;
+
+  @Mock private QueryService queryService;
+
+  @Mock private ResponseListener<ExecutionEngine.QueryResponse> listener;
+
+  @Mock private ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
+
+  @Mock private ExecutionEngine.QueryResponse response;
+
+  private CursorPlan plan;
+
+  @BeforeEach
+  void setUp() {
+    QueryId queryId = QueryId.queryId();
+    plan =
+        new CursorPlan(
+            queryId,
+            "s:id",
+            cursorStore,
+            (cursor, listener) ->
+                new QueryPlan(queryId, new FetchCursor(cursor), queryService, listener),
+            listener);
+  }
+
+  @Test
+  void release_cursor_once_the_request_succeeds() {
+    when(cursorStore.resolve("s:id")).thenReturn("n:cursor");
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExecutionEngine.QueryResponse> queryListener =
+                  invocation.getArgument(1);
+              queryListener.onResponse(response);
+              return null;
+            })
+        .when(queryService)
+        .execute(any(UnresolvedPlan.class), any());
+
+    plan.execute();
+
+    verify(queryService).execute(any(UnresolvedPlan.class), any());
+    InOrder order = inOrder(cursorStore, listener);
+    order.verify(cursorStore).release("s:id");
+    order.verify(listener).onResponse(response);
+  }
+
+  @Test
+  void keep_cursor_to_retry_a_failed_request() {
+    when(cursorStore.resolve("s:id")).thenReturn("n:cursor");
+    RuntimeException failure = new RuntimeException("page failed");
+    doAnswer(
+            invocation -> {
+              ResponseListener<ExecutionEngine.QueryResponse> queryListener =
+                  invocation.getArgument(1);
+              queryListener.onFailure(failure);
+              return null;
+            })
+        .when(queryService)
+        .execute(any(UnresolvedPlan.class), any());
+
+    plan.execute();
+
+    verify(listener).onFailure(failure);
+    verify(cursorStore, never()).release(any());
+  }
+
+  @Test
+  void fail_request_if_cursor_cannot_be_resolved() {
+    RuntimeException failure = new RuntimeException("cursor expired");
+    when(cursorStore.resolve("s:id")).thenThrow(failure);
+
+    plan.execute();
+
+    verify(listener).onFailure(failure);
+    verify(queryService, never()).execute(any(UnresolvedPlan.class), any());
+  }
+
+  @Test
+  void explain_plan_of_resolved_cursor() {
+    when(cursorStore.resolve("s:id")).thenReturn("n:cursor");
+
+    plan.explain(explainListener);
+
+    verify(queryService).explain(new FetchCursor("n:cursor"), explainListener);
+    verify(cursorStore, never()).release(any());
+  }
+
+  @Test
+  void fail_explain_if_cursor_cannot_be_resolved() {
+    RuntimeException failure = new RuntimeException("cursor expired");
+    when(cursorStore.resolve("s:id")).thenThrow(failure);
+
+    plan.explain(explainListener);
+
+    verify(explainListener).onFailure(failure);
+  }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.executor.execution.QueryPlanFactory.NO_CONSUMER_RESPONSE_LISTENER;
 
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -30,12 +31,14 @@ import org.opensearch.sql.ast.statement.Explain;
 import org.opensearch.sql.ast.statement.Query;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.ast.tree.CloseCursor;
+import org.opensearch.sql.ast.tree.FetchCursor;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -51,6 +54,8 @@ class QueryPlanFactoryTest {
 
   @Mock private ExecutionEngine.QueryResponse queryResponse;
 
+  @Mock private CursorStore cursorStore;
+
   private QueryPlanFactory factory;
 
   @BeforeEach
@@ -79,7 +84,7 @@ class QueryPlanFactoryTest {
     AbstractPlan queryExecution = factory.create("", false, queryListener, explainListener);
     AbstractPlan explainExecution = factory.create("", true, queryListener, explainListener);
     assertAll(
-        () -> assertTrue(queryExecution instanceof QueryPlan),
+        () -> assertTrue(queryExecution instanceof CursorPlan),
         () -> assertTrue(explainExecution instanceof ExplainPlan));
   }
 
@@ -146,10 +151,30 @@ class QueryPlanFactoryTest {
   public void create_close_cursor() {
     factory = new QueryPlanFactory(queryService);
     var plan = factory.createCloseCursor("pewpew", queryListener);
-    assertTrue(plan instanceof CommandPlan);
+    assertTrue(plan instanceof CursorPlan);
     plan.execute();
     var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
     verify(queryService).execute(captor.capture(), any());
     assertTrue(captor.getValue() instanceof CloseCursor);
   }
+
+  @Test
+  public void create_from_cursor_resolves_stored_cursor() {
+    factory = new QueryPlanFactory(queryService, cursorStore);
+    when(cursorStore.resolve("s:id")).thenReturn("n:cursor");
+    factory.create("s:id", false, queryListener, explainListener).execute();
+    var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
+    verify(queryService).execute(captor.capture(), any());
+    assertEquals(new FetchCursor("n:cursor"), captor.getValue());
+  }
+
+  @Test
+  public void create_close_cursor_resolves_stored_cursor() {
+    factory = new QueryPlanFactory(queryService, cursorStore);
+    when(cursorStore.resolve("s:id")).thenReturn("n:cursor");
+    factory.createCloseCursor("s:id", queryListener).execute();
+    var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
+    verify(queryService).execute(captor.capture(), any());
+    assertEquals(List.of(new FetchCursor("n:cursor")), captor.getValue().getChild());
+  }
 }
@@ -39,6 +39,7 @@ import static org.opensearch.sql.ast.dsl.AstDSL.project;
 import static org.opensearch.sql.ast.dsl.AstDSL.qualifiedName;
 import static org.opensearch.sql.ast.dsl.AstDSL.relation;
 import static org.opensearch.sql.ast.dsl.AstDSL.sort;
+import static org.opensearch.sql.ast.dsl.AstDSL.span;
 import static org.opensearch.sql.ast.dsl.AstDSL.stringLiteral;
 import static org.opensearch.sql.ast.dsl.AstDSL.tableFunction;
 import static org.opensearch.sql.ast.dsl.AstDSL.unresolvedArg;
@@ -60,9 +61,11 @@ import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Field;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.RelevanceFieldList;
+import org.opensearch.sql.ast.expression.SpanUnit;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.tree.Project;
 import org.opensearch.sql.ast.tree.Relation;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 public class CanPaginateVisitorTest {
@@ -433,15 +436,86 @@ public class CanPaginateVisitorTest {
   }
 
   @Test
-  // select * from y group by z
-  public void reject_query_with_group_by() {
+  // select z, agg(x) from y group by z
+  public void allow_query_with_group_by() {
     var plan =
         project(
-            agg(relation("dummy"), List.of(), List.of(), List.of(field("1")), List.of()),
+            groupBy(relation("dummy")),
+            alias("z", qualifiedName("z")),
+            alias("agg", aggregate("func", field("x"))));
+    assertTrue(plan.accept(visitor, null));
+  }
+
+  @Test
+  // select z, agg(x) from y group by z having agg(x) > 1
+  public void reject_query_with_group_by_and_having() {
+    var plan =
+        project(
+            filter(groupBy(relation("dummy")), compare(">", field("agg"), intLiteral(1))),
+            allFields());
+    assertFalse(plan.accept(visitor, null));
+  }
+
+  @Test
+  // select z, agg(x) from y group by z order by z
+  public void reject_query_with_group_by_and_order_by() {
+    var plan = project(sort(groupBy(relation("dummy")), field("z")), allFields());
+    assertFalse(plan.accept(visitor, null));
+  }
+
+  @Test
+  // source=y | stats agg(x) by span(z, 1)
+  public void reject_query_with_span() {
+    var plan =
+        project(
+            agg(
+                relation("dummy"),
+                List.of(alias("agg", aggregate("func", field("x")))),
+                List.of(),
+                List.of(field("z")),
+                span(field("z"), intLiteral(1), SpanUnit.NONE),
+                List.of()),
             allFields());
     assertFalse(plan.accept(visitor, null));
   }
 
+  // test added for coverage only
+  @Test
+  public void visitAggregation() {
+    assertAll(
+        () ->
+            assertFalse(
+                agg(
+                        relation("dummy"),
+                        List.of(
+                            alias(
+                                "agg",
+                                window(aggregate("func", field("x")), List.of(), List.of()))),
+                        List.of(),
+                        List.of(field("z")),
+                        List.of())
+                    .accept(visitor, null)),
+        () ->
+            assertFalse(
+                agg(
+                        relation("dummy"),
+                        List.of(alias("agg", aggregate("func", field("x")))),
+                        List.of(),
+                        List.of(map("1", "2")),
+                        List.of())
+                    .accept(visitor, null)),
+        () -> assertFalse(groupBy(tableFunction(List.of("1", "2"))).accept(visitor, null)),
+        () ->
+            assertFalse(
+                agg(
+                        relation("dummy"),
+                        List.of(alias("agg", aggregate("func", map("1", "2")))),
+                        List.of(),
+                        List.of(field("z")),
+                        List.of())
+                    .accept(visitor, null)));
+  }
+
   @Test
   // select agg(x) from y
   public void reject_query_with_aggregation_function() {
@@ -470,6 +544,15 @@ public class CanPaginateVisitorTest {
     assertFalse(plan.accept(visitor, null));
   }
 
+  private static UnresolvedPlan groupBy(UnresolvedPlan input) {
+    return agg(
+        input,
+        List.of(alias("agg", aggregate("func", field("x")))),
+        List.of(),
+        List.of(alias("z", field("z"))),
+        List.of());
+  }
+
   @Test
   // select * from y, z
   public void reject_query_with_select_from_multiple_indices() {
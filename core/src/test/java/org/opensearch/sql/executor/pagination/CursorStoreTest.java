@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CursorStoreTest {
+
+  @Test
+  void none_store_hands_out_self_contained_cursors() {
+    Cursor cursor = new Cursor("n:cursor");
+    assertEquals(cursor, CursorStore.NONE.store(cursor));
+    assertEquals("n:cursor", CursorStore.NONE.resolve("n:cursor"));
+    CursorStore.NONE.release("n:cursor");
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.executor.pagination;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -15,8 +16,12 @@ import static org.mockito.Mockito.mock;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -100,10 +105,12 @@ public class PlanSerializerTest {
   @Test
   void deserialize_throws() {
     assertAll(
-        // from gzip - damaged header
+        // empty cursor
+        () -> assertThrows(Throwable.class, () -> deserialize("")),
+        // unsupported version
         () -> assertThrows(Throwable.class, () -> deserialize("00")),
-        // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        // from Base64 decoder
+        () -> assertThrows(Throwable.class, () -> deserialize("!!!")));
   }
 
   @Test
@@ -154,18 +161,44 @@ public class PlanSerializerTest {
   }
 
   @Test
-  @SneakyThrows
-  void resolveObject() {
-    ByteArrayOutputStream output = new ByteArrayOutputStream();
-    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-    objectOutput.writeObject("Hello, world!");
-    objectOutput.flush();
+  void getEngine() {
+    var cds = planCache.getCursorDeserializationStream(new ByteArrayInputStream(new byte[0]));
+    assertSame(storageEngine, cds.getEngine());
+  }
+
+  @Test
+  void serialize_deserialize_null() {
+    assertNull(deserialize(serialize(null)));
+  }
+
+  @Test
+  void cursor_is_url_safe_and_versioned() {
+    var cursor = planCache.convertToCursor(new TestOperator(100500)).toString();
+    assertTrue(cursor.matches("n:[A-Za-z0-9_-]+"), cursor);
+    assertEquals(PlanSerializer.VERSION, Base64.getUrlDecoder().decode(cursor.substring(2))[0]);
+  }
 
-    var cds =
-        planCache.getCursorDeserializationStream(new ByteArrayInputStream(output.toByteArray()));
-    assertEquals(storageEngine, cds.resolveObject("engine"));
-    var object = new Object();
-    assertSame(object, cds.resolveObject(object));
+  @Test
+  void deserialize_throws_on_malformed_body() {
+    assertAll(
+        // unknown tag
+        () -> assertDeserializeFailure("Unknown cursor object tag 9", out -> out.writeByte(9)),
+        // a class which isn't a plan
+        () ->
+            assertDeserializeFailure(
+                "Not a serializable plan: java.lang.String",
+                out -> {
+                  out.writeByte(1);
+                  out.writeUTF(String.class.getName());
+                }),
+        // a plan which can't be instantiated
+        () ->
+            assertDeserializeFailure(
+                "Failed to instantiate plan " + SerializablePlan.class.getName(),
+                out -> {
+                  out.writeByte(1);
+                  out.writeUTF(SerializablePlan.class.getName());
+                }));
   }
 
   // Helpers and auxiliary classes section below
@@ -178,4 +211,26 @@ public class PlanSerializerTest {
   private Serializable deserialize(String input) {
     return new PlanSerializer(null).deserialize(input);
   }
+
+  @SneakyThrows
+  private void assertDeserializeFailure(String message, BodyWriter body) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(PlanSerializer.VERSION);
+    try (var out =
+        new DataOutputStream(
+            new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED, true)))) {
+      body.write(out);
+    }
+    var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                deserialize(
+                    Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray())));
+    assertEquals(message, exception.getCause().getMessage());
+  }
+
+  private interface BodyWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
 }
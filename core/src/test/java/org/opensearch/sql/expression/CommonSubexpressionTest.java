@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.OpenSearchFunctions;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CommonSubexpressionTest {
+
+  private final FunctionExpression abs = DSL.abs(DSL.ref("a", INTEGER));
+
+  @Test
+  void evaluate_once_for_same_environment() {
+    Expression source = mock(Expression.class);
+    when(source.valueOf(any())).thenAnswer(invocation -> abs.valueOf(invocation.getArgument(0)));
+    CommonSubexpression.Slot slot = new CommonSubexpression.Slot();
+    CommonSubexpression first = new CommonSubexpression(source, slot);
+    CommonSubexpression second = new CommonSubexpression(source, slot);
+
+    Environment<Expression, ExprValue> env1 = tuple(-1).bindingTuples();
+    Environment<Expression, ExprValue> env2 = tuple(-2).bindingTuples();
+    assertEquals(integerValue(1), first.valueOf(env1));
+    assertEquals(integerValue(1), second.valueOf(env1));
+    assertEquals(integerValue(2), second.valueOf(env2));
+    assertEquals(integerValue(2), first.valueOf(env2));
+    verify(source, times(2)).valueOf(any());
+  }
+
+  @Test
+  void behave_as_source_expression() {
+    CommonSubexpression shared = new CommonSubexpression(abs, new CommonSubexpression.Slot());
+    assertEquals(abs.type(), shared.type());
+    assertEquals(abs.toString(), shared.toString());
+    assertSame(abs, shared.getSource());
+    assertEquals(
+        abs.valueOfBatch(RowBatch.ofRows(List.of(tuple(-3)))).get(0),
+        shared.valueOfBatch(RowBatch.ofRows(List.of(tuple(-3)))).get(0));
+    assertTrue(
+        shared.accept(
+            new ExpressionNodeVisitor<Boolean, Object>() {
+              @Override
+              public Boolean visitFunction(FunctionExpression node, Object context) {
+                return node == abs;
+              }
+            },
+            null));
+    assertEquals(new CommonSubexpression(abs, new CommonSubexpression.Slot()), shared);
+    assertEquals(abs, serializeAndDeserialize(shared));
+  }
+
+  @Test
+  void rebuild_function_with_new_arguments() {
+    List<Expression> arguments = List.of(DSL.ref("b", INTEGER));
+    assertTrue(abs.isRebuildable());
+    assertEquals(DSL.abs(DSL.ref("b", INTEGER)), abs.withArguments(arguments).orElseThrow());
+
+    FunctionExpression function =
+        new OpenSearchFunctions.OpenSearchFunction(abs.getFunctionName(), arguments);
+    assertFalse(function.isRebuildable());
+    assertTrue(function.withArguments(arguments).isEmpty());
+  }
+
+  private static ExprTupleValue tuple(int a) {
+    return ExprTupleValue.fromExprValueMap(Map.of("a", integerValue(a)));
+  }
+
+  @SneakyThrows
+  private static Object serializeAndDeserialize(Expression expression) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(expression);
+    }
+    try (ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      return objectInput.readObject();
+    }
+  }
+}
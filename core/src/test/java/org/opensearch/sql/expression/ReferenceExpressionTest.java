@@ -6,6 +6,7 @@
 package org.opensearch.sql.expression;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
@@ -34,12 +35,16 @@ import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -101,6 +106,21 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("WA", actualValue.stringValue());
   }
 
+  @Test
+  public void one_path_value_of_batch() {
+    RowBatch batch = RowBatch.ofRows(ImmutableList.of(tuple()));
+    assertSame(batch.columns().get("name"), ref("name", STRING).valueOfBatch(batch));
+    assertTrue(ref("unknown", STRING).valueOfBatch(batch).get(0).isMissing());
+  }
+
+  @Test
+  public void multiple_path_value_of_batch() {
+    ReferenceExpression expr = new ReferenceExpression("address.state", STRING);
+    ColumnVector actualValue = expr.valueOfBatch(RowBatch.ofRows(ImmutableList.of(tuple())));
+
+    assertEquals(stringValue("WA"), actualValue.get(0));
+  }
+
   @Test
   public void not_exist_path() {
     ReferenceExpression expr = new ReferenceExpression("missing_field", STRING);
@@ -136,6 +156,35 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("First message in array", actualValue.stringValue());
   }
 
+  @Test
+  public void resolve_row_value_by_ordinal() {
+    ExprRowValue row = row(tuple());
+    assertEquals(stringValue("bob smith"), ref("name", STRING).resolve(row));
+    assertEquals(integerValue(1990), new ReferenceExpression("project.year", INTEGER).resolve(row));
+    assertEquals(stringValue("WA"), new ReferenceExpression("address.state", STRING).resolve(row));
+    assertEquals(
+        integerValue(1990), new ReferenceExpression("address.project.year", INTEGER).resolve(row));
+    assertTrue(ref("missing_field", STRING).resolve(row).isMissing());
+    assertTrue(new ReferenceExpression("address.local.state", STRING).resolve(row).isMissing());
+  }
+
+  @Test
+  public void rebind_ordinal_if_schema_changes() {
+    ReferenceExpression expr = ref("age", INTEGER);
+    ExprRowValue row1 = row(tupleValue(ImmutableMap.of("name", "a", "age", 1)));
+    ExprRowValue row2 = row(tupleValue(ImmutableMap.of("age", 2, "name", "b")));
+
+    assertEquals(integerValue(1), expr.resolve(row1));
+    assertEquals(integerValue(1), expr.resolve(row1));
+    assertEquals(integerValue(2), expr.resolve(row2));
+    assertEquals(integerValue(2), expr.valueOf(row2.bindingTuples()));
+  }
+
+  private static ExprRowValue row(ExprValue tuple) {
+    return new ExprRowValue(
+        RowSchema.of(tuple), tuple.tupleValue().values().toArray(new ExprValue[0]));
+  }
+
   /**
    *
    *
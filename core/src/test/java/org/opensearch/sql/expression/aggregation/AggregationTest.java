@@ -159,4 +159,22 @@ public class AggregationTest extends ExpressionTestBase {
     }
     return state.result();
   }
+
+  /**
+   * Aggregate the first and second half of the tuples into separate states, then merge the partial
+   * results of both into a new state.
+   */
+  protected ExprValue mergedAggregation(Aggregator aggregator, List<ExprValue> tuples) {
+    int half = tuples.size() / 2;
+    AggregationState merged = aggregator.create();
+    for (List<ExprValue> part :
+        List.of(tuples.subList(0, half), tuples.subList(half, tuples.size()))) {
+      AggregationState state = aggregator.create();
+      for (ExprValue tuple : part) {
+        aggregator.iterate(tuple.bindingTuples(), state);
+      }
+      aggregator.merge(state.partialResult(), merged);
+    }
+    return merged.result();
+  }
 }
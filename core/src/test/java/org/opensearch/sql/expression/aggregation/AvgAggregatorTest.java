@@ -164,4 +164,16 @@ class AvgAggregatorTest extends AggregationTest {
         String.format("avg(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         avgAggregator.toString());
   }
+
+  @Test
+  public void merge_avg() {
+    Aggregator aggregator = DSL.avg(DSL.ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
+
+  @Test
+  public void merge_avg_date() {
+    Aggregator aggregator = DSL.avg(DSL.date(DSL.ref("date_value", STRING)));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
 }
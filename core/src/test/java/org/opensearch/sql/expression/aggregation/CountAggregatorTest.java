@@ -197,4 +197,18 @@ class CountAggregatorTest extends AggregationTest {
         String.format("count(abs(%s))", DSL.ref("integer_value", INTEGER)),
         countAggregator.toString());
   }
+
+  @Test
+  public void merge_count() {
+    Aggregator aggregator = DSL.count(DSL.ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
+
+  @Test
+  public void merge_distinct_count() {
+    Aggregator aggregator = DSL.distinctCount(DSL.ref("integer_value", INTEGER));
+    assertEquals(
+        aggregation(aggregator, tuples_with_duplicates),
+        mergedAggregation(aggregator, tuples_with_duplicates));
+  }
 }
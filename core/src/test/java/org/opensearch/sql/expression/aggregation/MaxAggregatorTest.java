@@ -148,4 +148,13 @@ public class MaxAggregatorTest extends AggregationTest {
         String.format("max(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         maxAggregator.toString());
   }
+
+  @Test
+  public void merge_max() {
+    Aggregator aggregator = DSL.max(DSL.ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+    assertEquals(
+        aggregation(aggregator, tuples_with_all_null_or_missing),
+        mergedAggregation(aggregator, tuples_with_all_null_or_missing));
+  }
 }
@@ -148,4 +148,13 @@ public class MinAggregatorTest extends AggregationTest {
         String.format("min(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         minAggregator.toString());
   }
+
+  @Test
+  public void merge_min() {
+    Aggregator aggregator = DSL.min(DSL.ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+    assertEquals(
+        aggregation(aggregator, tuples_with_all_null_or_missing),
+        mergedAggregation(aggregator, tuples_with_all_null_or_missing));
+  }
 }
@@ -176,4 +176,10 @@ public class StdDevAggregatorTest extends AggregationTest {
     }
     return mockTuples;
   }
+
+  @Test
+  public void merge_stddev() {
+    Aggregator aggregator = DSL.stddevPop(ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
 }
@@ -133,4 +133,13 @@ class SumAggregatorTest extends AggregationTest {
         String.format("sum(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         sumAggregator.toString());
   }
+
+  @Test
+  public void merge_sum() {
+    Aggregator aggregator = DSL.sum(DSL.ref("double_value", DOUBLE));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+    assertEquals(
+        aggregation(aggregator, tuples_with_all_null_or_missing),
+        mergedAggregation(aggregator, tuples_with_all_null_or_missing));
+  }
 }
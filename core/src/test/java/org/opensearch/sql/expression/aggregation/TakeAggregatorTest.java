@@ -91,4 +91,10 @@ class TakeAggregatorTest extends AggregationTest {
     Aggregator takeAggregator = DSL.take(DSL.ref("string_value", STRING), DSL.literal(10));
     assertEquals("take(string_value,10)", takeAggregator.toString());
   }
+
+  @Test
+  public void merge_take() {
+    Aggregator aggregator = DSL.take(DSL.ref("string_value", STRING), DSL.literal(3));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
 }
@@ -187,4 +187,10 @@ public class VarianceAggregatorTest extends AggregationTest {
     }
     return mockTuples;
   }
+
+  @Test
+  public void merge_variance() {
+    Aggregator aggregator = DSL.varSamp(ref("integer_value", INTEGER));
+    assertEquals(aggregation(aggregator, tuples), mergedAggregation(aggregator, tuples));
+  }
 }
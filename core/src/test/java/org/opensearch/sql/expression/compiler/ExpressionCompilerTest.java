@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+class ExpressionCompilerTest {
+
+  private static final List<BiFunction<Expression, Expression, FunctionExpression>> NUMBER_OPS =
+      List.of(
+          DSL::add,
+          DSL::addFunction,
+          DSL::subtract,
+          DSL::subtractFunction,
+          DSL::multiply,
+          DSL::multiplyFunction,
+          DSL::equal,
+          DSL::notequal,
+          DSL::less,
+          DSL::lte,
+          DSL::greater,
+          DSL::gte);
+
+  private static Stream<Arguments> numberValues() {
+    return Stream.of(
+        Arguments.of(
+            INTEGER,
+            List.of(ExprValueUtils.integerValue(3), ExprValueUtils.integerValue(-2), LITERAL_NULL),
+            literal(2)),
+        Arguments.of(
+            LONG,
+            List.of(ExprValueUtils.longValue(3L), ExprValueUtils.longValue(-2L), LITERAL_NULL),
+            literal(2L)),
+        Arguments.of(
+            DOUBLE,
+            List.of(
+                ExprValueUtils.doubleValue(3D),
+                ExprValueUtils.doubleValue(Double.NaN),
+                LITERAL_NULL),
+            literal(2D)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("numberValues")
+  void number_operators_same_as_interpretation(
+      ExprCoreType type, List<ExprValue> values, Expression constant) {
+    Expression a = ref("a", type);
+    Expression b = ref("b", type);
+    for (BiFunction<Expression, Expression, FunctionExpression> op : NUMBER_OPS) {
+      for (FunctionExpression expr :
+          List.of(
+              op.apply(a, b),
+              op.apply(a, constant),
+              op.apply(DSL.add(a, b), DSL.multiply(b, constant)),
+              op.apply(DSL.abs(a), b))) {
+        assertSameAsInterpretation(expr, values);
+      }
+    }
+  }
+
+  @Test
+  void logical_operators_same_as_interpretation() {
+    List<ExprValue> values = List.of(LITERAL_TRUE, LITERAL_FALSE, LITERAL_NULL);
+    Expression a = ref("a", BOOLEAN);
+    Expression b = ref("b", BOOLEAN);
+    for (FunctionExpression expr :
+        List.of(
+            DSL.and(a, b),
+            DSL.or(a, b),
+            DSL.not(a),
+            DSL.and(a, literal(true)),
+            DSL.or(DSL.not(a), DSL.less(ref("c", INTEGER), literal(1))),
+            DSL.and(DSL.equal(ref("c", DOUBLE), ref("c", DOUBLE)), DSL.not(b)))) {
+      assertSameAsInterpretation(expr, values);
+    }
+  }
+
+  @Test
+  void overflow_same_as_interpretation() {
+    Environment<Expression, ExprValue> env =
+        env(ExprValueUtils.integerValue(Integer.MAX_VALUE), ExprValueUtils.integerValue(1));
+    for (FunctionExpression expr :
+        List.of(
+            DSL.add(ref("a", INTEGER), ref("b", INTEGER)),
+            DSL.subtract(ref("b", INTEGER), DSL.multiply(ref("a", INTEGER), literal(-2))))) {
+      assertThrows(ArithmeticException.class, () -> expr.valueOf(env));
+      assertThrows(ArithmeticException.class, () -> ExpressionCompiler.compile(expr).valueOf(env));
+    }
+
+    Environment<Expression, ExprValue> longEnv =
+        env(ExprValueUtils.longValue(Long.MIN_VALUE), LITERAL_MISSING);
+    Expression expr = DSL.subtract(DSL.multiply(ref("a", LONG), literal(2L)), ref("b", LONG));
+    assertThrows(
+        ArithmeticException.class, () -> ExpressionCompiler.compile(expr).valueOf(longEnv));
+  }
+
+  @Test
+  void interpret_if_not_compilable() {
+    for (Expression expr :
+        List.of(
+            ref("a", INTEGER),
+            literal(1),
+            DSL.abs(ref("a", INTEGER)),
+            DSL.equal(ref("a", STRING), ref("b", STRING)),
+            function("and", ref("a", INTEGER), ref("b", INTEGER)),
+            function("not", ref("a", INTEGER)),
+            DSL.named("a", ref("a", INTEGER)),
+            function("+", ref("a", INTEGER)),
+            function("not", ref("a", BOOLEAN), ref("b", BOOLEAN)),
+            function("+", ref("a", INTEGER), ref("b", LONG)))) {
+      assertSame(expr, ExpressionCompiler.compile(expr));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void compiled_expression_behaves_as_source() {
+    Expression source = DSL.named("total", DSL.add(ref("a", INTEGER), ref("b", INTEGER)));
+    Expression compiled = ExpressionCompiler.compile(source);
+    assertTrue(compiled instanceof CompiledExpression);
+    assertSame(source, ((CompiledExpression) compiled).getSource());
+    assertEquals(INTEGER, compiled.type());
+    assertEquals(source.toString(), compiled.toString());
+    assertEquals(
+        source,
+        compiled.accept(
+            new ExpressionNodeVisitor<Expression, Object>() {
+              @Override
+              public Expression visitNamed(NamedExpression node, Object context) {
+                return node;
+              }
+            },
+            null));
+
+    RowBatch batch = RowBatch.ofRows(List.of(row(ExprValueUtils.integerValue(1), LITERAL_NULL)));
+    assertEquals(source.valueOfBatch(batch).get(0), compiled.valueOfBatch(batch).get(0));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(compiled);
+    }
+    try (ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      assertEquals(source, objectInput.readObject());
+    }
+  }
+
+  /** Evaluate on all the combinations of the values and missing for field a and b. */
+  private static void assertSameAsInterpretation(Expression expr, List<ExprValue> values) {
+    Expression compiled = ExpressionCompiler.compile(expr);
+    assertTrue(compiled instanceof CompiledExpression, expr.toString());
+    List<ExprValue> all =
+        Stream.concat(values.stream(), Stream.of(LITERAL_MISSING)).collect(Collectors.toList());
+    for (ExprValue a : all) {
+      for (ExprValue b : all) {
+        Environment<Expression, ExprValue> env = env(a, b);
+        assertEquals(expr.valueOf(env), compiled.valueOf(env), expr + " on " + a + ", " + b);
+      }
+    }
+  }
+
+  private static Environment<Expression, ExprValue> env(ExprValue a, ExprValue b) {
+    return row(a, b).bindingTuples();
+  }
+
+  private static ExprValue row(ExprValue a, ExprValue b) {
+    LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>();
+    if (!a.isMissing()) {
+      row.put("a", a);
+    }
+    if (!b.isMissing()) {
+      row.put("b", b);
+    }
+    return new ExprTupleValue(row);
+  }
+
+  private static FunctionExpression function(String name, Expression... arguments) {
+    return new FunctionExpression(FunctionName.of(name), List.of(arguments)) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return LITERAL_NULL;
+      }
+
+      @Override
+      public ExprType type() {
+        return arguments[0].type();
+      }
+    };
+  }
+}
@@ -6,7 +6,10 @@
 package org.opensearch.sql.expression.function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -39,6 +42,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.env.Environment;
@@ -104,6 +108,43 @@ class BuiltinFunctionRepositoryTest {
     verify(functionExpressionBuilder, times(1)).apply(eq(functionProperties), any());
   }
 
+  @Test
+  void compile_builtin_function_with_function_properties() {
+    FunctionExpression function =
+        (FunctionExpression)
+            BuiltinFunctionRepository.getInstance()
+                .compile(
+                    functionProperties,
+                    BuiltinFunctionName.ABS.getName(),
+                    List.of(DSL.literal(-1)));
+
+    assertSame(functionProperties, function.getFunctionProperties());
+  }
+
+  @Test
+  void compile_datasource_defined_function_without_function_properties() {
+    DefaultFunctionResolver dataSourceFunctionResolver = mock(DefaultFunctionResolver.class);
+    when(mockExpression.type()).thenReturn(UNDEFINED);
+    when(functionSignature.getParamTypeList()).thenReturn(Arrays.asList(UNDEFINED));
+    when(dataSourceFunctionResolver.getFunctionName()).thenReturn(mockFunctionName);
+    when(dataSourceFunctionResolver.resolve(any()))
+        .thenReturn(
+            Pair.of(
+                functionSignature,
+                (fp, args) -> new FakeFunctionExpression(mockFunctionName, args)));
+    BuiltinFunctionRepository repo = new BuiltinFunctionRepository(Map.of());
+
+    FunctionExpression function =
+        (FunctionExpression)
+            repo.compile(
+                functionProperties,
+                Collections.singletonList(dataSourceFunctionResolver),
+                mockFunctionName,
+                Arrays.asList(mockExpression));
+    assertTrue(function.isRebuildable());
+    assertNull(function.getFunctionProperties());
+  }
+
   @Test
   @DisplayName("resolve registered function should pass")
   void resolve() {
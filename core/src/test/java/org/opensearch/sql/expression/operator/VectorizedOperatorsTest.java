@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.batch.ColumnVector;
+import org.opensearch.sql.data.batch.PrimitiveVector;
+import org.opensearch.sql.data.batch.RowBatch;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+class VectorizedOperatorsTest {
+
+  private static final List<BiFunction<Expression, Expression, FunctionExpression>> NUMBER_OPS =
+      List.of(
+          DSL::add,
+          DSL::addFunction,
+          DSL::subtract,
+          DSL::subtractFunction,
+          DSL::multiply,
+          DSL::multiplyFunction,
+          DSL::equal,
+          DSL::notequal,
+          DSL::less,
+          DSL::lte,
+          DSL::greater,
+          DSL::gte);
+
+  private static Stream<List<ExprValue>> numberColumns() {
+    return Stream.of(
+        List.of(
+            ExprValueUtils.integerValue(1),
+            ExprValueUtils.integerValue(-2),
+            ExprValueUtils.integerValue(5),
+            LITERAL_NULL,
+            ExprValueUtils.integerValue(3)),
+        List.of(
+            ExprValueUtils.longValue(1L),
+            ExprValueUtils.longValue(-2L),
+            ExprValueUtils.longValue(5L),
+            LITERAL_NULL,
+            ExprValueUtils.longValue(3L)),
+        List.of(
+            ExprValueUtils.doubleValue(1D),
+            ExprValueUtils.doubleValue(Double.NaN),
+            ExprValueUtils.doubleValue(5D),
+            LITERAL_NULL,
+            ExprValueUtils.doubleValue(-0D)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("numberColumns")
+  void number_operators_on_vectors(List<ExprValue> values) {
+    ExprCoreType type = (ExprCoreType) values.get(0).type();
+    List<ExprValue> reversed = new ArrayList<>(values);
+    Collections.reverse(reversed);
+    RowBatch batch = batch(values, reversed);
+
+    for (BiFunction<Expression, Expression, FunctionExpression> op : NUMBER_OPS) {
+      FunctionExpression expr = op.apply(DSL.ref("a", type), DSL.ref("b", type));
+      assertTrue(expr.valueOfBatch(batch) instanceof PrimitiveVector);
+      assertSameAsRows(expr, batch);
+    }
+  }
+
+  @Test
+  void logical_operators_on_vectors() {
+    List<ExprValue> values =
+        List.of(
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_FALSE,
+            LITERAL_NULL,
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_FALSE,
+            LITERAL_NULL,
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_FALSE,
+            LITERAL_NULL);
+    List<ExprValue> others =
+        List.of(
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_TRUE,
+            ExprValueUtils.LITERAL_FALSE,
+            ExprValueUtils.LITERAL_FALSE,
+            ExprValueUtils.LITERAL_FALSE,
+            LITERAL_NULL,
+            LITERAL_NULL,
+            LITERAL_NULL);
+    RowBatch batch = batch(values, others);
+
+    for (FunctionExpression expr :
+        List.of(
+            DSL.and(DSL.ref("a", BOOLEAN), DSL.ref("b", BOOLEAN)),
+            DSL.or(DSL.ref("a", BOOLEAN), DSL.ref("b", BOOLEAN)))) {
+      assertTrue(expr.valueOfBatch(batch) instanceof PrimitiveVector);
+      assertSameAsRows(expr, batch);
+    }
+
+    RowBatch noNull =
+        batch(
+            List.of(ExprValueUtils.LITERAL_TRUE, ExprValueUtils.LITERAL_FALSE),
+            List.of(ExprValueUtils.LITERAL_TRUE, ExprValueUtils.LITERAL_TRUE));
+    assertSameAsRows(DSL.and(DSL.ref("a", BOOLEAN), DSL.ref("b", BOOLEAN)), noNull);
+  }
+
+  @Test
+  void integer_overflow_should_throw_as_rows() {
+    RowBatch batch =
+        batch(
+            List.of(ExprValueUtils.integerValue(Integer.MAX_VALUE)),
+            List.of(ExprValueUtils.integerValue(1)));
+    assertThrows(
+        ArithmeticException.class,
+        () -> DSL.add(DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)).valueOfBatch(batch));
+
+    RowBatch longBatch =
+        batch(
+            List.of(ExprValueUtils.longValue(Long.MIN_VALUE)),
+            List.of(ExprValueUtils.longValue(1L)));
+    assertThrows(
+        ArithmeticException.class,
+        () -> DSL.subtract(DSL.ref("a", LONG), DSL.ref("b", LONG)).valueOfBatch(longBatch));
+  }
+
+  @Test
+  void null_slot_should_not_overflow() {
+    RowBatch batch =
+        batch(
+            List.of(ExprValueUtils.integerValue(Integer.MAX_VALUE), ExprValueUtils.integerValue(1)),
+            List.of(LITERAL_NULL, ExprValueUtils.integerValue(1)));
+    assertSameAsRows(
+        DSL.multiply(DSL.add(DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)), DSL.ref("a", INTEGER)),
+        batch);
+  }
+
+  @Test
+  void fall_back_to_rows_if_vector_is_not_primitive() {
+    RowBatch mixed =
+        batch(
+            List.of(ExprValueUtils.integerValue(1), ExprValueUtils.longValue(2L)),
+            List.of(ExprValueUtils.integerValue(1), ExprValueUtils.integerValue(2)));
+    assertSameAsRows(DSL.add(DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)), mixed);
+    assertSameAsRows(DSL.add(DSL.ref("b", INTEGER), DSL.ref("a", INTEGER)), mixed);
+
+    RowBatch integers =
+        batch(
+            List.of(ExprValueUtils.integerValue(1), ExprValueUtils.integerValue(2)),
+            List.of(ExprValueUtils.longValue(1L), ExprValueUtils.longValue(2L)));
+    assertSameAsRows(DSL.add(DSL.ref("a", LONG), DSL.ref("b", LONG)), integers);
+    assertSameAsRows(DSL.add(DSL.ref("b", LONG), DSL.ref("a", LONG)), integers);
+
+    RowBatch doubles =
+        batch(
+            List.of(ExprValueUtils.doubleValue(1D), ExprValueUtils.doubleValue(2D)),
+            List.of(ExprValueUtils.doubleValue(1D), LITERAL_NULL));
+    assertSameAsRows(DSL.add(DSL.ref("a", DOUBLE), DSL.ref("c", DOUBLE)), doubles);
+    assertSameAsRows(DSL.add(DSL.ref("c", DOUBLE), DSL.ref("a", DOUBLE)), doubles);
+    assertTrue(
+        VectorizedOperators.valueOfBatch(
+                function("+", DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)), doubles)
+            .isEmpty());
+
+    RowBatch booleans =
+        batch(
+            List.of(ExprValueUtils.LITERAL_TRUE, ExprValueUtils.LITERAL_FALSE),
+            List.of(ExprValueUtils.LITERAL_TRUE, LITERAL_NULL));
+    assertSameAsRows(DSL.and(DSL.ref("a", BOOLEAN), DSL.ref("c", BOOLEAN)), booleans);
+    assertSameAsRows(DSL.and(DSL.ref("c", BOOLEAN), DSL.ref("a", BOOLEAN)), booleans);
+    assertTrue(
+        VectorizedOperators.valueOfBatch(
+                function("=", DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)), booleans)
+            .isEmpty());
+  }
+
+  @Test
+  void fall_back_to_rows_if_function_is_not_supported() {
+    RowBatch batch =
+        batch(
+            List.of(ExprValueUtils.stringValue("a"), ExprValueUtils.stringValue("b")),
+            List.of(ExprValueUtils.stringValue("a"), ExprValueUtils.stringValue("c")));
+    assertSameAsRows(DSL.equal(DSL.ref("a", STRING), DSL.ref("b", STRING)), batch);
+    assertSameAsRows(DSL.concat(DSL.ref("a", STRING), DSL.ref("b", STRING)), batch);
+
+    assertFalse(
+        VectorizedOperators.valueOfBatch(function("+", DSL.ref("a", INTEGER)), batch).isPresent());
+    assertFalse(
+        VectorizedOperators.valueOfBatch(
+                function("+", DSL.ref("a", INTEGER), DSL.ref("b", LONG)), batch)
+            .isPresent());
+    assertFalse(
+        VectorizedOperators.valueOfBatch(
+                function("and", DSL.ref("a", INTEGER), DSL.ref("b", INTEGER)), batch)
+            .isPresent());
+  }
+
+  private static RowBatch batch(List<ExprValue> a, List<ExprValue> b) {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < a.size(); i++) {
+      LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>();
+      row.put("a", a.get(i));
+      row.put("b", b.get(i));
+      rows.add(new ExprTupleValue(row));
+    }
+    return RowBatch.ofRows(rows);
+  }
+
+  private static void assertSameAsRows(Expression expr, RowBatch batch) {
+    ColumnVector vector = expr.valueOfBatch(batch);
+    for (int i = 0; i < batch.size(); i++) {
+      assertEquals(expr.valueOf(batch.rows().get(i).bindingTuples()), vector.get(i));
+    }
+  }
+
+  private static FunctionExpression function(String name, Expression... arguments) {
+    return new FunctionExpression(FunctionName.of(name), List.of(arguments)) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return LITERAL_NULL;
+      }
+
+      @Override
+      public ExprType type() {
+        return arguments[0].type();
+      }
+    };
+  }
+}
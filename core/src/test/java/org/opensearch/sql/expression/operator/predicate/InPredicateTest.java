@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class InPredicateTest {
+
+  private final ReferenceExpression field = DSL.ref("a", INTEGER);
+
+  private final InPredicate in = DSL.in(field, DSL.literal(1), DSL.literal(2), DSL.literal(3));
+
+  @Test
+  void value_in_list() {
+    assertEquals(LITERAL_TRUE, in.valueOf(env(ExprValueUtils.integerValue(2))));
+    assertEquals(LITERAL_FALSE, in.valueOf(env(ExprValueUtils.integerValue(4))));
+    assertEquals(LITERAL_NULL, in.valueOf(env(LITERAL_NULL)));
+    assertEquals(LITERAL_MISSING, in.valueOf(env(LITERAL_MISSING)));
+  }
+
+  @Test
+  void behave_as_function() {
+    assertEquals(BOOLEAN, in.type());
+    assertEquals("in(a, 1, 2, 3)", in.toString());
+    assertEquals(field, in.getField());
+    assertEquals(List.of(DSL.literal(1), DSL.literal(2), DSL.literal(3)), in.getValueList());
+    assertEquals(
+        "in",
+        in.accept(
+            new ExpressionNodeVisitor<String, Object>() {
+              @Override
+              public String visitFunction(FunctionExpression node, Object context) {
+                return node.getFunctionName().getFunctionName();
+              }
+            },
+            null));
+    assertEquals(
+        DSL.in(DSL.ref("b", INTEGER), DSL.literal(1), DSL.literal(2), DSL.literal(3)),
+        in.withArguments(List.of(DSL.ref("b", INTEGER))).orElseThrow());
+  }
+
+  @Test
+  void applicable_to_non_null_literals_of_field_type() {
+    assertTrue(InPredicate.isApplicable(field, List.of(DSL.literal(1), DSL.literal(2))));
+    assertFalse(InPredicate.isApplicable(field, List.of(DSL.literal(1), DSL.literal(2L))));
+    assertFalse(InPredicate.isApplicable(field, List.of(DSL.literal(1), DSL.ref("b", INTEGER))));
+    assertFalse(
+        InPredicate.isApplicable(
+            field, List.of(DSL.literal(1), DSL.literal(ExprValueUtils.nullValue()))));
+
+    ExprType text = () -> "STRING";
+    assertTrue(InPredicate.isApplicable(DSL.ref("t", text), List.<Expression>of(DSL.literal("x"))));
+    assertFalse(InPredicate.isApplicable(DSL.ref("t", text), List.<Expression>of(DSL.literal(1))));
+    assertTrue(
+        InPredicate.isApplicable(DSL.ref("s", STRING), List.<Expression>of(DSL.literal("x"))));
+  }
+
+  private static BindingTuple env(ExprValue value) {
+    return ExprTupleValue.fromExprValueMap(Map.of("a", value)).bindingTuples();
+  }
+}
@@ -64,6 +64,7 @@ import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalValues;
+import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
@@ -72,6 +73,8 @@ import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.storage.Table;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 import org.opensearch.sql.storage.write.TableWriteBuilder;
 import org.opensearch.sql.storage.write.TableWriteOperator;
@@ -179,6 +182,72 @@ class DefaultImplementorTest {
         actual);
   }
 
+  @Test
+  public void visit_top_k_should_build_top_k_operator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    LogicalPlan plan = LogicalPlanDSL.topK(values(emptyList()), 10, 5, sortField);
+
+    assertEquals(
+        PhysicalPlanDSL.topK(PhysicalPlanDSL.values(emptyList()), 10, 5, sortField),
+        plan.accept(implementor, null));
+  }
+
+  @Test
+  public void visit_aggregation_on_sorted_input_should_build_streaming_aggregation() {
+    List<NamedAggregator> aggregators =
+        Collections.singletonList(named("avg", DSL.avg(ref("age", INTEGER))));
+    List<NamedExpression> groups = Collections.singletonList(named("name", ref("name", STRING)));
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    Pair<Sort.SortOption, Expression> secondSortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_DESC, ref("age", INTEGER));
+
+    assertEquals(
+        PhysicalPlanDSL.streamingAgg(
+            PhysicalPlanDSL.sort(PhysicalPlanDSL.values(emptyList()), sortField, secondSortField),
+            aggregators,
+            groups),
+        aggregation(sort(values(emptyList()), sortField, secondSortField), aggregators, groups)
+            .accept(implementor, null));
+    assertEquals(
+        PhysicalPlanDSL.streamingAgg(
+            PhysicalPlanDSL.topK(PhysicalPlanDSL.values(emptyList()), 10, 0, sortField),
+            aggregators,
+            groups),
+        aggregation(LogicalPlanDSL.topK(values(emptyList()), 10, 0, sortField), aggregators, groups)
+            .accept(implementor, null));
+  }
+
+  @Test
+  public void visit_aggregation_on_input_not_sorted_by_group_keys_should_build_aggregation() {
+    List<NamedAggregator> aggregators =
+        Collections.singletonList(named("avg", DSL.avg(ref("age", INTEGER))));
+    List<NamedExpression> groups =
+        Arrays.asList(named("name", ref("name", STRING)), named("age", ref("age", INTEGER)));
+    Pair<Sort.SortOption, Expression> sortByName =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    Pair<Sort.SortOption, Expression> sortByAgeDesc =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_DESC, ref("age", INTEGER));
+    Pair<Sort.SortOption, Expression> sortByAge =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("age", INTEGER));
+
+    for (LogicalPlan input :
+        Arrays.asList(
+            values(emptyList()),
+            sort(values(emptyList()), sortByName),
+            sort(values(emptyList()), sortByName, sortByAgeDesc),
+            sort(values(emptyList()), sortByAge, sortByName))) {
+      assertTrue(
+          aggregation(input, aggregators, groups).accept(implementor, null)
+              instanceof AggregationOperator);
+    }
+    assertTrue(
+        aggregation(sort(values(emptyList()), sortByName), aggregators, emptyList())
+                .accept(implementor, null)
+            instanceof AggregationOperator);
+  }
+
   @Test
   public void visitRelation_should_throw_an_exception() {
     assertThrows(
@@ -242,6 +311,20 @@ class DefaultImplementorTest {
     assertEquals(tableScanOperator, tableScanBuilder.accept(implementor, null));
   }
 
+  @Test
+  public void visitTableFetchBuilder_should_build_TableFetchOperator() {
+    LogicalPlan child = values();
+    TableFetchOperator tableFetchOperator = mock(TableFetchOperator.class);
+    TableFetchBuilder logicalPlan =
+        new TableFetchBuilder(child) {
+          @Override
+          public TableFetchOperator build(PhysicalPlan child) {
+            return tableFetchOperator;
+          }
+        };
+    assertEquals(tableFetchOperator, logicalPlan.accept(implementor, null));
+  }
+
   @Test
   public void visitTableWriteBuilder_should_build_TableWriteOperator() {
     LogicalPlan child = values();
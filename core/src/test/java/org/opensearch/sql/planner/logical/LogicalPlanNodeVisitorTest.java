@@ -39,6 +39,8 @@ import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.storage.Table;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 import org.opensearch.sql.storage.write.TableWriteBuilder;
 import org.opensearch.sql.storage.write.TableWriteOperator;
@@ -95,6 +97,13 @@ class LogicalPlanNodeVisitorTest {
             return null;
           }
         };
+    TableFetchBuilder tableFetchBuilder =
+        new TableFetchBuilder(null) {
+          @Override
+          public TableFetchOperator build(PhysicalPlan child) {
+            return null;
+          }
+        };
     LogicalPlan write = LogicalPlanDSL.write(null, table, Collections.emptyList());
     LogicalPlan filter = LogicalPlanDSL.filter(relation, expression);
     LogicalPlan aggregation =
@@ -107,6 +116,8 @@ class LogicalPlanNodeVisitorTest {
     LogicalPlan remove = LogicalPlanDSL.remove(relation, ref);
     LogicalPlan eval = LogicalPlanDSL.eval(relation, Pair.of(ref, expression));
     LogicalPlan sort = LogicalPlanDSL.sort(relation, Pair.of(SortOption.DEFAULT_ASC, expression));
+    LogicalPlan topK =
+        LogicalPlanDSL.topK(relation, 10, 0, Pair.of(SortOption.DEFAULT_ASC, expression));
     LogicalPlan dedup = LogicalPlanDSL.dedupe(relation, 1, false, false, expression);
     LogicalPlan window =
         LogicalPlanDSL.window(
@@ -144,6 +155,7 @@ class LogicalPlanNodeVisitorTest {
     return Stream.of(
             relation,
             tableScanBuilder,
+            tableFetchBuilder,
             write,
             tableWriteBuilder,
             filter,
@@ -153,6 +165,7 @@ class LogicalPlanNodeVisitorTest {
             remove,
             eval,
             sort,
+            topK,
             dedup,
             window,
             rareTopN,
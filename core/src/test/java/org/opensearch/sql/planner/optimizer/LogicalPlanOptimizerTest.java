@@ -6,17 +6,21 @@
 package org.opensearch.sql.planner.optimizer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -25,6 +29,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.paginate;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.topK;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.write;
 
@@ -32,6 +37,8 @@ import com.google.common.collect.ImmutableList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -44,15 +51,19 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.CommonSubexpression;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.FunctionProperties;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 import org.opensearch.sql.storage.write.TableWriteBuilder;
 
@@ -124,6 +135,102 @@ class LogicalPlanOptimizerTest {
                 DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))));
   }
 
+  /** Limit - Sort --> TopK if sort is not pushed down. */
+  @Test
+  void limit_merge_sort_to_top_k() {
+    assertEquals(
+        topK(
+            filter(
+                tableScanBuilder,
+                DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+            10,
+            5,
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+        optimize(
+            limit(
+                sort(
+                    filter(
+                        relation("schema", table),
+                        DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+                10,
+                5)));
+  }
+
+  /** Limit - Sort --> TopK without relation. */
+  @Test
+  void limit_merge_sort_to_top_k_without_relation() {
+    assertEquals(
+        topK(values(), 10, 0, Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+        optimize(
+            limit(
+                sort(values(), Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+                10,
+                0)));
+  }
+
+  /** Limit - Sort is pushed down instead of merged to TopK. */
+  @Test
+  void limit_not_merge_sort_if_sort_push_down() {
+    when(tableScanBuilder.pushDownSort(any())).thenReturn(true);
+    when(tableScanBuilder.pushDownLimit(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            limit(
+                sort(
+                    relation("schema", table),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+                10,
+                5)));
+  }
+
+  /** Project - TopK - Filter - Eval --> Project - Fetch - TopK - Filter - Eval. */
+  @Test
+  void table_scan_builder_support_late_materialization_can_apply_its_rule() {
+    TableFetchBuilder fetchBuilder = Mockito.mock(TableFetchBuilder.class);
+    when(tableScanBuilder.pushDownLateMaterialization(any(), any()))
+        .thenReturn(Optional.of(fetchBuilder));
+
+    Expression host =
+        DSL.regex(DSL.ref("email", STRING), DSL.literal(".+@(?<host>.+)"), DSL.literal("host"));
+    NamedExpression output = DSL.named("name", DSL.ref("name", STRING));
+    assertEquals(
+        project(fetchBuilder, output),
+        optimize(
+            project(
+                limit(
+                    sort(
+                        filter(
+                            eval(
+                                relation("schema", table),
+                                Pair.of(DSL.ref("s", INTEGER), DSL.abs(DSL.ref("intV", INTEGER)))),
+                            DSL.greater(DSL.ref("s", INTEGER), DSL.literal(integerValue(1)))),
+                        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("s", INTEGER)),
+                        Pair.of(Sort.SortOption.DEFAULT_ASC, host)),
+                    10,
+                    5),
+                output)));
+    verify(tableScanBuilder)
+        .pushDownLateMaterialization(
+            any(),
+            eq(Set.of(DSL.ref("s", INTEGER), DSL.ref("intV", INTEGER), DSL.ref("email", STRING))));
+  }
+
+  @Test
+  void late_materialization_not_applied_if_not_pushed_down() {
+    NamedExpression output = DSL.named("intV", DSL.ref("intV", INTEGER));
+    Pair<Sort.SortOption, Expression> sortItem =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.abs(DSL.ref("intV", INTEGER)));
+    assertEquals(
+        project(topK(tableScanBuilder, 10, 0, sortItem), output),
+        optimize(project(limit(sort(relation("schema", table), sortItem), 10, 0), output)));
+    assertEquals(
+        project(topK(values(), 10, 0, sortItem), output),
+        optimize(project(limit(sort(values(), sortItem), 10, 0), output)));
+  }
+
   @Test
   void default_table_scan_builder_should_not_push_down_anything() {
     LogicalPlan[] plans = {
@@ -331,6 +438,136 @@ class LogicalPlanOptimizerTest {
     assertEquals(project(tableScanBuilder), optimized);
   }
 
+  /** Filter - Relation --> Filter with constant folded - TableScanBuilder. */
+  @Test
+  void fold_constants_in_filter() {
+    assertEquals(
+        filter(
+            tableScanBuilder, DSL.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(20)))),
+        optimize(
+            filter(
+                relation("schema", table),
+                DSL.greater(
+                    DSL.ref("intV", INTEGER),
+                    DSL.multiply(DSL.literal(integerValue(10)), DSL.literal(integerValue(2)))))));
+  }
+
+  @Test
+  void fold_constants_in_eval_and_project() {
+    ReferenceExpression intV = DSL.ref("intV", INTEGER);
+    NamedExpression unchanged = DSL.named("intV", intV);
+    assertEquals(
+        project(
+            eval(
+                tableScanBuilder,
+                Pair.of(
+                    DSL.ref("x", INTEGER), DSL.add(DSL.abs(intV), DSL.literal(integerValue(3))))),
+            unchanged,
+            DSL.named("y", DSL.literal(integerValue(-4))),
+            DSL.named("seeded", DSL.literal(DSL.rand(DSL.literal(1)).valueOf()))),
+        optimize(
+            project(
+                eval(
+                    relation("schema", table),
+                    Pair.of(
+                        DSL.ref("x", INTEGER),
+                        DSL.add(
+                            DSL.abs(intV),
+                            DSL.add(DSL.literal(integerValue(1)), DSL.literal(integerValue(2)))))),
+                unchanged,
+                DSL.named(
+                    "y",
+                    DSL.subtract(
+                        DSL.literal(integerValue(1)), DSL.abs(DSL.literal(integerValue(-5))))),
+                DSL.named("seeded", DSL.rand(DSL.literal(1))))));
+  }
+
+  /** Constant is not folded if nondeterministic, failed or not of the function type. */
+  @Test
+  void keep_constants_not_foldable() {
+    LogicalPlan plan =
+        project(
+            tableScanBuilder,
+            DSL.named("rand", DSL.rand()),
+            DSL.named("sysdate", DSL.sysdate(FunctionProperties.None)),
+            DSL.named("overflow", DSL.add(DSL.literal(Integer.MAX_VALUE), DSL.literal(1))),
+            DSL.named("null", DSL.divide(DSL.literal(1), DSL.literal(0))),
+            DSL.named(
+                "case",
+                DSL.cases(
+                    DSL.literal(0),
+                    DSL.when(DSL.literal(true), DSL.add(DSL.literal(1), DSL.literal(1))))));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void share_common_subexpressions_in_project() {
+    ReferenceExpression intV = DSL.ref("intV", INTEGER);
+    Expression abs = DSL.abs(DSL.subtract(intV, DSL.literal(1)));
+    Expression cases = DSL.cases(DSL.literal(0), DSL.when(DSL.equal(abs, DSL.literal(1)), abs));
+    LogicalPlan optimized =
+        optimize(
+            project(
+                relation("schema", table),
+                DSL.named("abs", abs),
+                DSL.named("double", DSL.multiply(abs, DSL.literal(2))),
+                DSL.named("case1", cases),
+                DSL.named("case2", cases),
+                DSL.named("rand", DSL.add(DSL.rand(), DSL.rand())),
+                DSL.named("once", DSL.abs(intV))));
+
+    assertEquals(
+        project(
+            tableScanBuilder,
+            DSL.named("abs", shared(abs)),
+            DSL.named("double", DSL.multiply(shared(abs), DSL.literal(2))),
+            DSL.named("case1", shared(cases)),
+            DSL.named("case2", shared(cases)),
+            DSL.named("rand", DSL.add(DSL.rand(), DSL.rand())),
+            DSL.named("once", DSL.abs(intV))),
+        optimized);
+    assertSame(optimized, optimize(optimized));
+  }
+
+  /** Filter on top of table is not rewritten because it is going to be pushed down. */
+  @Test
+  void share_common_subexpressions_in_eval_and_filter() {
+    ReferenceExpression intV = DSL.ref("intV", INTEGER);
+    Expression abs = DSL.abs(intV);
+    Expression condition = DSL.and(DSL.less(abs, DSL.literal(5)), DSL.greater(abs, DSL.literal(1)));
+    Expression sharedCondition =
+        DSL.and(DSL.less(shared(abs), DSL.literal(5)), DSL.greater(shared(abs), DSL.literal(1)));
+    LogicalPlan aggregation =
+        aggregation(
+            relation("schema", table),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(intV))),
+            ImmutableList.of());
+
+    assertEquals(
+        filter(
+            eval(tableScanBuilder, Pair.of(DSL.ref("x", BOOLEAN), sharedCondition)),
+            sharedCondition),
+        optimize(
+            filter(
+                eval(relation("schema", table), Pair.of(DSL.ref("x", BOOLEAN), condition)),
+                condition)));
+    assertEquals(
+        filter(
+            aggregation(
+                tableScanBuilder,
+                ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(intV))),
+                ImmutableList.of()),
+            sharedCondition),
+        optimize(filter(aggregation, condition)));
+    assertEquals(
+        filter(tableScanBuilder, condition),
+        optimize(filter(relation("schema", table), condition)));
+  }
+
+  private static Expression shared(Expression expression) {
+    return new CommonSubexpression(expression, new CommonSubexpression.Slot());
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = LogicalPlanOptimizer.create();
     return optimizer.optimize(plan);
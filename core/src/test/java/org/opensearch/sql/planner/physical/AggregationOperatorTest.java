@@ -26,12 +26,17 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -752,6 +757,48 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
                     "sum", 8))));
   }
 
+  @Test
+  public void group_by_null_value_should_come_first() {
+    PhysicalPlan plan =
+        new AggregationOperator(
+            testScan(
+                Arrays.asList(
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+                    ExprTupleValue.fromExprValueMap(
+                        ImmutableMap.of(
+                            "action", ExprNullValue.of(), "response", new ExprIntegerValue(404))),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 500)),
+                    ExprTupleValue.fromExprValueMap(
+                        ImmutableMap.of(
+                            "action", ExprNullValue.of(), "response", new ExprIntegerValue(503))))),
+            Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(2, result.size());
+    assertEquals(
+        ExprTupleValue.fromExprValueMap(
+            ImmutableMap.of("action", ExprNullValue.of(), "count", new ExprIntegerValue(2))),
+        result.get(0));
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "count", 2)), result.get(1));
+  }
+
+  @Test
+  public void aggregate_with_spill() {
+    List<NamedAggregator> aggregators =
+        Arrays.asList(
+            DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER))),
+            DSL.named("count(response)", DSL.count(DSL.ref("response", INTEGER))));
+    List<NamedExpression> groups =
+        Arrays.asList(
+            DSL.named("action", DSL.ref("action", STRING)), DSL.named("ip", DSL.ref("ip", STRING)));
+    List<ExprValue> expected =
+        execute(new AggregationOperator(new TestScan(), aggregators, groups));
+
+    assertEquals(expected, execute(PhysicalPlanDSL.agg(new TestScan(), aggregators, groups, 1)));
+    assertEquals(expected, execute(PhysicalPlanDSL.agg(new TestScan(), aggregators, groups, 2)));
+  }
+
   @Test
   public void copyOfAggregationOperatorShouldSame() {
     AggregationOperator plan =
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -25,6 +26,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 
 @ExtendWith(MockitoExtension.class)
 class EvalOperatorTest extends PhysicalPlanTestBase {
@@ -130,4 +133,37 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_batch_should_be_same_as_eval_rows() {
+    List<ExprValue> inputs =
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 300, "time", 20)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("time", 5, "distance", 50)));
+    ImmutablePair<ReferenceExpression, Expression> velocity =
+        ImmutablePair.of(
+            DSL.ref("velocity", INTEGER),
+            DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER)));
+    ImmutablePair<ReferenceExpression, Expression> distance =
+        ImmutablePair.of(
+            DSL.ref("distance", INTEGER),
+            DSL.add(DSL.ref("distance", INTEGER), DSL.ref("velocity", INTEGER)));
+
+    for (int batchSize : new int[] {1, 2, 3}) {
+      assertEquals(
+          execute(eval(testScan(inputs), velocity, distance)),
+          executeBatch(eval(testScan(inputs), velocity, distance), batchSize));
+    }
+  }
+
+  @Test
+  public void eval_batch_with_none_tuple_value() {
+    PhysicalPlan plan =
+        eval(
+            testScan(List.of(ExprValueUtils.integerValue(1))),
+            ImmutablePair.of(DSL.ref("response", INTEGER), DSL.ref("referer", STRING)));
+
+    assertEquals(List.of(ExprValueUtils.integerValue(1)), executeBatch(plan, 2));
+  }
 }
@@ -82,4 +82,53 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void filter_batch_should_be_same_as_filter_rows() {
+    for (int batchSize : new int[] {1, 2, 10}) {
+      FilterOperator plan =
+          new FilterOperator(
+              new TestScan(),
+              DSL.and(
+                  DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200)),
+                  DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(500))));
+      assertEquals(
+          List.of(
+              ExprValueUtils.tupleValue(
+                  ImmutableMap.of(
+                      "ip",
+                      "209.160.24.63",
+                      "action",
+                      "GET",
+                      "response",
+                      404,
+                      "referer",
+                      "www.amazon.com"))),
+          executeBatch(plan, batchSize));
+    }
+  }
+
+  @Test
+  public void filter_batch_with_missing_condition_value() {
+    FilterOperator plan =
+        new FilterOperator(
+            new TestScan(), DSL.equal(DSL.ref("unknown", INTEGER), DSL.literal(404)));
+    assertEquals(0, executeBatch(plan, 2).size());
+  }
+
+  @Test
+  public void filter_batch_with_null_condition_value() {
+    LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
+    value.put("response", LITERAL_NULL);
+    FilterOperator plan =
+        new FilterOperator(
+            testScan(
+                List.of(
+                    new ExprTupleValue(value),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("response", 404)))),
+            DSL.lte(DSL.ref("response", INTEGER), DSL.literal(404)));
+    assertEquals(
+        List.of(ExprValueUtils.tupleValue(ImmutableMap.of("response", 404))),
+        executeBatch(plan, 2));
+  }
 }
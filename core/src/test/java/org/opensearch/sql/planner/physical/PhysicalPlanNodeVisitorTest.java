@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
@@ -22,6 +23,8 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.streamingAgg;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topK;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -101,6 +104,12 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
             ImmutableList.of(DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
             ImmutableList.of());
 
+    PhysicalPlan streamingAggregation =
+        streamingAgg(
+            plan,
+            ImmutableList.of(DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+            ImmutableList.of(DSL.named("action", DSL.ref("action", STRING))));
+
     PhysicalPlan rename =
         rename(
             aggregation,
@@ -125,6 +134,8 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
 
     PhysicalPlan limit = limit(plan, 1, 1);
 
+    PhysicalPlan topK = topK(plan, 1, 1, Pair.of(SortOption.DEFAULT_ASC, ref));
+
     Set<String> nestedArgs = Set.of("nested.test");
     Map<String, List<String>> groupedFieldsByPath = Map.of("nested", List.of("nested.test"));
     PhysicalPlan nested = new NestedOperator(plan, nestedArgs, groupedFieldsByPath);
@@ -134,6 +145,7 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
     return Stream.of(
         Arguments.of(filter, "filter"),
         Arguments.of(aggregation, "aggregation"),
+        Arguments.of(streamingAggregation, "streamingAggregation"),
         Arguments.of(rename, "rename"),
         Arguments.of(project, "project"),
         Arguments.of(window, "window"),
@@ -144,6 +156,7 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
         Arguments.of(values, "values"),
         Arguments.of(rareTopN, "rareTopN"),
         Arguments.of(limit, "limit"),
+        Arguments.of(topK, "topK"),
         Arguments.of(nested, "nested"),
         Arguments.of(cursorClose, "cursorClose"));
   }
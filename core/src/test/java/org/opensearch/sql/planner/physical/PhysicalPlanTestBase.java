@@ -13,6 +13,7 @@ import java.io.ObjectOutput;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
@@ -291,6 +292,18 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeBatch(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    for (RowBatch batch = plan.nextBatch(batchSize);
+        !batch.isEmpty();
+        batch = plan.nextBatch(batchSize)) {
+      builder.addAll(batch.rows());
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
@@ -259,4 +259,44 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
     var roundTripPlan = (ProjectOperator) objectInput.readObject();
     assertEquals(project, roundTripPlan);
   }
+
+  @Test
+  public void project_batch_should_be_same_as_project_rows() {
+    for (int batchSize : new int[] {1, 2, 10}) {
+      PhysicalPlan plan =
+          project(
+              new TestScan(),
+              DSL.named("action", DSL.ref("action", STRING)),
+              DSL.named("referer", DSL.ref("referer", STRING)),
+              DSL.named("response + 1", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))));
+      assertEquals(
+          execute(
+              project(
+                  new TestScan(),
+                  DSL.named("action", DSL.ref("action", STRING)),
+                  DSL.named("referer", DSL.ref("referer", STRING)),
+                  DSL.named(
+                      "response + 1", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))))),
+          executeBatch(plan, batchSize));
+    }
+  }
+
+  @Test
+  public void project_batch_with_parse_expressions() {
+    PhysicalPlan plan =
+        project(
+            testScan(List.of(ExprValueUtils.tupleValue(ImmutableMap.of("response", "GET 200")))),
+            ImmutableList.of(DSL.named("action", DSL.ref("action", STRING))),
+            ImmutableList.of(
+                DSL.named(
+                    "action",
+                    DSL.regex(
+                        DSL.ref("response", STRING),
+                        DSL.literal("(?<action>\\w+) (?<response>\\d+)"),
+                        DSL.literal("action")))));
+
+    assertEquals(
+        List.of(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET"))),
+        executeBatch(plan, 10));
+  }
 }
@@ -264,4 +264,43 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         0,
         execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_two_fields_with_spill() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    assertThat(
+        execute(
+            sort(
+                inputPlan,
+                2,
+                Pair.of(SortOption.DEFAULT_DESC, ref("size", INTEGER)),
+                Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 399, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
+  @Test
+  public void sort_one_field_under_spill_threshold() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(sort(inputPlan, 10, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.streamingAgg;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+class StreamingAggregationOperatorTest extends PhysicalPlanTestBase {
+
+  private final List<NamedAggregator> aggregators =
+      Arrays.asList(
+          DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER))),
+          DSL.named("count(response)", DSL.count(DSL.ref("response", INTEGER))));
+
+  private final List<NamedExpression> groups =
+      Arrays.asList(
+          DSL.named("action", DSL.ref("action", STRING)), DSL.named("ip", DSL.ref("ip", STRING)));
+
+  @Test
+  public void aggregate_sorted_input() {
+    PhysicalPlan plan =
+        streamingAgg(
+            sort(
+                new TestScan(),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("action", STRING)),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("ip", STRING))),
+            aggregators,
+            groups);
+
+    assertEquals(execute(agg(new TestScan(), aggregators, groups)), execute(plan));
+  }
+
+  @Test
+  public void emit_group_once_key_changes() {
+    PhysicalPlan plan =
+        limit(
+            streamingAgg(
+                new TestScan(),
+                Collections.singletonList(
+                    DSL.named("count(response)", DSL.count(DSL.ref("response", INTEGER)))),
+                Collections.singletonList(DSL.named("action", DSL.ref("action", STRING)))),
+            1,
+            0);
+
+    List<ExprValue> result = execute(plan);
+    assertEquals(
+        Collections.singletonList(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "count(response)", 3))),
+        result);
+  }
+
+  @Test
+  public void aggregate_empty_input() {
+    PhysicalPlan plan = streamingAgg(testScan(Collections.emptyList()), aggregators, groups);
+    plan.open();
+    assertFalse(plan.hasNext());
+  }
+
+  @Test
+  public void aggregate_single_row_group_at_end() {
+    PhysicalPlan plan =
+        streamingAgg(
+            testScan(
+                Arrays.asList(
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 500)))),
+            Collections.singletonList(
+                DSL.named("count(response)", DSL.count(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    plan.open();
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "count(response)", 1)),
+        plan.next());
+    assertTrue(plan.hasNext());
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "count(response)", 1)),
+        plan.next());
+    assertFalse(plan.hasNext());
+  }
+
+  @Test
+  public void aggregate_null_and_missing_keys_into_one_group() {
+    PhysicalPlan plan =
+        streamingAgg(
+            testScan(
+                Arrays.asList(
+                    ExprTupleValue.fromExprValueMap(
+                        ImmutableMap.of(
+                            "action", ExprNullValue.of(), "response", integerValue(200))),
+                    ExprTupleValue.fromExprValueMap(
+                        ImmutableMap.of("response", integerValue(500))),
+                    ExprTupleValue.fromExprValueMap(
+                        ImmutableMap.of(
+                            "action", ExprNullValue.of(), "response", integerValue(404))),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)))),
+            Collections.singletonList(
+                DSL.named("count(response)", DSL.count(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+
+    assertEquals(
+        Arrays.asList(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of("action", ExprNullValue.of(), "count(response)", integerValue(3))),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "count(response)", 1))),
+        execute(plan));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topK;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+
+@ExtendWith(MockitoExtension.class)
+class TopKOperatorTest extends PhysicalPlanTestBase {
+  @Mock private PhysicalPlan inputPlan;
+
+  @Test
+  public void top_k_one_field_asc() {
+    mockInput();
+
+    assertThat(
+        execute(topK(inputPlan, 2, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 301))));
+  }
+
+  @Test
+  public void top_k_one_field_desc_with_offset() {
+    mockInput();
+
+    assertThat(
+        execute(topK(inputPlan, 2, 1, Pair.of(SortOption.DEFAULT_DESC, ref("size", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 301)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
+  @Test
+  public void top_k_two_fields_with_duplication() {
+    mockInput();
+
+    assertThat(
+        execute(
+            topK(
+                inputPlan,
+                3,
+                0,
+                Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)),
+                Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 100, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 150, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void top_k_limit_larger_than_input() {
+    mockInput();
+
+    assertThat(
+        execute(topK(inputPlan, 10, 3, Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 301)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void top_k_offset_larger_than_input() {
+    mockInput();
+
+    assertThat(
+        execute(topK(inputPlan, 10, 10, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void top_k_zero_limit_should_not_consume_input() {
+    assertThat(
+        execute(topK(inputPlan, 0, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+    verify(inputPlan, never()).next();
+  }
+
+  @Test
+  public void top_k_without_input() {
+    when(inputPlan.hasNext()).thenReturn(false);
+
+    assertThat(
+        execute(topK(inputPlan, 1, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void test_getters() {
+    TopKOperator topK =
+        topK(inputPlan, 10, 5, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)));
+    assertEquals(inputPlan, topK.getInput());
+    assertEquals(10, topK.getLimit());
+    assertEquals(5, topK.getOffset());
+    assertEquals(1, topK.getSortList().size());
+  }
+
+  private void mockInput() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 150, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 301)));
+  }
+}
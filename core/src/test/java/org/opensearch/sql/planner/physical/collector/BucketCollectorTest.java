@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+class BucketCollectorTest {
+
+  private final List<NamedExpression> groups =
+      Collections.singletonList(DSL.named("name", DSL.ref("name", STRING)));
+
+  private final List<NamedAggregator> aggregators =
+      Collections.singletonList(DSL.named("sum", DSL.sum(DSL.ref("value", INTEGER))));
+
+  @Test
+  void results_from_spilled_and_in_memory_buckets() {
+    Collector collector = Collector.Builder.build(groups, aggregators, 2);
+    for (String name : Arrays.asList("b", "a", "c", "a", "b", "a")) {
+      collector.collect(tupleValue(ImmutableMap.of("name", name, "value", 1)).bindingTuples());
+    }
+
+    List<ExprValue> results = collector.results();
+    collector.close();
+
+    assertEquals(
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("name", "a", "sum", 3)),
+            tupleValue(ImmutableMap.of("name", "b", "sum", 2)),
+            tupleValue(ImmutableMap.of("name", "c", "sum", 1))),
+        results);
+  }
+
+  @Test
+  void results_of_null_and_missing_keys_in_one_bucket() {
+    Collector collector = Collector.Builder.build(groups, aggregators, 0);
+    collector.collect(nullName(1).bindingTuples());
+    collector.collect(missingName(2).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("name", "a", "value", 4)).bindingTuples());
+
+    assertEquals(
+        Arrays.asList(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of("name", ExprNullValue.of(), "sum", integerValue(3))),
+            tupleValue(ImmutableMap.of("name", "a", "sum", 4))),
+        collector.results());
+  }
+
+  @Test
+  void results_of_null_and_missing_keys_spilled_in_different_runs() {
+    Collector collector = Collector.Builder.build(groups, aggregators, 2);
+    collector.collect(nullName(1).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("name", "a", "value", 8)).bindingTuples());
+    collector.collect(missingName(2).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("name", "b", "value", 16)).bindingTuples());
+    collector.collect(nullName(4).bindingTuples());
+
+    List<ExprValue> results = collector.results();
+    collector.close();
+
+    assertEquals(
+        Arrays.asList(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of("name", ExprNullValue.of(), "sum", integerValue(7))),
+            tupleValue(ImmutableMap.of("name", "a", "sum", 8)),
+            tupleValue(ImmutableMap.of("name", "b", "sum", 16))),
+        results);
+  }
+
+  private static ExprValue nullName(int value) {
+    return ExprTupleValue.fromExprValueMap(
+        ImmutableMap.of("name", ExprNullValue.of(), "value", integerValue(value)));
+  }
+
+  private static ExprValue missingName(int value) {
+    return ExprTupleValue.fromExprValueMap(ImmutableMap.of("value", integerValue(value)));
+  }
+}
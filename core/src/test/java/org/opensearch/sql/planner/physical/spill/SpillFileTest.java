@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.opensearch.sql.data.model.ExprValue;
+
+class SpillFileTest {
+
+  @Test
+  public void write_and_read_back() {
+    List<ExprValue> values =
+        ImmutableList.of(
+            integerValue(1),
+            stringValue("a"),
+            tupleValue(ImmutableMap.of("name", "John", "age", 30)));
+
+    try (SpillFile file = SpillFile.write("test", values.iterator())) {
+      assertEquals(3, file.getSize());
+
+      Iterator<ExprValue> iterator = file.iterator();
+      assertEquals(values, ImmutableList.copyOf(iterator));
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+  }
+
+  @Test
+  public void close_without_read() {
+    SpillFile file = SpillFile.write("test", ImmutableList.<ExprValue>of().iterator());
+    assertEquals(0, file.getSize());
+    file.close();
+    assertThrows(IllegalStateException.class, file::iterator);
+  }
+
+  @Test
+  public void read_after_close() {
+    SpillFile file = SpillFile.write("test", ImmutableList.of(integerValue(1)).iterator());
+    Iterator<ExprValue> iterator = file.iterator();
+    file.close();
+    assertTrue(iterator.hasNext());
+    assertThrows(IllegalStateException.class, iterator::next);
+  }
+
+  @Test
+  public void fail_to_create_file() {
+    try (MockedStatic<Files> files = mockStatic(Files.class)) {
+      files
+          .when(() -> Files.createTempFile(anyString(), anyString()))
+          .thenThrow(new IOException("disk full"));
+      IllegalStateException exception =
+          assertThrows(
+              IllegalStateException.class,
+              () -> SpillFile.write("test", ImmutableList.of(integerValue(1)).iterator()));
+      assertEquals("Failed to spill intermediate result to disk", exception.getMessage());
+    }
+  }
+}
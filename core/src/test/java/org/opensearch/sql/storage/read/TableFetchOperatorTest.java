@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.storage.read;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+
+@ExtendWith(MockitoExtension.class)
+class TableFetchOperatorTest {
+
+  @Mock private PhysicalPlan child;
+
+  private TableFetchOperator tableFetch;
+
+  @BeforeEach
+  void setUp() {
+    tableFetch =
+        new TableFetchOperator(child) {
+          @Override
+          public TableFetchOperator withInput(PhysicalPlan input) {
+            return this;
+          }
+
+          @Override
+          public String explain() {
+            return "explain";
+          }
+
+          @Override
+          public boolean hasNext() {
+            return false;
+          }
+
+          @Override
+          public ExprValue next() {
+            return null;
+          }
+        };
+  }
+
+  @Test
+  void testAccept() {
+    Boolean isVisited =
+        tableFetch.accept(
+            new PhysicalPlanNodeVisitor<>() {
+              @Override
+              protected Boolean visitNode(PhysicalPlan node, Object context) {
+                return (node instanceof TableFetchOperator);
+              }
+
+              @Override
+              public Boolean visitTableFetch(TableFetchOperator node, Object context) {
+                return super.visitTableFetch(node, context);
+              }
+            },
+            null);
+
+    assertTrue(isVisited);
+  }
+
+  @Test
+  void testGetChild() {
+    assertEquals(Collections.singletonList(child), tableFetch.getChild());
+    assertEquals(child, tableFetch.getInput());
+  }
+}
@@ -150,7 +150,19 @@ public class StandaloneIT extends PPLIntegTestCase {
   private Settings defaultSettings() {
     return new Settings() {
       private final Map<Key, Integer> defaultSettings =
-          new ImmutableMap.Builder<Key, Integer>().put(Key.QUERY_SIZE_LIMIT, 200).build();
+          new ImmutableMap.Builder<Key, Integer>()
+              .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_SORT_SPILL_THRESHOLD, 0)
+              .put(Key.QUERY_AGGREGATION_SPILL_THRESHOLD, 0)
+              .put(Key.QUERY_SCAN_PREFETCH_PAGES, 0)
+              .put(Key.QUERY_SCAN_MAX_SLICES, 1)
+              .put(Key.QUERY_SCAN_POINT_IN_TIME, false)
+              .put(Key.QUERY_SCAN_DOC_VALUES, false)
+              .put(Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS, 0)
+              .put(Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS, false)
+              .put(Key.QUERY_SCAN_EXPRESSION_CODEC, false)
+              .put(Key.QUERY_AGGREGATION_PAGE_SIZE, 1000)
+              .build();
 
       @Override
       public <T> T getSettingValue(Key key) {
@@ -209,7 +221,7 @@ public class StandaloneIT extends PPLIntegTestCase {
 
     @Provides
     public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-      return new OpenSearchExecutionProtector(resourceMonitor);
+      return new OpenSearchExecutionProtector(resourceMonitor, settings);
     }
 
     @Provides
@@ -165,6 +165,16 @@ public class StandalonePaginationIT extends SQLIntegTestCase {
       private final Map<Key, Object> defaultSettings =
           new ImmutableMap.Builder<Key, Object>()
               .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_SORT_SPILL_THRESHOLD, 0)
+              .put(Key.QUERY_AGGREGATION_SPILL_THRESHOLD, 0)
+              .put(Key.QUERY_SCAN_PREFETCH_PAGES, 0)
+              .put(Key.QUERY_SCAN_MAX_SLICES, 1)
+              .put(Key.QUERY_SCAN_POINT_IN_TIME, false)
+              .put(Key.QUERY_SCAN_DOC_VALUES, false)
+              .put(Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS, 0)
+              .put(Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS, false)
+              .put(Key.QUERY_SCAN_EXPRESSION_CODEC, false)
+              .put(Key.QUERY_AGGREGATION_PAGE_SIZE, 1000)
               .put(Key.SQL_CURSOR_KEEP_ALIVE, TimeValue.timeValueMinutes(1))
               .build();
 
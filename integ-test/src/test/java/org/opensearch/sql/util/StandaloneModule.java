@@ -78,7 +78,7 @@ public class StandaloneModule extends AbstractModule {
 
   @Provides
   public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+    return new OpenSearchExecutionProtector(resourceMonitor, settings);
   }
 
   @Provides
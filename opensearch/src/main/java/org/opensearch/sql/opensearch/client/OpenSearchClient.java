@@ -7,7 +7,12 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -52,6 +57,14 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of shards
+   */
+  Map<String, Integer> getIndexNumberOfShards(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -81,6 +94,21 @@ public interface OpenSearchClient {
    */
   void cleanup(OpenSearchRequest request);
 
+  /**
+   * Create a point in time to search the given indices through.
+   *
+   * @param createPitRequest create point in time request
+   * @return point in time id
+   */
+  String createPit(CreatePitRequest createPitRequest);
+
+  /**
+   * Delete the given point in time.
+   *
+   * @param deletePitRequest delete point in time request
+   */
+  void deletePit(DeletePitRequest deletePitRequest);
+
   /**
    * Schedule a task to run.
    *
@@ -88,5 +116,21 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Run a task in background, concurrently with the calling thread.
+   *
+   * @param task task
+   */
+  void runInBackground(Runnable task);
+
+  /**
+   * Execute a plan fragment on the data nodes holding the primary shards it reads.
+   *
+   * @param fragment plan fragment
+   * @return rows returned by all the nodes out of the rows scanned up to the limit of the fragment,
+   *     or empty if the fragment can't be distributed
+   */
+  Optional<List<ExprValue>> executeFragment(PlanFragment fragment);
+
   NodeClient getNodeClient();
 }
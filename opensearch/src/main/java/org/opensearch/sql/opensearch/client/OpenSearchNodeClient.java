@@ -7,10 +7,13 @@ package org.opensearch.sql.opensearch.client;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -21,14 +24,29 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentAction;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentRequest;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentResponse;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 /** OpenSearch connection by node client. */
 public class OpenSearchNodeClient implements OpenSearchClient {
@@ -103,18 +121,29 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getIndexSettingValues(IndexSettings.MAX_RESULT_WINDOW_SETTING, indexExpression);
+  }
+
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of shards
+   */
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    return getIndexSettingValues(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING, indexExpression);
+  }
+
+  private Map<String, Integer> getIndexSettingValues(
+      Setting<Integer> setting, String... indexExpression) {
     try {
       GetSettingsResponse settingsResponse =
           client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
       ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
       for (Map.Entry<String, Settings> indexToSetting :
           settingsResponse.getIndexToSettings().entrySet()) {
-        Settings settings = indexToSetting.getValue();
-        result.put(
-            indexToSetting.getKey(),
-            settings.getAsInt(
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getKey(),
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(settings)));
+        result.put(indexToSetting.getKey(), setting.get(indexToSetting.getValue()));
       }
       return result.build();
     } catch (Exception e) {
@@ -171,12 +200,78 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         });
   }
 
+  @Override
+  public String createPit(CreatePitRequest createPitRequest) {
+    try {
+      return client.execute(CreatePitAction.INSTANCE, createPitRequest).actionGet().getId();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to create point in time for indices "
+              + Arrays.toString(createPitRequest.indices()),
+          e);
+    }
+  }
+
+  @Override
+  public void deletePit(DeletePitRequest deletePitRequest) {
+    try {
+      client.execute(DeletePitAction.INSTANCE, deletePitRequest).actionGet();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to delete point in time " + deletePitRequest.getPitIds(), e);
+    }
+  }
+
   @Override
   public void schedule(Runnable task) {
     // at that time, task already running the sql-worker ThreadPool.
     task.run();
   }
 
+  @Override
+  public void runInBackground(Runnable task) {
+    // the generic pool rather than sql-worker, which may be exhausted by the waiting callers.
+    ThreadPool threadPool = client.threadPool();
+    threadPool.generic().execute(threadPool.getThreadContext().preserveContext(task));
+  }
+
+  /**
+   * Execute the fragment on the nodes holding the primary shards of its index, each node scanning
+   * its own shards. The fragment is not distributed unless its index is a single concrete index
+   * with all its primary shards assigned.
+   */
+  @Override
+  public Optional<List<ExprValue>> executeFragment(PlanFragment fragment) {
+    String[] indexNames = fragment.getIndexName().getIndexNames();
+    if (indexNames.length != 1) {
+      return Optional.empty();
+    }
+    ClusterState state =
+        client.admin().cluster().prepareState().setLocal(true).setMetadata(false).get().getState();
+    if (!state.routingTable().hasIndex(indexNames[0])) {
+      return Optional.empty();
+    }
+    Map<String, List<Integer>> shardsByNode = new HashMap<>();
+    for (IndexShardRoutingTable shard : state.routingTable().index(indexNames[0])) {
+      ShardRouting primary = shard.primaryShard();
+      if (!primary.active()) {
+        return Optional.empty();
+      }
+      shardsByNode
+          .computeIfAbsent(primary.currentNodeId(), node -> new ArrayList<>())
+          .add(primary.id());
+    }
+    PlanFragmentResponse response =
+        client
+            .execute(PlanFragmentAction.INSTANCE, new PlanFragmentRequest(fragment, shardsByNode))
+            .actionGet();
+    if (response.hasFailures()) {
+      throw new IllegalStateException(
+          "Failed to execute plan fragment " + fragment, response.failures().get(0));
+    }
+    return Optional.of(response.getRows(fragment.getMaxResponseSize()));
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,8 @@ import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
@@ -30,6 +34,8 @@ import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -79,6 +85,15 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getIndexSettingValues("index.max_result_window", indexExpression);
+  }
+
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    return getIndexSettingValues("index.number_of_shards", indexExpression);
+  }
+
+  private Map<String, Integer> getIndexSettingValues(String setting, String... indexExpression) {
     GetSettingsRequest request =
         new GetSettingsRequest().indices(indexExpression).includeDefaults(true);
     try {
@@ -89,23 +104,23 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
       defaultSettings.forEach(
           (key, value) -> {
-            Integer maxResultWindow = value.getAsInt("index.max_result_window", null);
-            if (maxResultWindow != null) {
-              result.put(key, maxResultWindow);
+            Integer settingValue = value.getAsInt(setting, null);
+            if (settingValue != null) {
+              result.put(key, settingValue);
             }
           });
 
       settings.forEach(
           (key, value) -> {
-            Integer maxResultWindow = value.getAsInt("index.max_result_window", null);
-            if (maxResultWindow != null) {
-              result.put(key, maxResultWindow);
+            Integer settingValue = value.getAsInt(setting, null);
+            if (settingValue != null) {
+              result.put(key, settingValue);
             }
           });
 
       return result;
     } catch (IOException e) {
-      throw new IllegalStateException("Failed to get max result window for " + indexExpression, e);
+      throw new IllegalStateException("Failed to get " + setting + " for " + indexExpression, e);
     }
   }
 
@@ -187,11 +202,44 @@ public class OpenSearchRestClient implements OpenSearchClient {
         });
   }
 
+  @Override
+  public String createPit(CreatePitRequest createPitRequest) {
+    try {
+      return client.createPit(createPitRequest, RequestOptions.DEFAULT).getId();
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to create point in time for indices "
+              + Arrays.toString(createPitRequest.indices()),
+          e);
+    }
+  }
+
+  @Override
+  public void deletePit(DeletePitRequest deletePitRequest) {
+    try {
+      client.deletePit(deletePitRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to delete point in time " + deletePitRequest.getPitIds(), e);
+    }
+  }
+
   @Override
   public void schedule(Runnable task) {
     task.run();
   }
 
+  @Override
+  public void runInBackground(Runnable task) {
+    CompletableFuture.runAsync(task);
+  }
+
+  @Override
+  public Optional<List<ExprValue>> executeFragment(PlanFragment fragment) {
+    // the routing of the shards is not known through the REST client
+    return Optional.empty();
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
@@ -245,6 +245,18 @@ public class OpenSearchDataType implements ExprType, Serializable {
         : new OpenSearchDataType(this.mappingType);
   }
 
+  /**
+   * Clone the type of an object or nested field with the given properties.
+   *
+   * @param properties types of the properties by name
+   * @return A cloned object with the properties.
+   */
+  public OpenSearchDataType withProperties(Map<String, OpenSearchDataType> properties) {
+    OpenSearchDataType objectDataType = cloneEmpty();
+    objectDataType.properties = properties;
+    return objectDataType;
+  }
+
   /**
    * Flattens mapping tree into a single layer list of objects (pairs of name-types actually), which
    * don't have nested types. See {@link OpenSearchDataTypeTest#traverseAndFlatten() test} for
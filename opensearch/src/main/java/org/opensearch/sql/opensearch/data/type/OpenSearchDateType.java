@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.FormatNames;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -137,7 +138,7 @@ public class OpenSearchDateType extends OpenSearchDataType {
 
   private static final String CUSTOM_FORMAT_DATE_SYMBOLS = "FecEWwYqQgdMLDyuG";
 
-  @EqualsAndHashCode.Exclude private final List<String> formats;
+  @EqualsAndHashCode.Exclude @Getter private final List<String> formats;
 
   private OpenSearchDateType() {
     super(MappingType.Date);
@@ -22,10 +22,13 @@ import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SEC
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeUtils.UTC_ZONE_ID;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -33,16 +36,21 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.common.time.FormatNames;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -73,7 +81,7 @@ import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseP
 /** Construct ExprValue from OpenSearch response. */
 public class OpenSearchExprValueFactory {
   /** The Mapping of Field and ExprType. */
-  private final Map<String, OpenSearchDataType> typeMapping;
+  @Getter private final Map<String, OpenSearchDataType> typeMapping;
 
   /**
    * Extend existing mapping by new data without overwrite. Called from aggregation only {@see
@@ -95,6 +103,19 @@ public class OpenSearchExprValueFactory {
 
   private static final String TOP_PATH = "";
 
+  /** Mapping types whose doc values are constructed the same as their source values. */
+  private static final Set<OpenSearchDataType.MappingType> DOC_VALUE_TYPES =
+      EnumSet.of(
+          OpenSearchDataType.MappingType.Keyword,
+          OpenSearchDataType.MappingType.Byte,
+          OpenSearchDataType.MappingType.Short,
+          OpenSearchDataType.MappingType.Integer,
+          OpenSearchDataType.MappingType.Long,
+          OpenSearchDataType.MappingType.Float,
+          OpenSearchDataType.MappingType.Double,
+          OpenSearchDataType.MappingType.Boolean,
+          OpenSearchDataType.MappingType.Date);
+
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   private static final Map<ExprType, BiFunction<Content, ExprType, ExprValue>> typeActionMap =
@@ -170,6 +191,85 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct the fields of a document by streaming its JSON source, which skips parsing the whole
+   * source into a string and then a tree. Only the top level keys of the fields in the given
+   * projection are parsed, and the others are skipped token by token.
+   *
+   * @param source JSON source of the document, or null if it has none
+   * @param fields fields to construct, or all fields if empty
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return field values in the order of the source
+   */
+  public LinkedHashMap<String, ExprValue> constructSource(
+      BytesReference source, Set<String> fields, boolean supportArrays) {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    if (source == null) {
+      return result;
+    }
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException(String.format("invalid json: %s.", source.utf8ToString()));
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (fields.isEmpty() || isProjected(field, fields)) {
+          result.put(
+              field,
+              parse(
+                  new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)),
+                  field,
+                  type(field),
+                  supportArrays));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return result;
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  /**
+   * Whether a top level key of a source holds any of the fields projected. A key may contain dots
+   * itself, as {@code {"log.level": "warn"}} does, so it is either a projected field, an object
+   * holding one, or a field of a projected object.
+   */
+  private static boolean isProjected(String key, Set<String> fields) {
+    if (fields.contains(key)) {
+      return true;
+    }
+    for (String field : fields) {
+      if (isDottedPrefix(key, field) || isDottedPrefix(field, key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isDottedPrefix(String prefix, String field) {
+    return field.length() > prefix.length()
+        && field.charAt(prefix.length()) == '.'
+        && field.startsWith(prefix);
+  }
+
+  /**
+   * Whether the value of the given field can be constructed from its doc values, which are the same
+   * as its value in the source. It's true for the top level fields of keyword, numeric, boolean and
+   * date types, except for half and scaled floats which are rounded in doc values.
+   *
+   * @param field field name
+   * @return true if the field can be fetched through doc values
+   */
+  public boolean hasDocValues(String field) {
+    OpenSearchDataType type = typeMapping.get(field);
+    return !field.contains(".") && type != null && DOC_VALUE_TYPES.contains(type.getMappingType());
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type. Todo, add IP, GeoPoint support after we have function
@@ -183,6 +283,31 @@ public class OpenSearchExprValueFactory {
     return parse(new ObjectContent(value), field, type(field), supportArrays);
   }
 
+  /**
+   * Create the converter of the values of a field, which constructs the same value as {@link
+   * #construct(String, Object, boolean)} without arrays support. The type of the field and the
+   * construction of its values are resolved once, rather than for every value.
+   *
+   * @param field field name
+   * @return converter from value object to ExprValue
+   */
+  public Function<Object, ExprValue> converter(String field) {
+    Optional<ExprType> fieldType = type(field);
+    BiFunction<Content, ExprType, ExprValue> action =
+        fieldType.map(typeActionMap::get).orElse(null);
+    if (action == null) {
+      return value -> parse(new ObjectContent(value), field, fieldType, false);
+    }
+    ExprType type = fieldType.get();
+    return value -> {
+      Content content = new ObjectContent(value);
+      if (content.isNull() || content.isArray()) {
+        return parse(content, field, fieldType, false);
+      }
+      return action.apply(content, type);
+    };
+  }
+
   private ExprValue parse(
       Content content, String field, Optional<ExprType> fieldType, boolean supportArrays) {
     if (content.isNull() || !fieldType.isPresent()) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.pagination.CursorStore;
+import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreAction;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreRequest;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreResponse;
+
+/**
+ * Node-local cursor store. When {@link Settings.Key#SQL_CURSOR_STORE_ENABLED} is set, the
+ * self-contained cursor of each page is kept on the node which executed the page, for the cursor
+ * keep alive at most, and the client gets the id {@code s:<node id>:<cursor id>} to fetch the next
+ * page from any node. The ids of other nodes are resolved by the node which stored them over the
+ * {@link CursorStoreAction}. An id is kept until the request which resolved it succeeds, so that a
+ * failed request can be retried, and the scroll or point in time of a cursor which expires before
+ * is closed in background. The clients get the self-contained cursor if the store is disabled or
+ * full. The store is internal to the plugin, so it is accessed out of the security context of the
+ * user, whose permission to the id was checked when the query was sent.
+ */
+public class OpenSearchCursorStore implements CursorStore {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String CURSOR_PREFIX = "s:";
+
+  /** Largest number of cursors kept by a node. */
+  @VisibleForTesting static final int MAX_CURSORS = 10_000;
+
+  private final Settings settings;
+
+  /** Client to resolve the cursors stored on other nodes. */
+  private final NodeClient client;
+
+  /** Id of the local node, which is only known once the node has started. */
+  private final Supplier<String> nodeId;
+
+  /** Serializer to close the plan of expired cursors in the generic thread pool. */
+  private final PlanSerializer planSerializer;
+
+  /** Self-contained cursors by id, expiring with the scroll or point in time they hold. */
+  private final Cache<String, String> cursors;
+
+  /**
+   * Constructor.
+   *
+   * @param settings plugin settings
+   * @param client node client
+   * @param nodeId id of the local node
+   * @param planSerializer serializer of the cursors
+   */
+  public OpenSearchCursorStore(
+      Settings settings,
+      NodeClient client,
+      Supplier<String> nodeId,
+      PlanSerializer planSerializer) {
+    this(settings, client, nodeId, planSerializer, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  OpenSearchCursorStore(
+      Settings settings,
+      NodeClient client,
+      Supplier<String> nodeId,
+      PlanSerializer planSerializer,
+      Ticker ticker) {
+    this.settings = settings;
+    this.client = client;
+    this.nodeId = nodeId;
+    this.planSerializer = planSerializer;
+    TimeValue keepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    this.cursors =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(keepAlive.millis(), TimeUnit.MILLISECONDS)
+            .ticker(ticker)
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  @Override
+  public Cursor store(Cursor cursor) {
+    cursors.cleanUp();
+    if (cursor == Cursor.None
+        || !(Boolean) settings.getSettingValue(Settings.Key.SQL_CURSOR_STORE_ENABLED)
+        || cursors.size() >= MAX_CURSORS) {
+      return cursor;
+    }
+    String id = CURSOR_PREFIX + nodeId.get() + ":" + UUIDs.randomBase64UUID();
+    cursors.put(id, cursor.toString());
+    return new Cursor(id);
+  }
+
+  @Override
+  public String resolve(String cursor) {
+    if (!cursor.startsWith(CURSOR_PREFIX)) {
+      return cursor;
+    }
+    String owner = ownerOf(cursor);
+    Optional<String> stored;
+    if (owner.equals(nodeId.get())) {
+      stored = getLocal(cursor);
+    } else if (owner.isEmpty()) {
+      stored = Optional.empty();
+    } else {
+      stored = getRemote(owner, cursor);
+    }
+    return stored.orElseThrow(
+        () -> new UnsupportedOperationException("Cursor has expired or was already fetched"));
+  }
+
+  @Override
+  public void release(String cursor) {
+    if (!cursor.startsWith(CURSOR_PREFIX)) {
+      return;
+    }
+    String owner = ownerOf(cursor);
+    if (owner.equals(nodeId.get())) {
+      releaseLocal(cursor);
+      return;
+    }
+    if (owner.isEmpty()) {
+      return;
+    }
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      client.execute(
+          CursorStoreAction.INSTANCE,
+          new CursorStoreRequest(owner, cursor, true),
+          ActionListener.wrap(
+              response -> {
+                if (response.hasFailures()) {
+                  LOG.warn("Failed to release cursor " + cursor, response.failures().get(0));
+                }
+              },
+              e -> LOG.warn("Failed to release cursor " + cursor, e)));
+    }
+  }
+
+  /** Get a cursor stored on this node, which is kept until it is released. */
+  public Optional<String> getLocal(String cursor) {
+    return Optional.ofNullable(cursors.getIfPresent(cursor));
+  }
+
+  /** Drop a cursor stored on this node without closing its plan, which is still in use. */
+  public void releaseLocal(String cursor) {
+    cursors.invalidate(cursor);
+  }
+
+  private Optional<String> getRemote(String owner, String cursor) {
+    CursorStoreResponse response;
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      response =
+          client
+              .execute(CursorStoreAction.INSTANCE, new CursorStoreRequest(owner, cursor, false))
+              .actionGet();
+    }
+    if (response.hasFailures()) {
+      throw new IllegalStateException(
+          String.format("Failed to fetch cursor from node [%s]", owner),
+          response.failures().get(0));
+    }
+    if (response.getNodes().isEmpty()) {
+      throw new UnsupportedOperationException(
+          String.format("Cursor is stored on node [%s], which has left the cluster", owner));
+    }
+    return Optional.ofNullable(response.getNodes().get(0).getCursor());
+  }
+
+  /** Id of the node which stored a cursor, which is empty if the cursor is malformed. */
+  private static String ownerOf(String cursor) {
+    int separator = cursor.indexOf(':', CURSOR_PREFIX.length());
+    return separator < 0 ? "" : cursor.substring(CURSOR_PREFIX.length(), separator);
+  }
+
+  private void onRemoval(RemovalNotification<String, String> notification) {
+    if (notification.getCause() != RemovalCause.EXPIRED) {
+      return;
+    }
+    // closing the scroll or point in time is a remote call, kept out of the query which expired it
+    client
+        .threadPool()
+        .generic()
+        .execute(() -> close(notification.getKey(), notification.getValue()));
+  }
+
+  private void close(String id, String cursor) {
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      planSerializer.convertToPlan(cursor).close();
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to close expired cursor " + id, e);
+    }
+  }
+}
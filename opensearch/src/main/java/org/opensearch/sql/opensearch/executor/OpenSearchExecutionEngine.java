@@ -14,6 +14,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
@@ -28,6 +29,14 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
 
   private final ExecutionProtector executionProtector;
   private final PlanSerializer planSerializer;
+  private final CursorStore cursorStore;
+
+  public OpenSearchExecutionEngine(
+      OpenSearchClient client,
+      ExecutionProtector executionProtector,
+      PlanSerializer planSerializer) {
+    this(client, executionProtector, planSerializer, CursorStore.NONE);
+  }
 
   @Override
   public void execute(PhysicalPlan physicalPlan, ResponseListener<QueryResponse> listener) {
@@ -54,7 +63,9 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
 
             QueryResponse response =
                 new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
+                    physicalPlan.schema(),
+                    result,
+                    cursorStore.store(planSerializer.convertToCursor(plan)));
             listener.onResponse(response);
           } catch (Exception e) {
             listener.onFailure(e);
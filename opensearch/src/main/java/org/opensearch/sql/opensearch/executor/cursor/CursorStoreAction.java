@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.sql.opensearch.executor.OpenSearchCursorStore;
+
+/** Action reading or releasing a cursor kept by the {@link OpenSearchCursorStore} of a node. */
+public class CursorStoreAction extends ActionType<CursorStoreResponse> {
+  // Internal Action which is not used for public facing RestAPIs.
+  public static final String NAME = "cluster:admin/opensearch/sql/cursor";
+  public static final CursorStoreAction INSTANCE = new CursorStoreAction();
+
+  private CursorStoreAction() {
+    super(NAME, CursorStoreResponse::new);
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Request of the node which stored the cursor. */
+@Getter
+public class CursorStoreNodeRequest extends BaseNodeRequest {
+
+  private final CursorStoreRequest request;
+
+  public CursorStoreNodeRequest(CursorStoreRequest request) {
+    this.request = request;
+  }
+
+  /** Read a request written by {@link #writeTo}. */
+  public CursorStoreNodeRequest(StreamInput in) throws IOException {
+    super(in);
+    request = new CursorStoreRequest(in);
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    request.writeTo(out);
+  }
+}
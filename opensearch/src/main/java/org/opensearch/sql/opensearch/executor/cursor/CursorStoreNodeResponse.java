@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Cursor stored on a node, which is null if it has expired or was released. */
+@Getter
+public class CursorStoreNodeResponse extends BaseNodeResponse {
+
+  private final String cursor;
+
+  public CursorStoreNodeResponse(DiscoveryNode node, String cursor) {
+    super(node);
+    this.cursor = cursor;
+  }
+
+  /** Read a response written by {@link #writeTo}. */
+  public CursorStoreNodeResponse(StreamInput in) throws IOException {
+    super(in);
+    cursor = in.readOptionalString();
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    out.writeOptionalString(cursor);
+  }
+}
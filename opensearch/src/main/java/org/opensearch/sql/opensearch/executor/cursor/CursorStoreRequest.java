@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Request to the node which stored a cursor to read or release it. */
+@Getter
+public class CursorStoreRequest extends BaseNodesRequest<CursorStoreRequest> {
+
+  /** Id of the cursor. */
+  private final String cursorId;
+
+  /** Whether the cursor is released rather than read. */
+  private final boolean release;
+
+  /** Constructor of CursorStoreRequest sent to the node which stored the cursor. */
+  public CursorStoreRequest(String nodeId, String cursorId, boolean release) {
+    super(nodeId);
+    this.cursorId = cursorId;
+    this.release = release;
+  }
+
+  /** Read a request written by {@link #writeTo}. */
+  public CursorStoreRequest(StreamInput in) throws IOException {
+    super(in);
+    cursorId = in.readString();
+    release = in.readBoolean();
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    out.writeString(cursorId);
+    out.writeBoolean(release);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Cursor returned by the node which stored it, if that node is still in the cluster. */
+public class CursorStoreResponse extends BaseNodesResponse<CursorStoreNodeResponse> {
+
+  public CursorStoreResponse(
+      ClusterName clusterName,
+      List<CursorStoreNodeResponse> nodes,
+      List<FailedNodeException> failures) {
+    super(clusterName, nodes, failures);
+  }
+
+  public CursorStoreResponse(StreamInput in) throws IOException {
+    super(in);
+  }
+
+  @Override
+  protected List<CursorStoreNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+    return in.readList(CursorStoreNodeResponse::new);
+  }
+
+  @Override
+  protected void writeNodesTo(StreamOutput out, List<CursorStoreNodeResponse> nodes)
+      throws IOException {
+    out.writeList(nodes);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sql.opensearch.executor.OpenSearchCursorStore;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Read or release a cursor in the {@link OpenSearchCursorStore} of the node which stored it, for
+ * the fetch and close requests of the cursor received by other nodes.
+ */
+public class TransportCursorStoreAction
+    extends TransportNodesAction<
+        CursorStoreRequest, CursorStoreResponse, CursorStoreNodeRequest, CursorStoreNodeResponse> {
+
+  private final OpenSearchCursorStore cursorStore;
+
+  /** Constructor of TransportCursorStoreAction. */
+  @Inject
+  public TransportCursorStoreAction(
+      ThreadPool threadPool,
+      ClusterService clusterService,
+      TransportService transportService,
+      ActionFilters actionFilters,
+      OpenSearchCursorStore cursorStore) {
+    // the generic pool, as releasing a cursor may close the plans of the expired ones
+    super(
+        CursorStoreAction.NAME,
+        threadPool,
+        clusterService,
+        transportService,
+        actionFilters,
+        CursorStoreRequest::new,
+        CursorStoreNodeRequest::new,
+        ThreadPool.Names.GENERIC,
+        CursorStoreNodeResponse.class);
+    this.cursorStore = cursorStore;
+  }
+
+  @Override
+  protected CursorStoreResponse newResponse(
+      CursorStoreRequest request,
+      List<CursorStoreNodeResponse> responses,
+      List<FailedNodeException> failures) {
+    return new CursorStoreResponse(clusterService.getClusterName(), responses, failures);
+  }
+
+  @Override
+  protected CursorStoreNodeRequest newNodeRequest(CursorStoreRequest request) {
+    return new CursorStoreNodeRequest(request);
+  }
+
+  @Override
+  protected CursorStoreNodeResponse newNodeResponse(StreamInput in) throws IOException {
+    return new CursorStoreNodeResponse(in);
+  }
+
+  @Override
+  protected CursorStoreNodeResponse nodeOperation(CursorStoreNodeRequest nodeRequest) {
+    CursorStoreRequest request = nodeRequest.getRequest();
+    String cursor = null;
+    if (request.isRelease()) {
+      cursorStore.releaseLocal(request.getCursorId());
+    } else {
+      cursor = cursorStore.getLocal(request.getCursorId()).orElse(null);
+    }
+    return new CursorStoreNodeResponse(clusterService.localNode(), cursor);
+  }
+}
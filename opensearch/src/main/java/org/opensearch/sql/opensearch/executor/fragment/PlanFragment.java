@@ -0,0 +1,293 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest.IndexName;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionCodec;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+/**
+ * Part of a physical plan shipped to the data nodes, to be executed next to the shards it reads.
+ * The fragment is the scan of an index followed by row-wise steps, such as filters and evaluations,
+ * so the coordinator concatenates the rows returned by each node, out of the rows scanned up to the
+ * limit of the fragment by all of them together.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class PlanFragment implements Writeable {
+
+  private static final byte FILTER = 0;
+  private static final byte EVAL = 1;
+
+  /** {@link IndexName}. */
+  private final IndexName indexName;
+
+  /** Scroll context keep alive. */
+  private final TimeValue scrollTimeout;
+
+  /** Search source of the scan, with the operations pushed down. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /** Fields requested from the documents. */
+  private final List<String> includes;
+
+  /** Largest number of rows scanned by each node and by all the nodes together. */
+  private final int maxResponseSize;
+
+  /** Types of the fields of the index, so that the nodes don't read the mapping again. */
+  @ToString.Exclude private final Map<String, OpenSearchDataType> fieldTypes;
+
+  /** Steps applied to the rows of the scan, in order. */
+  private final List<Step> steps;
+
+  /** Create a fragment of the scan of the given request, without any step on top. */
+  public PlanFragment(OpenSearchScrollRequest request, int maxResponseSize) {
+    this(
+        request.getIndexName(),
+        request.getScrollTimeout(),
+        request.getInitialSearchRequest().source(),
+        request.getIncludes(),
+        maxResponseSize,
+        new HashMap<>(request.getExprValueFactory().getTypeMapping()),
+        List.of());
+  }
+
+  private PlanFragment(
+      IndexName indexName,
+      TimeValue scrollTimeout,
+      SearchSourceBuilder sourceBuilder,
+      List<String> includes,
+      int maxResponseSize,
+      Map<String, OpenSearchDataType> fieldTypes,
+      List<Step> steps) {
+    this.indexName = indexName;
+    this.scrollTimeout = scrollTimeout;
+    this.sourceBuilder = sourceBuilder;
+    this.includes = includes;
+    this.maxResponseSize = maxResponseSize;
+    this.fieldTypes = fieldTypes;
+    this.steps = steps;
+  }
+
+  /**
+   * Add a step on top of the fragment.
+   *
+   * @param step row-wise step
+   * @return fragment with the step applied last
+   */
+  public PlanFragment then(Step step) {
+    List<Step> newSteps = new ArrayList<>(steps);
+    newSteps.add(step);
+    return new PlanFragment(
+        indexName, scrollTimeout, sourceBuilder, includes, maxResponseSize, fieldTypes, newSteps);
+  }
+
+  /**
+   * Build the physical plan of the fragment.
+   *
+   * @param client client of the node executing the plan
+   * @param preference search preference, such as the shards of the node, or null for all of them
+   * @return physical plan
+   */
+  public PhysicalPlan toPlan(OpenSearchClient client, String preference) {
+    return applySteps(toScan(client, preference));
+  }
+
+  /**
+   * Build the scan of the fragment, without the steps.
+   *
+   * @param client client of the node executing the plan
+   * @param preference search preference, such as the shards of the node, or null for all of them
+   * @return index scan
+   */
+  public OpenSearchIndexScan toScan(OpenSearchClient client, String preference) {
+    OpenSearchScrollRequest request =
+        new OpenSearchScrollRequest(
+            indexName,
+            scrollTimeout,
+            sourceBuilder,
+            new OpenSearchExprValueFactory(fieldTypes),
+            includes);
+    request.getInitialSearchRequest().preference(preference);
+    return new OpenSearchIndexScan(client, maxResponseSize, request);
+  }
+
+  /**
+   * Apply the steps of the fragment to the scan, in order.
+   *
+   * @param scan plan of the scan
+   * @return physical plan
+   */
+  public PhysicalPlan applySteps(PhysicalPlan scan) {
+    PhysicalPlan plan = scan;
+    for (Step step : steps) {
+      plan = step.apply(plan);
+    }
+    return plan;
+  }
+
+  /**
+   * Whether the fragment can be shipped to the data nodes, that is its field types and steps can be
+   * encoded.
+   *
+   * @return true if {@link #writeTo} succeeds
+   */
+  public boolean isEncodable() {
+    try (BytesStreamOutput out = new BytesStreamOutput()) {
+      writeTo(out);
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /** Read a fragment written by {@link #writeTo}. */
+  public PlanFragment(StreamInput in) throws IOException {
+    indexName = new IndexName(in);
+    scrollTimeout = in.readTimeValue();
+    sourceBuilder = new SearchSourceBuilder(in);
+    includes = in.readStringList();
+    maxResponseSize = in.readVInt();
+    // expressions are not Writeable, so they are encoded as the scripts pushed down are
+    fieldTypes = ExpressionCodec.decodeTypes(in.readByteArray());
+    int size = in.readVInt();
+    List<Step> readSteps = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      readSteps.add(readStep(in));
+    }
+    steps = readSteps;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    indexName.writeTo(out);
+    out.writeTimeValue(scrollTimeout);
+    sourceBuilder.writeTo(out);
+    out.writeStringCollection(includes);
+    out.writeVInt(maxResponseSize);
+    out.writeByteArray(
+        ExpressionCodec.encodeTypes(fieldTypes)
+            .orElseThrow(() -> new IOException("Failed to encode field types of " + indexName)));
+    out.writeVInt(steps.size());
+    for (Step step : steps) {
+      writeStep(out, step);
+    }
+  }
+
+  private static void writeStep(StreamOutput out, Step step) throws IOException {
+    if (step instanceof Filter) {
+      out.writeByte(FILTER);
+      writeExpression(out, ((Filter) step).getCondition());
+    } else if (step instanceof Eval) {
+      out.writeByte(EVAL);
+      List<Pair<ReferenceExpression, Expression>> expressions = ((Eval) step).getExpressions();
+      out.writeVInt(expressions.size());
+      for (Pair<ReferenceExpression, Expression> expression : expressions) {
+        writeExpression(out, expression.getKey());
+        writeExpression(out, expression.getValue());
+      }
+    } else {
+      throw new IOException("Failed to encode step " + step);
+    }
+  }
+
+  private static void writeExpression(StreamOutput out, Expression expression)
+      throws IOException {
+    out.writeByteArray(
+        ExpressionCodec.encode(expression)
+            .orElseThrow(() -> new IOException("Failed to encode expression " + expression)));
+  }
+
+  private static Step readStep(StreamInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case FILTER:
+        return new Filter(ExpressionCodec.decode(in.readByteArray()));
+      case EVAL:
+        {
+          int size = in.readVInt();
+          List<Pair<ReferenceExpression, Expression>> expressions = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            Expression field = ExpressionCodec.decode(in.readByteArray());
+            if (!(field instanceof ReferenceExpression)) {
+              throw new IOException("Unexpected evaluated field " + field);
+            }
+            expressions.add(
+                Pair.of((ReferenceExpression) field, ExpressionCodec.decode(in.readByteArray())));
+          }
+          return new Eval(expressions);
+        }
+      default:
+        throw new IOException("Unknown step tag " + tag);
+    }
+  }
+
+  /** Row-wise operator applied to the rows of the fragment. */
+  public interface Step {
+
+    /**
+     * Apply the step to the input.
+     *
+     * @param input input plan
+     * @return plan of the step
+     */
+    PhysicalPlan apply(PhysicalPlan input);
+  }
+
+  /** Step keeping the rows matching a condition, as {@link FilterOperator} does. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  @RequiredArgsConstructor
+  public static class Filter implements Step {
+    private final Expression condition;
+
+    @Override
+    public PhysicalPlan apply(PhysicalPlan input) {
+      return new FilterOperator(input, condition);
+    }
+  }
+
+  /** Step evaluating expressions into new fields, as {@link EvalOperator} does. */
+  @Getter
+  @EqualsAndHashCode
+  @ToString
+  @RequiredArgsConstructor
+  public static class Eval implements Step {
+    private final List<Pair<ReferenceExpression, Expression>> expressions;
+
+    @Override
+    public PhysicalPlan apply(PhysicalPlan input) {
+      return new EvalOperator(input, expressions);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import org.opensearch.action.ActionType;
+
+/** Action executing a {@link PlanFragment} on the nodes holding the shards it reads. */
+public class PlanFragmentAction extends ActionType<PlanFragmentResponse> {
+  // Internal Action which is not used for public facing RestAPIs.
+  public static final String NAME = "cluster:admin/opensearch/sql/fragment";
+  public static final PlanFragmentAction INSTANCE = new PlanFragmentAction();
+
+  private PlanFragmentAction() {
+    super(NAME, PlanFragmentResponse::new);
+  }
+}
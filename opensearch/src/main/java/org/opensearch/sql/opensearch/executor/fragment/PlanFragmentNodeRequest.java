@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Request of a single node, which finds its own shards in the request of all the nodes. */
+@Getter
+public class PlanFragmentNodeRequest extends BaseNodeRequest {
+
+  private final PlanFragmentRequest request;
+
+  public PlanFragmentNodeRequest(PlanFragmentRequest request) {
+    this.request = request;
+  }
+
+  /** Read a request written by {@link #writeTo}. */
+  public PlanFragmentNodeRequest(StreamInput in) throws IOException {
+    super(in);
+    request = new PlanFragmentRequest(in);
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    request.writeTo(out);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/** Rows returned by the fragment executed on a node. */
+@Getter
+public class PlanFragmentNodeResponse extends BaseNodeResponse {
+
+  private final List<ExprValue> rows;
+
+  /** Position in the scan of the node of the document each row comes from, in increasing order. */
+  private final List<Integer> scanOrdinals;
+
+  /** Number of rows scanned by the node. */
+  private final int scanned;
+
+  /** Constructor of PlanFragmentNodeResponse. */
+  public PlanFragmentNodeResponse(
+      DiscoveryNode node, List<ExprValue> rows, List<Integer> scanOrdinals, int scanned) {
+    super(node);
+    this.rows = rows;
+    this.scanOrdinals = scanOrdinals;
+    this.scanned = scanned;
+  }
+
+  /** Read a response written by {@link #writeTo}. */
+  public PlanFragmentNodeResponse(StreamInput in) throws IOException {
+    super(in);
+    int size = in.readVInt();
+    DataInputStream input = new DataInputStream(in);
+    rows = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      rows.add(ExprValueCodec.read(input));
+    }
+    scanOrdinals = in.readList(StreamInput::readVInt);
+    scanned = in.readVInt();
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    out.writeVInt(rows.size());
+    DataOutputStream output = new DataOutputStream(out);
+    for (ExprValue row : rows) {
+      ExprValueCodec.write(output, row);
+    }
+    output.flush();
+    out.writeCollection(scanOrdinals, StreamOutput::writeVInt);
+    out.writeVInt(scanned);
+  }
+}
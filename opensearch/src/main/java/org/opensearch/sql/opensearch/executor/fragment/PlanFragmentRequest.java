@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/** Request to execute a {@link PlanFragment} on each node over the primary shards it holds. */
+@Getter
+public class PlanFragmentRequest extends BaseNodesRequest<PlanFragmentRequest> {
+
+  private final PlanFragment fragment;
+
+  /** Ids of the shards each node scans, by node id. */
+  private final Map<String, List<Integer>> shardsByNode;
+
+  /** Constructor of PlanFragmentRequest sent to the nodes of the given shards. */
+  public PlanFragmentRequest(PlanFragment fragment, Map<String, List<Integer>> shardsByNode) {
+    super(shardsByNode.keySet().toArray(new String[0]));
+    this.fragment = fragment;
+    this.shardsByNode = shardsByNode;
+  }
+
+  /** Read a request written by {@link #writeTo}. */
+  public PlanFragmentRequest(StreamInput in) throws IOException {
+    super(in);
+    fragment = new PlanFragment(in);
+    shardsByNode =
+        in.readMap(StreamInput::readString, input -> input.readList(StreamInput::readVInt));
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    super.writeTo(out);
+    fragment.writeTo(out);
+    out.writeMap(
+        shardsByNode,
+        StreamOutput::writeString,
+        (output, shards) -> output.writeCollection(shards, StreamOutput::writeVInt));
+  }
+}
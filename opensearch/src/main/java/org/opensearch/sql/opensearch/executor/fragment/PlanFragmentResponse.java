@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.sql.data.model.ExprValue;
+
+/** Rows returned by the fragment executed on each node. */
+public class PlanFragmentResponse extends BaseNodesResponse<PlanFragmentNodeResponse> {
+
+  public PlanFragmentResponse(
+      ClusterName clusterName,
+      List<PlanFragmentNodeResponse> nodes,
+      List<FailedNodeException> failures) {
+    super(clusterName, nodes, failures);
+  }
+
+  public PlanFragmentResponse(StreamInput in) throws IOException {
+    super(in);
+  }
+
+  /**
+   * Rows of all the nodes out of the rows scanned up to the given number by all of them together,
+   * as the scan of a single node would return. Each node scans up to the number on its own, so the
+   * rows it scanned beyond the rows of the nodes before it are dropped.
+   *
+   * @param maxResponseSize largest number of rows scanned
+   * @return rows in the order of the nodes
+   */
+  public List<ExprValue> getRows(int maxResponseSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    int remaining = maxResponseSize;
+    for (PlanFragmentNodeResponse node : getNodes()) {
+      List<Integer> scanOrdinals = node.getScanOrdinals();
+      for (int i = 0; i < scanOrdinals.size() && scanOrdinals.get(i) < remaining; i++) {
+        rows.add(node.getRows().get(i));
+      }
+      remaining -= Math.min(node.getScanned(), remaining);
+    }
+    return rows;
+  }
+
+  @Override
+  protected List<PlanFragmentNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+    return in.readList(PlanFragmentNodeResponse::new);
+  }
+
+  @Override
+  protected void writeNodesTo(StreamOutput out, List<PlanFragmentNodeResponse> nodes)
+      throws IOException {
+    out.writeList(nodes);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Scan executing a {@link PlanFragment} on the data nodes holding the shards of the index, and
+ * returning the rows of all of them. The fragment is executed locally instead if it can't be
+ * distributed, for example if the index is an alias or one of its primary shards is unassigned.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@ToString(onlyExplicitlyIncluded = true)
+public class PlanFragmentScan extends TableScanOperator {
+
+  private final OpenSearchClient client;
+
+  @Getter @EqualsAndHashCode.Include @ToString.Include private final PlanFragment fragment;
+
+  /** Plan of the fragment executed locally, or null if executed by the data nodes. */
+  private PhysicalPlan localPlan;
+
+  private Iterator<ExprValue> iterator;
+
+  public PlanFragmentScan(OpenSearchClient client, PlanFragment fragment) {
+    this.client = client;
+    this.fragment = fragment;
+  }
+
+  /**
+   * Create a scan of the fragment with a step added on top.
+   *
+   * @param step row-wise step
+   * @return new scan
+   */
+  public PlanFragmentScan then(PlanFragment.Step step) {
+    return new PlanFragmentScan(client, fragment.then(step));
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    Optional<List<ExprValue>> rows = client.executeFragment(fragment);
+    if (rows.isPresent()) {
+      iterator = rows.get().iterator();
+    } else {
+      localPlan = fragment.toPlan(client, null);
+      localPlan.open();
+      iterator = localPlan;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    // the rows are out of up to the limit of rows scanned, as capped by the scan of the fragment
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (localPlan != null) {
+      localPlan.close();
+    }
+  }
+
+  @Override
+  public String explain() {
+    return fragment.toString();
+  }
+}
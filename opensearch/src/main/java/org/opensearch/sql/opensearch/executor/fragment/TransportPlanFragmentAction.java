@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
+import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
+import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Execute a {@link PlanFragment} on each node of the request over the primary shards it holds, and
+ * gather the rows of all the nodes. The plan of each node is protected by the resource monitor as
+ * the plans of the coordinator are, and returns the rows out of up to the limit of rows scanned.
+ */
+public class TransportPlanFragmentAction
+    extends TransportNodesAction<
+        PlanFragmentRequest,
+        PlanFragmentResponse,
+        PlanFragmentNodeRequest,
+        PlanFragmentNodeResponse> {
+
+  private final OpenSearchClient client;
+
+  private final ExecutionProtector protector;
+
+  /** Constructor of TransportPlanFragmentAction. */
+  @Inject
+  public TransportPlanFragmentAction(
+      ThreadPool threadPool,
+      ClusterService clusterService,
+      TransportService transportService,
+      ActionFilters actionFilters,
+      NodeClient client) {
+    this(
+        threadPool,
+        clusterService,
+        transportService,
+        actionFilters,
+        client,
+        createProtector(clusterService));
+  }
+
+  TransportPlanFragmentAction(
+      ThreadPool threadPool,
+      ClusterService clusterService,
+      TransportService transportService,
+      ActionFilters actionFilters,
+      NodeClient client,
+      ExecutionProtector protector) {
+    // the generic pool rather than sql-worker, which may be exhausted by the waiting coordinators
+    super(
+        PlanFragmentAction.NAME,
+        threadPool,
+        clusterService,
+        transportService,
+        actionFilters,
+        PlanFragmentRequest::new,
+        PlanFragmentNodeRequest::new,
+        ThreadPool.Names.GENERIC,
+        PlanFragmentNodeResponse.class);
+    this.client = new OpenSearchNodeClient(client);
+    this.protector = protector;
+  }
+
+  private static ExecutionProtector createProtector(ClusterService clusterService) {
+    OpenSearchSettings settings = new OpenSearchSettings(clusterService.getClusterSettings());
+    return new OpenSearchExecutionProtector(
+        new OpenSearchResourceMonitor(settings, new OpenSearchMemoryHealthy()), settings);
+  }
+
+  @Override
+  protected PlanFragmentResponse newResponse(
+      PlanFragmentRequest request,
+      List<PlanFragmentNodeResponse> responses,
+      List<FailedNodeException> failures) {
+    return new PlanFragmentResponse(clusterService.getClusterName(), responses, failures);
+  }
+
+  @Override
+  protected PlanFragmentNodeRequest newNodeRequest(PlanFragmentRequest request) {
+    return new PlanFragmentNodeRequest(request);
+  }
+
+  @Override
+  protected PlanFragmentNodeResponse newNodeResponse(StreamInput in) throws IOException {
+    return new PlanFragmentNodeResponse(in);
+  }
+
+  @Override
+  protected PlanFragmentNodeResponse nodeOperation(PlanFragmentNodeRequest nodeRequest) {
+    PlanFragmentRequest request = nodeRequest.getRequest();
+    DiscoveryNode node = clusterService.localNode();
+    // the local copies of the shards, which are the primaries unless relocated since
+    String preference =
+        request.getShardsByNode().get(node.getId()).stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(",", "_shards:", "|_local"));
+    OpenSearchIndexScan scan = request.getFragment().toScan(client, preference);
+    PhysicalPlan plan = protector.protect(request.getFragment().applySteps(scan));
+    // at most the limit of rows, since the scan stops there
+    List<ExprValue> rows = new ArrayList<>();
+    List<Integer> scanOrdinals = new ArrayList<>();
+    plan.open();
+    try {
+      while (plan.hasNext()) {
+        rows.add(plan.next());
+        scanOrdinals.add(scan.getQueryCount() - 1);
+      }
+    } finally {
+      plan.close();
+    }
+    return new PlanFragmentNodeResponse(node, rows, scanOrdinals, scan.getQueryCount());
+  }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -23,9 +24,12 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.StreamingAggregationOperator;
+import org.opensearch.sql.planner.physical.TopKOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchOperator;
 
 /** OpenSearch Execution Protector. */
 @RequiredArgsConstructor
@@ -34,6 +38,9 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /** Settings which bound the memory used by blocking operators. */
+  private final Settings settings;
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
@@ -52,9 +59,20 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
   }
 
+  /** Bound the in-memory groups by {@link Settings.Key#QUERY_AGGREGATION_SPILL_THRESHOLD}. */
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
+    int spillThreshold = settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_SPILL_THRESHOLD);
     return new AggregationOperator(
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        spillThreshold);
+  }
+
+  @Override
+  public PhysicalPlan visitStreamingAggregation(StreamingAggregationOperator node, Object context) {
+    return new StreamingAggregationOperator(
         visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
   }
 
@@ -79,6 +97,11 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return doProtect(node);
   }
 
+  @Override
+  public PhysicalPlan visitTableFetch(TableFetchOperator node, Object context) {
+    return node.withInput(visitInput(node.getInput(), context));
+  }
+
   @Override
   public PhysicalPlan visitProject(ProjectOperator node, Object context) {
     return new ProjectOperator(
@@ -124,10 +147,15 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getWindowDefinition());
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /**
+   * Decorate with {@link ResourceMonitorPlan} and bound the in-memory rows by {@link
+   * Settings.Key#QUERY_SORT_SPILL_THRESHOLD}.
+   */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    int spillThreshold = settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD);
+    return doProtect(
+        new SortOperator(visitInput(node.getInput(), context), node.getSortList(), spillThreshold));
   }
 
   /**
@@ -144,6 +172,16 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         visitInput(node.getInput(), context), node.getLimit(), node.getOffset());
   }
 
+  @Override
+  public PhysicalPlan visitTopK(TopKOperator node, Object context) {
+    return doProtect(
+        new TopKOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            node.getLimit(),
+            node.getOffset()));
+  }
+
   @Override
   public PhysicalPlan visitMLCommons(PhysicalPlan node, Object context) {
     MLCommonsOperator mlCommonsOperator = (MLCommonsOperator) node;
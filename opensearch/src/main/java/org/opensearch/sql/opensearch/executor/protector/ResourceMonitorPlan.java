@@ -12,6 +12,7 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.opensearch.sql.data.batch.RowBatch;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -73,6 +74,14 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
@@ -0,0 +1,261 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Node-level cache of the parsed mappings and settings of the queried indices, read from the local
+ * cluster state as the local mapping and settings requests of the node client are. The mapping of a
+ * concrete index is parsed once per version of its mapping and settings. The merged mapping of an
+ * index pattern is kept until the cluster metadata changes, and is then merged again from the
+ * cached mappings of its indices, so that only new or changed indices are parsed. Registered as a
+ * cluster state listener, the cache drops the mappings of deleted and changed indices.
+ *
+ * <p>The cluster state is read as is, without the authorization and filtering the security plugin
+ * applies to the mapping and settings requests, so the cache is never used on a node running the
+ * security plugin, whatever the value of {@code plugins.query.mapping_cache.enabled}.
+ */
+public class IndexMappingCache implements ClusterStateListener {
+
+  /** Largest number of index patterns kept. */
+  @VisibleForTesting static final int MAX_PATTERNS = 1_000;
+
+  private final Supplier<ClusterState> clusterState;
+
+  private final IndexNameExpressionResolver resolver;
+
+  /** Whether the security plugin is enabled on this node, in which case nothing is cached. */
+  private final boolean securityEnabled;
+
+  /** Mappings by concrete index name. */
+  private final Map<String, IndexEntry> indices = new ConcurrentHashMap<>();
+
+  /** Merged mappings by index pattern. */
+  private final Cache<String, Mapping> patterns =
+      CacheBuilder.newBuilder().maximumSize(MAX_PATTERNS).build();
+
+  /**
+   * Constructor.
+   *
+   * @param clusterState supplier of the local cluster state
+   * @param resolver resolver of index patterns to concrete indices
+   * @param nodeSettings settings of the local node
+   */
+  public IndexMappingCache(
+      Supplier<ClusterState> clusterState,
+      IndexNameExpressionResolver resolver,
+      Settings nodeSettings) {
+    this.clusterState = clusterState;
+    this.resolver = resolver;
+    this.securityEnabled = isSecurityEnabled(nodeSettings);
+  }
+
+  /**
+   * Get the merged mapping of the indices of a table.
+   *
+   * @param indexName index names or patterns of the table
+   * @return merged mapping, or empty if the names don't resolve to any local index or the security
+   *     plugin is enabled
+   */
+  public Optional<Mapping> get(OpenSearchRequest.IndexName indexName) {
+    if (securityEnabled) {
+      return Optional.empty();
+    }
+    String[] names = indexName.getIndexNames();
+    // Indices of remote clusters aren't in the local cluster state
+    if (Arrays.stream(names).anyMatch(name -> name.contains(":"))) {
+      return Optional.empty();
+    }
+    ClusterState state = clusterState.get();
+    Metadata metadata = state.metadata();
+    String pattern = indexName.toString();
+    Mapping cached = patterns.getIfPresent(pattern);
+    if (cached != null && cached.metadataVersion == metadata.version()) {
+      return Optional.of(cached);
+    }
+
+    String[] concreteIndices =
+        resolver.concreteIndexNames(state, IndicesOptions.strictExpandOpen(), true, names);
+    if (concreteIndices.length == 0) {
+      return Optional.empty();
+    }
+    List<IndexEntry> entries = new ArrayList<>(concreteIndices.length);
+    for (String index : concreteIndices) {
+      IndexMetadata indexMetadata = metadata.index(index);
+      IndexEntry entry = indices.get(index);
+      if (entry == null || !entry.isCurrent(indexMetadata)) {
+        entry = new IndexEntry(indexMetadata);
+        indices.put(index, entry);
+      }
+      entries.add(entry);
+    }
+    Mapping mapping =
+        cached != null && cached.entries.equals(entries)
+            ? new Mapping(metadata.version(), cached)
+            : new Mapping(metadata.version(), entries);
+    patterns.put(pattern, mapping);
+    return Optional.of(mapping);
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (event.metadataChanged()) {
+      Metadata metadata = event.state().metadata();
+      indices
+          .entrySet()
+          .removeIf(entry -> !entry.getValue().isCurrent(metadata.index(entry.getKey())));
+    }
+  }
+
+  /**
+   * Whether the security plugin is installed and enabled. A node refuses to start with settings no
+   * plugin registers, so the security settings can only be present if the plugin is installed.
+   */
+  @VisibleForTesting
+  static boolean isSecurityEnabled(Settings nodeSettings) {
+    boolean installed =
+        nodeSettings.keySet().stream()
+            .anyMatch(
+                key ->
+                    key.startsWith("plugins.security.")
+                        || key.startsWith("opendistro_security."));
+    return installed
+        && !nodeSettings.getAsBoolean(
+            "plugins.security.disabled",
+            nodeSettings.getAsBoolean("opendistro_security.disabled", false));
+  }
+
+  /** Merged mapping and settings of the concrete indices an index pattern resolved to. */
+  public static class Mapping {
+
+    /** Version of the cluster metadata the pattern was resolved with. */
+    private final long metadataVersion;
+
+    /** Mappings of the concrete indices, in the order they are merged. */
+    private final List<IndexEntry> entries;
+
+    /** The merged mapping of field and type in the indices. */
+    @Getter private final Map<String, OpenSearchDataType> fieldOpenSearchTypes;
+
+    /** The ExprType of the flattened fields, computed on first use. */
+    private final Supplier<Map<String, ExprType>> fieldTypes;
+
+    /** The minimum of the max result window settings of the indices. */
+    @Getter private final int maxResultWindow;
+
+    /** The minimum of the number of shards settings of the indices. */
+    @Getter private final int numberOfShards;
+
+    /** The maximum of the number of shards settings of the indices. */
+    @Getter private final int maxNumberOfShards;
+
+    private Mapping(long metadataVersion, List<IndexEntry> entries) {
+      this.metadataVersion = metadataVersion;
+      this.entries = entries;
+      if (entries.size() == 1) {
+        this.fieldOpenSearchTypes = entries.get(0).fieldMappings;
+        this.fieldTypes = entries.get(0).fieldTypes;
+      } else {
+        // TODO possible collision if two indices have fields with the same name
+        Map<String, OpenSearchDataType> merged = new HashMap<>();
+        entries.forEach(entry -> merged.putAll(entry.fieldMappings));
+        this.fieldOpenSearchTypes = Collections.unmodifiableMap(merged);
+        this.fieldTypes = Suppliers.memoize(() -> flatten(fieldOpenSearchTypes));
+      }
+      this.maxResultWindow = entries.stream().mapToInt(e -> e.maxResultWindow).min().getAsInt();
+      this.numberOfShards = entries.stream().mapToInt(e -> e.numberOfShards).min().getAsInt();
+      this.maxNumberOfShards = entries.stream().mapToInt(e -> e.numberOfShards).max().getAsInt();
+    }
+
+    /** Same mapping, for a later version of the cluster metadata. */
+    private Mapping(long metadataVersion, Mapping mapping) {
+      this.metadataVersion = metadataVersion;
+      this.entries = mapping.entries;
+      this.fieldOpenSearchTypes = mapping.fieldOpenSearchTypes;
+      this.fieldTypes = mapping.fieldTypes;
+      this.maxResultWindow = mapping.maxResultWindow;
+      this.numberOfShards = mapping.numberOfShards;
+      this.maxNumberOfShards = mapping.maxNumberOfShards;
+    }
+
+    /**
+     * Get the ExprType of the fields, flattened like {@link OpenSearchDataType#traverseAndFlatten}.
+     *
+     * @return A map between field names and their types.
+     */
+    public Map<String, ExprType> getFieldTypes() {
+      return fieldTypes.get();
+    }
+  }
+
+  /** Parsed mapping and settings of a concrete index. */
+  private static class IndexEntry {
+    private final String indexUUID;
+    private final long mappingVersion;
+    private final long settingsVersion;
+    private final Map<String, OpenSearchDataType> fieldMappings;
+    private final Supplier<Map<String, ExprType>> fieldTypes;
+    private final int maxResultWindow;
+    private final int numberOfShards;
+
+    IndexEntry(IndexMetadata indexMetadata) {
+      this.indexUUID = indexMetadata.getIndexUUID();
+      this.mappingVersion = indexMetadata.getMappingVersion();
+      this.settingsVersion = indexMetadata.getSettingsVersion();
+      this.fieldMappings =
+          Collections.unmodifiableMap(
+              indexMetadata.mapping() == null
+                  ? Map.of()
+                  : new IndexMapping(indexMetadata.mapping()).getFieldMappings());
+      this.fieldTypes = Suppliers.memoize(() -> flatten(fieldMappings));
+      this.maxResultWindow =
+          IndexSettings.MAX_RESULT_WINDOW_SETTING.get(indexMetadata.getSettings());
+      this.numberOfShards = indexMetadata.getNumberOfShards();
+    }
+
+    /** Whether the entry was parsed from the current version of the index. */
+    boolean isCurrent(IndexMetadata indexMetadata) {
+      return indexMetadata != null
+          && indexUUID.equals(indexMetadata.getIndexUUID())
+          && mappingVersion == indexMetadata.getMappingVersion()
+          && settingsVersion == indexMetadata.getSettingsVersion();
+    }
+  }
+
+  private static Map<String, ExprType> flatten(Map<String, OpenSearchDataType> fieldMappings) {
+    Map<String, ExprType> fieldTypes = new LinkedHashMap<>();
+    OpenSearchDataType.traverseAndFlatten(fieldMappings)
+        .forEach((name, type) -> fieldTypes.put(name, type.getExprType()));
+    return Collections.unmodifiableMap(fieldTypes);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
+
+/**
+ * OpenSearch composite aggregation request. It pages through the buckets of the composite
+ * aggregation by the after_key of the previous page, so that all the buckets are returned one page
+ * at a time. No search context is kept open between the pages, hence nothing to clean.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchCompositeRequest implements OpenSearchRequest {
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Search source of every page, with the composite aggregation as its only aggregation. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  /** Aggregation pushed down, which the parser of the buckets is rebuilt from. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final GroupedAggregation aggregation;
+
+  /** Key of the last bucket returned, which the next page starts after. */
+  private Map<String, Object> afterKey;
+
+  /** Whether the last page is returned. */
+  @EqualsAndHashCode.Exclude private boolean lastPage = false;
+
+  /** Constructor. */
+  public OpenSearchCompositeRequest(
+      IndexName indexName,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes,
+      GroupedAggregation aggregation) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+    this.aggregation = aggregation;
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (lastPage) {
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+    CompositeAggregationBuilder composite = composite();
+    composite.aggregateAfter(afterKey);
+    SearchResponse openSearchResponse =
+        searchAction.apply(
+            new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder));
+
+    CompositeAggregation buckets = openSearchResponse.getAggregations().get(composite.getName());
+    afterKey = buckets.afterKey();
+    // a page with fewer buckets than asked for is the last one, which saves a search of none
+    lastPage = afterKey == null || buckets.getBuckets().size() < composite.size();
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    // do nothing.
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return !lastPage && afterKey != null;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    out.writeGenericValue(afterKey);
+    sourceBuilder.writeTo(out);
+    out.writeStringCollection(includes);
+    indexName.writeTo(out);
+    // expressions are not Writeable, so the aggregation is Java serialized as the cursors are
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+      objectOutput.writeObject(aggregation);
+    }
+    out.writeByteArray(bytes.toByteArray());
+  }
+
+  /**
+   * Constructs OpenSearchCompositeRequest from serialized representation.
+   *
+   * @param in stream to read data from.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  @SuppressWarnings("unchecked")
+  public OpenSearchCompositeRequest(StreamInput in, OpenSearchStorageEngine engine)
+      throws IOException {
+    afterKey = (Map<String, Object>) in.readGenericValue();
+    sourceBuilder = SearchSourceReader.read(in);
+    includes = in.readStringList();
+    indexName = new IndexName(in);
+    try (ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(in.readByteArray()))) {
+      aggregation = (GroupedAggregation) objectInput.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Failed to deserialize aggregation", e);
+    }
+    OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
+    exprValueFactory = new OpenSearchExprValueFactory(index.getFieldOpenSearchTypes());
+    aggregation.applyTo(exprValueFactory);
+  }
+
+  private CompositeAggregationBuilder composite() {
+    return (CompositeAggregationBuilder)
+        sourceBuilder.aggregations().getAggregatorFactories().iterator().next();
+  }
+}
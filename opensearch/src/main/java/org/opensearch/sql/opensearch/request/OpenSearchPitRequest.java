@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.searchafter.SearchAfterBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+/**
+ * OpenSearch point in time search request. It pages through a point in time (PIT) with
+ * search_after, which doesn't keep a scroll context open on the data nodes between pages. The point
+ * in time is created on the first search, and the request falls back to a scroll if the cluster
+ * fails to create it.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchPitRequest implements OpenSearchRequest {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Sort field of the shard and the document within it, unique in a point in time. */
+  private static final String SHARD_DOC_FIELD_NAME = "_shard_doc";
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Point in time keep alive, which is extended by each search. */
+  private final TimeValue keepAlive;
+
+  /** Search source of every page, sorted in a total order which search_after resumes from. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  /** OpenSearch client to create and delete the point in time. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final OpenSearchClient client;
+
+  /** Point in time id which is set by the first search. */
+  private String pitId;
+
+  /** Sort values of the last hit returned, which the next page starts after. */
+  private Object[] searchAfter;
+
+  /**
+   * Whether to delete the point in time on clean. It starts as true so that a request read from a
+   * cursor deletes it if closed before its next page, and each non-empty page resets it.
+   */
+  @EqualsAndHashCode.Exclude private boolean needClean = true;
+
+  /** Scroll request searched instead if the point in time can't be created. */
+  private OpenSearchScrollRequest fallback;
+
+  /** Constructor. The search source given is sorted in a total order in place. */
+  public OpenSearchPitRequest(
+      IndexName indexName,
+      TimeValue keepAlive,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes,
+      OpenSearchClient client) {
+    this.indexName = indexName;
+    this.keepAlive = keepAlive;
+    this.sourceBuilder = sortInTotalOrder(sourceBuilder);
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+    this.client = client;
+  }
+
+  /**
+   * Creates point in time request which searches the same documents as the given scroll request.
+   *
+   * @param scrollRequest scroll request before its first search
+   * @param client OpenSearch client
+   */
+  public OpenSearchPitRequest(OpenSearchScrollRequest scrollRequest, OpenSearchClient client) {
+    this(
+        scrollRequest.getIndexName(),
+        scrollRequest.getScrollTimeout(),
+        scrollRequest.getInitialSearchRequest().source(),
+        scrollRequest.getExprValueFactory(),
+        scrollRequest.getIncludes(),
+        client);
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (pitId == null && fallback == null) {
+      createPit();
+    }
+    if (fallback != null) {
+      return fallback.search(searchAction, scrollAction);
+    }
+
+    SearchSourceBuilder source =
+        sourceBuilder
+            .shallowCopy()
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+    if (searchAfter != null) {
+      source.searchAfter(searchAfter);
+    }
+    SearchResponse openSearchResponse = searchAction.apply(new SearchRequest().source(source));
+
+    var response = new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+    needClean = response.isEmpty();
+    if (!needClean) {
+      SearchHit[] hits = openSearchResponse.getHits().getHits();
+      searchAfter = hits[hits.length - 1].getSortValues();
+    }
+    return response;
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    if (fallback != null) {
+      fallback.clean(cleanAction);
+      return;
+    }
+    try {
+      // clean on the last page only, to prevent closing the point in time in the middle of paging.
+      if (needClean && pitId != null) {
+        client.deletePit(new DeletePitRequest(pitId));
+      }
+    } finally {
+      pitId = null;
+      searchAfter = null;
+    }
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    if (fallback != null) {
+      return fallback.hasAnotherBatch();
+    }
+    return !needClean && pitId != null;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    out.writeBoolean(fallback != null);
+    if (fallback != null) {
+      fallback.writeTo(out);
+      return;
+    }
+    out.writeTimeValue(keepAlive);
+    out.writeString(pitId);
+    new SearchAfterBuilder().setSortValues(searchAfter).writeTo(out);
+    sourceBuilder.writeTo(out);
+    out.writeStringCollection(includes);
+    indexName.writeTo(out);
+  }
+
+  /**
+   * Constructs OpenSearchPitRequest from serialized representation.
+   *
+   * @param in stream to read data from.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchPitRequest(StreamInput in, OpenSearchStorageEngine engine) throws IOException {
+    client = engine.getClient();
+    if (in.readBoolean()) {
+      fallback = new OpenSearchScrollRequest(in, engine);
+      indexName = fallback.getIndexName();
+      keepAlive = fallback.getScrollTimeout();
+      sourceBuilder = null;
+      includes = fallback.getIncludes();
+      exprValueFactory = fallback.getExprValueFactory();
+      return;
+    }
+    keepAlive = in.readTimeValue();
+    pitId = in.readString();
+    searchAfter = new SearchAfterBuilder(in).getSortValues();
+    sourceBuilder = SearchSourceReader.read(in);
+    includes = in.readStringList();
+    indexName = new IndexName(in);
+    OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
+    exprValueFactory = new OpenSearchExprValueFactory(index.getFieldOpenSearchTypes());
+  }
+
+  private void createPit() {
+    try {
+      pitId = client.createPit(new CreatePitRequest(keepAlive, false, indexName.getIndexNames()));
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to create point in time, fall back to scroll for " + indexName, e);
+      // a scroll resumes from its context, and the tiebreaker is valid in a point in time only
+      sourceBuilder
+          .sorts()
+          .removeIf(
+              sort ->
+                  sort instanceof FieldSortBuilder
+                      && SHARD_DOC_FIELD_NAME.equals(((FieldSortBuilder) sort).getFieldName()));
+      fallback =
+          new OpenSearchScrollRequest(
+              indexName, keepAlive, sourceBuilder, exprValueFactory, includes);
+    }
+  }
+
+  /**
+   * Sort by _doc if not sorted, then by _shard_doc to break the ties. search_after needs the sort
+   * values of a hit to be unique across the shards, so that the next page resumes right after it,
+   * which _shard_doc is without loading the field data of _id.
+   */
+  private static SearchSourceBuilder sortInTotalOrder(SearchSourceBuilder sourceBuilder) {
+    if (sourceBuilder.sorts() == null) {
+      sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+    }
+    return sourceBuilder.sort(SortBuilders.fieldSort(SHARD_DOC_FIELD_NAME).order(ASC));
+  }
+}
@@ -11,9 +11,9 @@ import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +33,7 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
@@ -45,6 +46,8 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
 
 /** OpenSearch search request builder. */
 @EqualsAndHashCode
@@ -67,10 +70,78 @@ public class OpenSearchRequestBuilder {
 
   private int startFrom = 0;
 
+  /** Whether to fetch the projected fields with doc values through doc values. */
+  private final boolean fetchDocValues;
+
+  /** Projected fields, which are fetched from either the source or doc values. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private List<String> includes = List.of();
+
+  /** Number of buckets of each page of a composite aggregation. */
+  private final int aggregationPageSize;
+
+  /** Whether to serialize the expressions of the scripts pushed down by the expression codec. */
+  private final boolean encodeExpressions;
+
+  /** Aggregation grouped into the buckets of a composite aggregation, if pushed down. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private GroupedAggregation groupedAggregation;
+
   /** Constructor. */
   public OpenSearchRequestBuilder(
       int requestedTotalSize, OpenSearchExprValueFactory exprValueFactory) {
+    this(requestedTotalSize, exprValueFactory, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param requestedTotalSize query size
+   * @param exprValueFactory value factory of the index
+   * @param fetchDocValues fetch the projected fields with doc values through doc values
+   */
+  public OpenSearchRequestBuilder(
+      int requestedTotalSize, OpenSearchExprValueFactory exprValueFactory, boolean fetchDocValues) {
+    this(
+        requestedTotalSize,
+        exprValueFactory,
+        fetchDocValues,
+        AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param requestedTotalSize query size
+   * @param exprValueFactory value factory of the index
+   * @param fetchDocValues fetch the projected fields with doc values through doc values
+   * @param aggregationPageSize number of buckets of each page of a composite aggregation
+   */
+  public OpenSearchRequestBuilder(
+      int requestedTotalSize,
+      OpenSearchExprValueFactory exprValueFactory,
+      boolean fetchDocValues,
+      int aggregationPageSize) {
+    this(requestedTotalSize, exprValueFactory, fetchDocValues, aggregationPageSize, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param requestedTotalSize query size
+   * @param exprValueFactory value factory of the index
+   * @param fetchDocValues fetch the projected fields with doc values through doc values
+   * @param aggregationPageSize number of buckets of each page of a composite aggregation
+   * @param encodeExpressions serialize the expressions of the scripts by the expression codec
+   */
+  public OpenSearchRequestBuilder(
+      int requestedTotalSize,
+      OpenSearchExprValueFactory exprValueFactory,
+      boolean fetchDocValues,
+      int aggregationPageSize,
+      boolean encodeExpressions) {
     this.requestedTotalSize = requestedTotalSize;
+    this.fetchDocValues = fetchDocValues;
+    this.aggregationPageSize = aggregationPageSize;
+    this.encodeExpressions = encodeExpressions;
     this.sourceBuilder =
         new SearchSourceBuilder()
             .from(startFrom)
@@ -82,13 +153,14 @@ public class OpenSearchRequestBuilder {
   /**
    * Build DSL request.
    *
-   * @return query request or scroll request
+   * @return query request, scroll request, or composite request if grouped by
    */
   public OpenSearchRequest build(
       OpenSearchRequest.IndexName indexName, int maxResultWindow, TimeValue scrollTimeout) {
+    if (groupedAggregation != null) {
+      return buildCompositeRequest(indexName);
+    }
     int size = requestedTotalSize;
-    FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
-    List<String> includes = fetchSource != null ? Arrays.asList(fetchSource.includes()) : List.of();
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
         sourceBuilder.size(maxResultWindow - startFrom);
@@ -109,6 +181,20 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Build the request paging through the buckets of the composite aggregation. A page of a cursor
+   * is a page of buckets, so that the cursor resumes right after the last bucket returned.
+   */
+  private OpenSearchRequest buildCompositeRequest(OpenSearchRequest.IndexName indexName) {
+    CompositeAggregationBuilder composite =
+        (CompositeAggregationBuilder)
+            sourceBuilder.aggregations().getAggregatorFactories().iterator().next();
+    composite.size(pageSize == null ? Math.min(aggregationPageSize, requestedTotalSize) : pageSize);
+    sourceBuilder.size(0);
+    return new OpenSearchCompositeRequest(
+        indexName, sourceBuilder, exprValueFactory, includes, groupedAggregation);
+  }
+
   boolean isBoolFilterQuery(QueryBuilder current) {
     return (current instanceof BoolQueryBuilder);
   }
@@ -148,6 +234,16 @@ public class OpenSearchRequestBuilder {
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
 
+  /**
+   * Push down aggregation grouped into the buckets of a composite aggregation, which are then paged
+   * through rather than returned by a single search.
+   *
+   * @param groupedAggregation aggregation pushed down by {@link #pushDownAggregation}.
+   */
+  public void pushDownGroupedAggregation(GroupedAggregation groupedAggregation) {
+    this.groupedAggregation = groupedAggregation;
+  }
+
   /**
    * Push down sort to DSL request.
    *
@@ -217,17 +313,45 @@ public class OpenSearchRequestBuilder {
     }
   }
 
-  /** Push down project list to DSL requests. */
+  /**
+   * Push down project list to DSL requests. If enabled, the fields with doc values are fetched
+   * through docvalue_fields, and the source isn't loaded at all if no field is left for it.
+   */
   public void pushDownProjects(Set<ReferenceExpression> projects) {
-    sourceBuilder.fetchSource(
-        projects.stream().map(ReferenceExpression::getAttr).distinct().toArray(String[]::new),
-        new String[0]);
+    includes = projects.stream().map(ReferenceExpression::getAttr).distinct().collect(toList());
+    if (!fetchDocValues) {
+      sourceBuilder.fetchSource(includes.toArray(String[]::new), new String[0]);
+      return;
+    }
+
+    List<String> sourceFields = new ArrayList<>();
+    for (String field : includes) {
+      if (exprValueFactory.hasDocValues(field)) {
+        sourceBuilder.docValueField(field);
+      } else if (!METADATAFIELD_TYPE_MAP.containsKey(field)) {
+        sourceFields.add(field);
+      }
+    }
+    if (sourceFields.isEmpty()) {
+      sourceBuilder.fetchSource(false);
+    } else {
+      sourceBuilder.fetchSource(sourceFields.toArray(String[]::new), new String[0]);
+    }
   }
 
   public void pushTypeMapping(Map<String, OpenSearchDataType> typeMapping) {
     exprValueFactory.extendTypeMapping(typeMapping);
   }
 
+  /**
+   * Is the request sorted by anything but the index order, which scrolls and slices follow.
+   *
+   * @return true if sorted
+   */
+  public boolean isSorted() {
+    return sourceBuilder.sorts() != null && !isSortByDocOnly();
+  }
+
   private boolean isSortByDocOnly() {
     List<SortBuilder<?>> sorts = sourceBuilder.sorts();
     if (sorts != null) {
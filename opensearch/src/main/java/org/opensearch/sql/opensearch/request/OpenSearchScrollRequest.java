@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,6 +23,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
@@ -123,6 +126,53 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     }
   }
 
+  /**
+   * Split the request into sliced scrolls, which cover the documents of this request together and
+   * can be fetched and cleaned independently of each other.
+   *
+   * @param max number of slices
+   * @return sliced requests
+   */
+  public List<OpenSearchScrollRequest> slice(int max) {
+    SearchSourceBuilder sourceBuilder = initialSearchRequest.source();
+    return IntStream.range(0, max)
+        .mapToObj(
+            id ->
+                new OpenSearchScrollRequest(
+                    indexName,
+                    scrollTimeout,
+                    sourceBuilder.shallowCopy().slice(new SliceBuilder(id, max)),
+                    exprValueFactory,
+                    includes))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Split the request into scrolls over groups of shards, which cover the documents of this request
+   * together and keep its sort within each group. The shards are spread over the groups round robin
+   * and searched with the {@code _shards} preference.
+   *
+   * @param groups number of groups
+   * @param shards number of shards of the index, or the largest one of the indices
+   * @return requests of each group of shards
+   */
+  public List<OpenSearchScrollRequest> splitByShards(int groups, int shards) {
+    SearchSourceBuilder sourceBuilder = initialSearchRequest.source();
+    return IntStream.range(0, groups)
+        .mapToObj(
+            group -> {
+              var request =
+                  new OpenSearchScrollRequest(
+                      indexName, scrollTimeout, sourceBuilder, exprValueFactory, includes);
+              request.initialSearchRequest.preference(
+                  IntStream.iterate(group, shard -> shard < shards, shard -> shard + groups)
+                      .mapToObj(String::valueOf)
+                      .collect(Collectors.joining(",", "_shards:", "")));
+              return request;
+            })
+        .collect(Collectors.toList());
+  }
+
   /**
    * Is scroll started which means pages after first is being requested.
    *
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/** Reads the search source of a request serialized into a cursor. */
+@UtilityClass
+class SearchSourceReader {
+
+  /**
+   * Registry to read the queries and aggregations of a search source, built once since a search
+   * module registers all of them.
+   */
+  private static final NamedWriteableRegistry NAMED_WRITEABLE_REGISTRY =
+      new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+
+  /**
+   * Read a search source written by {@link SearchSourceBuilder#writeTo}.
+   *
+   * @param in stream to read data from.
+   * @return search source
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  static SearchSourceBuilder read(StreamInput in) throws IOException {
+    return new SearchSourceBuilder(
+        new NamedWriteableAwareStreamInput(in, NAMED_WRITEABLE_REGISTRY));
+  }
+}
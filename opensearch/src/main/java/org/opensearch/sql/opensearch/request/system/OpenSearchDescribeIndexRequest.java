@@ -101,6 +101,34 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
         .get();
   }
 
+  /**
+   * Get the minimum of the numbers of shards of the indices.
+   *
+   * @return number of shards
+   */
+  public Integer getNumberOfShards() {
+    return client
+        .getIndexNumberOfShards(getLocalIndexNames(indexName.getIndexNames()))
+        .values()
+        .stream()
+        .min(Integer::compare)
+        .get();
+  }
+
+  /**
+   * Get the maximum of the numbers of shards of the indices.
+   *
+   * @return number of shards
+   */
+  public Integer getMaxNumberOfShards() {
+    return client
+        .getIndexNumberOfShards(getLocalIndexNames(indexName.getIndexNames()))
+        .values()
+        .stream()
+        .max(Integer::compare)
+        .get();
+  }
+
   private ExprTupleValue row(String fieldName, String fieldType, int position, String clusterName) {
     LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
     valueMap.put("TABLE_CAT", stringValue(clusterName));
@@ -16,12 +16,14 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -94,44 +96,84 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     if (isAggregationResponse()) {
       return handleAggregationResponse();
     } else {
+      // the same for every hit, so resolved once per response
+      Set<String> sourceFields = Set.copyOf(includes);
+      List<String> metaDataFields =
+          includes.stream()
+              .filter(METADATAFIELD_TYPE_MAP::containsKey)
+              .collect(Collectors.toList());
+      List<String> fields =
+          includes.stream()
+              .filter(field -> !METADATAFIELD_TYPE_MAP.containsKey(field))
+              .collect(Collectors.toList());
+      ExprFloatValue maxScore =
+          Float.isNaN(hits.getMaxScore()) ? null : new ExprFloatValue(hits.getMaxScore());
       return Arrays.stream(hits.getHits())
           .map(
               hit -> {
-                ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
-                addParsedHitsToBuilder(builder, hit);
-                addMetaDataFieldsToBuilder(builder, hit);
-                addHighlightsToBuilder(builder, hit);
-                return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
+                LinkedHashMap<String, ExprValue> row = parseHit(hit, sourceFields);
+                addDocValueFieldsToRow(row, hit, fields);
+                addMetaDataFieldsToRow(row, hit, metaDataFields, maxScore);
+                addHighlightsToRow(row, hit);
+                return (ExprValue) new ExprTupleValue(row);
               })
           .iterator();
     }
   }
 
   /**
-   * Parse response for all hits to add to builder. Inner_hits supports arrays of objects with
+   * Sort values of the hits, in the same order as the rows iterated. They are empty unless the
+   * search is sorted.
+   *
+   * @return sort values of each hit
+   */
+  public List<Object[]> getSortValues() {
+    return Arrays.stream(hits.getHits()).map(SearchHit::getSortValues).collect(Collectors.toList());
+  }
+
+  /**
+   * Parse the source of a hit straight from its bytes. Inner_hits supports arrays of objects with
    * nested type.
    *
-   * @param builder builder to build values from response.
    * @param hit Search hit from response.
+   * @param sourceFields source fields projected, or empty for all.
+   * @return values parsed from the hit.
+   */
+  private LinkedHashMap<String, ExprValue> parseHit(SearchHit hit, Set<String> sourceFields) {
+    return exprValueFactory.constructSource(
+        hit.getSourceRef(),
+        sourceFields,
+        !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()));
+  }
+
+  /**
+   * Add the fields fetched through doc values to row. Only the first value of a field is taken, as
+   * doc values are sorted rather than in the order of the source.
+   *
+   * @param row row to add values to.
+   * @param hit Search hit from response.
+   * @param fields projected fields which may be fetched through doc values.
    */
-  private void addParsedHitsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    builder.putAll(
-        exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
-                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
-            .tupleValue());
+  private void addDocValueFieldsToRow(
+      LinkedHashMap<String, ExprValue> row, SearchHit hit, List<String> fields) {
+    if (hit.getFields().isEmpty()) {
+      return;
+    }
+    for (String field : fields) {
+      DocumentField docValues = hit.field(field);
+      if (docValues != null) {
+        row.put(field, exprValueFactory.construct(field, docValues.getValue(), false));
+      }
+    }
   }
 
   /**
-   * If highlight fields are present in response add the fields to the builder.
+   * If highlight fields are present in response add the fields to the row.
    *
-   * @param builder builder to build values from response.
+   * @param row row to add values to.
    * @param hit Search hit from response.
    */
-  private void addHighlightsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
+  private void addHighlightsToRow(LinkedHashMap<String, ExprValue> row, SearchHit hit) {
     if (!hit.getHighlightFields().isEmpty()) {
       var hlBuilder = ImmutableMap.<String, ExprValue>builder();
       for (var es : hit.getHighlightFields().entrySet()) {
@@ -142,41 +184,41 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
                     .map(Text::toString)
                     .collect(Collectors.toList())));
       }
-      builder.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
+      row.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
     }
   }
 
   /**
-   * Add metadata fields to builder from response.
+   * Add metadata fields to row from response.
    *
-   * @param builder builder to build values from response.
+   * @param row row to add values to.
    * @param hit Search hit from response.
+   * @param metaDataFields metadata fields requested.
+   * @param maxScore max score of the hits, or null if not scored.
    */
-  private void addMetaDataFieldsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    List<String> metaDataFieldSet =
-        includes.stream().filter(METADATAFIELD_TYPE_MAP::containsKey).collect(Collectors.toList());
-    ExprFloatValue maxScore =
-        Float.isNaN(hits.getMaxScore()) ? null : new ExprFloatValue(hits.getMaxScore());
-
-    metaDataFieldSet.forEach(
+  private void addMetaDataFieldsToRow(
+      LinkedHashMap<String, ExprValue> row,
+      SearchHit hit,
+      List<String> metaDataFields,
+      ExprFloatValue maxScore) {
+    metaDataFields.forEach(
         metaDataField -> {
           if (metaDataField.equals(METADATA_FIELD_INDEX)) {
-            builder.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
+            row.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
           } else if (metaDataField.equals(METADATA_FIELD_ID)) {
-            builder.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
+            row.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
           } else if (metaDataField.equals(METADATA_FIELD_SCORE)) {
             if (!Float.isNaN(hit.getScore())) {
-              builder.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
+              row.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
             }
           } else if (metaDataField.equals(METADATA_FIELD_MAXSCORE)) {
             if (maxScore != null) {
-              builder.put(METADATA_FIELD_MAXSCORE, maxScore);
+              row.put(METADATA_FIELD_MAXSCORE, maxScore);
             }
           } else if (metaDataField.equals(METADATA_FIELD_SORT)) {
-            builder.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
+            row.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
           } else { // if (metaDataField.equals(METADATA_FIELD_ROUTING)){
-            builder.put(METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
+            row.put(METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
           }
         });
   }
@@ -187,17 +229,6 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
    * @return Parsed and built return values from response.
    */
   private Iterator<ExprValue> handleAggregationResponse() {
-    return exprValueFactory.getParser().parse(aggregations).stream()
-        .map(
-            entry -> {
-              ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
-              for (Map.Entry<String, Object> value : entry.entrySet()) {
-                builder.put(
-                    value.getKey(),
-                    exprValueFactory.construct(value.getKey(), value.getValue(), false));
-              }
-              return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
-            })
-        .iterator();
+    return exprValueFactory.getParser().parse(aggregations, exprValueFactory).iterator();
   }
 }
@@ -13,14 +13,14 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** Composite Aggregation Parser which include composite aggregation and metric parsers. */
 @EqualsAndHashCode
@@ -37,15 +37,17 @@ public class CompositeAggregationParser implements OpenSearchAggregationResponse
   }
 
   @Override
-  public List<Map<String, Object>> parse(Aggregations aggregations) {
-    return ((CompositeAggregation) aggregations.asList().get(0))
-        .getBuckets().stream().map(this::parse).collect(Collectors.toList());
-  }
-
-  private Map<String, Object> parse(CompositeAggregation.Bucket bucket) {
-    Map<String, Object> resultMap = new HashMap<>();
-    resultMap.putAll(bucket.getKey());
-    resultMap.putAll(metricsParser.parse(bucket.getAggregations()));
-    return resultMap;
+  public List<ExprValue> parse(
+      Aggregations aggregations, OpenSearchExprValueFactory exprValueFactory) {
+    List<? extends CompositeAggregation.Bucket> buckets =
+        ((CompositeAggregation) aggregations.asList().get(0)).getBuckets();
+    List<ExprValue> rows = new ArrayList<>(buckets.size());
+    RowBuilder row = new RowBuilder(exprValueFactory);
+    for (CompositeAggregation.Bucket bucket : buckets) {
+      bucket.getKey().forEach(row::add);
+      metricsParser.parse(bucket.getAggregations(), row);
+      rows.add(row.build());
+    }
+    return rows;
   }
 }
@@ -13,7 +13,6 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
-import java.util.Map;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -33,7 +32,7 @@ public class FilterParser implements MetricParser {
   @Getter private final String name;
 
   @Override
-  public Map<String, Object> parse(Aggregation aggregations) {
-    return metricsParser.parse(((Filter) aggregations).getAggregations().asList().get(0));
+  public void parse(Aggregation aggregations, RowBuilder row) {
+    metricsParser.parse(((Filter) aggregations).getAggregations().asList().get(0), row);
   }
 }
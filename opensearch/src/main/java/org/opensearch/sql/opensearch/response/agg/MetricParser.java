@@ -13,7 +13,6 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
-import java.util.Map;
 import org.opensearch.search.aggregations.Aggregation;
 
 /** Metric Aggregation Parser. */
@@ -23,10 +22,10 @@ public interface MetricParser {
   String getName();
 
   /**
-   * Parse the {@link Aggregation}.
+   * Parse the {@link Aggregation} into the row.
    *
    * @param aggregation {@link Aggregation}
-   * @return the map between metric name and metric value.
+   * @param row builder of the row to add the metric value to.
    */
-  Map<String, Object> parse(Aggregation aggregation);
+  void parse(Aggregation aggregation, RowBuilder row);
 }
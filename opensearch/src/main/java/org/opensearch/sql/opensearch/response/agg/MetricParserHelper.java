@@ -13,7 +13,6 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,22 +35,21 @@ public class MetricParserHelper {
   }
 
   /**
-   * Parse {@link Aggregations}.
+   * Parse {@link Aggregations} into the row.
    *
    * @param aggregations {@link Aggregations}
-   * @return the map between metric name and metric value.
+   * @param row builder of the row to add the metric values to.
    */
-  public Map<String, Object> parse(Aggregations aggregations) {
-    Map<String, Object> resultMap = new HashMap<>();
+  public void parse(Aggregations aggregations, RowBuilder row) {
     for (Aggregation aggregation : aggregations) {
-      if (metricParserMap.containsKey(aggregation.getName())) {
-        resultMap.putAll(metricParserMap.get(aggregation.getName()).parse(aggregation));
+      MetricParser parser = metricParserMap.get(aggregation.getName());
+      if (parser != null) {
+        parser.parse(aggregation, row);
       } else {
         throw new RuntimeException(
             StringUtils.format(
                 "couldn't parse field %s in aggregation " + "response", aggregation.getName()));
       }
     }
-    return resultMap;
   }
 }
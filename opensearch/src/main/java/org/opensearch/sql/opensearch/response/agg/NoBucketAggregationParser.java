@@ -16,8 +16,9 @@ package org.opensearch.sql.opensearch.response.agg;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** No Bucket Aggregation Parser which include only metric parsers. */
 public class NoBucketAggregationParser implements OpenSearchAggregationResponseParser {
@@ -33,7 +34,10 @@ public class NoBucketAggregationParser implements OpenSearchAggregationResponseP
   }
 
   @Override
-  public List<Map<String, Object>> parse(Aggregations aggregations) {
-    return Collections.singletonList(metricsParser.parse(aggregations));
+  public List<ExprValue> parse(
+      Aggregations aggregations, OpenSearchExprValueFactory exprValueFactory) {
+    RowBuilder row = new RowBuilder(exprValueFactory);
+    metricsParser.parse(aggregations, row);
+    return Collections.singletonList(row.build());
   }
 }
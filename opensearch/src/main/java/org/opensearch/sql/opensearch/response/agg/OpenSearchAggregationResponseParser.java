@@ -14,8 +14,9 @@
 package org.opensearch.sql.opensearch.response.agg;
 
 import java.util.List;
-import java.util.Map;
 import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** OpenSearch Aggregation Response Parser. */
 public interface OpenSearchAggregationResponseParser {
@@ -24,7 +25,8 @@ public interface OpenSearchAggregationResponseParser {
    * Parse the OpenSearch Aggregation Response.
    *
    * @param aggregations Aggregations.
-   * @return aggregation result.
+   * @param exprValueFactory factory to construct the values of the columns.
+   * @return aggregation result rows.
    */
-  List<Map<String, Object>> parse(Aggregations aggregations);
+  List<ExprValue> parse(Aggregations aggregations, OpenSearchExprValueFactory exprValueFactory);
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+
+/**
+ * Builder of the rows parsed from the buckets of one aggregation response. The columns are resolved
+ * at the first bucket, along with the converter of their values, and reused by position for the
+ * next buckets, which have the same columns in the same order. So each value is converted without
+ * looking up the type of its column, and each row is an {@link ExprRowValue} sharing the schema of
+ * the response.
+ */
+public class RowBuilder {
+
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** Names of the values of a row, in the order they are added. */
+  private final List<String> columns = new ArrayList<>();
+
+  /** Converter of the value at each position. */
+  private final List<Function<Object, ExprValue>> converters = new ArrayList<>();
+
+  /** Ordinal in the schema of the value at each position. */
+  private int[] ordinals = new int[0];
+
+  /** Distinct names of the columns, in the order of the schema. */
+  private final List<String> fields = new ArrayList<>();
+
+  /** Schema of the rows, or null if the columns are resolved again. */
+  private RowSchema schema;
+
+  private ExprValue[] values = new ExprValue[0];
+
+  private int position = 0;
+
+  public RowBuilder(OpenSearchExprValueFactory exprValueFactory) {
+    this.exprValueFactory = exprValueFactory;
+  }
+
+  /**
+   * Add the value of the next column to the current row. As in a map, the value of a column named
+   * as a previous one replaces it.
+   *
+   * @param name column name
+   * @param value value object of the response
+   */
+  public void add(String name, Object value) {
+    if (position == columns.size() || !columns.get(position).equals(name)) {
+      resolve(name);
+    }
+    values[ordinals[position]] = converters.get(position).apply(value);
+    position++;
+  }
+
+  /**
+   * Build the current row, and start the next one.
+   *
+   * @return row of the values added
+   */
+  public ExprValue build() {
+    if (position < columns.size()) {
+      truncate();
+    }
+    if (schema == null) {
+      schema = new RowSchema(fields);
+      values = Arrays.copyOf(values, fields.size());
+    }
+    ExprValue row = new ExprRowValue(schema, values);
+    values = new ExprValue[fields.size()];
+    position = 0;
+    return row;
+  }
+
+  /** Resolve the column at the current position, which is not the one of the previous rows. */
+  private void resolve(String name) {
+    truncate();
+    int ordinal = fields.indexOf(name);
+    if (ordinal < 0) {
+      ordinal = fields.size();
+      fields.add(name);
+      values = Arrays.copyOf(values, fields.size());
+    }
+    columns.add(name);
+    converters.add(exprValueFactory.converter(name));
+    ordinals = Arrays.copyOf(ordinals, columns.size());
+    ordinals[position] = ordinal;
+    schema = null;
+  }
+
+  /** Drop the columns from the current position on, along with the fields only they have. */
+  private void truncate() {
+    int fieldCount = 0;
+    for (int i = 0; i < position; i++) {
+      fieldCount = Math.max(fieldCount, ordinals[i] + 1);
+    }
+    columns.subList(position, columns.size()).clear();
+    converters.subList(position, converters.size()).clear();
+    fields.subList(fieldCount, fields.size()).clear();
+    schema = null;
+  }
+}
@@ -15,8 +15,6 @@ package org.opensearch.sql.opensearch.response.agg;
 
 import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue;
 
-import java.util.Collections;
-import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -31,8 +29,8 @@ public class SingleValueParser implements MetricParser {
   @Getter private final String name;
 
   @Override
-  public Map<String, Object> parse(Aggregation agg) {
-    return Collections.singletonMap(
+  public void parse(Aggregation agg, RowBuilder row) {
+    row.add(
         agg.getName(), handleNanInfValue(((NumericMetricsAggregation.SingleValue) agg).value()));
   }
 }
@@ -15,8 +15,6 @@ package org.opensearch.sql.opensearch.response.agg;
 
 import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue;
 
-import java.util.Collections;
-import java.util.Map;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -34,8 +32,7 @@ public class StatsParser implements MetricParser {
   @Getter private final String name;
 
   @Override
-  public Map<String, Object> parse(Aggregation agg) {
-    return Collections.singletonMap(
-        agg.getName(), handleNanInfValue(valueExtractor.apply((ExtendedStats) agg)));
+  public void parse(Aggregation agg, RowBuilder row) {
+    row.add(agg.getName(), handleNanInfValue(valueExtractor.apply((ExtendedStats) agg)));
   }
 }
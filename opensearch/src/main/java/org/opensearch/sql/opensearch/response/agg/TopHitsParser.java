@@ -6,8 +6,6 @@
 package org.opensearch.sql.opensearch.response.agg;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -23,8 +21,8 @@ public class TopHitsParser implements MetricParser {
   @Getter private final String name;
 
   @Override
-  public Map<String, Object> parse(Aggregation agg) {
-    return Collections.singletonMap(
+  public void parse(Aggregation agg, RowBuilder row) {
+    row.add(
         agg.getName(),
         Arrays.stream(((TopHits) agg).getHits().getHits())
             .flatMap(h -> h.getSourceAsMap().values().stream())
@@ -63,6 +63,13 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SQL_CURSOR_STORE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.SQL_CURSOR_STORE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> SQL_DELETE_ENABLED_SETTING =
       Setting.boolSetting(
           Key.SQL_DELETE_ENABLED.getKeyValue(),
@@ -95,6 +102,89 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SORT_SPILL_THRESHOLD_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SORT_SPILL_THRESHOLD.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING =
+      Setting.intSetting(
+          Key.QUERY_AGGREGATION_SPILL_THRESHOLD.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_PAGES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_PREFETCH_PAGES.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_MAX_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_MAX_SLICES.getKeyValue(),
+          1,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_POINT_IN_TIME_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_POINT_IN_TIME.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_DOC_VALUES_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_DOC_VALUES.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_LATE_MATERIALIZATION_ROWS_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_DISTRIBUTED_FRAGMENTS_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_EXPRESSION_CODEC_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_SCAN_EXPRESSION_CODEC.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_PAGE_SIZE_SETTING =
+      Setting.intSetting(
+          Key.QUERY_AGGREGATION_PAGE_SIZE.getKeyValue(),
+          1000,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_MAPPING_CACHE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_MAPPING_CACHE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING =
       Setting.longSetting(
           Key.METRICS_ROLLING_WINDOW.getKeyValue(),
@@ -223,6 +313,12 @@ public class OpenSearchSettings extends Settings {
         Key.SQL_CURSOR_KEEP_ALIVE,
         SQL_CURSOR_KEEP_ALIVE_SETTING,
         new Updater(Key.SQL_CURSOR_KEEP_ALIVE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_CURSOR_STORE_ENABLED,
+        SQL_CURSOR_STORE_ENABLED_SETTING,
+        new Updater(Key.SQL_CURSOR_STORE_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
@@ -247,6 +343,72 @@ public class OpenSearchSettings extends Settings {
         Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING,
         new Updater(Key.QUERY_SIZE_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_SPILL_THRESHOLD,
+        QUERY_SORT_SPILL_THRESHOLD_SETTING,
+        new Updater(Key.QUERY_SORT_SPILL_THRESHOLD));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_AGGREGATION_SPILL_THRESHOLD,
+        QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_SPILL_THRESHOLD));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_PREFETCH_PAGES,
+        QUERY_SCAN_PREFETCH_PAGES_SETTING,
+        new Updater(Key.QUERY_SCAN_PREFETCH_PAGES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_MAX_SLICES,
+        QUERY_SCAN_MAX_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_MAX_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_POINT_IN_TIME,
+        QUERY_SCAN_POINT_IN_TIME_SETTING,
+        new Updater(Key.QUERY_SCAN_POINT_IN_TIME));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_DOC_VALUES,
+        QUERY_SCAN_DOC_VALUES_SETTING,
+        new Updater(Key.QUERY_SCAN_DOC_VALUES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS,
+        QUERY_SCAN_LATE_MATERIALIZATION_ROWS_SETTING,
+        new Updater(Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS,
+        QUERY_SCAN_DISTRIBUTED_FRAGMENTS_SETTING,
+        new Updater(Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_EXPRESSION_CODEC,
+        QUERY_SCAN_EXPRESSION_CODEC_SETTING,
+        new Updater(Key.QUERY_SCAN_EXPRESSION_CODEC));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_AGGREGATION_PAGE_SIZE,
+        QUERY_AGGREGATION_PAGE_SIZE_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_PAGE_SIZE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_MAPPING_CACHE_ENABLED,
+        QUERY_MAPPING_CACHE_ENABLED_SETTING,
+        new Updater(Key.QUERY_MAPPING_CACHE_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
@@ -382,10 +544,22 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_ENABLED_SETTING)
         .add(SQL_SLOWLOG_SETTING)
         .add(SQL_CURSOR_KEEP_ALIVE_SETTING)
+        .add(SQL_CURSOR_STORE_ENABLED_SETTING)
         .add(SQL_DELETE_ENABLED_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SORT_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_AGGREGATION_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_SCAN_PREFETCH_PAGES_SETTING)
+        .add(QUERY_SCAN_MAX_SLICES_SETTING)
+        .add(QUERY_SCAN_POINT_IN_TIME_SETTING)
+        .add(QUERY_SCAN_DOC_VALUES_SETTING)
+        .add(QUERY_SCAN_LATE_MATERIALIZATION_ROWS_SETTING)
+        .add(QUERY_SCAN_DISTRIBUTED_FRAGMENTS_SETTING)
+        .add(QUERY_SCAN_EXPRESSION_CODEC_SETTING)
+        .add(QUERY_AGGREGATION_PAGE_SIZE_SETTING)
+        .add(QUERY_MAPPING_CACHE_ENABLED_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
@@ -11,6 +11,7 @@ import org.opensearch.sql.datasource.model.DataSource;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.storage.DataSourceFactory;
 
 @RequiredArgsConstructor
@@ -21,6 +22,13 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
 
   private final Settings settings;
 
+  /** Node-level cache of the index mappings, or null to describe the indices on each query. */
+  private final IndexMappingCache mappingCache;
+
+  public OpenSearchDataSourceFactory(OpenSearchClient client, Settings settings) {
+    this(client, settings, null);
+  }
+
   @Override
   public DataSourceType getDataSourceType() {
     return DataSourceType.OPENSEARCH;
@@ -31,6 +39,6 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
     return new DataSource(
         metadata.getName(),
         DataSourceType.OPENSEARCH,
-        new OpenSearchStorageEngine(client, settings));
+        new OpenSearchStorageEngine(client, settings, mappingCache));
   }
 }
@@ -5,32 +5,47 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentScan;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalML;
 import org.opensearch.sql.planner.logical.LogicalMLCommons;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -63,6 +78,9 @@ public class OpenSearchIndex implements Table {
   /** {@link OpenSearchRequest.IndexName}. */
   private final OpenSearchRequest.IndexName indexName;
 
+  /** Node-level cache of the index mappings, or null to describe the indices on each query. */
+  private final IndexMappingCache mappingCache;
+
   /** The cached mapping of field and type in index. */
   private Map<String, OpenSearchDataType> cachedFieldOpenSearchTypes = null;
 
@@ -72,11 +90,27 @@ public class OpenSearchIndex implements Table {
   /** The cached max result window setting of index. */
   private Integer cachedMaxResultWindow = null;
 
+  /** The cached number of shards setting of index. */
+  private Integer cachedNumberOfShards = null;
+
+  /** The cached maximum number of shards setting of indices. */
+  private Integer cachedMaxNumberOfShards = null;
+
   /** Constructor. */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
+    this(client, settings, indexName, null);
+  }
+
+  /** Constructor with the node-level cache of the index mappings. */
+  public OpenSearchIndex(
+      OpenSearchClient client,
+      Settings settings,
+      String indexName,
+      IndexMappingCache mappingCache) {
     this.client = client;
     this.settings = settings;
     this.indexName = new OpenSearchRequest.IndexName(indexName);
+    this.mappingCache = mappingCache;
   }
 
   @Override
@@ -109,17 +143,19 @@ public class OpenSearchIndex implements Table {
    */
   @Override
   public Map<String, ExprType> getFieldTypes() {
-    if (cachedFieldOpenSearchTypes == null) {
-      cachedFieldOpenSearchTypes =
-          new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
-    }
     if (cachedFieldTypes == null) {
       cachedFieldTypes =
-          OpenSearchDataType.traverseAndFlatten(cachedFieldOpenSearchTypes).entrySet().stream()
-              .collect(
-                  LinkedHashMap::new,
-                  (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
-                  Map::putAll);
+          cachedMapping()
+              .map(IndexMappingCache.Mapping::getFieldTypes)
+              .orElseGet(
+                  () ->
+                      OpenSearchDataType.traverseAndFlatten(getFieldOpenSearchTypes())
+                          .entrySet()
+                          .stream()
+                          .collect(
+                              LinkedHashMap::new,
+                              (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
+                              Map::putAll));
     }
     return cachedFieldTypes;
   }
@@ -137,7 +173,10 @@ public class OpenSearchIndex implements Table {
   public Map<String, OpenSearchDataType> getFieldOpenSearchTypes() {
     if (cachedFieldOpenSearchTypes == null) {
       cachedFieldOpenSearchTypes =
-          new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
+          cachedMapping()
+              .map(IndexMappingCache.Mapping::getFieldOpenSearchTypes)
+              .orElseGet(
+                  () -> new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes());
     }
     return cachedFieldOpenSearchTypes;
   }
@@ -146,31 +185,116 @@ public class OpenSearchIndex implements Table {
   public Integer getMaxResultWindow() {
     if (cachedMaxResultWindow == null) {
       cachedMaxResultWindow =
-          new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow();
+          cachedMapping()
+              .map(IndexMappingCache.Mapping::getMaxResultWindow)
+              .orElseGet(
+                  () -> new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow());
     }
     return cachedMaxResultWindow;
   }
 
+  /** Get the number of shards setting of the table. */
+  public Integer getNumberOfShards() {
+    if (cachedNumberOfShards == null) {
+      cachedNumberOfShards =
+          cachedMapping()
+              .map(IndexMappingCache.Mapping::getNumberOfShards)
+              .orElseGet(
+                  () -> new OpenSearchDescribeIndexRequest(client, indexName).getNumberOfShards());
+    }
+    return cachedNumberOfShards;
+  }
+
+  /** Get the maximum number of shards setting of the indices of the table. */
+  public Integer getMaxNumberOfShards() {
+    if (cachedMaxNumberOfShards == null) {
+      cachedMaxNumberOfShards =
+          cachedMapping()
+              .map(IndexMappingCache.Mapping::getMaxNumberOfShards)
+              .orElseGet(
+                  () ->
+                      new OpenSearchDescribeIndexRequest(client, indexName).getMaxNumberOfShards());
+    }
+    return cachedMaxNumberOfShards;
+  }
+
+  /** Mapping of the indices from the node-level cache, if it is enabled and has them. */
+  private Optional<IndexMappingCache.Mapping> cachedMapping() {
+    if (mappingCache == null
+        || !(Boolean) settings.getSettingValue(Settings.Key.QUERY_MAPPING_CACHE_ENABLED)) {
+      return Optional.empty();
+    }
+    return mappingCache.get(indexName);
+  }
+
   /** TODO: Push down operations to index scan operator as much as possible in future. */
   @Override
   public PhysicalPlan implement(LogicalPlan plan) {
     // TODO: Leave it here to avoid impact Prometheus and AD operators. Need to move to Planner.
-    return plan.accept(new OpenSearchDefaultImplementor(client), null);
+    boolean distributedFragments =
+        settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS);
+    return plan.accept(
+        new OpenSearchDefaultImplementor(
+            client,
+            distributedFragments ? settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT) : 0),
+        null);
   }
 
   @Override
   public TableScanBuilder createScanBuilder() {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
 
+    final int prefetchPages = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES);
+    final int maxSlices = settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES);
+    final boolean pointInTime = settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME);
+    final boolean docValues = settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES);
+    final int lateMaterializationRows =
+        settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS);
+    final int aggregationPageSize =
+        settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE);
+    final boolean expressionCodec =
+        settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC);
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
-    var builder = new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory());
+    var builder =
+        new OpenSearchRequestBuilder(
+            querySizeLimit,
+            createExprValueFactory(),
+            docValues,
+            aggregationPageSize,
+            expressionCodec);
     Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
-        requestBuilder ->
-            new OpenSearchIndexScan(
+        requestBuilder -> {
+          OpenSearchRequest request =
+              requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive);
+          // only a scroll returns more than one page, and a paginated one must stop at its cursor
+          boolean prefetch =
+              request instanceof OpenSearchScrollRequest && requestBuilder.getPageSize() == null;
+          boolean slice = prefetch && maxSlices > 1;
+          if (request instanceof OpenSearchScrollRequest && pointInTime) {
+            request = new OpenSearchPitRequest((OpenSearchScrollRequest) request, client);
+            // a point in time is searched page by page with search_after instead of slices
+            slice = false;
+          }
+          if (slice && requestBuilder.isSorted()) {
+            // slices would lose the order, so the shards are scanned in groups merged in order
+            int shards = getMaxNumberOfShards();
+            return new OpenSearchIndexScan(
                 client,
                 requestBuilder.getMaxResponseSize(),
-                requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+                request,
+                prefetchPages,
+                Math.min(maxSlices, shards),
+                shards);
+          }
+          // more slices than shards are slow
+          return new OpenSearchIndexScan(
+              client,
+              requestBuilder.getMaxResponseSize(),
+              request,
+              prefetch ? prefetchPages : 0,
+              slice ? Math.min(maxSlices, getNumberOfShards()) : 1);
+        };
+    return new OpenSearchIndexScanBuilder(builder, createScanOperator, lateMaterializationRows);
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
@@ -181,11 +305,79 @@ public class OpenSearchIndex implements Table {
   }
 
   @VisibleForTesting
-  @RequiredArgsConstructor
   public static class OpenSearchDefaultImplementor extends DefaultImplementor<OpenSearchIndexScan> {
 
     private final OpenSearchClient client;
 
+    /**
+     * Number of rows of the scans shipped to the data nodes with the filters and evaluations on top
+     * of them, or 0 to execute every operator on the coordinator. A scan limited to fewer rows is
+     * not shipped, since the nodes would return up to the limit each out of more rows, nor is an
+     * operator whose expressions can't be encoded.
+     */
+    private final int fragmentScanSize;
+
+    public OpenSearchDefaultImplementor(OpenSearchClient client) {
+      this(client, 0);
+    }
+
+    public OpenSearchDefaultImplementor(OpenSearchClient client, int fragmentScanSize) {
+      this.client = client;
+      this.fragmentScanSize = fragmentScanSize;
+    }
+
+    @Override
+    public PhysicalPlan visitFilter(LogicalFilter node, OpenSearchIndexScan context) {
+      PhysicalPlan child = visitChild(node, context);
+      return fragmentScanOf(child)
+          .map(scan -> scan.then(new PlanFragment.Filter(node.getCondition())))
+          .filter(scan -> scan.getFragment().isEncodable())
+          .<PhysicalPlan>map(scan -> scan)
+          .orElseGet(() -> new FilterOperator(child, node.getCondition()));
+    }
+
+    @Override
+    public PhysicalPlan visitEval(LogicalEval node, OpenSearchIndexScan context) {
+      PhysicalPlan child = visitChild(node, context);
+      return fragmentScanOf(child)
+          .map(scan -> scan.then(new PlanFragment.Eval(node.getExpressions())))
+          .filter(scan -> scan.getFragment().isEncodable())
+          .<PhysicalPlan>map(scan -> scan)
+          .orElseGet(() -> new EvalOperator(child, node.getExpressions()));
+    }
+
+    @Override
+    public PhysicalPlan visitPaginate(LogicalPaginate plan, OpenSearchIndexScan context) {
+      // a page is continued through a cursor, which a fragment can't be serialized into
+      return new OpenSearchDefaultImplementor(client).visitChild(plan, context);
+    }
+
+    /**
+     * The scan of the fragment to add a row-wise operator to, if the input is one already or an
+     * unsorted scroll over the whole index.
+     */
+    private Optional<PlanFragmentScan> fragmentScanOf(PhysicalPlan input) {
+      if (input instanceof PlanFragmentScan) {
+        return Optional.of((PlanFragmentScan) input);
+      }
+      if (fragmentScanSize > 0 && input instanceof OpenSearchIndexScan) {
+        OpenSearchIndexScan scan = (OpenSearchIndexScan) input;
+        if (scan.getMaxResponseSize() == fragmentScanSize
+            && scan.getRequest() instanceof OpenSearchScrollRequest) {
+          OpenSearchScrollRequest request = (OpenSearchScrollRequest) scan.getRequest();
+          SearchSourceBuilder source = request.getInitialSearchRequest().source();
+          // the order of the rows and the offset are lost once the nodes are concatenated
+          if ((source.sorts() == null
+                  || source.sorts().equals(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME))))
+              && source.from() <= 0) {
+            return Optional.of(
+                new PlanFragmentScan(client, new PlanFragment(request, fragmentScanSize)));
+          }
+        }
+      }
+      return Optional.empty();
+    }
+
     @Override
     public PhysicalPlan visitMLCommons(LogicalMLCommons node, OpenSearchIndexScan context) {
       return new MLCommonsOperator(
@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.DataSourceSchemaName;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.storage.system.OpenSearchSystemIndex;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.storage.Table;
@@ -25,12 +26,19 @@ public class OpenSearchStorageEngine implements StorageEngine {
 
   @Getter private final Settings settings;
 
+  /** Node-level cache of the index mappings, or null to describe the indices on each query. */
+  private final IndexMappingCache mappingCache;
+
+  public OpenSearchStorageEngine(OpenSearchClient client, Settings settings) {
+    this(client, settings, null);
+  }
+
   @Override
   public Table getTable(DataSourceSchemaName dataSourceSchemaName, String name) {
     if (isSystemIndex(name)) {
       return new OpenSearchSystemIndex(client, name);
     } else {
-      return new OpenSearchIndex(client, settings, name);
+      return new OpenSearchIndex(client, settings, name, mappingCache);
     }
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_INDEX;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.read.TableFetchOperator;
+
+/**
+ * OpenSearch index fetch operator. It fetches the documents of the rows left by the input by their
+ * index and id in a single search once the input is drained, and returns each row with the fields
+ * of its document added. The values of the input row win, as they may be evaluated from the
+ * document.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString(onlyExplicitlyIncluded = true)
+public class OpenSearchIndexFetch extends TableFetchOperator {
+
+  /** Value factory of the index. */
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** Whether to fetch the fields with doc values through doc values. */
+  private final boolean fetchDocValues;
+
+  /** Creates the scan of the documents to fetch. */
+  private final Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory;
+
+  /** Rows of the input with the fields of their documents. */
+  @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+
+  /** Constructor. */
+  public OpenSearchIndexFetch(
+      PhysicalPlan input,
+      OpenSearchExprValueFactory exprValueFactory,
+      boolean fetchDocValues,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    super(input);
+    this.exprValueFactory = exprValueFactory;
+    this.fetchDocValues = fetchDocValues;
+    this.scanFactory = scanFactory;
+  }
+
+  @Override
+  public OpenSearchIndexFetch withInput(PhysicalPlan input) {
+    return new OpenSearchIndexFetch(input, exprValueFactory, fetchDocValues, scanFactory);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    List<ExprValue> rows = new ArrayList<>();
+    while (input.hasNext()) {
+      rows.add(input.next());
+    }
+    Map<List<String>, Map<String, ExprValue>> documents =
+        rows.isEmpty() ? Collections.emptyMap() : fetch(rows);
+    iterator = rows.stream().map(row -> addDocument(row, documents)).iterator();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  @Override
+  @ToString.Include
+  public String explain() {
+    return String.format("fetch %s by _index and _id", documentFieldNames());
+  }
+
+  private Map<List<String>, Map<String, ExprValue>> fetch(List<ExprValue> rows) {
+    Map<String, Set<String>> idsByIndex = new LinkedHashMap<>();
+    rows.forEach(
+        row ->
+            idsByIndex
+                .computeIfAbsent(
+                    fieldValue(row, METADATA_FIELD_INDEX), index -> new LinkedHashSet<>())
+                .add(fieldValue(row, METADATA_FIELD_ID)));
+    BoolQueryBuilder query = boolQuery();
+    idsByIndex.forEach(
+        (index, ids) ->
+            query.should(
+                boolQuery()
+                    .filter(termQuery(METADATA_FIELD_INDEX, index))
+                    .filter(idsQuery().addIds(ids.toArray(String[]::new)))));
+
+    OpenSearchRequestBuilder requestBuilder =
+        new OpenSearchRequestBuilder(rows.size(), exprValueFactory, fetchDocValues);
+    requestBuilder.pushDownFilter(query);
+    requestBuilder.pushDownProjects(
+        documentFieldNames().stream()
+            .map(
+                name ->
+                    new ReferenceExpression(
+                        name,
+                        METADATAFIELD_TYPE_MAP.getOrDefault(
+                            name, exprValueFactory.getTypeMapping().get(name))))
+            .collect(Collectors.toSet()));
+
+    Map<List<String>, Map<String, ExprValue>> documents = new HashMap<>();
+    try (OpenSearchIndexScan scan = scanFactory.apply(requestBuilder)) {
+      scan.open();
+      scan.forEachRemaining(document -> documents.put(key(document), document.tupleValue()));
+    }
+    return documents;
+  }
+
+  private ExprValue addDocument(
+      ExprValue row, Map<List<String>, Map<String, ExprValue>> documents) {
+    Map<String, ExprValue> document = documents.get(key(row));
+    if (document == null) {
+      // deleted since the input was scanned
+      return row;
+    }
+    LinkedHashMap<String, ExprValue> values = new LinkedHashMap<>(document);
+    values.putAll(row.tupleValue());
+    return new ExprTupleValue(values);
+  }
+
+  /** Top level fields of the index, and the metadata fields identifying the document. */
+  private List<String> documentFieldNames() {
+    List<String> names =
+        exprValueFactory.getTypeMapping().keySet().stream()
+            .filter(name -> !name.contains("."))
+            .sorted()
+            .collect(Collectors.toList());
+    names.add(METADATA_FIELD_INDEX);
+    names.add(METADATA_FIELD_ID);
+    return names;
+  }
+
+  private static List<String> key(ExprValue row) {
+    return List.of(fieldValue(row, METADATA_FIELD_INDEX), fieldValue(row, METADATA_FIELD_ID));
+  }
+
+  private static String fieldValue(ExprValue row, String field) {
+    return row.tupleValue().get(field).stringValue();
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
+import org.opensearch.sql.storage.read.TableFetchOperator;
+
+/**
+ * Table fetch builder for OpenSearch. It is created by {@link OpenSearchIndexScanBuilder} when the
+ * index scan under a top-k reads only the fields the top-k needs.
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(onlyExplicitlyIncluded = true)
+public class OpenSearchIndexFetchBuilder extends TableFetchBuilder {
+
+  /** Value factory of the index. */
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** Whether to fetch the fields with doc values through doc values. */
+  private final boolean fetchDocValues;
+
+  /** Creates the scan of the documents to fetch. */
+  private final Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory;
+
+  /** Constructor. */
+  public OpenSearchIndexFetchBuilder(
+      LogicalPlan child,
+      OpenSearchExprValueFactory exprValueFactory,
+      boolean fetchDocValues,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    super(child);
+    this.exprValueFactory = exprValueFactory;
+    this.fetchDocValues = fetchDocValues;
+    this.scanFactory = scanFactory;
+  }
+
+  @Override
+  public TableFetchOperator build(PhysicalPlan child) {
+    return new OpenSearchIndexFetch(child, exprValueFactory, fetchDocValues, scanFactory);
+  }
+}
@@ -10,14 +10,19 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -30,17 +35,45 @@ import org.opensearch.sql.storage.TableScanOperator;
 @ToString(onlyExplicitlyIncluded = true)
 public class OpenSearchIndexScan extends TableScanOperator implements SerializablePlan {
 
+  /** Tag of the type of the request serialized into a cursor, written as a byte before it. */
+  private static final byte SCROLL_REQUEST = 0;
+
+  private static final byte PIT_REQUEST = 1;
+
+  private static final byte COMPOSITE_REQUEST = 2;
+
   /** OpenSearch client. */
   private OpenSearchClient client;
 
   /** Search request. */
-  @EqualsAndHashCode.Include @ToString.Include private OpenSearchRequest request;
+  @Getter @EqualsAndHashCode.Include @ToString.Include private OpenSearchRequest request;
 
   /** Largest number of rows allowed in the response. */
-  @EqualsAndHashCode.Include @ToString.Include private int maxResponseSize;
+  @Getter @EqualsAndHashCode.Include @ToString.Include private int maxResponseSize;
+
+  /** Number of pages to fetch ahead in background, or 0 to fetch each page on demand. */
+  @EqualsAndHashCode.Include private int prefetchPages;
+
+  /** Number of slices to split the scroll request into and fetch concurrently. */
+  @EqualsAndHashCode.Include private int slices;
+
+  /**
+   * Number of shards of a sorted scroll request, which is split into groups of shards merged in
+   * order instead of slices, or 0 if not sorted.
+   */
+  @EqualsAndHashCode.Include private int shards;
+
+  /** Requests to fetch, which are the slices of the search request if sliced. */
+  private List<OpenSearchRequest> requests;
+
+  /** Fetches the pages in background when prefetched or sliced. */
+  private PagePrefetcher prefetcher;
+
+  /** Merges the rows of the groups of shards in order when split by shards. */
+  private OrderedMerge merge;
 
-  /** Number of rows returned. */
-  private Integer queryCount;
+  /** Number of rows returned, which is the scan ordinal of the next row. */
+  @Getter private Integer queryCount;
 
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
@@ -48,9 +81,41 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Creates index scan based on a provided OpenSearchRequestBuilder. */
   public OpenSearchIndexScan(
       OpenSearchClient client, int maxResponseSize, OpenSearchRequest request) {
+    this(client, maxResponseSize, request, 0, 1);
+  }
+
+  /**
+   * Creates index scan which fetches up to the given number of pages ahead in background, and
+   * splits the scroll request into the given number of slices fetched concurrently. The scan can't
+   * be serialized into a cursor then, because the request is ahead of the rows returned.
+   */
+  public OpenSearchIndexScan(
+      OpenSearchClient client,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchPages,
+      int slices) {
+    this(client, maxResponseSize, request, prefetchPages, slices, 0);
+  }
+
+  /**
+   * Creates index scan of a sorted scroll request, which is split into the given number of groups
+   * of shards fetched concurrently. The rows of the groups are merged in the order of the request.
+   */
+  public OpenSearchIndexScan(
+      OpenSearchClient client,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchPages,
+      int slices,
+      int shards) {
     this.client = client;
     this.maxResponseSize = maxResponseSize;
     this.request = request;
+    this.prefetchPages = prefetchPages;
+    this.slices = slices;
+    this.shards = shards;
+    this.requests = List.of(request);
   }
 
   @Override
@@ -58,6 +123,26 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     super.open();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    if (slices > 1 && shards > 0) {
+      OpenSearchScrollRequest scrollRequest = (OpenSearchScrollRequest) request;
+      requests = List.copyOf(scrollRequest.splitByShards(slices, shards));
+      merge =
+          new OrderedMerge(
+              client,
+              requests,
+              scrollRequest.getInitialSearchRequest().source().sorts(),
+              Math.max(prefetchPages, 1));
+      merge.start();
+      iterator = merge;
+      return;
+    }
+    if (slices > 1) {
+      requests = List.copyOf(((OpenSearchScrollRequest) request).slice(slices));
+    }
+    if (prefetchPages > 0 || slices > 1) {
+      prefetcher = new PagePrefetcher(client, requests, Math.max(prefetchPages, slices));
+      prefetcher.start();
+    }
     fetchNextBatch();
   }
 
@@ -78,7 +163,12 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
+    if (merge != null) {
+      // the merge returns all the rows at once
+      return;
+    }
+    OpenSearchResponse response =
+        prefetcher == null ? client.search(request) : prefetcher.nextPage();
     if (!response.isEmpty()) {
       iterator = response.iterator();
     }
@@ -88,7 +178,13 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   public void close() {
     super.close();
 
-    client.cleanup(request);
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
+    if (merge != null) {
+      merge.close();
+    }
+    requests.forEach(client::cleanup);
   }
 
   @Override
@@ -108,33 +204,48 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   public void readExternal(ObjectInput in) throws IOException {
     int reqSize = in.readInt();
     byte[] requestStream = new byte[reqSize];
-    in.read(requestStream);
+    in.readFully(requestStream);
 
     var engine =
-        (OpenSearchStorageEngine)
-            ((PlanSerializer.CursorDeserializationStream) in).resolveObject("engine");
+        (OpenSearchStorageEngine) ((PlanSerializer.CursorDeserializationStream) in).getEngine();
 
     try (BytesStreamInput bsi = new BytesStreamInput(requestStream)) {
-      request = new OpenSearchScrollRequest(bsi, engine);
+      byte type = bsi.readByte();
+      if (type == COMPOSITE_REQUEST) {
+        request = new OpenSearchCompositeRequest(bsi, engine);
+      } else if (type == PIT_REQUEST) {
+        request = new OpenSearchPitRequest(bsi, engine);
+      } else {
+        request = new OpenSearchScrollRequest(bsi, engine);
+      }
     }
     maxResponseSize = in.readInt();
+    slices = 1;
+    requests = List.of(request);
 
     client = engine.getClient();
   }
 
   @Override
   public void writeExternal(ObjectOutput out) throws IOException {
-    if (!request.hasAnotherBatch()) {
+    if (prefetchPages > 0 || slices > 1 || !request.hasAnotherBatch()) {
       throw new NoCursorException();
     }
     // request is not directly Serializable so..
     // 1. Serialize request to an opensearch byte stream.
     BytesStreamOutput reqOut = new BytesStreamOutput();
+    if (request instanceof OpenSearchCompositeRequest) {
+      reqOut.writeByte(COMPOSITE_REQUEST);
+    } else if (request instanceof OpenSearchPitRequest) {
+      reqOut.writeByte(PIT_REQUEST);
+    } else {
+      reqOut.writeByte(SCROLL_REQUEST);
+    }
     request.writeTo(reqOut);
     reqOut.flush();
 
-    // 2. Extract byte[] from the opensearch byte stream
-    var reqAsBytes = reqOut.bytes().toBytesRef().bytes;
+    // 2. Extract byte[] from the opensearch byte stream, without the spare capacity of its buffer
+    var reqAsBytes = BytesReference.toBytes(reqOut.bytes());
 
     // 3. Write out the byte[] to object output stream.
     out.writeInt(reqAsBytes.length);
@@ -19,9 +19,11 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 /** Index scan builder for aggregate query used by {@link OpenSearchIndexScanBuilder} internally. */
@@ -50,11 +52,16 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
   @Override
   public OpenSearchRequestBuilder build() {
     AggregationQueryBuilder builder =
-        new AggregationQueryBuilder(new DefaultExpressionSerializer());
+        new AggregationQueryBuilder(
+            new DefaultExpressionSerializer(requestBuilder.isEncodeExpressions()));
     Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
         builder.buildAggregationBuilder(aggregatorList, groupByList, sortList);
     requestBuilder.pushDownAggregation(aggregationBuilder);
     requestBuilder.pushTypeMapping(builder.buildTypeMapping(aggregatorList, groupByList));
+    if (!groupByList.isEmpty()) {
+      requestBuilder.pushDownGroupedAggregation(
+          new GroupedAggregation(aggregatorList, groupByList, sortList));
+    }
     return requestBuilder;
   }
 
@@ -63,6 +70,16 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     return false;
   }
 
+  /** A page of a grouped aggregation is a page of the buckets of its composite aggregation. */
+  @Override
+  public boolean pushDownPageSize(LogicalPaginate paginate) {
+    if (groupByList.isEmpty()) {
+      return false;
+    }
+    requestBuilder.pushDownPageSize(paginate.getPageSize());
+    return true;
+  }
+
   @Override
   public boolean pushDownSort(LogicalSort sort) {
     if (hasAggregatorInSortBy(sort)) {
@@ -7,6 +7,8 @@ package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.opensearch.sql.analysis.NestedAnalyzer.isNestedFunction;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -19,7 +21,9 @@ import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopK;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.read.TableFetchBuilder;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 
 /**
@@ -34,6 +38,9 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   /** Delegated index scan builder for non-aggregate or aggregate query. */
   @EqualsAndHashCode.Include private PushDownQueryBuilder delegate;
 
+  /** Maximum number of rows left by a top-k whose documents are fetched late, 0 to disable. */
+  private final int lateMaterializationRows;
+
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
@@ -41,16 +48,32 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   public OpenSearchIndexScanBuilder(
       OpenSearchRequestBuilder requestBuilder,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
-    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
-    this.scanFactory = scanFactory;
+    this(requestBuilder, scanFactory, 0);
+  }
+
+  /** Constructor used during query execution. */
+  public OpenSearchIndexScanBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory,
+      int lateMaterializationRows) {
+    this(new OpenSearchIndexScanQueryBuilder(requestBuilder), scanFactory, lateMaterializationRows);
   }
 
   /** Constructor used for unit tests. */
   protected OpenSearchIndexScanBuilder(
       PushDownQueryBuilder translator,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    this(translator, scanFactory, 0);
+  }
+
+  /** Constructor used for unit tests. */
+  protected OpenSearchIndexScanBuilder(
+      PushDownQueryBuilder translator,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory,
+      int lateMaterializationRows) {
     this.delegate = translator;
     this.scanFactory = scanFactory;
+    this.lateMaterializationRows = lateMaterializationRows;
   }
 
   @Override
@@ -110,6 +133,22 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
     return delegate.pushDownNested(nested);
   }
 
+  @Override
+  public Optional<TableFetchBuilder> pushDownLateMaterialization(
+      LogicalTopK topK, Set<ReferenceExpression> fields) {
+    if (topK.getLimit() + topK.getOffset() > lateMaterializationRows
+        || !delegate.pushDownLateMaterialization(fields)) {
+      return Optional.empty();
+    }
+    OpenSearchRequestBuilder requestBuilder = delegate.build();
+    return Optional.of(
+        new OpenSearchIndexFetchBuilder(
+            topK,
+            requestBuilder.getExprValueFactory(),
+            requestBuilder.isFetchDocValues(),
+            scanFactory));
+  }
+
   /**
    * Valid if sorting is only by fields.
    *
@@ -5,12 +5,15 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.index.query.QueryBuilder;
@@ -50,7 +53,9 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
-    FilterQueryBuilder queryBuilder = new FilterQueryBuilder(new DefaultExpressionSerializer());
+    FilterQueryBuilder queryBuilder =
+        new FilterQueryBuilder(
+            new DefaultExpressionSerializer(requestBuilder.isEncodeExpressions()));
     Expression queryCondition = filter.getCondition();
     QueryBuilder query = queryBuilder.build(queryCondition);
     requestBuilder.pushDownFilter(query);
@@ -120,11 +125,39 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
     return false;
   }
 
+  /**
+   * Read only the given fields and the metadata fields, if they are at most half of the fields of
+   * the index. The rest of the columns are fetched late for the rows left by a top-k.
+   */
+  @Override
+  public boolean pushDownLateMaterialization(Set<ReferenceExpression> fields) {
+    Set<String> indexFields =
+        topLevelFields(requestBuilder.getExprValueFactory().getTypeMapping().keySet().stream());
+    Set<String> readFields = topLevelFields(fields.stream().map(ReferenceExpression::getAttr));
+    readFields.retainAll(indexFields);
+    if (!requestBuilder.getIncludes().isEmpty() || readFields.size() * 2 > indexFields.size()) {
+      return false;
+    }
+
+    Set<ReferenceExpression> projects = new HashSet<>(fields);
+    METADATAFIELD_TYPE_MAP.forEach(
+        (name, type) -> projects.add(new ReferenceExpression(name, type)));
+    requestBuilder.pushDownProjects(projects);
+    return true;
+  }
+
   @Override
   public OpenSearchRequestBuilder build() {
     return requestBuilder;
   }
 
+  private static Set<String> topLevelFields(Stream<String> fields) {
+    return fields
+        .map(field -> field.split("\\.", 2)[0])
+        .filter(field -> !METADATAFIELD_TYPE_MAP.containsKey(field))
+        .collect(Collectors.toSet());
+  }
+
   /**
    * Find reference expression from expression.
    *
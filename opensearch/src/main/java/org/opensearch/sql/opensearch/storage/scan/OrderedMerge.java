@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Merges the rows of search requests sorted the same way, such as the groups of shards of a sorted
+ * scan, into a single stream in that order. The pages of each request are fetched in background by
+ * a {@link PagePrefetcher} of its own, which buffers a bounded number of pages ahead, and the rows
+ * are merged by the sort values of their hits.
+ */
+class OrderedMerge implements Iterator<ExprValue> {
+
+  private final List<PagePrefetcher> prefetchers;
+
+  /** Next row of each request with rows left, the smallest first. */
+  private final PriorityQueue<Head> heads;
+
+  OrderedMerge(
+      OpenSearchClient client,
+      List<OpenSearchRequest> requests,
+      List<SortBuilder<?>> sorts,
+      int capacity) {
+    this.prefetchers =
+        requests.stream()
+            .map(request -> new PagePrefetcher(client, List.of(request), capacity))
+            .collect(Collectors.toList());
+    Comparator<Object[]> comparator = comparator(sorts);
+    this.heads =
+        new PriorityQueue<>(
+            requests.size(),
+            (left, right) -> comparator.compare(left.sortValues, right.sortValues));
+  }
+
+  /** Start fetching the pages of every request, and wait for the first row of each. */
+  void start() {
+    prefetchers.forEach(PagePrefetcher::start);
+    prefetchers.forEach(prefetcher -> advance(new Head(prefetcher)));
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public ExprValue next() {
+    Head head = heads.poll();
+    ExprValue row = head.row;
+    advance(head);
+    return row;
+  }
+
+  /** Stop fetching the pages of every request. */
+  void close() {
+    prefetchers.forEach(PagePrefetcher::close);
+  }
+
+  /** Move the head to the next row of its request, and queue it unless there is none. */
+  private void advance(Head head) {
+    while (!head.rows.hasNext()) {
+      OpenSearchResponse page = head.prefetcher.nextPage();
+      if (page.isEmpty()) {
+        return;
+      }
+      head.rows = page.iterator();
+      head.pageSortValues = page.getSortValues().iterator();
+    }
+    head.row = head.rows.next();
+    head.sortValues = head.pageSortValues.next();
+    heads.add(head);
+  }
+
+  /**
+   * Compare the sort values of hits by the sorts of the search. A missing value, which is only
+   * returned as null for some fields, is placed first or last regardless of the order as the search
+   * does.
+   */
+  static Comparator<Object[]> comparator(List<SortBuilder<?>> sorts) {
+    return (left, right) -> {
+      for (int i = 0; i < sorts.size(); i++) {
+        SortBuilder<?> sort = sorts.get(i);
+        boolean missingFirst =
+            sort instanceof FieldSortBuilder
+                && "_first".equals(((FieldSortBuilder) sort).missing());
+        int result = compare(left[i], right[i], sort.order(), missingFirst);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object left, Object right, SortOrder order, boolean missingFirst) {
+    if (left == null || right == null) {
+      if (left == right) {
+        return 0;
+      }
+      return (left == null) == missingFirst ? -1 : 1;
+    }
+    int result;
+    if (left.getClass() == right.getClass()) {
+      result = ((Comparable<Object>) left).compareTo(right);
+    } else if (left instanceof Number && right instanceof Number) {
+      // the same field may be mapped to different numeric types in different indices
+      result = Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+    } else {
+      result = left.toString().compareTo(right.toString());
+    }
+    return order == SortOrder.DESC ? -result : result;
+  }
+
+  /** Current row of a request and the sort values of its hit. */
+  private static class Head {
+    private final PagePrefetcher prefetcher;
+    private Iterator<ExprValue> rows = Collections.emptyIterator();
+    private Iterator<Object[]> pageSortValues = Collections.emptyIterator();
+    private ExprValue row;
+    private Object[] sortValues;
+
+    private Head(PagePrefetcher prefetcher) {
+      this.prefetcher = prefetcher;
+    }
+  }
+}
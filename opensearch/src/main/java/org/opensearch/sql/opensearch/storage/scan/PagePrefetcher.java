@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetches the pages of search requests in background while the previous pages are consumed. A
+ * request is stateful, so a background task per request issues its searches one after another. The
+ * tasks of independent requests, such as the slices of a scroll, run concurrently and their pages
+ * are merged as they arrive, with at most {@code capacity} pages buffered ahead of the consumer.
+ * The empty page ending the last search, or the exception thrown by any search, is handed over to
+ * the consumer in order and returned again by any later call.
+ */
+class PagePrefetcher {
+
+  /** Interval to check for cancellation while the buffer is full. */
+  private static final long CANCEL_CHECK_INTERVAL_MS = 100;
+
+  private final OpenSearchClient client;
+
+  private final List<OpenSearchRequest> requests;
+
+  /** Pages fetched and not consumed yet. Taking a page either returns it or throws. */
+  private final BlockingQueue<Supplier<OpenSearchResponse>> pages;
+
+  /** Number of requests with more pages to fetch. */
+  private final AtomicInteger running;
+
+  /** Counted down when a background task exits. */
+  private final CountDownLatch finished;
+
+  private volatile boolean cancelled = false;
+
+  /** The empty page or the failure which ends the search, once consumed. */
+  private Supplier<OpenSearchResponse> last;
+
+  PagePrefetcher(OpenSearchClient client, List<OpenSearchRequest> requests, int capacity) {
+    this.client = client;
+    this.requests = requests;
+    this.pages = new ArrayBlockingQueue<>(capacity);
+    this.running = new AtomicInteger(requests.size());
+    this.finished = new CountDownLatch(requests.size());
+  }
+
+  /** Start fetching pages in background. */
+  void start() {
+    requests.forEach(request -> client.runInBackground(() -> fetchAll(request)));
+  }
+
+  /**
+   * Wait for the next page fetched.
+   *
+   * @return next page, which is empty when there is no more
+   */
+  OpenSearchResponse nextPage() {
+    if (last != null) {
+      return last.get();
+    }
+    Supplier<OpenSearchResponse> page;
+    try {
+      page = pages.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the next page", e);
+    }
+    try {
+      OpenSearchResponse response = page.get();
+      if (response.isEmpty()) {
+        last = page;
+      }
+      return response;
+    } catch (RuntimeException e) {
+      last = page;
+      throw e;
+    }
+  }
+
+  /**
+   * Stop fetching and wait for the searches in flight, if any, to complete. The requests can then
+   * be cleaned up safely.
+   */
+  void close() {
+    cancelled = true;
+    pages.clear();
+    try {
+      finished.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void fetchAll(OpenSearchRequest request) {
+    try {
+      boolean more = true;
+      while (more && !cancelled) {
+        Supplier<OpenSearchResponse> page;
+        try {
+          OpenSearchResponse response = client.search(request);
+          more = !response.isEmpty();
+          // only the last request to end hands over its empty page
+          if (!more && running.decrementAndGet() > 0) {
+            break;
+          }
+          page = () -> response;
+        } catch (RuntimeException e) {
+          more = false;
+          page =
+              () -> {
+                throw e;
+              };
+        }
+        put(page);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      finished.countDown();
+    }
+  }
+
+  private void put(Supplier<OpenSearchResponse> page) throws InterruptedException {
+    while (!cancelled) {
+      if (pages.offer(page, CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import java.util.Set;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
@@ -44,5 +46,9 @@ public interface PushDownQueryBuilder {
     return false;
   }
 
+  default boolean pushDownLateMaterialization(Set<ReferenceExpression> fields) {
+    return false;
+  }
+
   OpenSearchRequestBuilder build();
 }
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Set;
@@ -36,9 +38,20 @@ public class ExpressionScriptEngine implements ScriptEngine {
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
 
+  /** Maximum number of deserialized expressions cached. */
+  private static final int EXPRESSION_CACHE_SIZE = 1000;
+
   /** Expression serializer that (de-)serializes expression. */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Deserialized expressions of the scripts compiled recently, by script code. The same script is
+   * compiled again for every context and every query it is pushed down by, which doesn't need to
+   * deserialize the expression again since the expression is immutable.
+   */
+  private final Cache<String, Expression> expressions =
+      CacheBuilder.newBuilder().maximumSize(EXPRESSION_CACHE_SIZE).build();
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -47,21 +60,25 @@ public class ExpressionScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> params) {
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(
+          String.format(
+              "Script context is currently not supported: "
+                  + "all supported contexts [%s], given context [%s] ",
+              CONTEXTS, context));
+    }
+
     /*
      * Note that in fact the expression source is already compiled in query engine.
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
-
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    Expression expression = expressions.getIfPresent(scriptCode);
+    if (expression == null) {
+      expression = serializer.deserialize(scriptCode);
+      expressions.put(scriptCode, expression);
     }
-    throw new IllegalStateException(
-        String.format(
-            "Script context is currently not supported: "
-                + "all supported contexts [%s], given context [%s] ",
-            CONTEXTS, context));
+    return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
   }
 
   @Override
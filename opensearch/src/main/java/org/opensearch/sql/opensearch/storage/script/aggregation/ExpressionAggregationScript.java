@@ -35,12 +35,18 @@ public class ExpressionAggregationScript extends AggregationScript {
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = new ExpressionScript(expression, this::getDoc);
+  }
+
+  @Override
+  public void setDocument(int docId) {
+    super.setDocument(docId);
+    expressionScript.setDocument(docId);
   }
 
   @Override
   public Object execute() {
-    var expr = expressionScript.execute(this::getDoc, this::evaluateExpression);
+    var expr = expressionScript.execute(ExpressionAggregationScript::evaluateExpression);
     if (expr.type() instanceof OpenSearchDataType) {
       return expr.value();
     }
@@ -57,7 +63,7 @@ public class ExpressionAggregationScript extends AggregationScript {
     }
   }
 
-  private ExprValue evaluateExpression(
+  private static ExprValue evaluateExpression(
       Expression expression, Environment<Expression, ExprValue> valueEnv) {
     ExprValue result = expression.valueOf(valueEnv);
 
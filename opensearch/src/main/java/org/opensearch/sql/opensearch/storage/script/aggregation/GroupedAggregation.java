@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.aggregation;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+
+/**
+ * Aggregation grouped by expressions, which is pushed down as a composite aggregation. It is kept
+ * along with the request to rebuild the parser of the buckets when the request is read from a
+ * cursor, since the parser itself can't be serialized.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class GroupedAggregation implements Serializable {
+
+  /** Aggregators pushed down. */
+  private final List<NamedAggregator> aggregatorList;
+
+  /** Grouping items pushed down. */
+  private final List<NamedExpression> groupByList;
+
+  /** Sorting items pushed down, or null if not sorted. */
+  private final List<Pair<Sort.SortOption, Expression>> sortList;
+
+  /**
+   * Set the parser and the types of the buckets of the aggregation to a value factory.
+   *
+   * @param exprValueFactory value factory of the index
+   */
+  public void applyTo(OpenSearchExprValueFactory exprValueFactory) {
+    AggregationQueryBuilder builder =
+        new AggregationQueryBuilder(new DefaultExpressionSerializer());
+    exprValueFactory.setParser(
+        builder.buildAggregationBuilder(aggregatorList, groupByList, sortList).getRight());
+    exprValueFactory.extendTypeMapping(builder.buildTypeMapping(aggregatorList, groupByList));
+  }
+}
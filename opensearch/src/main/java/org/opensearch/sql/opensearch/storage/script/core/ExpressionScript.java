@@ -9,14 +9,16 @@ import static java.util.stream.Collectors.toMap;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
+import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
@@ -25,6 +27,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -34,6 +37,13 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 /**
  * Expression script executor that executes the expression on each document and determine if the
  * document is supposed to be filtered out or not.
+ *
+ * <p>A script is created for each segment, so everything that doesn't depend on the document is set
+ * up once per segment: the expression is compiled, and the fields it references are resolved to
+ * ordinals of slot arrays holding their doc value name, value converter and doc values accessor.
+ * The accessors are looked up at the first document and moved to the next documents directly, and
+ * the values are read into a reused slot array, which the environment of the expression resolves
+ * the references to by ordinal.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -41,45 +51,87 @@ public class ExpressionScript {
   /** Expression to execute. */
   private final Expression expression;
 
-  /** ElasticsearchExprValueFactory. */
-  @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory valueFactory;
+  /** Compiled expression. */
+  @EqualsAndHashCode.Exclude private final Expression compiled;
 
-  /** Reference Fields. */
-  @EqualsAndHashCode.Exclude private final Set<ReferenceExpression> fields;
+  /** Provider of the doc values of the current document. */
+  @EqualsAndHashCode.Exclude private final Supplier<Map<String, ScriptDocValues<?>>> docProvider;
 
-  /** Expression constructor. */
-  public ExpressionScript(Expression expression) {
+  /** Reference Fields, indexed by ordinal. */
+  @EqualsAndHashCode.Exclude private final ReferenceExpression[] fields;
+
+  /** Doc value name of each field. */
+  @EqualsAndHashCode.Exclude private final String[] docValueNames;
+
+  /** Converter of the doc value of each field. */
+  @EqualsAndHashCode.Exclude private final Function<Object, ExprValue>[] converters;
+
+  /** Doc values accessor of each field, or null until looked up at the first document. */
+  @EqualsAndHashCode.Exclude private ScriptDocValues<?>[] docValues;
+
+  /** Value of each field on the current document. */
+  @EqualsAndHashCode.Exclude private final ExprValue[] values;
+
+  /** Environment resolving the fields to their value on the current document. */
+  @EqualsAndHashCode.Exclude private final Environment<Expression, ExprValue> valueEnv;
+
+  /** Current document, or -1 if the doc provider is positioned by the caller. */
+  @EqualsAndHashCode.Exclude private int docId = -1;
+
+  /**
+   * Expression constructor.
+   *
+   * @param expression expression to execute
+   * @param docProvider provider of the doc values of the current document
+   */
+  @SuppressWarnings("unchecked")
+  public ExpressionScript(
+      Expression expression, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
     this.expression = expression;
+    this.docProvider = docProvider;
+    this.compiled =
+        AccessController.doPrivileged(
+            (PrivilegedAction<Expression>) () -> ExpressionCompiler.compile(expression));
     this.fields =
         AccessController.doPrivileged(
-            (PrivilegedAction<Set<ReferenceExpression>>) () -> extractFields(expression));
-    this.valueFactory =
+            (PrivilegedAction<ReferenceExpression[]>) () -> extractFields(expression));
+    OpenSearchExprValueFactory valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.docValueNames = new String[fields.length];
+    this.converters = new Function[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      docValueNames[i] =
+          OpenSearchTextType.convertTextToKeyword(fields[i].getAttr(), fields[i].type());
+      converters[i] = valueFactory.converter(fields[i].getAttr());
+    }
+    this.values = new ExprValue[fields.length];
+    this.valueEnv = this::resolve;
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Move to the document to execute the expression on next.
+   *
+   * @param docId document id in the segment
+   */
+  public void setDocument(int docId) {
+    this.docId = docId;
+  }
+
+  /**
+   * Evaluate on the current document.
    *
-   * @param docProvider doc provider.
    * @param evaluator evaluator
    * @return expr value
    */
   public ExprValue execute(
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider,
       BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator) {
-    return AccessController.doPrivileged(
-        (PrivilegedAction<ExprValue>)
-            () -> {
-              Environment<Expression, ExprValue> valueEnv =
-                  buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
-              return result;
-            });
+    readDocValues();
+    return evaluator.apply(compiled, valueEnv);
   }
 
-  private Set<ReferenceExpression> extractFields(Expression expr) {
-    Set<ReferenceExpression> fields = new HashSet<>();
+  private ReferenceExpression[] extractFields(Expression expr) {
+    Set<ReferenceExpression> fields = new LinkedHashSet<>();
     expr.accept(
         new ExpressionNodeVisitor<Object, Set<ReferenceExpression>>() {
           @Override
@@ -95,36 +147,64 @@ public class ExpressionScript {
           }
         },
         fields);
-    return fields;
+    return fields.toArray(new ReferenceExpression[0]);
   }
 
-  private OpenSearchExprValueFactory buildValueFactory(Set<ReferenceExpression> fields) {
+  private OpenSearchExprValueFactory buildValueFactory(ReferenceExpression[] fields) {
     Map<String, OpenSearchDataType> typeEnv =
-        fields.stream()
+        Arrays.stream(fields)
             .collect(toMap(ReferenceExpression::getAttr, e -> OpenSearchDataType.of(e.type())));
     return new OpenSearchExprValueFactory(typeEnv);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields,
-      OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue =
-          valueFactory.construct(fieldName, getDocValue(field, docProvider), false);
-      valueEnv.put(field, exprValue);
+  /**
+   * Read the value of each field on the current document. The doc values accessors are looked up by
+   * the doc provider at the first document, or at every document if the caller positions the doc
+   * provider itself.
+   */
+  private void readDocValues() {
+    if (docValues == null || docId < 0) {
+      docValues = new ScriptDocValues<?>[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        docValues[i] = docProvider.get().get(docValueNames[i]);
+      }
+    } else {
+      for (ScriptDocValues<?> docValue : docValues) {
+        moveToDocument(docValue);
+      }
+    }
+    for (int i = 0; i < fields.length; i++) {
+      values[i] = converters[i].apply(getDocValue(docValues[i], fields[i].type()));
+    }
+  }
+
+  private void moveToDocument(ScriptDocValues<?> docValue) {
+    if (docValue == null) {
+      return;
+    }
+    try {
+      docValue.setNextDocId(docId);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read doc values of document " + docId, e);
+    }
+  }
+
+  /** Resolve a field to its value on the current document, by identity first then by equality. */
+  private ExprValue resolve(Expression field) {
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i] == field) {
+        return values[i];
+      }
+    }
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].equals(field)) {
+        return values[i];
+      }
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
+    return null;
   }
 
-  private Object getDocValue(
-      ReferenceExpression field, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
+  private Object getDocValue(ScriptDocValues<?> docValue, ExprType type) {
     if (docValue == null || docValue.isEmpty()) {
       return null; // No way to differentiate null and missing from doc value
     }
@@ -133,7 +213,7 @@ public class ExpressionScript {
     if (value instanceof ChronoZonedDateTime) {
       return ((ChronoZonedDateTime<?>) value).toInstant();
     }
-    return castNumberToFieldType(value, field.type());
+    return castNumberToFieldType(value, type);
   }
 
   /**
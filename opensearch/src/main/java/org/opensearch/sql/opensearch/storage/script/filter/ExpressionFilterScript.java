@@ -33,15 +33,21 @@ class ExpressionFilterScript extends FilterScript {
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = new ExpressionScript(expression, this::getDoc);
+  }
+
+  @Override
+  public void setDocument(int docId) {
+    super.setDocument(docId);
+    expressionScript.setDocument(docId);
   }
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return expressionScript.execute(ExpressionFilterScript::evaluateExpression).booleanValue();
   }
 
-  private ExprValue evaluateExpression(
+  private static ExprValue evaluateExpression(
       Expression expression, Environment<Expression, ExprValue> valueEnv) {
     ExprValue result = expression.valueOf(valueEnv);
     if (result.isNull()) {
@@ -21,7 +21,8 @@ public class TermQuery extends LuceneQuery {
     return QueryBuilders.termQuery(fieldName, value(literal));
   }
 
-  private Object value(ExprValue literal) {
+  /** Term value of the literal, timestamp is in epoch millis. */
+  static Object value(ExprValue literal) {
     if (literal.type().equals(ExprCoreType.TIMESTAMP)) {
       return literal.timestampValue().toEpochMilli();
     } else {
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import java.util.stream.Collectors;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+
+/** Lucene query that builds a single terms query for IN predicate of literal values. */
+public class TermsQuery extends LuceneQuery {
+
+  /** Supported if the field is a reference, the values are always literals. */
+  @Override
+  public boolean canSupport(FunctionExpression func) {
+    return ((InPredicate) func).getField() instanceof ReferenceExpression;
+  }
+
+  /** IN predicate on nested field is left to script query. */
+  @Override
+  public boolean isNestedPredicate(FunctionExpression func) {
+    return false;
+  }
+
+  @Override
+  public QueryBuilder build(FunctionExpression func) {
+    InPredicate in = (InPredicate) func;
+    ReferenceExpression ref = (ReferenceExpression) in.getField();
+    return QueryBuilders.termsQuery(
+        OpenSearchTextType.convertTextToKeyword(ref.getAttr(), ref.type()),
+        in.getValueList().stream()
+            .map(Expression::valueOf)
+            .map(TermQuery::value)
+            .collect(Collectors.toList()));
+  }
+}
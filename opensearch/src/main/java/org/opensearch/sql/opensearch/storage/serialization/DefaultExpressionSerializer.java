@@ -11,14 +11,37 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Base64;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.expression.Expression;
 
-/** Default serializer that (de-)serialize expressions by JDK serialization. */
+/**
+ * Default serializer that (de-)serialize expressions by {@link ExpressionCodec}, or by JDK
+ * serialization if the expression can't be encoded by it. The two are told apart by the first byte,
+ * which is the codec version or the first byte of the JDK serialization stream magic.
+ *
+ * <p>Both are always deserialized, but expressions are only serialized by the codec if enabled,
+ * since the nodes of an older version can only deserialize JDK serialization.
+ */
+@RequiredArgsConstructor
 public class DefaultExpressionSerializer implements ExpressionSerializer {
 
+  /** Whether to serialize the expressions which can be encoded by {@link ExpressionCodec}. */
+  private final boolean encode;
+
+  /** Constructor of serializer which serializes by JDK serialization only. */
+  public DefaultExpressionSerializer() {
+    this(false);
+  }
+
   @Override
   public String serialize(Expression expr) {
     try {
+      Optional<byte[]> encoded = encode ? ExpressionCodec.encode(expr) : Optional.empty();
+      if (encoded.isPresent()) {
+        return Base64.getEncoder().encodeToString(encoded.get());
+      }
+
       ByteArrayOutputStream output = new ByteArrayOutputStream();
       ObjectOutputStream objectOutput = new ObjectOutputStream(output);
       objectOutput.writeObject(expr);
@@ -32,7 +55,12 @@ public class DefaultExpressionSerializer implements ExpressionSerializer {
   @Override
   public Expression deserialize(String code) {
     try {
-      ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(code));
+      byte[] bytes = Base64.getDecoder().decode(code);
+      if (bytes.length > 0 && bytes[0] == ExpressionCodec.VERSION) {
+        return ExpressionCodec.decode(bytes);
+      }
+
+      ByteArrayInputStream input = new ByteArrayInputStream(bytes);
       ObjectInputStream objectInput = new ObjectInputStream(input);
       return (Expression) objectInput.readObject();
     } catch (Exception e) {
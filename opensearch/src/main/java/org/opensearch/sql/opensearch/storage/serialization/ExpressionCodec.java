@@ -0,0 +1,559 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.operator.predicate.InPredicate;
+import org.opensearch.sql.expression.parse.GrokExpression;
+import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.expression.parse.PatternsExpression;
+import org.opensearch.sql.expression.parse.RegexExpression;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+
+/**
+ * Compact binary codec of the analyzed expressions pushed down in scripts. The expression tree is
+ * encoded node by node with a tag: a literal by its value, a reference by its name and type, and a
+ * built-in function by its name and arguments, which is resolved again by {@link
+ * BuiltinFunctionRepository} when decoded. The function properties, usually shared by all functions
+ * of a query, are encoded once in a table after the version byte and referred to by index. An
+ * expression with any node that can't be resolved again this way, e.g. a literal of collection
+ * value or a function not compiled by the repository, is not encoded. The field types of an index
+ * are encoded with the same type tags as the types of the references, plus the object types with
+ * their properties and the types of the reserved fields.
+ */
+@UtilityClass
+public class ExpressionCodec {
+
+  /** Version of the encoding, which is the first byte of the encoded expression. */
+  public static final byte VERSION = 1;
+
+  /** Expression node tags. */
+  private static final byte LITERAL = 0;
+
+  private static final byte REFERENCE = 1;
+  private static final byte FUNCTION = 2;
+  private static final byte PARSE = 3;
+  private static final byte CASE = 4;
+  private static final byte IN = 5;
+
+  /** Literal value tags. */
+  private static final byte NULL = 0;
+
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte DATETIME = 12;
+  private static final byte TIMESTAMP = 13;
+
+  /** Type tags. */
+  private static final byte CORE_TYPE = 0;
+
+  private static final byte TEXT_TYPE = 1;
+  private static final byte DATE_TYPE = 2;
+  private static final byte MAPPING_TYPE = 3;
+  private static final byte OBJECT_TYPE = 4;
+  private static final byte CORE_DATA_TYPE = 5;
+
+  /**
+   * Encode an expression.
+   *
+   * @param expression expression
+   * @return encoded expression, or empty if it can't be encoded
+   * @throws IOException if failed to write
+   */
+  public static Optional<byte[]> encode(Expression expression) throws IOException {
+    Encoder encoder = new Encoder(false);
+    if (!encoder.writeExpression(expression)) {
+      return Optional.empty();
+    }
+
+    BytesStreamOutput output = new BytesStreamOutput();
+    output.writeByte(VERSION);
+    output.writeVInt(encoder.properties.size());
+    for (FunctionProperties properties : encoder.properties) {
+      Clock clock = properties.getQueryStartClock();
+      output.writeInstant(clock.instant());
+      output.writeZoneId(clock.getZone());
+    }
+    encoder.output.bytes().writeTo(output);
+    return Optional.of(BytesReference.toBytes(output.bytes()));
+  }
+
+  /**
+   * Decode an expression.
+   *
+   * @param bytes encoded expression
+   * @return expression
+   * @throws IOException if failed to read or the encoding is invalid
+   */
+  public static Expression decode(byte[] bytes) throws IOException {
+    StreamInput input = StreamInput.wrap(bytes);
+    byte version = input.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported expression encoding version " + version);
+    }
+
+    List<FunctionProperties> properties = new ArrayList<>();
+    int size = input.readVInt();
+    for (int i = 0; i < size; i++) {
+      properties.add(new FunctionProperties(input.readInstant(), input.readZoneId()));
+    }
+    return new Decoder(input, properties).readExpression();
+  }
+
+  /**
+   * Encode the field types of an index.
+   *
+   * @param types types by field name
+   * @return encoded types, or empty if any type can't be encoded
+   * @throws IOException if failed to write
+   */
+  public static Optional<byte[]> encodeTypes(Map<String, OpenSearchDataType> types)
+      throws IOException {
+    Encoder encoder = new Encoder(true);
+    encoder.output.writeByte(VERSION);
+    encoder.output.writeVInt(types.size());
+    for (Map.Entry<String, OpenSearchDataType> type : types.entrySet()) {
+      encoder.output.writeString(type.getKey());
+      if (!encoder.writeType(type.getValue())) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(BytesReference.toBytes(encoder.output.bytes()));
+  }
+
+  /**
+   * Decode the field types of an index.
+   *
+   * @param bytes encoded types
+   * @return types by field name
+   * @throws IOException if failed to read or the encoding is invalid
+   */
+  public static Map<String, OpenSearchDataType> decodeTypes(byte[] bytes) throws IOException {
+    StreamInput input = StreamInput.wrap(bytes);
+    byte version = input.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported type encoding version " + version);
+    }
+
+    Decoder decoder = new Decoder(input, List.of());
+    int size = input.readVInt();
+    Map<String, OpenSearchDataType> types = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      types.put(input.readString(), (OpenSearchDataType) decoder.readType());
+    }
+    return types;
+  }
+
+  private static class Encoder {
+    private final BytesStreamOutput output = new BytesStreamOutput();
+
+    /** Distinct function properties, referred to by index from 1. 0 refers to none. */
+    private final List<FunctionProperties> properties = new ArrayList<>();
+
+    /**
+     * Whether the field types of an index are encoded, which include the object types with their
+     * properties and the types of the reserved fields, unlike the types of the references.
+     */
+    private final boolean fieldTypes;
+
+    private Encoder(boolean fieldTypes) {
+      this.fieldTypes = fieldTypes;
+    }
+
+    private boolean writeExpression(Expression expression) throws IOException {
+      if (expression instanceof LiteralExpression) {
+        output.writeByte(LITERAL);
+        return writeValue(expression.valueOf());
+      } else if (expression instanceof ReferenceExpression) {
+        output.writeByte(REFERENCE);
+        output.writeString(((ReferenceExpression) expression).getAttr());
+        return writeType(expression.type());
+      } else if (expression instanceof ParseExpression) {
+        output.writeByte(PARSE);
+        output.writeString(((ParseExpression) expression).getFunctionName().getFunctionName());
+        return writeExpressions(((ParseExpression) expression).getArguments());
+      } else if (expression instanceof CaseClause) {
+        return writeCase((CaseClause) expression);
+      } else if (expression instanceof InPredicate) {
+        output.writeByte(IN);
+        return writeExpressions(((InPredicate) expression).getArguments());
+      } else if (expression instanceof FunctionExpression
+          && ((FunctionExpression) expression).getFunctionProperties() != null) {
+        FunctionExpression function = (FunctionExpression) expression;
+        output.writeByte(FUNCTION);
+        output.writeString(function.getFunctionName().getFunctionName());
+        output.writeVInt(propertiesIndex(function.getFunctionProperties()));
+        return writeExpressions(function.getArguments());
+      }
+      return false;
+    }
+
+    private boolean writeExpressions(List<? extends Expression> expressions) throws IOException {
+      output.writeVInt(expressions.size());
+      for (Expression expression : expressions) {
+        if (!writeExpression(expression)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean writeCase(CaseClause caseClause) throws IOException {
+      output.writeByte(CASE);
+      output.writeVInt(caseClause.getWhenClauses().size());
+      for (WhenClause whenClause : caseClause.getWhenClauses()) {
+        if (!writeExpression(whenClause.getCondition())
+            || !writeExpression(whenClause.getResult())) {
+          return false;
+        }
+      }
+      Expression defaultResult = caseClause.getDefaultResult();
+      output.writeBoolean(defaultResult != null);
+      return defaultResult == null || writeExpression(defaultResult);
+    }
+
+    private int propertiesIndex(FunctionProperties functionProperties) {
+      if (functionProperties == FunctionProperties.None) {
+        return 0;
+      }
+      int index = properties.indexOf(functionProperties);
+      if (index < 0) {
+        index = properties.size();
+        properties.add(functionProperties);
+      }
+      return index + 1;
+    }
+
+    private boolean writeValue(ExprValue value) throws IOException {
+      Class<?> valueClass = value.getClass();
+      if (value.isNull()) {
+        output.writeByte(NULL);
+      } else if (value.isMissing()) {
+        output.writeByte(MISSING);
+      } else if (valueClass == ExprBooleanValue.class) {
+        output.writeByte(BOOLEAN);
+        output.writeBoolean(value.booleanValue());
+      } else if (valueClass == ExprByteValue.class) {
+        output.writeByte(BYTE);
+        output.writeByte(value.byteValue());
+      } else if (valueClass == ExprShortValue.class) {
+        output.writeByte(SHORT);
+        output.writeShort(value.shortValue());
+      } else if (valueClass == ExprIntegerValue.class) {
+        output.writeByte(INTEGER);
+        output.writeZLong(value.integerValue());
+      } else if (valueClass == ExprLongValue.class) {
+        output.writeByte(LONG);
+        output.writeZLong(value.longValue());
+      } else if (valueClass == ExprFloatValue.class) {
+        output.writeByte(FLOAT);
+        output.writeFloat(value.floatValue());
+      } else if (valueClass == ExprDoubleValue.class) {
+        output.writeByte(DOUBLE);
+        output.writeDouble(value.doubleValue());
+      } else if (valueClass == ExprStringValue.class) {
+        output.writeByte(STRING);
+        output.writeString(value.stringValue());
+      } else if (valueClass == ExprDateValue.class) {
+        output.writeByte(DATE);
+        output.writeZLong(value.dateValue().toEpochDay());
+      } else if (valueClass == ExprTimeValue.class) {
+        output.writeByte(TIME);
+        output.writeVLong(value.timeValue().toNanoOfDay());
+      } else if (valueClass == ExprDatetimeValue.class) {
+        output.writeByte(DATETIME);
+        output.writeZLong(value.datetimeValue().toLocalDate().toEpochDay());
+        output.writeVLong(value.datetimeValue().toLocalTime().toNanoOfDay());
+      } else if (valueClass == ExprTimestampValue.class) {
+        output.writeByte(TIMESTAMP);
+        output.writeInstant(value.timestampValue());
+      } else {
+        return false;
+      }
+      return true;
+    }
+
+    private boolean writeType(ExprType type) throws IOException {
+      if (type instanceof ExprCoreType) {
+        output.writeByte(CORE_TYPE);
+        output.writeString(((ExprCoreType) type).name());
+      } else if (type instanceof OpenSearchTextType) {
+        Map<String, OpenSearchDataType> fields = ((OpenSearchTextType) type).getFields();
+        output.writeByte(TEXT_TYPE);
+        output.writeVInt(fields.size());
+        for (Map.Entry<String, OpenSearchDataType> field : fields.entrySet()) {
+          output.writeString(field.getKey());
+          if (!writeType(field.getValue())) {
+            return false;
+          }
+        }
+      } else if (type instanceof OpenSearchDateType) {
+        OpenSearchDateType dateType = (OpenSearchDateType) type;
+        output.writeByte(DATE_TYPE);
+        output.writeString(((ExprCoreType) dateType.getExprType()).name());
+        output.writeStringCollection(dateType.getFormats());
+      } else if (isMappingType(type)) {
+        output.writeByte(MAPPING_TYPE);
+        output.writeString(((OpenSearchDataType) type).getMappingType().name());
+      } else if (fieldTypes && isObjectType(type)) {
+        OpenSearchDataType objectType = (OpenSearchDataType) type;
+        output.writeByte(OBJECT_TYPE);
+        output.writeString(objectType.getMappingType().name());
+        output.writeVInt(objectType.getProperties().size());
+        for (Map.Entry<String, OpenSearchDataType> property :
+            objectType.getProperties().entrySet()) {
+          output.writeString(property.getKey());
+          if (!writeType(property.getValue())) {
+            return false;
+          }
+        }
+      } else if (fieldTypes && isCoreDataType(type)) {
+        output.writeByte(CORE_DATA_TYPE);
+        output.writeString(((ExprCoreType) ((OpenSearchDataType) type).getExprType()).name());
+      } else {
+        return false;
+      }
+      return true;
+    }
+
+    /** Whether the type is the one built from a core type, as the reserved fields are. */
+    private boolean isCoreDataType(ExprType type) {
+      return type.getClass() == OpenSearchDataType.class
+          && ((OpenSearchDataType) type).getMappingType() == null
+          && ((OpenSearchDataType) type).getExprType() instanceof ExprCoreType;
+    }
+
+    /** Whether the type is an object or nested type with properties. */
+    private boolean isObjectType(ExprType type) {
+      if (type.getClass() != OpenSearchDataType.class) {
+        return false;
+      }
+      OpenSearchDataType.MappingType mappingType = ((OpenSearchDataType) type).getMappingType();
+      return mappingType == OpenSearchDataType.MappingType.Object
+          || mappingType == OpenSearchDataType.MappingType.Nested;
+    }
+
+    /** Whether the type is the one built from its mapping type without any properties. */
+    private boolean isMappingType(ExprType type) {
+      if (!(type instanceof OpenSearchDataType)) {
+        return false;
+      }
+      OpenSearchDataType dataType = (OpenSearchDataType) type;
+      return dataType.getMappingType() != null
+          && dataType.getProperties().isEmpty()
+          && OpenSearchDataType.of(dataType.getMappingType()).getClass() == type.getClass();
+    }
+  }
+
+  private static class Decoder {
+    private final StreamInput input;
+
+    private final List<FunctionProperties> properties;
+
+    private Decoder(StreamInput input, List<FunctionProperties> properties) {
+      this.input = input;
+      this.properties = properties;
+    }
+
+    private Expression readExpression() throws IOException {
+      byte tag = input.readByte();
+      switch (tag) {
+        case LITERAL:
+          return new LiteralExpression(readValue());
+        case REFERENCE:
+          return new ReferenceExpression(input.readString(), readType());
+        case FUNCTION:
+          {
+            String name = input.readString();
+            int index = input.readVInt();
+            FunctionProperties functionProperties =
+                (index == 0) ? FunctionProperties.None : properties.get(index - 1);
+            return (Expression)
+                BuiltinFunctionRepository.getInstance()
+                    .compile(functionProperties, FunctionName.of(name), readExpressions());
+          }
+        case PARSE:
+          return readParse(input.readString(), readExpressions());
+        case CASE:
+          return readCase();
+        case IN:
+          {
+            List<Expression> arguments = readExpressions();
+            List<LiteralExpression> valueList = new ArrayList<>();
+            arguments
+                .subList(1, arguments.size())
+                .forEach(e -> valueList.add((LiteralExpression) e));
+            return new InPredicate(arguments.get(0), valueList);
+          }
+        default:
+          throw new IOException("Unknown expression tag " + tag);
+      }
+    }
+
+    private List<Expression> readExpressions() throws IOException {
+      int size = input.readVInt();
+      List<Expression> expressions = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        expressions.add(readExpression());
+      }
+      return expressions;
+    }
+
+    private Expression readParse(String name, List<Expression> arguments) throws IOException {
+      switch (name) {
+        case "regex":
+          return new RegexExpression(arguments.get(0), arguments.get(1), arguments.get(2));
+        case "grok":
+          return new GrokExpression(arguments.get(0), arguments.get(1), arguments.get(2));
+        case "patterns":
+          return new PatternsExpression(arguments.get(0), arguments.get(1), arguments.get(2));
+        default:
+          throw new IOException("Unknown parse function " + name);
+      }
+    }
+
+    private Expression readCase() throws IOException {
+      int size = input.readVInt();
+      List<WhenClause> whenClauses = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        whenClauses.add(new WhenClause(readExpression(), readExpression()));
+      }
+      Expression defaultResult = input.readBoolean() ? readExpression() : null;
+      return new CaseClause(whenClauses, defaultResult);
+    }
+
+    private ExprValue readValue() throws IOException {
+      byte tag = input.readByte();
+      switch (tag) {
+        case NULL:
+          return ExprNullValue.of();
+        case MISSING:
+          return ExprMissingValue.of();
+        case BOOLEAN:
+          return ExprBooleanValue.of(input.readBoolean());
+        case BYTE:
+          return new ExprByteValue(input.readByte());
+        case SHORT:
+          return new ExprShortValue(input.readShort());
+        case INTEGER:
+          return new ExprIntegerValue((int) input.readZLong());
+        case LONG:
+          return new ExprLongValue(input.readZLong());
+        case FLOAT:
+          return new ExprFloatValue(input.readFloat());
+        case DOUBLE:
+          return new ExprDoubleValue(input.readDouble());
+        case STRING:
+          return new ExprStringValue(input.readString());
+        case DATE:
+          return new ExprDateValue(LocalDate.ofEpochDay(input.readZLong()));
+        case TIME:
+          return new ExprTimeValue(LocalTime.ofNanoOfDay(input.readVLong()));
+        case DATETIME:
+          return new ExprDatetimeValue(
+              LocalDateTime.of(
+                  LocalDate.ofEpochDay(input.readZLong()),
+                  LocalTime.ofNanoOfDay(input.readVLong())));
+        case TIMESTAMP:
+          return new ExprTimestampValue(input.readInstant());
+        default:
+          throw new IOException("Unknown literal value tag " + tag);
+      }
+    }
+
+    private ExprType readType() throws IOException {
+      byte tag = input.readByte();
+      switch (tag) {
+        case CORE_TYPE:
+          return ExprCoreType.valueOf(input.readString());
+        case TEXT_TYPE:
+          {
+            int size = input.readVInt();
+            Map<String, OpenSearchDataType> fields = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+              fields.put(input.readString(), (OpenSearchDataType) readType());
+            }
+            return fields.isEmpty() ? OpenSearchTextType.of() : OpenSearchTextType.of(fields);
+          }
+        case DATE_TYPE:
+          {
+            ExprCoreType exprCoreType = ExprCoreType.valueOf(input.readString());
+            List<String> formats = input.readStringList();
+            return formats.isEmpty()
+                ? OpenSearchDateType.of(exprCoreType)
+                : OpenSearchDateType.of(String.join(" || ", formats));
+          }
+        case MAPPING_TYPE:
+          return OpenSearchDataType.of(OpenSearchDataType.MappingType.valueOf(input.readString()));
+        case OBJECT_TYPE:
+          {
+            OpenSearchDataType.MappingType mappingType =
+                OpenSearchDataType.MappingType.valueOf(input.readString());
+            int size = input.readVInt();
+            Map<String, OpenSearchDataType> properties = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+              properties.put(input.readString(), (OpenSearchDataType) readType());
+            }
+            return OpenSearchDataType.of(mappingType).withProperties(properties);
+          }
+        case CORE_DATA_TYPE:
+          return OpenSearchDataType.of(ExprCoreType.valueOf(input.readString()));
+        default:
+          throw new IOException("Unknown type tag " + tag);
+      }
+    }
+  }
+}
@@ -15,7 +15,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -29,8 +31,11 @@ import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -40,10 +45,15 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.admin.cluster.state.ClusterStateRequestBuilder;
+import org.opensearch.action.admin.cluster.state.ClusterStateResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsRequest;
@@ -52,13 +62,26 @@ import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -73,10 +96,15 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentAction;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentRequest;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentResponse;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -270,6 +298,16 @@ class OpenSearchNodeClientTest {
     assertEquals(10000, indexMaxResultWindow);
   }
 
+  @Test
+  void get_index_number_of_shards() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    assertEquals(Map.of(indexName, 5), client.getIndexNumberOfShards(indexName));
+  }
+
   @Test
   void get_index_max_result_windows_with_IOException() {
     String indexName = "test";
@@ -294,9 +332,9 @@ class OpenSearchNodeClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue.tupleValue()));
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -335,6 +373,27 @@ class OpenSearchNodeClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void run_in_background_with_thread_context() {
+    ThreadPool threadPool = mock(ThreadPool.class);
+    ExecutorService executor = mock(ExecutorService.class);
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+    when(threadPool.generic()).thenReturn(executor);
+    when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    threadContext.putHeader("user", "test");
+    client.runInBackground(() -> isRun.set("test".equals(threadContext.getHeader("user"))));
+
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(task.capture());
+    try (var ignored = threadContext.stashContext()) {
+      task.getValue().run();
+    }
+    assertTrue(isRun.get());
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -393,6 +452,108 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.cleanup(request));
   }
 
+  @Test
+  void create_pit() {
+    CreatePitRequest createPitRequest =
+        new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit");
+    ActionFuture<CreatePitResponse> future = mock();
+    when(future.actionGet()).thenReturn(createPitResponse);
+    when(nodeClient.execute(CreatePitAction.INSTANCE, createPitRequest)).thenReturn(future);
+
+    assertEquals("pit", client.createPit(createPitRequest));
+  }
+
+  @Test
+  void create_pit_rethrows_exception() {
+    CreatePitRequest createPitRequest =
+        new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    when(nodeClient.execute(CreatePitAction.INSTANCE, createPitRequest))
+        .thenThrow(new RuntimeException());
+
+    assertThrows(IllegalStateException.class, () -> client.createPit(createPitRequest));
+  }
+
+  @Test
+  void delete_pit() {
+    DeletePitRequest deletePitRequest = new DeletePitRequest("pit");
+    ActionFuture<DeletePitResponse> future = mock();
+    when(nodeClient.execute(DeletePitAction.INSTANCE, deletePitRequest)).thenReturn(future);
+
+    client.deletePit(deletePitRequest);
+    verify(future).actionGet();
+  }
+
+  @Test
+  void delete_pit_rethrows_exception() {
+    DeletePitRequest deletePitRequest = new DeletePitRequest("pit");
+    when(nodeClient.execute(DeletePitAction.INSTANCE, deletePitRequest))
+        .thenThrow(new RuntimeException());
+
+    assertThrows(IllegalStateException.class, () -> client.deletePit(deletePitRequest));
+  }
+
+  @Test
+  void execute_fragment_on_nodes_of_primary_shards() {
+    PlanFragment fragment = fragmentOf("test");
+    mockRoutingTable(
+        primary(0, "node-1", true), primary(1, "node-2", true), primary(2, "node-1", true));
+    when(fragment.getMaxResponseSize()).thenReturn(200);
+    PlanFragmentResponse response = mock(PlanFragmentResponse.class);
+    when(response.getRows(200))
+        .thenReturn(List.of(new ExprIntegerValue(1), new ExprIntegerValue(2)));
+    ActionFuture<PlanFragmentResponse> future = mock();
+    when(future.actionGet()).thenReturn(response);
+    ArgumentCaptor<PlanFragmentRequest> request =
+        ArgumentCaptor.forClass(PlanFragmentRequest.class);
+    when(nodeClient.execute(eq(PlanFragmentAction.INSTANCE), request.capture())).thenReturn(future);
+
+    assertEquals(
+        Optional.of(List.of(new ExprIntegerValue(1), new ExprIntegerValue(2))),
+        client.executeFragment(fragment));
+    assertEquals(fragment, request.getValue().getFragment());
+    assertEquals(
+        Map.of("node-1", List.of(0, 2), "node-2", List.of(1)),
+        request.getValue().getShardsByNode());
+  }
+
+  @Test
+  void execute_fragment_rethrows_failure_of_node() {
+    PlanFragment fragment = fragmentOf("test");
+    mockRoutingTable(primary(0, "node-1", true));
+    PlanFragmentResponse response = mock(PlanFragmentResponse.class);
+    FailedNodeException failure =
+        new FailedNodeException("node-1", "failed", new IllegalStateException());
+    when(response.hasFailures()).thenReturn(true);
+    when(response.failures()).thenReturn(List.of(failure));
+    ActionFuture<PlanFragmentResponse> future = mock();
+    when(future.actionGet()).thenReturn(response);
+    when(nodeClient.execute(eq(PlanFragmentAction.INSTANCE), any())).thenReturn(future);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> client.executeFragment(fragment));
+    assertEquals(failure, exception.getCause());
+  }
+
+  @Test
+  void no_fragment_execution_over_several_indices() {
+    assertEquals(Optional.empty(), client.executeFragment(fragmentOf("test1,test2")));
+  }
+
+  @Test
+  void no_fragment_execution_over_alias() {
+    mockRoutingTable();
+    assertEquals(Optional.empty(), client.executeFragment(fragmentOf("alias")));
+  }
+
+  @Test
+  void no_fragment_execution_if_primary_shard_inactive() {
+    mockRoutingTable(primary(0, "node-1", true), primary(1, null, false));
+    assertEquals(Optional.empty(), client.executeFragment(fragmentOf("test")));
+    verify(nodeClient, never()).execute(eq(PlanFragmentAction.INSTANCE), any());
+  }
+
   @Test
   void get_indices() {
     AliasMetadata aliasMetadata = mock(AliasMetadata.class);
@@ -457,4 +618,34 @@ class OpenSearchNodeClientTest {
         .createParser(
             NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, mappings);
   }
+
+  private PlanFragment fragmentOf(String indexName) {
+    PlanFragment fragment = mock(PlanFragment.class);
+    when(fragment.getIndexName()).thenReturn(new OpenSearchRequest.IndexName(indexName));
+    return fragment;
+  }
+
+  private void mockRoutingTable(IndexShardRoutingTable... shards) {
+    ClusterStateRequestBuilder stateRequest =
+        mock(ClusterStateRequestBuilder.class, Answers.RETURNS_SELF);
+    ClusterState state = mock(ClusterState.class, RETURNS_DEEP_STUBS);
+    when(nodeClient.admin().cluster().prepareState()).thenReturn(stateRequest);
+    when(stateRequest.get())
+        .thenReturn(new ClusterStateResponse(new ClusterName("test"), state, false));
+    IndexRoutingTable indexRoutingTable = mock(IndexRoutingTable.class);
+    when(state.routingTable().hasIndex(anyString()))
+        .thenAnswer(invocation -> "test".equals(invocation.getArgument(0)));
+    lenient().when(state.routingTable().index("test")).thenReturn(indexRoutingTable);
+    lenient().when(indexRoutingTable.iterator()).thenReturn(List.of(shards).iterator());
+  }
+
+  private IndexShardRoutingTable primary(int id, String nodeId, boolean active) {
+    ShardRouting primary = mock(ShardRouting.class);
+    lenient().when(primary.id()).thenReturn(id);
+    lenient().when(primary.currentNodeId()).thenReturn(nodeId);
+    lenient().when(primary.active()).thenReturn(active);
+    IndexShardRoutingTable shard = mock(IndexShardRoutingTable.class);
+    lenient().when(shard.primaryShard()).thenReturn(primary);
+    return shard;
+  }
 }
@@ -27,8 +27,12 @@ import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -43,6 +47,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
@@ -68,6 +75,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
@@ -264,6 +272,21 @@ class OpenSearchRestClientTest {
     assertEquals(maxResultWindow, indexMaxResultWindows.values().iterator().next());
   }
 
+  @Test
+  void get_index_number_of_shards() throws IOException {
+    String indexName = "test";
+
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings numberOfShardsSettings = Settings.builder().put("index.number_of_shards", 3).build();
+    Settings emptySettings = Settings.builder().build();
+    when(response.getIndexToSettings()).thenReturn(mockSettings(indexName, numberOfShardsSettings));
+    when(response.getIndexToDefaultSettings()).thenReturn(mockSettings(indexName, emptySettings));
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    assertEquals(Map.of(indexName, 3), client.getIndexNumberOfShards(indexName));
+  }
+
   @Test
   void get_index_max_result_windows_with_IOException() throws IOException {
     when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
@@ -281,9 +304,9 @@ class OpenSearchRestClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue.tupleValue()));
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -362,6 +385,14 @@ class OpenSearchRestClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  @SneakyThrows
+  void run_in_background() {
+    CountDownLatch isRun = new CountDownLatch(1);
+    client.runInBackground(isRun::countDown);
+    assertTrue(isRun.await(10, TimeUnit.SECONDS));
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -411,6 +442,48 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.cleanup(request));
   }
 
+  @Test
+  @SneakyThrows
+  void create_pit() {
+    CreatePitRequest createPitRequest =
+        new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit");
+    when(restClient.createPit(createPitRequest, RequestOptions.DEFAULT))
+        .thenReturn(createPitResponse);
+
+    assertEquals("pit", client.createPit(createPitRequest));
+  }
+
+  @Test
+  @SneakyThrows
+  void create_pit_with_IOException() {
+    CreatePitRequest createPitRequest =
+        new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    when(restClient.createPit(createPitRequest, RequestOptions.DEFAULT))
+        .thenThrow(new IOException());
+
+    assertThrows(IllegalStateException.class, () -> client.createPit(createPitRequest));
+  }
+
+  @Test
+  @SneakyThrows
+  void delete_pit() {
+    DeletePitRequest deletePitRequest = new DeletePitRequest("pit");
+    client.deletePit(deletePitRequest);
+    verify(restClient).deletePit(deletePitRequest, RequestOptions.DEFAULT);
+  }
+
+  @Test
+  @SneakyThrows
+  void delete_pit_with_IOException() {
+    DeletePitRequest deletePitRequest = new DeletePitRequest("pit");
+    when(restClient.deletePit(deletePitRequest, RequestOptions.DEFAULT))
+        .thenThrow(new IOException());
+
+    assertThrows(IllegalStateException.class, () -> client.deletePit(deletePitRequest));
+  }
+
   @Test
   void get_indices() throws IOException {
     when(restClient.indices().get(any(GetIndexRequest.class), any(RequestOptions.class)))
@@ -448,6 +521,11 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.meta());
   }
 
+  @Test
+  void no_fragment_execution() {
+    assertEquals(Optional.empty(), client.executeFragment(mock(PlanFragment.class)));
+  }
+
   @Test
   void ml_with_exception() {
     assertThrows(UnsupportedOperationException.class, () -> client.getNodeClient());
@@ -45,9 +45,11 @@ import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
@@ -770,6 +772,114 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructSourceOfProjectedFieldsOnly() {
+    assertEquals(
+        Map.of(
+            "intV",
+            integerValue(1),
+            "structV",
+            tupleValue("{\"structV\":{\"id\":1}}").get("structV")),
+        exprValueFactory.constructSource(
+            new BytesArray(
+                "{\"intV\":1,\"stringV\":\"skipped\",\"structV\":{\"id\":1},"
+                    + "\"arrayV\":[{\"skipped\":[1,2]}]}"),
+            Set.of("intV", "structV"),
+            false));
+  }
+
+  @Test
+  public void constructSourceOfProjectedFieldsWithDottedKeys() {
+    // keys equal to a projected field, holding one, or under one, but not sharing a prefix only
+    assertEquals(
+        Map.of(
+            "structV.id",
+            integerValue(1),
+            "structV",
+            tupleValue("{\"structV\":{\"id\":2}}").get("structV"),
+            "structV.state",
+            stringValue("WA"),
+            "unknownV.id",
+            nullValue()),
+        exprValueFactory.constructSource(
+            new BytesArray(
+                "{\"structV.id\":1,\"structV\":{\"id\":2},\"structV.state\":\"WA\","
+                    + "\"unknownV.id\":3,\"structVX\":4,\"intV\":5}"),
+            Set.of("structV.id", "structV.state.suffix", "unknownV"),
+            false));
+  }
+
+  @Test
+  public void constructSourceOfHitWithoutSource() {
+    assertEquals(Map.of(), exprValueFactory.constructSource(null, Set.of(), false));
+  }
+
+  @Test
+  public void constructSourceFromInvalidJsonThrowException() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                exprValueFactory.constructSource(
+                    new BytesArray("{\"invalid_json:1}"), Set.of(), false));
+    assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
+
+    exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> exprValueFactory.constructSource(new BytesArray("[1]"), Set.of(), false));
+    assertEquals("invalid json: [1].", exception.getMessage());
+  }
+
+  @Test
+  public void fieldsWithDocValues() {
+    OpenSearchExprValueFactory factory =
+        new OpenSearchExprValueFactory(
+            Map.of(
+                "intV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer),
+                "keywordV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword),
+                "dateV", OpenSearchDateType.of(),
+                "halfFloatV", OpenSearchDataType.of(OpenSearchDataType.MappingType.HalfFloat),
+                "textV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Text),
+                "structV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Object),
+                "structV.id", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer),
+                "coreV", OpenSearchDataType.of(INTEGER)));
+    assertAll(
+        () -> assertTrue(factory.hasDocValues("intV")),
+        () -> assertTrue(factory.hasDocValues("keywordV")),
+        () -> assertTrue(factory.hasDocValues("dateV")),
+        () -> assertFalse(factory.hasDocValues("halfFloatV")),
+        () -> assertFalse(factory.hasDocValues("textV")),
+        () -> assertFalse(factory.hasDocValues("structV")),
+        () -> assertFalse(factory.hasDocValues("structV.id")),
+        () -> assertFalse(factory.hasDocValues("coreV")),
+        () -> assertFalse(factory.hasDocValues("unknownV")));
+  }
+
+  @Test
+  public void convertAsConstructWithoutArraySupport() {
+    assertAll(
+        () -> assertEquals(integerValue(1), exprValueFactory.converter("intV").apply(1)),
+        () -> assertEquals(doubleValue(1d), exprValueFactory.converter("doubleV").apply(1d)),
+        () ->
+            assertEquals(stringValue("text"), exprValueFactory.converter("stringV").apply("text")),
+        () -> assertEquals(nullValue(), exprValueFactory.converter("intV").apply(null)),
+        () ->
+            assertThrows(
+                ClassCastException.class,
+                () ->
+                    exprValueFactory.converter("intV").apply(new ObjectMapper().createArrayNode())),
+        () ->
+            assertEquals(
+                constructFromObject("arrayV", List.of("a", "b")),
+                exprValueFactory.converter("arrayV").apply(List.of("a", "b"))),
+        () ->
+            assertEquals(
+                constructFromObject("structV", Map.of("id", 1)),
+                exprValueFactory.converter("structV").apply(Map.of("id", 1))),
+        () -> assertEquals(nullValue(), exprValueFactory.converter("unknownV").apply(1)));
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
@@ -817,11 +927,17 @@ class OpenSearchExprValueFactoryTest {
 
   public Map<String, ExprValue> tupleValue(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString, false);
+    assertEquals(
+        construct.tupleValue(),
+        exprValueFactory.constructSource(new BytesArray(jsonString), Set.of(), false));
     return construct.tupleValue();
   }
 
   public Map<String, ExprValue> tupleValueWithArraySupport(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString, true);
+    assertEquals(
+        construct.tupleValue(),
+        exprValueFactory.constructSource(new BytesArray(jsonString), Set.of(), true));
     return construct.tupleValue();
   }
 
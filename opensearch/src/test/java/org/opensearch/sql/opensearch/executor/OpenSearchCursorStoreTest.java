@@ -0,0 +1,292 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreAction;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreNodeResponse;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreRequest;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreResponse;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.threadpool.ThreadPool;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchCursorStoreTest {
+
+  @Mock private Settings settings;
+
+  @Mock private NodeClient client;
+
+  @Mock private PlanSerializer planSerializer;
+
+  @Mock private PlainActionFuture<CursorStoreResponse> future;
+
+  @Mock private ThreadPool threadPool;
+
+  @Mock private ExecutorService generic;
+
+  private final ThreadContext threadContext =
+      new ThreadContext(org.opensearch.common.settings.Settings.EMPTY);
+
+  private final DiscoveryNode other =
+      new DiscoveryNode(
+          "other", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private OpenSearchCursorStore cursorStore;
+
+  @BeforeEach
+  void setUp() {
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE))
+        .thenReturn(TimeValue.timeValueMinutes(1));
+    cursorStore =
+        new OpenSearchCursorStore(
+            settings,
+            client,
+            () -> "node",
+            planSerializer,
+            new Ticker() {
+              @Override
+              public long read() {
+                return nanos.get();
+              }
+            });
+  }
+
+  @Test
+  void store_cursor_and_resolve_it_until_it_is_released() {
+    enableStore(true);
+    Cursor id = cursorStore.store(new Cursor("n:first"));
+    Cursor other = cursorStore.store(new Cursor("n:second"));
+
+    assertTrue(id.toString().startsWith("s:node:"), id.toString());
+    assertNotEquals(id, other);
+    assertEquals("n:first", cursorStore.resolve(id.toString()));
+    assertEquals("n:first", cursorStore.resolve(id.toString()));
+    assertEquals("n:second", cursorStore.resolve(other.toString()));
+
+    cursorStore.release(id.toString());
+    UnsupportedOperationException exception =
+        assertThrows(UnsupportedOperationException.class, () -> cursorStore.resolve(id.toString()));
+    assertEquals("Cursor has expired or was already fetched", exception.getMessage());
+    assertEquals("n:second", cursorStore.resolve(other.toString()));
+  }
+
+  @Test
+  void hand_out_self_contained_cursor_if_store_is_disabled() {
+    enableStore(false);
+    assertEquals(new Cursor("n:cursor"), cursorStore.store(new Cursor("n:cursor")));
+  }
+
+  @Test
+  void hand_out_no_cursor_on_last_page() {
+    assertEquals(Cursor.None, cursorStore.store(Cursor.None));
+  }
+
+  @Test
+  void hand_out_self_contained_cursor_if_store_is_full() {
+    enableStore(true);
+    for (int i = 0; i < OpenSearchCursorStore.MAX_CURSORS; i++) {
+      cursorStore.store(new Cursor("n:cursor"));
+    }
+    assertEquals(new Cursor("n:last"), cursorStore.store(new Cursor("n:last")));
+  }
+
+  @Test
+  void resolve_self_contained_cursor_to_itself() {
+    assertEquals("n:cursor", cursorStore.resolve("n:cursor"));
+    assertEquals(
+        "n:cursor",
+        new OpenSearchCursorStore(settings, client, () -> "node", planSerializer)
+            .resolve("n:cursor"));
+    cursorStore.release("n:cursor");
+    verify(client, never()).execute(any(), any());
+  }
+
+  @Test
+  void fail_to_resolve_malformed_cursor() {
+    UnsupportedOperationException exception =
+        assertThrows(UnsupportedOperationException.class, () -> cursorStore.resolve("s:id"));
+    assertEquals("Cursor has expired or was already fetched", exception.getMessage());
+    cursorStore.release("s:id");
+    verify(client, never()).execute(any(), any());
+  }
+
+  @Test
+  void resolve_cursor_of_other_node_on_that_node() {
+    respond(List.of(new CursorStoreNodeResponse(other, "n:cursor")), List.of());
+
+    assertEquals("n:cursor", cursorStore.resolve("s:other:id"));
+    assertEquals("user", threadContext.getHeader("user"));
+    ArgumentCaptor<CursorStoreRequest> request = ArgumentCaptor.forClass(CursorStoreRequest.class);
+    verify(client).execute(eq(CursorStoreAction.INSTANCE), request.capture());
+    assertEquals(List.of("other"), List.of(request.getValue().nodesIds()));
+    assertEquals("s:other:id", request.getValue().getCursorId());
+    assertFalse(request.getValue().isRelease());
+  }
+
+  @Test
+  void fail_to_resolve_cursor_released_on_other_node() {
+    respond(List.of(new CursorStoreNodeResponse(other, null)), List.of());
+
+    UnsupportedOperationException exception =
+        assertThrows(UnsupportedOperationException.class, () -> cursorStore.resolve("s:other:id"));
+    assertEquals("Cursor has expired or was already fetched", exception.getMessage());
+  }
+
+  @Test
+  void fail_to_resolve_cursor_of_node_which_left_the_cluster() {
+    respond(List.of(), List.of());
+
+    UnsupportedOperationException exception =
+        assertThrows(UnsupportedOperationException.class, () -> cursorStore.resolve("s:other:id"));
+    assertEquals(
+        "Cursor is stored on node [other], which has left the cluster", exception.getMessage());
+  }
+
+  @Test
+  void fail_to_resolve_cursor_if_other_node_fails() {
+    FailedNodeException failure =
+        new FailedNodeException("other", "failed", new IllegalStateException());
+    respond(List.of(), List.of(failure));
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> cursorStore.resolve("s:other:id"));
+    assertEquals("Failed to fetch cursor from node [other]", exception.getMessage());
+    assertEquals(failure, exception.getCause());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void release_cursor_on_other_node() {
+    mockThreadContext();
+    doAnswer(
+            invocation -> {
+              assertNull(threadContext.getHeader("user"));
+              return null;
+            })
+        .when(client)
+        .execute(eq(CursorStoreAction.INSTANCE), any(), any(ActionListener.class));
+
+    cursorStore.release("s:other:id");
+    assertEquals("user", threadContext.getHeader("user"));
+
+    ArgumentCaptor<CursorStoreRequest> request = ArgumentCaptor.forClass(CursorStoreRequest.class);
+    verify(client)
+        .execute(eq(CursorStoreAction.INSTANCE), request.capture(), any(ActionListener.class));
+    assertEquals(List.of("other"), List.of(request.getValue().nodesIds()));
+    assertEquals("s:other:id", request.getValue().getCursorId());
+    assertTrue(request.getValue().isRelease());
+  }
+
+  @Test
+  void close_plan_of_expired_cursor_in_background() {
+    enableStore(true);
+    mockThreadContext();
+    when(threadPool.generic()).thenReturn(generic);
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(planSerializer.convertToPlan("n:expired"))
+        .thenAnswer(
+            invocation -> {
+              assertNull(threadContext.getHeader("user"));
+              return plan;
+            });
+    when(planSerializer.convertToPlan("n:broken")).thenThrow(new IllegalStateException());
+    Cursor expired = cursorStore.store(new Cursor("n:expired"));
+    cursorStore.store(new Cursor("n:broken"));
+
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+    cursorStore.store(new Cursor("n:next"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> cursorStore.resolve(expired.toString()));
+
+    ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+    verify(generic, times(2)).execute(tasks.capture());
+    verify(plan, never()).close();
+    tasks.getAllValues().forEach(Runnable::run);
+    verify(plan).close();
+    assertEquals("user", threadContext.getHeader("user"));
+  }
+
+  @Test
+  void keep_plan_of_released_cursor_open() {
+    enableStore(true);
+    String id = cursorStore.store(new Cursor("n:cursor")).toString();
+    cursorStore.resolve(id);
+    cursorStore.release(id);
+
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+    cursorStore.store(Cursor.None);
+
+    verify(planSerializer, never()).convertToPlan("n:cursor");
+  }
+
+  private void respond(List<CursorStoreNodeResponse> nodes, List<FailedNodeException> failures) {
+    mockThreadContext();
+    when(client.execute(eq(CursorStoreAction.INSTANCE), any(CursorStoreRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              assertNull(threadContext.getHeader("user"));
+              return future;
+            });
+    when(future.actionGet())
+        .thenReturn(new CursorStoreResponse(new ClusterName("test"), nodes, failures));
+  }
+
+  /** Thread context of a user, which the store doesn't act on behalf of. */
+  private void mockThreadContext() {
+    threadContext.putHeader("user", "user");
+    when(client.threadPool()).thenReturn(threadPool);
+    when(threadPool.getThreadContext()).thenReturn(threadContext);
+  }
+
+  private void enableStore(boolean enabled) {
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_STORE_ENABLED)).thenReturn(enabled);
+  }
+}
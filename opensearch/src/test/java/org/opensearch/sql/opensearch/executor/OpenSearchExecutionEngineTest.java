@@ -24,6 +24,7 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +44,8 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -141,6 +144,33 @@ class OpenSearchExecutionEngineTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void execute_with_stored_cursor() {
+    var plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    CursorStore cursorStore = mock(CursorStore.class);
+    when(cursorStore.store(any())).thenReturn(new Cursor("s:id"));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null), cursorStore);
+    List<Cursor> cursors = new ArrayList<>();
+    executor.execute(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            cursors.add(response.getCursor());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(List.of(new Cursor("s:id")), cursors);
+  }
+
   @Test
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
@@ -82,6 +82,24 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+
+    monitorPlan.nextBatch(10);
+    verify(resourceMonitor, times(1)).isHealthy();
+    verify(plan, times(1)).nextBatch(10);
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(10));
+    assertEquals("resource is not enough to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
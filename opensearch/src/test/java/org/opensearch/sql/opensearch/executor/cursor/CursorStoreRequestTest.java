@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.transport.TransportAddress;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CursorStoreRequestTest {
+
+  private final DiscoveryNode node =
+      new DiscoveryNode(
+          "node-1", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+
+  @Test
+  void send_to_node_of_cursor() {
+    CursorStoreRequest request = new CursorStoreRequest("node-1", "s:node-1:id", true);
+    assertArrayEquals(new String[] {"node-1"}, request.nodesIds());
+    assertEquals("s:node-1:id", request.getCursorId());
+    assertTrue(request.isRelease());
+  }
+
+  @Test
+  void serialize_deserialize_node_request() throws IOException {
+    CursorStoreNodeRequest nodeRequest =
+        roundTrip(
+            new CursorStoreNodeRequest(new CursorStoreRequest("node-1", "s:node-1:id", true)),
+            CursorStoreNodeRequest::new);
+    assertEquals("s:node-1:id", nodeRequest.getRequest().getCursorId());
+    assertTrue(nodeRequest.getRequest().isRelease());
+    assertArrayEquals(new String[] {"node-1"}, nodeRequest.getRequest().nodesIds());
+  }
+
+  @Test
+  void serialize_deserialize_response() throws IOException {
+    CursorStoreResponse response =
+        roundTrip(
+            new CursorStoreResponse(
+                new ClusterName("test"),
+                List.of(
+                    new CursorStoreNodeResponse(node, "n:cursor"),
+                    new CursorStoreNodeResponse(node, null)),
+                List.of()),
+            CursorStoreResponse::new);
+    assertEquals(new ClusterName("test"), response.getClusterName());
+    assertEquals("n:cursor", response.getNodes().get(0).getCursor());
+    assertNull(response.getNodes().get(1).getCursor());
+  }
+
+  private static <T extends Writeable> T roundTrip(T writeable, Writeable.Reader<T> reader)
+      throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    writeable.writeTo(output);
+    return reader.read(new BytesStreamInput(output.bytes().toBytesRef().bytes));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.cursor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.sql.opensearch.executor.OpenSearchCursorStore;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TransportCursorStoreActionTest {
+
+  @Mock private ThreadPool threadPool;
+
+  @Mock private ClusterService clusterService;
+
+  @Mock private TransportService transportService;
+
+  @Mock private OpenSearchCursorStore cursorStore;
+
+  private final DiscoveryNode node =
+      new DiscoveryNode(
+          "node-1", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+
+  private TransportCursorStoreAction action;
+
+  @BeforeEach
+  void setUp() {
+    action =
+        new TransportCursorStoreAction(
+            threadPool, clusterService, transportService, new ActionFilters(Set.of()), cursorStore);
+  }
+
+  @Test
+  void get_local_cursor() {
+    when(clusterService.localNode()).thenReturn(node);
+    when(cursorStore.getLocal("s:node-1:id")).thenReturn(Optional.of("n:cursor"));
+
+    CursorStoreNodeResponse response =
+        action.nodeOperation(
+            new CursorStoreNodeRequest(new CursorStoreRequest("node-1", "s:node-1:id", false)));
+    assertEquals(node, response.getNode());
+    assertEquals("n:cursor", response.getCursor());
+    verify(cursorStore, never()).releaseLocal("s:node-1:id");
+  }
+
+  @Test
+  void get_no_cursor_if_it_is_not_stored() {
+    when(clusterService.localNode()).thenReturn(node);
+    when(cursorStore.getLocal("s:node-1:id")).thenReturn(Optional.empty());
+
+    assertNull(
+        action
+            .nodeOperation(
+                new CursorStoreNodeRequest(new CursorStoreRequest("node-1", "s:node-1:id", false)))
+            .getCursor());
+  }
+
+  @Test
+  void release_local_cursor() {
+    when(clusterService.localNode()).thenReturn(node);
+
+    CursorStoreNodeResponse response =
+        action.nodeOperation(
+            new CursorStoreNodeRequest(new CursorStoreRequest("node-1", "s:node-1:id", true)));
+    assertNull(response.getCursor());
+    verify(cursorStore).releaseLocal("s:node-1:id");
+  }
+
+  @Test
+  void gather_responses_of_nodes() {
+    when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+    CursorStoreRequest request = new CursorStoreRequest("node-1", "s:node-1:id", false);
+    List<CursorStoreNodeResponse> nodes = List.of(new CursorStoreNodeResponse(node, "n:cursor"));
+    List<FailedNodeException> failures =
+        List.of(new FailedNodeException("node-1", "failed", new IllegalStateException()));
+
+    CursorStoreResponse response = action.newResponse(request, nodes, failures);
+    assertEquals(new ClusterName("test"), response.getClusterName());
+    assertEquals(nodes, response.getNodes());
+    assertEquals(failures, response.failures());
+    assertSame(request, action.newNodeRequest(request).getRequest());
+  }
+
+  @Test
+  void read_node_response() throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    new CursorStoreNodeResponse(node, "n:cursor").writeTo(output);
+    assertEquals(
+        "n:cursor",
+        action
+            .newNodeResponse(new BytesStreamInput(output.bytes().toBytesRef().bytes))
+            .getCursor());
+  }
+}
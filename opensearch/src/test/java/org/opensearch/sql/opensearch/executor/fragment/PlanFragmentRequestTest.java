@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest.IndexName;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlanFragmentRequestTest {
+
+  private static final NamedWriteableRegistry NAMED_WRITEABLE_REGISTRY =
+      new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+
+  private final PlanFragment fragment =
+      new PlanFragment(
+              new OpenSearchScrollRequest(
+                  new IndexName("test"),
+                  TimeValue.timeValueMinutes(1),
+                  new SearchSourceBuilder().query(QueryBuilders.termQuery("name", "John")),
+                  new OpenSearchExprValueFactory(Map.of()),
+                  List.of()),
+              200)
+          .then(new PlanFragment.Filter(DSL.greater(ref("age", INTEGER), literal(30))));
+
+  private final Map<String, List<Integer>> shardsByNode =
+      Map.of("node-1", List.of(0, 2), "node-2", List.of(1));
+
+  @Test
+  void send_to_nodes_of_shards() {
+    PlanFragmentRequest request = new PlanFragmentRequest(fragment, shardsByNode);
+    String[] nodeIds = request.nodesIds();
+    Arrays.sort(nodeIds);
+    assertArrayEquals(new String[] {"node-1", "node-2"}, nodeIds);
+    assertEquals(fragment, request.getFragment());
+    assertEquals(shardsByNode, request.getShardsByNode());
+  }
+
+  @Test
+  void serialize_deserialize() throws IOException {
+    PlanFragmentRequest request =
+        roundTrip(new PlanFragmentRequest(fragment, shardsByNode), PlanFragmentRequest::new);
+    assertEquals(fragment, request.getFragment());
+    assertEquals(shardsByNode, request.getShardsByNode());
+    assertEquals(2, request.nodesIds().length);
+  }
+
+  @Test
+  void serialize_deserialize_node_request() throws IOException {
+    PlanFragmentNodeRequest nodeRequest =
+        roundTrip(
+            new PlanFragmentNodeRequest(new PlanFragmentRequest(fragment, shardsByNode)),
+            PlanFragmentNodeRequest::new);
+    assertEquals(fragment, nodeRequest.getRequest().getFragment());
+    assertEquals(shardsByNode, nodeRequest.getRequest().getShardsByNode());
+  }
+
+  private static <T extends Writeable> T roundTrip(T writeable, Writeable.Reader<T> reader)
+      throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    writeable.writeTo(output);
+    StreamInput input =
+        new NamedWriteableAwareStreamInput(
+            new BytesStreamInput(output.bytes().toBytesRef().bytes), NAMED_WRITEABLE_REGISTRY);
+    return reader.read(input);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlanFragmentResponseTest {
+
+  private final DiscoveryNode node =
+      new DiscoveryNode(
+          "node-1", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+
+  private final List<ExprValue> rows =
+      List.of(
+          tupleValue(Map.of("name", "John", "age", 30)),
+          tupleValue(Map.of("name", "Jane", "age", 20)));
+
+  @Test
+  void serialize_deserialize_node_response() throws IOException {
+    PlanFragmentNodeResponse response = new PlanFragmentNodeResponse(node, rows, List.of(0, 3), 5);
+    BytesStreamOutput output = new BytesStreamOutput();
+    response.writeTo(output);
+
+    PlanFragmentNodeResponse newResponse =
+        new PlanFragmentNodeResponse(new BytesStreamInput(output.bytes().toBytesRef().bytes));
+    assertEquals(node, newResponse.getNode());
+    assertEquals(rows, newResponse.getRows());
+    assertEquals(List.of(0, 3), newResponse.getScanOrdinals());
+    assertEquals(5, newResponse.getScanned());
+  }
+
+  @Test
+  void serialize_deserialize_response() throws IOException {
+    PlanFragmentResponse response =
+        new PlanFragmentResponse(
+            new ClusterName("test"),
+            List.of(new PlanFragmentNodeResponse(node, rows, List.of(0, 1), 2)),
+            List.of(new FailedNodeException("node-2", "failed", new IllegalStateException())));
+    BytesStreamOutput output = new BytesStreamOutput();
+    response.writeTo(output);
+
+    PlanFragmentResponse newResponse =
+        new PlanFragmentResponse(new BytesStreamInput(output.bytes().toBytesRef().bytes));
+    assertEquals(new ClusterName("test"), newResponse.getClusterName());
+    assertEquals(rows, newResponse.getNodes().get(0).getRows());
+    assertTrue(newResponse.hasFailures());
+    assertEquals("node-2", newResponse.failures().get(0).nodeId());
+  }
+
+  @Test
+  void rows_out_of_rows_scanned_up_to_limit_by_all_nodes() {
+    ExprValue first = tupleValue(Map.of("age", 1));
+    ExprValue second = tupleValue(Map.of("age", 2));
+    ExprValue third = tupleValue(Map.of("age", 3));
+    ExprValue fourth = tupleValue(Map.of("age", 4));
+    PlanFragmentResponse response =
+        new PlanFragmentResponse(
+            new ClusterName("test"),
+            List.of(
+                new PlanFragmentNodeResponse(node, List.of(first, second), List.of(1, 3), 4),
+                new PlanFragmentNodeResponse(node, List.of(third, fourth), List.of(0, 2), 4),
+                new PlanFragmentNodeResponse(node, List.of(first), List.of(0), 1)),
+            List.of());
+
+    assertEquals(List.of(first, second, third, fourth, first), response.getRows(10));
+    assertEquals(List.of(first, second, third), response.getRows(6));
+    assertEquals(List.of(first), response.getRows(3));
+    assertEquals(List.of(), response.getRows(0));
+  }
+
+  @Test
+  void action_of_response() {
+    assertEquals("cluster:admin/opensearch/sql/fragment", PlanFragmentAction.INSTANCE.name());
+  }
+}
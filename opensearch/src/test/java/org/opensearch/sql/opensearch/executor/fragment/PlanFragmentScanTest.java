@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlanFragmentScanTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private PlanFragment fragment;
+
+  @Mock private PhysicalPlan localPlan;
+
+  @Test
+  void return_rows_of_all_nodes() {
+    when(client.executeFragment(fragment))
+        .thenReturn(Optional.of(List.of(integerValue(1), integerValue(2))));
+
+    PlanFragmentScan scan = new PlanFragmentScan(client, fragment);
+    scan.open();
+    assertEquals(List.of(integerValue(1), integerValue(2)), drain(scan));
+    scan.close();
+    verify(fragment, never()).toPlan(client, null);
+  }
+
+  @Test
+  void execute_locally_if_not_distributed() {
+    when(client.executeFragment(fragment)).thenReturn(Optional.empty());
+    when(fragment.toPlan(client, null)).thenReturn(localPlan);
+    when(localPlan.hasNext()).thenReturn(true, false);
+    when(localPlan.next()).thenReturn(integerValue(1));
+
+    PlanFragmentScan scan = new PlanFragmentScan(client, fragment);
+    scan.open();
+    assertEquals(List.of(integerValue(1)), drain(scan));
+    scan.close();
+    verify(localPlan).open();
+    verify(localPlan).close();
+  }
+
+  @Test
+  void add_step_to_fragment() {
+    PlanFragment.Step step = input -> input;
+    PlanFragment newFragment = mock(PlanFragment.class);
+    when(fragment.then(step)).thenReturn(newFragment);
+
+    PlanFragmentScan scan = new PlanFragmentScan(client, fragment).then(step);
+    assertEquals(new PlanFragmentScan(client, newFragment), scan);
+    assertEquals(newFragment, scan.getFragment());
+  }
+
+  @Test
+  void explain_fragment() {
+    when(fragment.toString()).thenReturn("fragment");
+    PlanFragmentScan scan = new PlanFragmentScan(client, fragment);
+    assertEquals("fragment", scan.explain());
+    assertEquals("PlanFragmentScan(fragment=fragment)", scan.toString());
+    assertFalse(scan.getChild().iterator().hasNext());
+  }
+
+  private static List<ExprValue> drain(PlanFragmentScan scan) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (scan.hasNext()) {
+      rows.add(scan.next());
+    }
+    return rows;
+  }
+}
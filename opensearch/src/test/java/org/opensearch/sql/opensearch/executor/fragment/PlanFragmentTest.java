@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest.IndexName;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.FilterOperator;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlanFragmentTest {
+
+  private static final NamedWriteableRegistry NAMED_WRITEABLE_REGISTRY =
+      new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+
+  private final SearchSourceBuilder sourceBuilder =
+      new SearchSourceBuilder().query(QueryBuilders.termQuery("name", "John")).size(100);
+
+  private final OpenSearchScrollRequest request =
+      new OpenSearchScrollRequest(
+          new IndexName("test"),
+          TimeValue.timeValueMinutes(1),
+          sourceBuilder,
+          new OpenSearchExprValueFactory(
+              Map.of(
+                  "name", OpenSearchDataType.of(MappingType.Keyword),
+                  "age", OpenSearchDataType.of(MappingType.Integer))),
+          List.of("name", "age"));
+
+  private final Expression condition = DSL.greater(ref("age", INTEGER), literal(30));
+
+  private final Pair<ReferenceExpression, Expression> evalField =
+      Pair.of(ref("age2", INTEGER), DSL.multiply(ref("age", INTEGER), literal(2)));
+
+  @Test
+  void fragment_of_scroll_request() {
+    PlanFragment fragment = new PlanFragment(request, 200);
+    assertEquals(new IndexName("test"), fragment.getIndexName());
+    assertEquals(TimeValue.timeValueMinutes(1), fragment.getScrollTimeout());
+    assertEquals(sourceBuilder, fragment.getSourceBuilder());
+    assertEquals(List.of("name", "age"), fragment.getIncludes());
+    assertEquals(200, fragment.getMaxResponseSize());
+    assertEquals(request.getExprValueFactory().getTypeMapping(), fragment.getFieldTypes());
+    assertTrue(fragment.getSteps().isEmpty());
+  }
+
+  @Test
+  void add_steps_to_new_fragment() {
+    PlanFragment fragment = new PlanFragment(request, 200);
+    PlanFragment filtered = fragment.then(new PlanFragment.Filter(condition));
+    assertEquals(
+        List.of(new PlanFragment.Filter(condition), new PlanFragment.Eval(List.of(evalField))),
+        filtered.then(new PlanFragment.Eval(List.of(evalField))).getSteps());
+    assertEquals(List.of(new PlanFragment.Filter(condition)), filtered.getSteps());
+    assertTrue(fragment.getSteps().isEmpty());
+  }
+
+  @Test
+  void plan_of_steps_over_scan_of_preferred_shards() {
+    OpenSearchClient client = mock(OpenSearchClient.class);
+    PlanFragment fragment =
+        new PlanFragment(request, 200)
+            .then(new PlanFragment.Filter(condition))
+            .then(new PlanFragment.Eval(List.of(evalField)));
+
+    EvalOperator eval = (EvalOperator) fragment.toPlan(client, "_shards:0,2|_local");
+    assertEquals(List.of(evalField), eval.getExpressionList());
+    FilterOperator filter = (FilterOperator) eval.getInput();
+    assertEquals(condition, filter.getConditions());
+    OpenSearchIndexScan scan = (OpenSearchIndexScan) filter.getInput();
+    assertEquals(200, scan.getMaxResponseSize());
+    OpenSearchScrollRequest scanRequest = (OpenSearchScrollRequest) scan.getRequest();
+    assertEquals("_shards:0,2|_local", scanRequest.getInitialSearchRequest().preference());
+    assertEquals(sourceBuilder, scanRequest.getInitialSearchRequest().source());
+    assertEquals(List.of("name", "age"), scanRequest.getIncludes());
+    assertEquals(
+        request.getExprValueFactory().getTypeMapping(),
+        scanRequest.getExprValueFactory().getTypeMapping());
+  }
+
+  @Test
+  void serialize_deserialize() throws IOException {
+    PlanFragment fragment =
+        new PlanFragment(request, 200)
+            .then(new PlanFragment.Filter(condition))
+            .then(new PlanFragment.Eval(List.of(evalField)));
+    assertEquals(fragment, deserialize(serialize(fragment)));
+  }
+
+  @Test
+  void fail_to_deserialize_unknown_step() throws IOException {
+    // a fragment without steps ends with the number of steps, 0
+    byte[] bytes = serialize(new PlanFragment(request, 200));
+    byte[] unknownStep = Arrays.copyOf(bytes, bytes.length + 1);
+    unknownStep[bytes.length - 1] = 1;
+    unknownStep[bytes.length] = 9;
+    IOException exception = assertThrows(IOException.class, () -> deserialize(unknownStep));
+    assertEquals("Unknown step tag 9", exception.getMessage());
+  }
+
+  @Test
+  void cannot_encode_unsupported_steps_or_expressions() {
+    PlanFragment fragment = new PlanFragment(request, 200);
+    assertTrue(fragment.then(new PlanFragment.Filter(condition)).isEncodable());
+
+    PlanFragment.Step custom = input -> input;
+    IOException exception = assertThrows(IOException.class, () -> serialize(fragment.then(custom)));
+    assertTrue(exception.getMessage().startsWith("Failed to encode step"));
+    assertFalse(fragment.then(custom).isEncodable());
+
+    Expression named = DSL.named("name", ref("name", STRING));
+    assertFalse(fragment.then(new PlanFragment.Filter(named)).isEncodable());
+    assertFalse(
+        fragment
+            .then(new PlanFragment.Eval(List.of(Pair.of(ref("name2", STRING), named))))
+            .isEncodable());
+  }
+
+  private static byte[] serialize(PlanFragment fragment) throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    fragment.writeTo(output);
+    return BytesReference.toBytes(output.bytes());
+  }
+
+  private static PlanFragment deserialize(byte[] bytes) throws IOException {
+    StreamInput input =
+        new NamedWriteableAwareStreamInput(new BytesStreamInput(bytes), NAMED_WRITEABLE_REGISTRY);
+    return new PlanFragment(input);
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor.fragment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest.IndexName;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TransportPlanFragmentActionTest {
+
+  @Mock private ThreadPool threadPool;
+
+  @Mock private ClusterService clusterService;
+
+  @Mock private TransportService transportService;
+
+  @Mock(answer = RETURNS_DEEP_STUBS)
+  private NodeClient nodeClient;
+
+  @Mock private ResourceMonitor resourceMonitor;
+
+  @Mock private Settings settings;
+
+  private final DiscoveryNode node =
+      new DiscoveryNode(
+          "node-1", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+
+  private final DiscoveryNode otherNode =
+      new DiscoveryNode(
+          "node-2", new TransportAddress(InetAddress.getLoopbackAddress(), 9301), Version.CURRENT);
+
+  private final PlanFragment fragment = fragmentOf(200);
+
+  private TransportPlanFragmentAction action;
+
+  @BeforeEach
+  void setUp() {
+    action =
+        new TransportPlanFragmentAction(
+            threadPool,
+            clusterService,
+            transportService,
+            new ActionFilters(Set.of()),
+            nodeClient,
+            new OpenSearchExecutionProtector(resourceMonitor, settings));
+  }
+
+  @Test
+  void execute_fragment_over_local_shards() {
+    when(clusterService.localNode()).thenReturn(node);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    SearchResponse firstPage = response(hit("John", 30), hit("Jane", 20));
+    SearchResponse lastPage = response();
+    when(firstPage.getScrollId()).thenReturn("scroll");
+    when(nodeClient.search(any()).actionGet()).thenReturn(firstPage);
+    when(nodeClient.searchScroll(any()).actionGet()).thenReturn(lastPage);
+
+    PlanFragmentNodeResponse response =
+        action.nodeOperation(
+            new PlanFragmentNodeRequest(
+                new PlanFragmentRequest(fragment, Map.of("node-1", List.of(0, 2)))));
+    assertEquals(node, response.getNode());
+    assertEquals(1, response.getRows().size());
+    assertEquals(
+        tupleValue(Map.of("name", "John", "age", 30)).tupleValue(),
+        response.getRows().get(0).tupleValue());
+    assertEquals(List.of(0), response.getScanOrdinals());
+    assertEquals(2, response.getScanned());
+
+    ArgumentCaptor<SearchRequest> searchRequest = ArgumentCaptor.forClass(SearchRequest.class);
+    verify(nodeClient, atLeastOnce()).search(searchRequest.capture());
+    assertEquals("_shards:0,2|_local", searchRequest.getValue().preference());
+    verify(nodeClient.prepareClearScroll()).addScrollId("scroll");
+  }
+
+  @Test
+  void return_same_rows_as_local_execution_under_size_limit() {
+    when(clusterService.localNode()).thenReturn(node, otherNode);
+    when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    SearchHit[] node1Hits = {hit("a", 30), hit("b", 20), hit("c", 40), hit("d", 50)};
+    SearchHit[] node2Hits = {hit("e", 35), hit("f", 10), hit("g", 60)};
+    SearchResponse node1Page = response(node1Hits);
+    SearchResponse node2Page = response(node2Hits);
+    SearchResponse allPage =
+        response(
+            Stream.concat(Arrays.stream(node1Hits), Arrays.stream(node2Hits))
+                .toArray(SearchHit[]::new));
+    for (SearchResponse page : List.of(node1Page, node2Page, allPage)) {
+      when(page.getScrollId()).thenReturn("scroll");
+    }
+    when(nodeClient.search(any()).actionGet()).thenReturn(node1Page, node2Page, allPage);
+    PlanFragment limited = fragmentOf(3);
+    PlanFragmentRequest request =
+        new PlanFragmentRequest(limited, Map.of("node-1", List.of(0), "node-2", List.of(1)));
+
+    PlanFragmentResponse distributed =
+        action.newResponse(
+            request,
+            List.of(
+                action.nodeOperation(new PlanFragmentNodeRequest(request)),
+                action.nodeOperation(new PlanFragmentNodeRequest(request))),
+            List.of());
+    PhysicalPlan local = limited.toPlan(new OpenSearchNodeClient(nodeClient), null);
+    List<ExprValue> localRows = new ArrayList<>();
+    local.open();
+    while (local.hasNext()) {
+      localRows.add(local.next());
+    }
+    local.close();
+
+    // a and c out of the first 3 rows scanned, although each node scans 3 rows
+    assertEquals(2, localRows.size());
+    assertEquals(localRows, distributed.getRows(3));
+  }
+
+  @Test
+  void fail_if_resource_is_not_enough() {
+    when(clusterService.localNode()).thenReturn(node);
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            action.nodeOperation(
+                new PlanFragmentNodeRequest(
+                    new PlanFragmentRequest(fragment, Map.of("node-1", List.of(0))))));
+    verify(nodeClient, never()).search(any());
+  }
+
+  @Test
+  void gather_responses_of_nodes() {
+    when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+    PlanFragmentRequest request = new PlanFragmentRequest(fragment, Map.of("node-1", List.of(0)));
+    List<PlanFragmentNodeResponse> nodes =
+        List.of(
+            new PlanFragmentNodeResponse(
+                node, List.of(tupleValue(Map.of("age", 30))), List.of(0), 1));
+    List<FailedNodeException> failures =
+        List.of(new FailedNodeException("node-2", "failed", new IllegalStateException()));
+
+    PlanFragmentResponse response = action.newResponse(request, nodes, failures);
+    assertEquals(new ClusterName("test"), response.getClusterName());
+    assertEquals(nodes, response.getNodes());
+    assertEquals(failures, response.failures());
+    assertSame(request, action.newNodeRequest(request).getRequest());
+  }
+
+  @Test
+  void read_node_response() throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    new PlanFragmentNodeResponse(node, List.of(tupleValue(Map.of("age", 30))), List.of(0), 1)
+        .writeTo(output);
+    assertEquals(
+        List.of(tupleValue(Map.of("age", 30))),
+        action.newNodeResponse(new BytesStreamInput(output.bytes().toBytesRef().bytes)).getRows());
+  }
+
+  private static PlanFragment fragmentOf(int maxResponseSize) {
+    return new PlanFragment(
+            new OpenSearchScrollRequest(
+                new IndexName("test"),
+                TimeValue.timeValueMinutes(1),
+                new SearchSourceBuilder().size(100),
+                new OpenSearchExprValueFactory(
+                    Map.of(
+                        "name", OpenSearchDataType.of(MappingType.Keyword),
+                        "age", OpenSearchDataType.of(MappingType.Integer))),
+                List.of()),
+            maxResponseSize)
+        .then(new PlanFragment.Filter(DSL.greater(ref("age", INTEGER), literal(25))));
+  }
+
+  private static SearchHit hit(String name, int age) {
+    SearchHit hit = new SearchHit(1);
+    hit.sourceRef(new BytesArray(String.format("{\"name\":\"%s\",\"age\":%d}", name, age)));
+    return hit;
+  }
+
+  private static SearchResponse response(SearchHit... hits) {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(
+            new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1F));
+    return response;
+  }
+}
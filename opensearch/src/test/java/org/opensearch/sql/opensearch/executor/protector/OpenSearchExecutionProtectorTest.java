@@ -8,9 +8,11 @@ package org.opensearch.sql.opensearch.executor.protector;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -20,6 +22,7 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topK;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -63,6 +66,7 @@ import org.opensearch.sql.opensearch.planner.physical.MLOperator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexFetch;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
@@ -85,7 +89,11 @@ class OpenSearchExecutionProtectorTest {
 
   @BeforeEach
   public void setup() {
-    executionProtector = new OpenSearchExecutionProtector(resourceMonitor);
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor, settings);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(0);
+    lenient()
+        .when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_SPILL_THRESHOLD))
+        .thenReturn(0);
   }
 
   @Test
@@ -191,6 +199,49 @@ class OpenSearchExecutionProtectorTest {
             window(sort(values(emptyList()), sortItem), rank, windowDefinition)));
   }
 
+  @Test
+  void test_protect_sort_with_spill_threshold() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(1000);
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(sort(values(emptyList()), 1000, sortItem)),
+        executionProtector.protect(sort(values(emptyList()), sortItem)));
+  }
+
+  @Test
+  void test_protect_aggregation_with_spill_threshold() {
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_SPILL_THRESHOLD)).thenReturn(1000);
+    List<NamedAggregator> aggregators = List.of(named("count", DSL.count(DSL.ref("age", INTEGER))));
+    List<NamedExpression> groupBy = List.of(named("name", DSL.ref("name", STRING)));
+
+    assertEquals(
+        PhysicalPlanDSL.agg(values(emptyList()), aggregators, groupBy, 1000),
+        executionProtector.protect(PhysicalPlanDSL.agg(values(emptyList()), aggregators, groupBy)));
+  }
+
+  @Test
+  void test_protect_streaming_aggregation() {
+    List<NamedAggregator> aggregators = List.of(named("count", DSL.count(DSL.ref("age", INTEGER))));
+    List<NamedExpression> groupBy = List.of(named("name", DSL.ref("name", STRING)));
+
+    assertEquals(
+        PhysicalPlanDSL.streamingAgg(values(emptyList()), aggregators, groupBy),
+        executionProtector.protect(
+            PhysicalPlanDSL.streamingAgg(values(emptyList()), aggregators, groupBy)));
+  }
+
+  @Test
+  void test_protect_top_k() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(topK(values(emptyList()), 10, 5, sortItem)),
+        executionProtector.protect(topK(values(emptyList()), 10, 5, sortItem)));
+  }
+
   @Test
   void test_protect_windowOperator_input() {
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
@@ -298,6 +349,24 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.visitNested(nestedOperator, values(emptyList())));
   }
 
+  @Test
+  void test_protect_table_fetch_input() {
+    OpenSearchIndexScan scan =
+        new OpenSearchIndexScan(
+            client,
+            200,
+            new OpenSearchRequestBuilder(200, exprValueFactory)
+                .build(new OpenSearchRequest.IndexName("test"), 10000, null));
+    OpenSearchIndexFetch fetch = new OpenSearchIndexFetch(scan, exprValueFactory, false, null);
+    NamedExpression name = named("name", ref("name", STRING));
+
+    PhysicalPlan protectedPlan = executionProtector.protect(PhysicalPlanDSL.project(fetch, name));
+    PhysicalPlan protectedFetch = protectedPlan.getChild().get(0);
+    assertEquals(PhysicalPlanDSL.project(fetch, name), protectedPlan);
+    assertEquals(fetch, protectedFetch);
+    assertEquals(resourceMonitor(scan), ((OpenSearchIndexFetch) protectedFetch).getInput());
+  }
+
   @Test
   void do_nothing_with_CursorCloseOperator_and_children() {
     var child = mock(PhysicalPlan.class);
@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IndexMappingCacheTest {
+
+  private static final String MAPPING =
+      "{\"properties\":{\"name\":{\"type\":\"keyword\"},"
+          + "\"address\":{\"properties\":{\"city\":{\"type\":\"keyword\"}}}}}";
+
+  private final AtomicReference<ClusterState> state = new AtomicReference<>();
+
+  private IndexMappingCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new IndexMappingCache(
+            state::get,
+            new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY)),
+            Settings.EMPTY);
+  }
+
+  @Test
+  void cache_nothing_if_security_plugin_is_enabled() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+    cache =
+        new IndexMappingCache(
+            state::get,
+            new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY)),
+            Settings.builder().put("plugins.security.ssl.http.enabled", true).build());
+
+    assertTrue(cache.get(new OpenSearchRequest.IndexName("logs-1")).isEmpty());
+  }
+
+  @Test
+  void detect_security_plugin_from_node_settings() {
+    assertFalse(IndexMappingCache.isSecurityEnabled(Settings.EMPTY));
+    assertTrue(
+        IndexMappingCache.isSecurityEnabled(
+            Settings.builder().put("plugins.security.ssl.http.enabled", true).build()));
+    assertTrue(
+        IndexMappingCache.isSecurityEnabled(
+            Settings.builder().put("opendistro_security.ssl.http.enabled", true).build()));
+    assertFalse(
+        IndexMappingCache.isSecurityEnabled(
+            Settings.builder()
+                .put("plugins.security.ssl.http.enabled", true)
+                .put("plugins.security.disabled", true)
+                .build()));
+  }
+
+  @Test
+  void get_mapping_and_settings_of_index() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+
+    IndexMappingCache.Mapping mapping = get("logs-1");
+    assertEquals(
+        Map.of("name", (ExprType) STRING, "address", ExprCoreType.STRUCT, "address.city", STRING),
+        mapping.getFieldTypes());
+    assertEquals(2, mapping.getFieldOpenSearchTypes().size());
+    assertEquals(500, mapping.getMaxResultWindow());
+    assertEquals(2, mapping.getNumberOfShards());
+    assertEquals(2, mapping.getMaxNumberOfShards());
+  }
+
+  @Test
+  void keep_mapping_of_pattern_while_metadata_is_unchanged() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+
+    IndexMappingCache.Mapping mapping = get("logs-*");
+    assertSame(mapping, get("logs-*"));
+    assertSame(mapping.getFieldTypes(), get("logs-*").getFieldTypes());
+  }
+
+  @Test
+  void reuse_merged_mapping_if_indices_of_pattern_are_unchanged() {
+    IndexMetadata logs1 = index("logs-1", "uuid-1", 1, MAPPING, 500, 2);
+    setIndices(1, logs1);
+    IndexMappingCache.Mapping mapping = get("logs-*");
+
+    setIndices(2, logs1, index("other", "uuid-2", 1, MAPPING, 500, 1));
+    IndexMappingCache.Mapping current = get("logs-*");
+    assertNotSame(mapping, current);
+    assertSame(mapping.getFieldOpenSearchTypes(), current.getFieldOpenSearchTypes());
+    assertSame(mapping.getFieldTypes(), current.getFieldTypes());
+  }
+
+  @Test
+  void merge_mappings_of_new_index_matching_pattern() {
+    IndexMetadata logs1 = index("logs-1", "uuid-1", 1, MAPPING, 500, 2);
+    setIndices(1, logs1);
+    IndexMappingCache.Mapping mapping = get("logs-*");
+
+    setIndices(
+        2,
+        logs1,
+        index(
+            "logs-2", "uuid-2", 1, "{\"properties\":{\"bytes\":{\"type\":\"integer\"}}}", 100, 5));
+    IndexMappingCache.Mapping merged = get("logs-*");
+    assertSame(
+        mapping.getFieldOpenSearchTypes().get("address"),
+        merged.getFieldOpenSearchTypes().get("address"));
+    assertEquals(
+        Map.of(
+            "name",
+            (ExprType) STRING,
+            "address",
+            ExprCoreType.STRUCT,
+            "address.city",
+            STRING,
+            "bytes",
+            INTEGER),
+        merged.getFieldTypes());
+    assertEquals(100, merged.getMaxResultWindow());
+    assertEquals(2, merged.getNumberOfShards());
+    assertEquals(5, merged.getMaxNumberOfShards());
+    assertEquals(merged.getFieldTypes(), get("logs-1,logs-2").getFieldTypes());
+  }
+
+  @Test
+  void parse_index_again_once_its_version_changes() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+    OpenSearchDataType address = get("logs-1").getFieldOpenSearchTypes().get("address");
+
+    setIndices(
+        2, index("logs-1", "uuid-1", 2, "{\"properties\":{\"name\":{\"type\":\"text\"}}}", 500, 2));
+    assertEquals(
+        OpenSearchDataType.MappingType.Text,
+        get("logs-1").getFieldOpenSearchTypes().get("name").getMappingType());
+
+    // An index deleted and created again starts over from the first mapping version
+    setIndices(3, index("logs-1", "uuid-2", 1, MAPPING, 500, 2));
+    assertNotSame(address, get("logs-1").getFieldOpenSearchTypes().get("address"));
+
+    setIndices(
+        4,
+        IndexMetadata.builder(index("logs-1", "uuid-2", 1, MAPPING, 100, 2))
+            .settingsVersion(2)
+            .build());
+    assertEquals(100, get("logs-1").getMaxResultWindow());
+  }
+
+  @Test
+  void drop_mappings_of_deleted_indices() {
+    IndexMetadata logs1 = index("logs-1", "uuid-1", 1, MAPPING, 500, 2);
+    IndexMetadata logs2 = index("logs-2", "uuid-2", 1, MAPPING, 500, 2);
+    ClusterState previous = setIndices(1, logs1, logs2);
+    get("logs-*");
+    OpenSearchDataType address1 = get("logs-1").getFieldOpenSearchTypes().get("address");
+    OpenSearchDataType address2 = get("logs-2").getFieldOpenSearchTypes().get("address");
+
+    ClusterState current = setIndices(2, logs2);
+    cache.clusterChanged(new ClusterChangedEvent("test", previous, previous));
+    cache.clusterChanged(new ClusterChangedEvent("test", current, previous));
+    assertSame(address2, get("logs-2").getFieldOpenSearchTypes().get("address"));
+
+    setIndices(3, logs1, logs2);
+    assertNotSame(address1, get("logs-1").getFieldOpenSearchTypes().get("address"));
+  }
+
+  @Test
+  void get_empty_mapping_of_index_without_mapping() {
+    setIndices(1, index("empty", "uuid-1", 1, null, 500, 2));
+    assertTrue(get("empty").getFieldTypes().isEmpty());
+  }
+
+  @Test
+  void get_nothing_for_remote_indices_and_patterns_without_indices() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+    assertTrue(cache.get(new OpenSearchRequest.IndexName("remote:logs-1")).isEmpty());
+    assertTrue(cache.get(new OpenSearchRequest.IndexName("metrics-*")).isEmpty());
+  }
+
+  @Test
+  void fail_on_missing_index() {
+    setIndices(1, index("logs-1", "uuid-1", 1, MAPPING, 500, 2));
+    assertThrows(IndexNotFoundException.class, () -> get("logs-2"));
+  }
+
+  private IndexMappingCache.Mapping get(String indexName) {
+    return cache.get(new OpenSearchRequest.IndexName(indexName)).orElseThrow();
+  }
+
+  private ClusterState setIndices(long version, IndexMetadata... indices) {
+    Metadata.Builder metadata = Metadata.builder().version(version);
+    for (IndexMetadata index : indices) {
+      metadata.put(index, false);
+    }
+    state.set(ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build());
+    return state.get();
+  }
+
+  @SneakyThrows
+  private static IndexMetadata index(
+      String name,
+      String uuid,
+      long mappingVersion,
+      String mapping,
+      int maxResultWindow,
+      int numberOfShards) {
+    IndexMetadata.Builder builder =
+        IndexMetadata.builder(name)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, uuid)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, numberOfShards)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put("index.max_result_window", maxResultWindow))
+            .mappingVersion(mappingVersion);
+    if (mapping != null) {
+      builder.putMapping(mapping);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.expression.aggregation.AvgAggregator;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchCompositeRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test");
+
+  private final GroupedAggregation aggregation =
+      new GroupedAggregation(
+          List.of(named("avg(age)", new AvgAggregator(List.of(ref("age", INTEGER)), INTEGER))),
+          List.of(named("name", ref("name", STRING))),
+          null);
+
+  private final OpenSearchExprValueFactory factory = new OpenSearchExprValueFactory(Map.of());
+
+  private final SearchSourceBuilder sourceBuilder =
+      new SearchSourceBuilder().query(QueryBuilders.termQuery("age", 30)).size(0);
+
+  private final List<String> searches = new ArrayList<>();
+
+  private OpenSearchCompositeRequest request;
+
+  @BeforeEach
+  void setUp() {
+    new AggregationQueryBuilder(new DefaultExpressionSerializer())
+        .buildAggregationBuilder(
+            aggregation.getAggregatorList(), aggregation.getGroupByList(), null)
+        .getLeft()
+        .forEach(sourceBuilder::aggregation);
+    composite(sourceBuilder).size(2);
+    request =
+        new OpenSearchCompositeRequest(INDEX_NAME, sourceBuilder, factory, List.of(), aggregation);
+  }
+
+  @Test
+  void page_through_buckets_after_key_of_previous_page() {
+    SearchResponse first = response(2, Map.of("name", "b"));
+    SearchResponse second = response(2, Map.of("name", "d"));
+
+    OpenSearchResponse response = request.search(sr -> search(sr, first), sr -> fail());
+    assertTrue(response.isAggregationResponse());
+    assertTrue(request.hasAnotherBatch());
+    request.search(sr -> search(sr, second), sr -> fail());
+    assertTrue(request.hasAnotherBatch());
+
+    assertFalse(searches.get(0).contains("\"after\""));
+    assertTrue(searches.get(1).contains("\"after\":{\"name\":\"b\"}"));
+  }
+
+  @Test
+  void stop_after_page_with_fewer_buckets_than_page_size() {
+    SearchResponse last = response(1, Map.of("name", "a"));
+
+    request.search(sr -> search(sr, last), sr -> fail());
+    assertFalse(request.hasAnotherBatch());
+    assertTrue(request.search(sr -> fail(), sr -> fail()).isEmpty());
+  }
+
+  @Test
+  void stop_if_no_after_key() {
+    SearchResponse last = response(0, null);
+
+    request.search(sr -> search(sr, last), sr -> fail());
+    assertFalse(request.hasAnotherBatch());
+    assertNull(request.getAfterKey());
+  }
+
+  @Test
+  void no_another_batch_before_first_search() {
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void nothing_to_clean() {
+    request.clean(id -> fail());
+  }
+
+  @Test
+  void serialize_deserialize() {
+    SearchResponse first = response(2, Map.of("name", "b"));
+    request.search(sr -> search(sr, first), sr -> fail());
+
+    OpenSearchCompositeRequest deserialized = deserialize(serialize(request));
+    assertEquals(request.getIndexName(), deserialized.getIndexName());
+    assertEquals(request.getSourceBuilder().toString(), deserialized.getSourceBuilder().toString());
+    assertEquals(Map.of("name", "b"), deserialized.getAfterKey());
+    assertTrue(deserialized.hasAnotherBatch());
+    assertEquals(aggregation, deserialized.getAggregation());
+    assertEquals(
+        new CompositeAggregationParser(new SingleValueParser("avg(age)")),
+        deserialized.getExprValueFactory().getParser());
+    assertEquals(
+        Map.of("avg(age)", OpenSearchDataType.of(INTEGER), "name", OpenSearchDataType.of(STRING)),
+        deserialized.getExprValueFactory().getTypeMapping());
+  }
+
+  @Test
+  void fail_to_deserialize_unknown_aggregation() {
+    byte[] bytes =
+        new String(serialize(request), StandardCharsets.ISO_8859_1)
+            .replace("GroupedAggregation", "GroupedAggregatiox")
+            .getBytes(StandardCharsets.ISO_8859_1);
+    var engine = mock(OpenSearchStorageEngine.class);
+    IOException exception =
+        assertThrows(
+            IOException.class,
+            () -> new OpenSearchCompositeRequest(new BytesStreamInput(bytes), engine));
+    assertEquals("Failed to deserialize aggregation", exception.getMessage());
+  }
+
+  private SearchResponse search(SearchRequest searchRequest, SearchResponse response) {
+    assertEquals(List.of("test"), List.of(searchRequest.indices()));
+    searches.add(searchRequest.source().toString());
+    return response;
+  }
+
+  private static SearchResponse response(int buckets, Map<String, Object> afterKey) {
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    when(composite.getName()).thenReturn("composite_buckets");
+    when(composite.afterKey()).thenReturn(afterKey);
+    doReturn(Collections.nCopies(buckets, mock(CompositeAggregation.Bucket.class)))
+        .when(composite)
+        .getBuckets();
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(composite)));
+    return response;
+  }
+
+  private static CompositeAggregationBuilder composite(SearchSourceBuilder sourceBuilder) {
+    return (CompositeAggregationBuilder)
+        sourceBuilder.aggregations().getAggregatorFactories().iterator().next();
+  }
+
+  @SneakyThrows
+  private static byte[] serialize(OpenSearchCompositeRequest request) {
+    var stream = new BytesStreamOutput();
+    request.writeTo(stream);
+    stream.flush();
+    return stream.bytes().toBytesRef().bytes;
+  }
+
+  @SneakyThrows
+  private static OpenSearchCompositeRequest deserialize(byte[] bytes) {
+    var engine = mock(OpenSearchStorageEngine.class);
+    OpenSearchIndex index = mock(OpenSearchIndex.class);
+    when(engine.getTable(any(), any())).thenReturn(index);
+    when(index.getFieldOpenSearchTypes()).thenReturn(Map.of());
+    return new OpenSearchCompositeRequest(new BytesStreamInput(bytes), engine);
+  }
+}
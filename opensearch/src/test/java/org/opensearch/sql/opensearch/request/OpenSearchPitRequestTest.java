@@ -0,0 +1,332 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchPitRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test");
+
+  private static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  private final SearchSourceBuilder sourceBuilder =
+      new SearchSourceBuilder().query(QueryBuilders.termQuery("name", "John")).size(10);
+
+  @Test
+  void sort_by_doc_and_shard_doc_if_not_sorted() {
+    var request = newRequest();
+    assertEquals(
+        List.of(
+            SortBuilders.fieldSort("_doc").order(SortOrder.ASC),
+            SortBuilders.fieldSort("_shard_doc").order(SortOrder.ASC)),
+        request.getSourceBuilder().sorts());
+  }
+
+  @Test
+  void sort_by_shard_doc_after_sort_fields() {
+    sourceBuilder.sort(SortBuilders.fieldSort("name").order(SortOrder.DESC));
+    var request = newRequest();
+    assertEquals(
+        List.of(
+            SortBuilders.fieldSort("name").order(SortOrder.DESC),
+            SortBuilders.fieldSort("_shard_doc").order(SortOrder.ASC)),
+        request.getSourceBuilder().sorts());
+  }
+
+  @Test
+  void create_from_scroll_request() {
+    var scrollRequest =
+        new OpenSearchScrollRequest(
+            INDEX_NAME, KEEP_ALIVE, sourceBuilder, factory, List.of("name"));
+    var request = new OpenSearchPitRequest(scrollRequest, client);
+    assertEquals(INDEX_NAME, request.getIndexName());
+    assertEquals(KEEP_ALIVE, request.getKeepAlive());
+    assertEquals(sourceBuilder, request.getSourceBuilder());
+    assertEquals(List.of("name"), request.getIncludes());
+    assertEquals(factory, request.getExprValueFactory());
+  }
+
+  @Test
+  void search_pages_after_last_hit_through_point_in_time() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    List<SearchRequest> searchRequests = new ArrayList<>();
+    SearchResponse first = response(hit(3, "a"), hit(5, "b"));
+    SearchResponse second = response();
+
+    assertFalse(request.search(sr -> add(searchRequests, sr, first), sr -> fail()).isEmpty());
+    assertTrue(request.hasAnotherBatch());
+    assertTrue(request.search(sr -> add(searchRequests, sr, second), sr -> fail()).isEmpty());
+    assertFalse(request.hasAnotherBatch());
+
+    var pit = new PointInTimeBuilder("pit").setKeepAlive(KEEP_ALIVE);
+    assertEquals(
+        new SearchRequest().source(sourceBuilder.shallowCopy().pointInTimeBuilder(pit)),
+        searchRequests.get(0));
+    assertEquals(
+        new SearchRequest()
+            .source(
+                sourceBuilder
+                    .shallowCopy()
+                    .pointInTimeBuilder(pit)
+                    .searchAfter(new Object[] {5, "b"})),
+        searchRequests.get(1));
+    verify(client, times(1))
+        .createPit(
+            argThat(
+                (CreatePitRequest createPitRequest) ->
+                    KEEP_ALIVE.equals(createPitRequest.getKeepAlive())
+                        && List.of("test").equals(List.of(createPitRequest.getIndices()))));
+  }
+
+  @Test
+  void no_cursor_before_search() {
+    assertFalse(newRequest().hasAnotherBatch());
+  }
+
+  @Test
+  void clean_on_empty_response() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    request.search(sr -> response(), sr -> fail());
+
+    request.clean(scrollId -> fail());
+    // deleted once only
+    request.clean(scrollId -> fail());
+    verify(client)
+        .deletePit(
+            argThat(deletePitRequest -> List.of("pit").equals(deletePitRequest.getPitIds())));
+    assertNull(request.getPitId());
+  }
+
+  @Test
+  void no_clean_on_non_empty_response() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    request.search(sr -> response(hit(1, "a")), sr -> fail());
+
+    request.clean(scrollId -> fail());
+    verify(client, never()).deletePit(any());
+    assertNull(request.getPitId());
+    assertNull(request.getSearchAfter());
+  }
+
+  @Test
+  void no_clean_before_search() {
+    newRequest().clean(scrollId -> fail());
+    verify(client, never()).deletePit(any());
+  }
+
+  @Test
+  void fall_back_to_scroll_if_point_in_time_not_created() {
+    when(client.createPit(any())).thenThrow(new IllegalStateException("PIT not supported"));
+    var request = newRequest();
+    SearchResponse first = response(hit(1, "a"));
+    when(first.getScrollId()).thenReturn("scroll");
+
+    assertFalse(
+        request
+            .search(
+                sr -> {
+                  assertEquals(KEEP_ALIVE, sr.scroll().keepAlive());
+                  assertNull(sr.source().pointInTimeBuilder());
+                  assertEquals(
+                      List.of(SortBuilders.fieldSort("_doc").order(SortOrder.ASC)),
+                      sr.source().sorts());
+                  return first;
+                },
+                sr -> fail())
+            .isEmpty());
+    assertTrue(request.hasAnotherBatch());
+    assertEquals("scroll", request.getFallback().getScrollId());
+
+    assertTrue(
+        request
+            .search(
+                sr -> fail(),
+                sr -> {
+                  assertEquals("scroll", sr.scrollId());
+                  return response();
+                })
+            .isEmpty());
+    assertFalse(request.hasAnotherBatch());
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll"), cleaned);
+    verify(client, times(1)).createPit(any());
+    verify(client, never()).deletePit(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_deserialize() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    request.search(sr -> response(hit(5, "b")), sr -> fail());
+
+    var newRequest = deserialize(serialize(request));
+    assertEquals(request, newRequest);
+    assertEquals("pit", newRequest.getPitId());
+    assertArrayEquals(new Object[] {5, "b"}, newRequest.getSearchAfter());
+    assertEquals(sourceBuilder, newRequest.getSourceBuilder());
+    assertNull(newRequest.getFallback());
+
+    newRequest.search(
+        sr -> {
+          assertArrayEquals(new Object[] {5, "b"}, sr.source().searchAfter());
+          assertEquals("pit", sr.source().pointInTimeBuilder().getId());
+          return response();
+        },
+        sr -> fail());
+    verify(client, times(1)).createPit(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void clean_deserialized_request() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    request.search(sr -> response(hit(5, "b")), sr -> fail());
+
+    var newRequest = deserialize(serialize(request));
+    newRequest.clean(scrollId -> fail());
+    verify(client)
+        .deletePit(
+            argThat(deletePitRequest -> List.of("pit").equals(deletePitRequest.getPitIds())));
+    assertNull(newRequest.getPitId());
+  }
+
+  @Test
+  @SneakyThrows
+  void no_clean_deserialized_request_on_non_empty_response() {
+    when(client.createPit(any())).thenReturn("pit");
+    var request = newRequest();
+    request.search(sr -> response(hit(5, "b")), sr -> fail());
+
+    var newRequest = deserialize(serialize(request));
+    newRequest.search(sr -> response(hit(6, "c")), sr -> fail());
+    assertTrue(newRequest.hasAnotherBatch());
+    newRequest.clean(scrollId -> fail());
+    verify(client, never()).deletePit(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_deserialize_fallback() {
+    when(client.createPit(any())).thenThrow(new IllegalStateException("PIT not supported"));
+    var request = newRequest();
+    SearchResponse first = response(hit(1, "a"));
+    when(first.getScrollId()).thenReturn("scroll");
+    request.search(sr -> first, sr -> fail());
+
+    var newRequest = deserialize(serialize(request));
+    assertNotNull(newRequest.getFallback());
+    assertEquals("scroll", newRequest.getFallback().getScrollId());
+    assertEquals(INDEX_NAME, newRequest.getIndexName());
+    assertEquals(KEEP_ALIVE, newRequest.getKeepAlive());
+
+    newRequest.search(
+        sr -> fail(),
+        sr -> {
+          assertEquals("scroll", sr.scrollId());
+          return response();
+        });
+    verify(client, times(1)).createPit(any());
+  }
+
+  private OpenSearchPitRequest newRequest() {
+    return new OpenSearchPitRequest(
+        INDEX_NAME, KEEP_ALIVE, sourceBuilder, factory, List.of(), client);
+  }
+
+  private SearchResponse add(
+      List<SearchRequest> searchRequests, SearchRequest searchRequest, SearchResponse response) {
+    searchRequests.add(searchRequest);
+    return response;
+  }
+
+  private SearchHit hit(int doc, String id) {
+    SearchHit hit = new SearchHit(doc);
+    hit.sortValues(
+        new Object[] {doc, id}, new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    return hit;
+  }
+
+  private SearchResponse response(SearchHit... hits) {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(
+            new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1F));
+    return response;
+  }
+
+  @SneakyThrows
+  private byte[] serialize(OpenSearchPitRequest request) {
+    var stream = new BytesStreamOutput();
+    request.writeTo(stream);
+    stream.flush();
+    return stream.bytes().toBytesRef().bytes;
+  }
+
+  @SneakyThrows
+  private OpenSearchPitRequest deserialize(byte[] bytes) {
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    return new OpenSearchPitRequest(new BytesStreamInput(bytes), engine);
+  }
+}
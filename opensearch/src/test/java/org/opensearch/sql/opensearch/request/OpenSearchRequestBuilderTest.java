@@ -7,6 +7,9 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +21,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,6 +48,7 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -59,6 +64,7 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
 import org.opensearch.sql.planner.logical.LogicalNested;
 
 @ExtendWith(MockitoExtension.class)
@@ -165,6 +171,63 @@ class OpenSearchRequestBuilderTest {
     verify(exprValueFactory).setParser(responseParser);
   }
 
+  @Test
+  void build_composite_request_of_grouped_aggregation() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, false, 50);
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+            "composite_buckets", Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder), new CompositeAggregationParser(new SingleValueParser("A"))));
+    GroupedAggregation aggregation = new GroupedAggregation(List.of(), List.of(), null);
+    requestBuilder.pushDownGroupedAggregation(aggregation);
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT);
+    assertEquals(
+        new OpenSearchCompositeRequest(
+            indexName,
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(0)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .aggregation(aggBuilder),
+            exprValueFactory,
+            List.of(),
+            aggregation),
+        request);
+    assertEquals(50, aggBuilder.size());
+  }
+
+  @Test
+  void composite_request_pages_by_size_limit_if_smaller() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, false, 1000);
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+            "composite_buckets", Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder), new CompositeAggregationParser(new SingleValueParser("A"))));
+    requestBuilder.pushDownGroupedAggregation(new GroupedAggregation(List.of(), List.of(), null));
+
+    requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT);
+    assertEquals(DEFAULT_LIMIT, aggBuilder.size());
+  }
+
+  @Test
+  void composite_request_pages_by_cursor_page_size() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, false, 1000);
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+            "composite_buckets", Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder), new CompositeAggregationParser(new SingleValueParser("A"))));
+    requestBuilder.pushDownGroupedAggregation(new GroupedAggregation(List.of(), List.of(), null));
+    requestBuilder.pushDownPageSize(5);
+
+    requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT);
+    assertEquals(5, aggBuilder.size());
+  }
+
   @Test
   void test_push_down_query_and_sort() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -218,6 +281,17 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void is_sorted_by_pushed_down_sort_only() {
+    assertFalse(requestBuilder.isSorted());
+
+    requestBuilder.pushDownFilter(QueryBuilders.termQuery("intA", 1));
+    assertFalse(requestBuilder.isSorted());
+
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+    assertTrue(requestBuilder.isSorted());
+  }
+
   @Test
   void test_push_down_non_field_sort() {
     ScoreSortBuilder sortBuilder = SortBuilders.scoreSort();
@@ -273,6 +347,51 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
   }
 
+  @Test
+  void test_push_down_project_with_doc_values() {
+    when(exprValueFactory.hasDocValues(any())).thenAnswer(i -> !"text".equals(i.getArgument(0)));
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, true);
+    requestBuilder.pushDownProjects(
+        new LinkedHashSet<>(List.of(DSL.ref("intA", INTEGER), DSL.ref("text", STRING))));
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .fetchSource(new String[] {"text"}, new String[0])
+            .docValueField("intA"),
+        requestBuilder);
+    assertEquals(
+        List.of("intA", "text"),
+        ((OpenSearchQueryRequest)
+                requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT))
+            .getIncludes());
+  }
+
+  @Test
+  void test_push_down_project_only_doc_values_skips_source() {
+    when(exprValueFactory.hasDocValues("intA")).thenReturn(true);
+    when(exprValueFactory.hasDocValues("_id")).thenReturn(false);
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, true);
+    requestBuilder.pushDownProjects(
+        new LinkedHashSet<>(List.of(DSL.ref("intA", INTEGER), DSL.ref("_id", STRING))));
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .fetchSource(false)
+            .docValueField("intA"),
+        requestBuilder);
+    assertEquals(
+        List.of("intA", "_id"),
+        ((OpenSearchQueryRequest)
+                requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT))
+            .getIncludes());
+  }
+
   @Test
   void test_push_down_project_limit() {
     Set<ReferenceExpression> references = Set.of(DSL.ref("intA", INTEGER));
@@ -39,6 +39,7 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
@@ -92,6 +93,58 @@ class OpenSearchScrollRequestTest {
         searchScrollRequest -> null);
   }
 
+  @Test
+  void slice() {
+    searchSourceBuilder.query(QueryBuilders.termQuery("name", "John")).size(100);
+    var request =
+        new OpenSearchScrollRequest(
+            INDEX_NAME, SCROLL_TIMEOUT, searchSourceBuilder, factory, List.of("name"));
+
+    List<OpenSearchScrollRequest> slices = request.slice(2);
+    assertEquals(2, slices.size());
+    for (int id = 0; id < 2; id++) {
+      var slice = slices.get(id);
+      assertEquals(
+          new SearchRequest()
+              .indices("test")
+              .scroll(SCROLL_TIMEOUT)
+              .source(
+                  new SearchSourceBuilder()
+                      .query(QueryBuilders.termQuery("name", "John"))
+                      .size(100)
+                      .slice(new SliceBuilder(id, 2))),
+          slice.getInitialSearchRequest());
+      assertEquals(List.of("name"), slice.getIncludes());
+      assertEquals(INDEX_NAME, slice.getIndexName());
+    }
+    assertNull(searchSourceBuilder.slice());
+  }
+
+  @Test
+  void split_by_shards() {
+    searchSourceBuilder.query(QueryBuilders.termQuery("name", "John")).size(100);
+    var request =
+        new OpenSearchScrollRequest(
+            INDEX_NAME, SCROLL_TIMEOUT, searchSourceBuilder, factory, List.of("name"));
+
+    List<OpenSearchScrollRequest> groups = request.splitByShards(2, 5);
+    assertEquals(2, groups.size());
+    List<String> preferences = List.of("_shards:0,2,4", "_shards:1,3");
+    for (int id = 0; id < 2; id++) {
+      var group = groups.get(id);
+      assertEquals(
+          new SearchRequest()
+              .indices("test")
+              .scroll(SCROLL_TIMEOUT)
+              .preference(preferences.get(id))
+              .source(searchSourceBuilder),
+          group.getInitialSearchRequest());
+      assertEquals(List.of("name"), group.getIncludes());
+      assertEquals(INDEX_NAME, group.getIndexName());
+    }
+    assertNull(request.getInitialSearchRequest().preference());
+  }
+
   @Test
   void isScrollStarted() {
     assertFalse(request.isScroll());
@@ -64,6 +64,19 @@ class OpenSearchDescribeIndexRequestTest {
             hasEntry("TYPE_NAME", stringValue("STRING"))));
   }
 
+  @Test
+  void testMaxResultWindowAndNumberOfShards() {
+    when(client.getIndexMaxResultWindows("index1", "index2"))
+        .thenReturn(Map.of("index1", 10000, "index2", 100));
+    when(client.getIndexNumberOfShards("index1", "index2"))
+        .thenReturn(Map.of("index1", 5, "index2", 2));
+
+    var request = new OpenSearchDescribeIndexRequest(client, "index1,ccs:index2");
+    assertEquals(100, request.getMaxResultWindow());
+    assertEquals(2, request.getNumberOfShards());
+    assertEquals(5, request.getMaxNumberOfShards());
+  }
+
   @Test
   void testToString() {
     assertEquals(
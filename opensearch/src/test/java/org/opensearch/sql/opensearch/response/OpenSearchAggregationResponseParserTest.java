@@ -11,6 +11,9 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.opensearch.response.AggregationResponseUtils.fromJson;
 import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue;
 
@@ -18,10 +21,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
@@ -33,6 +39,21 @@ import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class OpenSearchAggregationResponseParserTest {
 
+  private final OpenSearchExprValueFactory exprValueFactory =
+      new OpenSearchExprValueFactory(
+          ImmutableMap.<String, OpenSearchDataType>builder()
+              .put("max", OpenSearchDataType.of(DOUBLE))
+              .put("min", OpenSearchDataType.of(DOUBLE))
+              .put("avg", OpenSearchDataType.of(DOUBLE))
+              .put("filtered", OpenSearchDataType.of(DOUBLE))
+              .put("esField", OpenSearchDataType.of(DOUBLE))
+              .put("maxField", OpenSearchDataType.of(DOUBLE))
+              .put("type", OpenSearchDataType.of(STRING))
+              .put("region", OpenSearchDataType.of(STRING))
+              .put("gender", OpenSearchDataType.of(STRING))
+              .put("take", OpenSearchDataType.of(ARRAY))
+              .build());
+
   /** SELECT MAX(age) as max FROM accounts. */
   @Test
   void no_bucket_one_metric_should_pass() {
@@ -309,8 +330,11 @@ class OpenSearchAggregationResponseParserTest {
         contains(ImmutableMap.of("type", "take", "take", ImmutableList.of("m", "f"))));
   }
 
+  @SuppressWarnings("unchecked")
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
-    return parser.parse(fromJson(json));
+    return parser.parse(fromJson(json), exprValueFactory).stream()
+        .map(row -> (Map<String, Object>) row.value())
+        .collect(Collectors.toList());
   }
 
   public Map<String, Object> entry(String name, Object value) {
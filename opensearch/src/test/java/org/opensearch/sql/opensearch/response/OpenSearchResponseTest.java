@@ -6,18 +6,19 @@
 package org.opensearch.sql.opensearch.response;
 
 import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.core.index.shard.ShardId;
@@ -106,14 +108,11 @@ class OpenSearchResponseTest {
                 new SearchHit[] {searchHit1, searchHit2},
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
     when(searchHit1.getInnerHits()).thenReturn(null);
     when(searchHit2.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean()))
-        .thenReturn(exprTupleValue1)
-        .thenReturn(exprTupleValue2);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue1.tupleValue()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue2.tupleValue()));
 
     int i = 0;
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, List.of("id1"))) {
@@ -143,15 +142,14 @@ class OpenSearchResponseTest {
 
     ShardId shardId = new ShardId("index", "indexUUID", 42);
     SearchShardTarget shardTarget = new SearchShardTarget("node", shardId, null, null);
-
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getShard()).thenReturn(shardTarget);
     when(searchHit1.getScore()).thenReturn(3.75F);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleHit.tupleValue()));
 
     ExprTupleValue exprTupleResponse =
         ExprTupleValue.fromExprValueMap(
@@ -188,9 +186,8 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 3.75F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleHit.tupleValue()));
 
     List includes = List.of("id1");
     ExprTupleValue exprTupleResponse =
@@ -218,14 +215,13 @@ class OpenSearchResponseTest {
                 new SearchHit[] {searchHit1},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 Float.NaN));
-
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getScore()).thenReturn(Float.NaN);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleHit.tupleValue()));
 
     List includes = List.of("id1", "_index", "_id", "_sort", "_score", "_maxscore");
     ExprTupleValue exprTupleResponse =
@@ -263,13 +259,56 @@ class OpenSearchResponseTest {
                     new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                     1.0F)));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue1);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue1.tupleValue()));
 
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
       assertEquals(exprTupleValue1, hit);
     }
   }
 
+  @Test
+  void iterator_doc_value_fields() {
+    SearchHit searchHit =
+        new SearchHit(1, "id1", Map.of("id", new DocumentField("id", List.of(1L, 2L))), Map.of());
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(Map.of("name", new ExprStringValue("John"))));
+    when(factory.construct("id", 1L, false)).thenReturn(new ExprIntegerValue(1));
+
+    var response =
+        new OpenSearchResponse(searchResponse, factory, List.of("id", "name", "missing", "_id"));
+    assertEquals(
+        List.of(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of(
+                    "name", new ExprStringValue("John"),
+                    "id", new ExprIntegerValue(1),
+                    "_id", new ExprStringValue("id1")))),
+        ImmutableList.copyOf(response));
+  }
+
+  @Test
+  void sort_values_of_hits() {
+    when(searchHit1.getSortValues()).thenReturn(new Object[] {"b", 2L});
+    when(searchHit2.getSortValues()).thenReturn(new Object[] {"a", 1L});
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1, searchHit2},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+
+    List<Object[]> sortValues =
+        new OpenSearchResponse(searchResponse, factory, includes).getSortValues();
+    assertEquals(2, sortValues.size());
+    assertArrayEquals(new Object[] {"b", 2L}, sortValues.get(0));
+    assertArrayEquals(new Object[] {"a", 1L}, sortValues.get(1));
+  }
+
   @Test
   void response_is_aggregation_when_aggregation_not_empty() {
     when(searchResponse.getAggregations()).thenReturn(aggregations);
@@ -290,13 +329,10 @@ class OpenSearchResponseTest {
   void aggregation_iterator() {
     final List includes = List.of("id1", "id2");
 
-    when(parser.parse(any()))
-        .thenReturn(Arrays.asList(ImmutableMap.of("id1", 1), ImmutableMap.of("id2", 2)));
+    when(parser.parse(aggregations, factory))
+        .thenReturn(Arrays.asList(exprTupleValue1, exprTupleValue2));
     when(searchResponse.getAggregations()).thenReturn(aggregations);
     when(factory.getParser()).thenReturn(parser);
-    when(factory.construct(anyString(), anyInt(), anyBoolean()))
-        .thenReturn(new ExprIntegerValue(1))
-        .thenReturn(new ExprIntegerValue(2));
 
     int i = 0;
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
@@ -329,7 +365,8 @@ class OpenSearchResponseTest {
                 1.0F));
 
     when(searchHit1.getHighlightFields()).thenReturn(highlightMap);
-    when(factory.construct(any(), anyBoolean())).thenReturn(resultTuple);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(resultTuple.tupleValue()));
 
     for (ExprValue resultHit : new OpenSearchResponse(searchResponse, factory, includes)) {
       var expected =
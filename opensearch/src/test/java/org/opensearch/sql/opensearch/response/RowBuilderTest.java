@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.agg.RowBuilder;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RowBuilderTest {
+
+  private final RowBuilder row =
+      new RowBuilder(
+          new OpenSearchExprValueFactory(
+              Map.of(
+                  "name", OpenSearchDataType.of(STRING),
+                  "age", OpenSearchDataType.of(INTEGER),
+                  "count", OpenSearchDataType.of(INTEGER))));
+
+  @Test
+  void rows_of_same_columns_share_schema() {
+    row.add("name", "John");
+    row.add("age", 30);
+    ExprRowValue first = (ExprRowValue) row.build();
+    row.add("name", "Jane");
+    row.add("age", null);
+    ExprRowValue second = (ExprRowValue) row.build();
+
+    assertEquals(tuple("name", "John", "age", 30), first);
+    assertEquals(tuple("name", "Jane", "age", null), second);
+    assertSame(first.getSchema(), second.getSchema());
+  }
+
+  @Test
+  void resolve_columns_again_if_different() {
+    row.add("name", "John");
+    row.add("age", 30);
+    ExprRowValue first = (ExprRowValue) row.build();
+    row.add("name", "Jane");
+    row.add("count", 2);
+    ExprRowValue second = (ExprRowValue) row.build();
+
+    assertEquals(tuple("name", "John", "age", 30), first);
+    assertEquals(tuple("name", "Jane", "count", 2), second);
+    assertNotSame(first.getSchema(), second.getSchema());
+  }
+
+  @Test
+  void drop_columns_missing_from_row() {
+    row.add("name", "John");
+    row.add("age", 30);
+    row.build();
+    row.add("name", "Jane");
+    ExprValue second = row.build();
+    row.add("name", "Joe");
+    ExprValue third = row.build();
+
+    assertEquals(tuple("name", "Jane"), second);
+    assertEquals(tuple("name", "Joe"), third);
+  }
+
+  @Test
+  void later_column_of_same_name_replaces_value() {
+    row.add("age", 30);
+    row.add("name", "John");
+    row.add("age", 31);
+    ExprValue first = row.build();
+    row.add("age", 40);
+    row.add("name", "Jane");
+    row.add("age", 41);
+    ExprValue second = row.build();
+
+    assertEquals(tuple("age", 31, "name", "John"), first);
+    assertEquals(tuple("age", 41, "name", "Jane"), second);
+  }
+
+  @Test
+  void drop_field_of_replaced_column() {
+    row.add("name", "John");
+    row.add("age", 30);
+    row.add("count", 1);
+    row.build();
+    row.add("name", "Jane");
+    row.add("name", "Joe");
+    ExprValue second = row.build();
+
+    assertEquals(tuple("name", "Joe"), second);
+  }
+
+  private static ExprValue tuple(Object... fields) {
+    LinkedHashMap<String, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < fields.length; i += 2) {
+      map.put((String) fields[i], fields[i + 1]);
+    }
+    return ExprValueUtils.tupleValue(map);
+  }
+}
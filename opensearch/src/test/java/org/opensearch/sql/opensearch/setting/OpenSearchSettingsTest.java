@@ -18,6 +18,7 @@ import static org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings.leg
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.METRICS_ROLLING_INTERVAL_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.METRICS_ROLLING_WINDOW_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.PPL_ENABLED_SETTING;
+import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_MAPPING_CACHE_ENABLED_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_MEMORY_LIMIT_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_SIZE_LIMIT_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.SPARK_EXECUTION_ENGINE_CONFIG;
@@ -76,6 +77,13 @@ class OpenSearchSettingsTest {
     assertFalse(settings.isEmpty());
   }
 
+  @Test
+  void mappingCacheIsDisabledByDefault() {
+    assertEquals(
+        false,
+        QUERY_MAPPING_CACHE_ENABLED_SETTING.get(org.opensearch.common.settings.Settings.EMPTY));
+  }
+
   @Test
   void pluginNonDynamicSettings() {
     List<Setting<?>> settings = OpenSearchSettings.pluginNonDynamicSettings();
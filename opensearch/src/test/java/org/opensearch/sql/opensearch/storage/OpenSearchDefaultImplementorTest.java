@@ -5,19 +5,45 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentScan;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalML;
 import org.opensearch.sql.planner.logical.LogicalMLCommons;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 @ExtendWith(MockitoExtension.class)
 public class OpenSearchDefaultImplementorTest {
@@ -50,4 +76,112 @@ public class OpenSearchDefaultImplementorTest {
         new OpenSearchIndex.OpenSearchDefaultImplementor(client);
     assertNotNull(implementor.visitML(node, null));
   }
+
+  private final Expression condition = DSL.greater(ref("age", INTEGER), literal(30));
+
+  private final Pair<ReferenceExpression, Expression> evalField =
+      Pair.of(ref("age2", INTEGER), DSL.multiply(ref("age", INTEGER), literal(2)));
+
+  @Test
+  public void shipFilterAndEvalOverUnsortedScrollToDataNodes() {
+    OpenSearchIndexScan scan = scrollScan(200, new SearchSourceBuilder());
+    var implementor = new OpenSearchIndex.OpenSearchDefaultImplementor(client, 200);
+    assertEquals(
+        new PlanFragmentScan(
+            client,
+            new PlanFragment((OpenSearchScrollRequest) scan.getRequest(), 200)
+                .then(new PlanFragment.Filter(condition))
+                .then(new PlanFragment.Eval(List.of(evalField)))),
+        eval(filter(childOf(scan), condition), evalField).accept(implementor, null));
+  }
+
+  @Test
+  public void shipFilterOverScrollSortedByDocOnly() {
+    OpenSearchIndexScan scan = scrollScan(200, new SearchSourceBuilder().sort("_doc"));
+    var implementor = new OpenSearchIndex.OpenSearchDefaultImplementor(client, 200);
+    assertEquals(
+        new PlanFragmentScan(
+            client,
+            new PlanFragment((OpenSearchScrollRequest) scan.getRequest(), 200)
+                .then(new PlanFragment.Filter(condition))),
+        filter(childOf(scan), condition).accept(implementor, null));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfFragmentsNotDistributed() {
+    OpenSearchIndexScan scan = scrollScan(200, new SearchSourceBuilder());
+    assertFilterOnCoordinator(scan, new OpenSearchIndex.OpenSearchDefaultImplementor(client));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfScanSorted() {
+    assertFilterOnCoordinator(scrollScan(200, new SearchSourceBuilder().sort("name")));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfScanLimited() {
+    assertFilterOnCoordinator(scrollScan(100, new SearchSourceBuilder()));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfScanWithOffset() {
+    assertFilterOnCoordinator(scrollScan(200, new SearchSourceBuilder().from(5)));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfNotScroll() {
+    assertFilterOnCoordinator(
+        new OpenSearchIndexScan(
+            client,
+            200,
+            new OpenSearchQueryRequest(
+                new OpenSearchRequest.IndexName("test"),
+                new SearchSourceBuilder(),
+                new OpenSearchExprValueFactory(Map.of()),
+                List.of())));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfNotScan() {
+    assertFilterOnCoordinator(Mockito.mock(PhysicalPlan.class));
+  }
+
+  @Test
+  public void keepFilterOnCoordinatorIfPaginated() {
+    OpenSearchIndexScan scan = scrollScan(200, new SearchSourceBuilder());
+    var implementor = new OpenSearchIndex.OpenSearchDefaultImplementor(client, 200);
+    assertEquals(
+        new FilterOperator(scan, condition),
+        new LogicalPaginate(5, List.of(filter(childOf(scan), condition)))
+            .accept(implementor, null));
+  }
+
+  private void assertFilterOnCoordinator(PhysicalPlan input) {
+    assertFilterOnCoordinator(input, new OpenSearchIndex.OpenSearchDefaultImplementor(client, 200));
+  }
+
+  private void assertFilterOnCoordinator(
+      PhysicalPlan input, OpenSearchIndex.OpenSearchDefaultImplementor implementor) {
+    assertEquals(
+        new FilterOperator(input, condition),
+        filter(childOf(input), condition).accept(implementor, null));
+  }
+
+  private OpenSearchIndexScan scrollScan(int maxResponseSize, SearchSourceBuilder sourceBuilder) {
+    return new OpenSearchIndexScan(
+        client,
+        maxResponseSize,
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            sourceBuilder,
+            new OpenSearchExprValueFactory(Map.of()),
+            List.of()));
+  }
+
+  private LogicalPlan childOf(PhysicalPlan plan) {
+    LogicalPlan child = Mockito.mock(LogicalPlan.class);
+    when(child.accept(any(), any())).thenReturn(plan);
+    return child;
+  }
 }
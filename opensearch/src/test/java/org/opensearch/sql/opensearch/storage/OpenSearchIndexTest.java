@@ -14,6 +14,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -29,7 +31,9 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -39,10 +43,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -50,12 +57,22 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragment;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentScan;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
 
 @ExtendWith(MockitoExtension.class)
@@ -177,6 +194,46 @@ class OpenSearchIndexTest {
         allOf(aMapWithSize(1), hasEntry("name", OpenSearchDataType.of(STRING))));
   }
 
+  @Test
+  void getMappingFromNodeLevelCache() {
+    IndexMappingCache mappingCache = mock(IndexMappingCache.class);
+    IndexMappingCache.Mapping cached = mock(IndexMappingCache.Mapping.class);
+    when(settings.getSettingValue(Settings.Key.QUERY_MAPPING_CACHE_ENABLED)).thenReturn(true);
+    when(mappingCache.get(any())).thenReturn(Optional.of(cached));
+    when(cached.getFieldTypes()).thenReturn(Map.of("name", STRING));
+    when(cached.getFieldOpenSearchTypes())
+        .thenReturn(Map.of("name", OpenSearchDataType.of(MappingType.Keyword)));
+    when(cached.getMaxResultWindow()).thenReturn(100);
+    when(cached.getNumberOfShards()).thenReturn(2);
+    when(cached.getMaxNumberOfShards()).thenReturn(3);
+
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, "test", mappingCache);
+    assertEquals(Map.of("name", STRING), index.getFieldTypes());
+    assertEquals(
+        Map.of("name", OpenSearchDataType.of(MappingType.Keyword)),
+        index.getFieldOpenSearchTypes());
+    assertEquals(100, index.getMaxResultWindow());
+    assertEquals(2, index.getNumberOfShards());
+    assertEquals(3, index.getMaxNumberOfShards());
+    verify(client, never()).getIndexMappings(any());
+  }
+
+  @Test
+  void describeIndexIfNodeLevelCacheIsDisabledOrMisses() {
+    IndexMappingCache mappingCache = mock(IndexMappingCache.class);
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(settings.getSettingValue(Settings.Key.QUERY_MAPPING_CACHE_ENABLED))
+        .thenReturn(false)
+        .thenReturn(true);
+    when(mappingCache.get(any())).thenReturn(Optional.empty());
+
+    assertEquals(
+        100, new OpenSearchIndex(client, settings, "test", mappingCache).getMaxResultWindow());
+    assertEquals(
+        100, new OpenSearchIndex(client, settings, "test", mappingCache).getMaxResultWindow());
+    verify(mappingCache).get(any());
+  }
+
   @Test
   void getReservedFieldTypes() {
     Map<String, ExprType> fieldTypes = index.getReservedFieldTypes();
@@ -196,6 +253,15 @@ class OpenSearchIndexTest {
   void implementRelationOperatorOnly() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -209,6 +275,15 @@ class OpenSearchIndexTest {
   void implementRelationOperatorWithOptimization() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -218,10 +293,165 @@ class OpenSearchIndexTest {
         index.implement(plan));
   }
 
+  @Test
+  void implementRelationOperatorWithPrefetch() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    LogicalPlan plan = index.createScanBuilder();
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 200, requestBuilder.build(INDEX_NAME, 100, SCROLL_TIMEOUT), 2, 1),
+        index.implement(plan));
+  }
+
+  @Test
+  void implementRelationOperatorWithSlices() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(client.getIndexNumberOfShards("test")).thenReturn(Map.of("test", 3));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(8);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    LogicalPlan plan = index.createScanBuilder();
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 200, requestBuilder.build(INDEX_NAME, 100, SCROLL_TIMEOUT), 0, 3),
+        index.implement(plan));
+    assertEquals(3, index.getNumberOfShards());
+    verify(client).getIndexNumberOfShards("test");
+  }
+
+  @Test
+  void implementRelationOperatorWithPointInTime() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(8);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(true);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    LogicalPlan plan = index.createScanBuilder();
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    var request =
+        new OpenSearchPitRequest(
+            (OpenSearchScrollRequest) requestBuilder.build(INDEX_NAME, 100, SCROLL_TIMEOUT),
+            client);
+    assertEquals(new OpenSearchIndexScan(client, 200, request, 2, 1), index.implement(plan));
+    verify(client, never()).getIndexNumberOfShards(any());
+  }
+
+  @Test
+  void implementSortedRelationOperatorWithShards() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(client.getIndexNumberOfShards("test")).thenReturn(Map.of("test", 3));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(8);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    var builder = (OpenSearchIndexScanBuilder) index.createScanBuilder();
+    builder.pushDownSort(
+        new LogicalSort(null, List.of(Pair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING)))));
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    requestBuilder.pushDownSort(
+        List.of(SortBuilders.fieldSort("name").order(SortOrder.ASC).missing("_first")));
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 200, requestBuilder.build(INDEX_NAME, 100, SCROLL_TIMEOUT), 0, 3, 3),
+        index.implement(builder));
+    assertEquals(3, index.getMaxNumberOfShards());
+    verify(client).getIndexNumberOfShards("test");
+  }
+
+  @Test
+  void implementFilterOverRelationOperatorAsDistributedFragment() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(true);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    Expression condition = DSL.equal(ref("name", STRING), DSL.literal("John"));
+    PhysicalPlan plan =
+        index.implement(LogicalPlanDSL.filter(index.createScanBuilder(), condition));
+
+    PlanFragment fragment = ((PlanFragmentScan) plan).getFragment();
+    assertEquals(List.of(new PlanFragment.Filter(condition)), fragment.getSteps());
+    assertEquals(QUERY_SIZE_LIMIT, fragment.getMaxResponseSize());
+    assertEquals(INDEX_NAME, fragment.getIndexName());
+
+    Expression unencodable = DSL.equal(named("name", ref("name", STRING)), DSL.literal("John"));
+    assertTrue(
+        index.implement(LogicalPlanDSL.filter(index.createScanBuilder(), unencodable))
+            instanceof FilterOperator);
+  }
+
+  @Test
+  void implementPaginatedRelationOperatorWithoutPrefetch() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    var builder = (OpenSearchIndexScanBuilder) index.createScanBuilder();
+    builder.pushDownPageSize(new LogicalPaginate(5, List.of()));
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    requestBuilder.pushDownPageSize(5);
+    assertEquals(
+        new OpenSearchIndexScan(client, 5, requestBuilder.build(INDEX_NAME, 10000, SCROLL_TIMEOUT)),
+        index.implement(builder));
+  }
+
   @Test
   void implementOtherLogicalOperators() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES)).thenReturn(2);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_POINT_IN_TIME)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DOC_VALUES)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_EXPRESSION_CODEC)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_LATE_MATERIALIZATION_ROWS)).thenReturn(0);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_DISTRIBUTED_FRAGMENTS)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
     NamedExpression include = named("age", ref("age", INTEGER));
     ReferenceExpression exclude = ref("name", STRING);
     ReferenceExpression dedupeField = ref("name", STRING);
@@ -0,0 +1,293 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalTopK;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.storage.Table;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchIndexFetchTest {
+
+  private final OpenSearchExprValueFactory exprValueFactory =
+      new OpenSearchExprValueFactory(
+          Map.of(
+              "name", OpenSearchDataType.of(MappingType.Keyword),
+              "age", OpenSearchDataType.of(MappingType.Integer),
+              "email", OpenSearchDataType.of(MappingType.Keyword),
+              "address",
+                  OpenSearchDataType.of(
+                      MappingType.Object,
+                      Map.of("properties", Map.of("city", Map.of("type", "keyword"))))));
+
+  @Mock private PhysicalPlan input;
+
+  @Mock private OpenSearchIndexScan indexScan;
+
+  private final List<OpenSearchRequestBuilder> fetchRequests = new ArrayList<>();
+
+  private final Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory =
+      requestBuilder -> {
+        fetchRequests.add(requestBuilder);
+        return indexScan;
+      };
+
+  @Test
+  void fetch_documents_of_input_rows_from_each_index() {
+    mockInput(row("logs-1", "1", 30), row("logs-2", "2", 20), row("logs-1", "3", 10));
+    mockDocuments(
+        document("logs-1", "1", "John"),
+        document("logs-2", "2", "Jane"),
+        document("logs-1", "3", "Bob"));
+
+    OpenSearchIndexFetch fetch = newFetch(false);
+    fetch.open();
+    assertEquals(
+        List.of(
+            result("logs-1", "1", "John", 30),
+            result("logs-2", "2", "Jane", 20),
+            result("logs-1", "3", "Bob", 10)),
+        drain(fetch));
+    verify(indexScan).open();
+    verify(indexScan).close();
+
+    var sourceBuilder = fetchRequests.get(0).getSourceBuilder();
+    assertEquals(
+        boolQuery()
+            .should(
+                boolQuery()
+                    .filter(termQuery("_index", "logs-1"))
+                    .filter(idsQuery().addIds("1", "3")))
+            .should(
+                boolQuery().filter(termQuery("_index", "logs-2")).filter(idsQuery().addIds("2"))),
+        sourceBuilder.query());
+    assertEquals(3, fetchRequests.get(0).getRequestedTotalSize());
+    assertEquals(
+        Set.of("address", "age", "email", "name", "_index", "_id"),
+        Set.copyOf(fetchRequests.get(0).getIncludes()));
+  }
+
+  @Test
+  void values_of_input_row_win_over_document() {
+    mockInput(
+        tupleValue(Map.of("_index", "logs", "_id", "1", "age", 31, "name", "Johnny", "len", 6)));
+    mockDocuments(document("logs", "1", "John"));
+
+    OpenSearchIndexFetch fetch = newFetch(false);
+    fetch.open();
+    ExprValue fetched = fetch.next();
+    assertEquals(stringValue("Johnny"), fetched.tupleValue().get("name"));
+    assertEquals(integerValue(31), fetched.tupleValue().get("age"));
+    assertEquals(integerValue(6), fetched.tupleValue().get("len"));
+    assertFalse(fetch.hasNext());
+  }
+
+  @Test
+  void return_input_row_as_is_if_document_deleted() {
+    ExprValue row = row("logs", "1", 30);
+    mockInput(row);
+    mockDocuments();
+
+    OpenSearchIndexFetch fetch = newFetch(false);
+    fetch.open();
+    assertEquals(List.of(row.tupleValue()), drain(fetch));
+  }
+
+  @Test
+  void no_fetch_if_input_empty() {
+    mockInput();
+
+    OpenSearchIndexFetch fetch = newFetch(false);
+    fetch.open();
+    assertFalse(fetch.hasNext());
+    assertTrue(fetchRequests.isEmpty());
+    verify(indexScan, never()).open();
+  }
+
+  @Test
+  void fetch_through_doc_values_if_enabled() {
+    mockInput(row("logs", "1", 30));
+    mockDocuments(document("logs", "1", "John"));
+
+    newFetch(true).open();
+    var sourceBuilder = fetchRequests.get(0).getSourceBuilder();
+    assertEquals(
+        List.of("age", "email", "name"),
+        sourceBuilder.docValueFields().stream()
+            .map(field -> field.field)
+            .sorted()
+            .collect(Collectors.toList()));
+    assertEquals(List.of("address"), Arrays.asList(sourceBuilder.fetchSource().includes()));
+  }
+
+  @Test
+  void explain_fetched_fields() {
+    OpenSearchIndexFetch fetch = newFetch(false);
+    String explain = "fetch [address, age, email, name, _index, _id] by _index and _id";
+    assertEquals(explain, fetch.explain());
+    assertEquals("OpenSearchIndexFetch(explain=" + explain + ")", fetch.toString());
+    assertEquals(List.of(input), fetch.getChild());
+  }
+
+  @Test
+  void build_fetch_operator() {
+    LogicalPlan child = relation("logs", mock(Table.class));
+    var builder = new OpenSearchIndexFetchBuilder(child, exprValueFactory, false, scanFactory);
+    assertEquals(newFetch(false), builder.build(input));
+    assertEquals(List.of(child), builder.getChild());
+  }
+
+  @Test
+  void push_down_late_materialization_to_narrow_scan() {
+    var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    var scanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, scanFactory, 10);
+    LogicalTopK topK = topK(scanBuilder, 5, 5);
+
+    assertEquals(
+        Optional.of(new OpenSearchIndexFetchBuilder(topK, exprValueFactory, false, scanFactory)),
+        scanBuilder.pushDownLateMaterialization(
+            topK,
+            Set.of(DSL.ref("age", INTEGER), DSL.ref("len", INTEGER), DSL.ref("_id", STRING))));
+    // metadata fields are read to fetch the rest of the document by
+    assertEquals(
+        Set.of("age", "len", "_index", "_id", "_score", "_maxscore", "_sort", "_routing"),
+        Set.copyOf(requestBuilder.getIncludes()));
+  }
+
+  @Test
+  void no_late_materialization_of_more_rows_than_limit() {
+    var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    var scanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, scanFactory, 10);
+
+    assertEquals(
+        Optional.empty(),
+        scanBuilder.pushDownLateMaterialization(
+            topK(scanBuilder, 10, 1), Set.of(DSL.ref("age", INTEGER))));
+    assertTrue(requestBuilder.getIncludes().isEmpty());
+  }
+
+  @Test
+  void no_late_materialization_if_scan_reads_more_than_half_of_fields() {
+    var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    var scanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, scanFactory, 10);
+
+    assertEquals(
+        Optional.empty(),
+        scanBuilder.pushDownLateMaterialization(
+            topK(scanBuilder, 5, 0),
+            Set.of(
+                DSL.ref("age", INTEGER),
+                DSL.ref("name", STRING),
+                DSL.ref("address.city", STRING))));
+    assertTrue(requestBuilder.getIncludes().isEmpty());
+  }
+
+  @Test
+  void no_late_materialization_if_projection_pushed_down() {
+    var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    requestBuilder.pushDownProjects(Set.of(DSL.ref("name", STRING)));
+    var scanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, scanFactory, 10);
+
+    assertEquals(
+        Optional.empty(),
+        scanBuilder.pushDownLateMaterialization(
+            topK(scanBuilder, 5, 0), Set.of(DSL.ref("age", INTEGER))));
+    assertEquals(List.of("name"), requestBuilder.getIncludes());
+  }
+
+  private OpenSearchIndexFetch newFetch(boolean fetchDocValues) {
+    return new OpenSearchIndexFetch(input, exprValueFactory, fetchDocValues, scanFactory);
+  }
+
+  private LogicalTopK topK(LogicalPlan child, int limit, int offset) {
+    return new LogicalTopK(
+        child, List.of(Pair.of(SortOption.DEFAULT_ASC, DSL.ref("age", INTEGER))), limit, offset);
+  }
+
+  private void mockInput(ExprValue... rows) {
+    var iterator = List.of(rows).iterator();
+    when(input.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    if (rows.length > 0) {
+      when(input.next()).thenAnswer(invocation -> iterator.next());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockDocuments(ExprValue... documents) {
+    doAnswer(
+            invocation -> {
+              List.of(documents).forEach(invocation.<Consumer<ExprValue>>getArgument(0));
+              return null;
+            })
+        .when(indexScan)
+        .forEachRemaining(any());
+  }
+
+  /** Values of the rows fetched, regardless of the order of their fields. */
+  private static List<Map<String, ExprValue>> drain(OpenSearchIndexFetch fetch) {
+    List<Map<String, ExprValue>> rows = new ArrayList<>();
+    fetch.forEachRemaining(row -> rows.add(row.tupleValue()));
+    return rows;
+  }
+
+  private static ExprValue row(String index, String id, int age) {
+    return tupleValue(Map.of("_index", index, "_id", id, "age", age));
+  }
+
+  private static ExprValue document(String index, String id, String name) {
+    return tupleValue(Map.of("_index", index, "_id", id, "name", name, "email", name + "@x.com"));
+  }
+
+  private static Map<String, ExprValue> result(String index, String id, String name, int age) {
+    return tupleValue(
+            Map.of("_index", index, "_id", id, "name", name, "email", name + "@x.com", "age", age))
+        .tupleValue();
+  }
+}
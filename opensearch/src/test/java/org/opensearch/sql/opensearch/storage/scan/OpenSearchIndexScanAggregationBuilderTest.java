@@ -7,14 +7,29 @@ package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.CountAggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
@@ -62,11 +77,44 @@ class OpenSearchIndexScanAggregationBuilderTest {
 
   @Test
   void pushDownPageSize() {
+    when(logicalAggregation.getGroupByList())
+        .thenReturn(List.of(named("name", ref("name", STRING))));
+    LogicalPaginate paginate = mock(LogicalPaginate.class);
+    when(paginate.getPageSize()).thenReturn(5);
+
+    assertTrue(
+        new OpenSearchIndexScanAggregationBuilder(requestBuilder, logicalAggregation)
+            .pushDownPageSize(paginate));
+    verify(requestBuilder).pushDownPageSize(5);
+  }
+
+  @Test
+  void pushDownPageSize_without_group_by() {
     assertFalse(builder.pushDownPageSize(mock(LogicalPaginate.class)));
+    verify(requestBuilder, never()).pushDownPageSize(anyInt());
   }
 
   @Test
   void pushDownNested() {
     assertFalse(builder.pushDownNested(mock(LogicalNested.class)));
   }
+
+  @Test
+  void build_grouped_aggregation() {
+    List<NamedAggregator> aggregators =
+        List.of(named("count()", new CountAggregator(List.of(literal(1)), INTEGER)));
+    List<NamedExpression> groupBys = List.of(named("name", ref("name", STRING)));
+    when(logicalAggregation.getAggregatorList()).thenReturn(aggregators);
+    when(logicalAggregation.getGroupByList()).thenReturn(groupBys);
+
+    new OpenSearchIndexScanAggregationBuilder(requestBuilder, logicalAggregation).build();
+    verify(requestBuilder)
+        .pushDownGroupedAggregation(new GroupedAggregation(aggregators, groupBys, null));
+  }
+
+  @Test
+  void build_aggregation_without_group_by() {
+    builder.build();
+    verify(requestBuilder, never()).pushDownGroupedAggregation(any());
+  }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -258,6 +259,27 @@ class OpenSearchIndexScanOptimizationTest {
             DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))));
   }
 
+  /** SELECT avg(intV) FROM schema GROUP BY longV, paged by a cursor. */
+  @Test
+  void test_page_push_down_over_aggregation() {
+    LogicalPlan plan =
+        paginate(
+            project(
+                aggregation(
+                    relation("schema", table),
+                    ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                    ImmutableList.of(DSL.named("longV", DSL.ref("longV", LONG)))),
+                DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))),
+            5);
+
+    assertEquals(
+        project(indexScanBuilder, DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))),
+        LogicalPlanOptimizer.create().optimize(plan));
+    indexScanBuilder.build();
+    verify(requestBuilder).pushDownPageSize(5);
+    verify(requestBuilder).pushDownGroupedAggregation(any());
+  }
+
   /*
   @Disabled("This test should be enabled once https://github.com/opensearch-project/sql/issues/912 is fixed")
   @Test
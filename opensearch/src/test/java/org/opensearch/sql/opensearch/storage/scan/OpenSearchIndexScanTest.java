@@ -8,28 +8,43 @@ package org.opensearch.sql.opensearch.storage.scan;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
 
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,19 +54,26 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.aggregation.CountAggregator;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
@@ -59,6 +81,9 @@ import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.GroupedAggregation;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -100,6 +125,22 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @Test
+  @SneakyThrows
+  void throws_no_cursor_exception_with_prefetch_or_slices() {
+    var request = mock(OpenSearchRequest.class);
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request, 2, 1);
+        var byteStream = new ByteArrayOutputStream();
+        var objectStream = new ObjectOutputStream(byteStream)) {
+      assertThrows(NoCursorException.class, () -> objectStream.writeObject(indexScan));
+    }
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request, 0, 2);
+        var byteStream = new ByteArrayOutputStream();
+        var objectStream = new ObjectOutputStream(byteStream)) {
+      assertThrows(NoCursorException.class, () -> objectStream.writeObject(indexScan));
+    }
+  }
+
   @Test
   @SneakyThrows
   void serialize() {
@@ -131,6 +172,77 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @Test
+  @SneakyThrows
+  void serialize_point_in_time() {
+    var searchSourceBuilder = new SearchSourceBuilder().size(4);
+
+    var factory = mock(OpenSearchExprValueFactory.class);
+    var engine = mock(OpenSearchStorageEngine.class);
+    var index = mock(OpenSearchIndex.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(index);
+    when(client.createPit(any())).thenReturn("pit");
+    var request =
+        new OpenSearchPitRequest(
+            INDEX_NAME, CURSOR_KEEP_ALIVE, searchSourceBuilder, factory, List.of(), client);
+    var hit = new SearchHit(1);
+    hit.sortValues(
+        new Object[] {1, "id"}, new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    var response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(new SearchHits(new SearchHit[] {hit}, null, 1F));
+    request.search((req) -> response, null);
+
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      var planSerializer = new PlanSerializer(engine);
+      var cursor = planSerializer.convertToCursor(indexScan);
+      var newPlan = planSerializer.convertToPlan(cursor.toString());
+      assertEquals(indexScan, newPlan);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_composite_aggregation() {
+    var aggregation =
+        new GroupedAggregation(
+            List.of(named("count()", new CountAggregator(List.of(literal(1)), INTEGER))),
+            List.of(named("name", ref("name", STRING))),
+            null);
+    var searchSourceBuilder = new SearchSourceBuilder().size(0);
+    new AggregationQueryBuilder(new DefaultExpressionSerializer())
+        .buildAggregationBuilder(
+            aggregation.getAggregatorList(), aggregation.getGroupByList(), null)
+        .getLeft()
+        .forEach(searchSourceBuilder::aggregation);
+
+    var engine = mock(OpenSearchStorageEngine.class);
+    var index = mock(OpenSearchIndex.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(index);
+    when(index.getFieldOpenSearchTypes()).thenReturn(Map.of());
+    var request =
+        new OpenSearchCompositeRequest(
+            INDEX_NAME, searchSourceBuilder, exprValueFactory, List.of(), aggregation);
+    var buckets = mock(CompositeAggregation.class);
+    when(buckets.getName()).thenReturn("composite_buckets");
+    when(buckets.afterKey()).thenReturn(Map.of("name", "John"));
+    doReturn(Collections.nCopies(1000, mock(CompositeAggregation.Bucket.class)))
+        .when(buckets)
+        .getBuckets();
+    var response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(buckets)));
+    request.search((req) -> response, null);
+
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      var planSerializer = new PlanSerializer(engine);
+      var cursor = planSerializer.convertToCursor(indexScan);
+      var newPlan = (OpenSearchIndexScan) planSerializer.convertToPlan(cursor.toString());
+      assertInstanceOf(OpenSearchCompositeRequest.class, newPlan.getRequest());
+      assertEquals(cursor, planSerializer.convertToCursor(newPlan));
+    }
+  }
+
   @Test
   void plan_for_serialization() {
     var request = mock(OpenSearchRequest.class);
@@ -207,6 +319,142 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void query_all_results_with_prefetch() {
+    doAnswer(
+            invocation -> {
+              new Thread((Runnable) invocation.getArgument(0)).start();
+              return null;
+            })
+        .when(client)
+        .runInBackground(any());
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory);
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 2, CURSOR_KEEP_ALIVE), 1, 1)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(3, "Allen", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    verify(client, times(3)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void query_all_results_with_slices() {
+    doAnswer(
+            invocation -> {
+              new Thread((Runnable) invocation.getArgument(0)).start();
+              return null;
+            })
+        .when(client)
+        .runInBackground(any());
+    OpenSearchResponse first = mockPage(employee(1, "John", "IT"), employee(2, "Smith", "HR"));
+    OpenSearchResponse second = mockPage(employee(3, "Allen", "IT"));
+    OpenSearchResponse empty = mockPage();
+    when(client.search(argThat(slice(0)))).thenReturn(first, empty);
+    when(client.search(argThat(slice(1)))).thenReturn(second, empty);
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory);
+    List<ExprValue> results = new ArrayList<>();
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 2, CURSOR_KEEP_ALIVE), 0, 2)) {
+      indexScan.open();
+      indexScan.forEachRemaining(results::add);
+    }
+    assertEquals(
+        Set.of(employee(1, "John", "IT"), employee(2, "Smith", "HR"), employee(3, "Allen", "IT")),
+        Set.copyOf(results));
+    assertEquals(3, results.size());
+    verify(client).cleanup(argThat(slice(0)));
+    verify(client).cleanup(argThat(slice(1)));
+  }
+
+  @Test
+  void query_sorted_results_merged_in_order_from_groups_of_shards() {
+    doAnswer(
+            invocation -> {
+              new Thread((Runnable) invocation.getArgument(0)).start();
+              return null;
+            })
+        .when(client)
+        .runInBackground(any());
+    OpenSearchResponse first =
+        mockSortedPage(employee(1, "Allen", "IT"), employee(3, "Smith", "HR"));
+    OpenSearchResponse second = mockSortedPage(employee(2, "John", "IT"));
+    OpenSearchResponse third = mockSortedPage(employee(4, "Zoe", "HR"));
+    OpenSearchResponse empty = mockPage();
+    when(client.search(argThat(shards("_shards:0,2")))).thenReturn(first, empty);
+    when(client.search(argThat(shards("_shards:1")))).thenReturn(second, third, empty);
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("name").order(ASC)));
+    List<ExprValue> results = new ArrayList<>();
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 2, CURSOR_KEEP_ALIVE), 0, 2, 3)) {
+      indexScan.open();
+      indexScan.forEachRemaining(results::add);
+    }
+    assertEquals(
+        List.of(
+            employee(1, "Allen", "IT"),
+            employee(2, "John", "IT"),
+            employee(3, "Smith", "HR"),
+            employee(4, "Zoe", "HR")),
+        results);
+    verify(client).cleanup(argThat(shards("_shards:0,2")));
+    verify(client).cleanup(argThat(shards("_shards:1")));
+  }
+
+  private static ArgumentMatcher<OpenSearchRequest> shards(String preference) {
+    return request ->
+        request instanceof OpenSearchScrollRequest
+            && preference.equals(
+                ((OpenSearchScrollRequest) request).getInitialSearchRequest().preference());
+  }
+
+  private static OpenSearchResponse mockSortedPage(ExprValue... rows) {
+    OpenSearchResponse response = mockPage(rows);
+    when(response.getSortValues())
+        .thenReturn(
+            Arrays.stream(rows)
+                .map(row -> new Object[] {row.tupleValue().get("name").stringValue()})
+                .collect(Collectors.toList()));
+    return response;
+  }
+
+  private static ArgumentMatcher<OpenSearchRequest> slice(int id) {
+    return request ->
+        request instanceof OpenSearchScrollRequest
+            && ((OpenSearchScrollRequest) request)
+                    .getInitialSearchRequest()
+                    .source()
+                    .slice()
+                    .getId()
+                == id;
+  }
+
+  private static OpenSearchResponse mockPage(ExprValue... rows) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(rows.length == 0);
+    lenient().when(response.iterator()).thenReturn(Arrays.asList(rows).iterator());
+    return response;
+  }
+
   @Test
   void query_some_results_with_query() {
     mockResponse(
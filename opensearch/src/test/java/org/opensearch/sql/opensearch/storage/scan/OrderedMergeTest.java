@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OrderedMergeTest {
+
+  @Test
+  void compare_by_each_sort_in_turn() {
+    var comparator =
+        OrderedMerge.comparator(
+            List.of(
+                SortBuilders.fieldSort("name").order(SortOrder.ASC),
+                SortBuilders.fieldSort("age").order(SortOrder.DESC)));
+    assertTrue(comparator.compare(values("a", 1L), values("b", 2L)) < 0);
+    assertTrue(comparator.compare(values("a", 2L), values("a", 1L)) < 0);
+    assertEquals(0, comparator.compare(values("a", 1L), values("a", 1L)));
+  }
+
+  @Test
+  void compare_numbers_of_different_types() {
+    var comparator = OrderedMerge.comparator(List.of(SortBuilders.fieldSort("age")));
+    assertTrue(comparator.compare(values(1L), values(1.5D)) < 0);
+    assertTrue(comparator.compare(values(2), values(1.5F)) > 0);
+  }
+
+  @Test
+  void compare_values_of_other_types_as_strings() {
+    var comparator = OrderedMerge.comparator(List.of(SortBuilders.fieldSort("field")));
+    assertTrue(comparator.compare(values("10"), values(2L)) < 0);
+    assertTrue(comparator.compare(values(2L), values("10")) > 0);
+  }
+
+  @Test
+  void place_missing_values_last_by_default_regardless_of_order() {
+    var asc = OrderedMerge.comparator(List.of(SortBuilders.fieldSort("name")));
+    var desc =
+        OrderedMerge.comparator(List.of(SortBuilders.fieldSort("name").order(SortOrder.DESC)));
+    assertTrue(asc.compare(values("a"), values((Object) null)) < 0);
+    assertTrue(desc.compare(values((Object) null), values("a")) > 0);
+    assertEquals(0, asc.compare(values((Object) null), values((Object) null)));
+  }
+
+  @Test
+  void place_missing_values_first_if_requested() {
+    var comparator =
+        OrderedMerge.comparator(List.of(SortBuilders.fieldSort("name").missing("_first")));
+    assertTrue(comparator.compare(values((Object) null), values("a")) < 0);
+    assertTrue(comparator.compare(values("a"), values((Object) null)) > 0);
+  }
+
+  @Test
+  void compare_by_score() {
+    List<SortBuilder<?>> sorts = List.of(SortBuilders.scoreSort());
+    var comparator = OrderedMerge.comparator(sorts);
+    assertTrue(comparator.compare(values(2.0F), values(1.0F)) < 0);
+    assertTrue(comparator.compare(values((Object) null), values(1.0F)) > 0);
+  }
+
+  private static Object[] values(Object... values) {
+    return Arrays.copyOf(values, values.length);
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PagePrefetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  private Thread background;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .doAnswer(
+            invocation -> {
+              background = new Thread((Runnable) invocation.getArgument(0));
+              background.start();
+              return null;
+            })
+        .when(client)
+        .runInBackground(any());
+  }
+
+  @Test
+  void fetch_pages_in_order_until_empty() {
+    OpenSearchResponse first = page(false);
+    OpenSearchResponse second = page(false);
+    OpenSearchResponse empty = page(true);
+    when(client.search(request)).thenReturn(first, second, empty);
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 2);
+    prefetcher.start();
+    assertSame(first, prefetcher.nextPage());
+    assertSame(second, prefetcher.nextPage());
+    assertSame(empty, prefetcher.nextPage());
+    assertSame(empty, prefetcher.nextPage());
+    prefetcher.close();
+    verify(client, times(3)).search(request);
+  }
+
+  @Test
+  void merge_pages_of_requests_fetched_concurrently() {
+    OpenSearchRequest other = mock(OpenSearchRequest.class);
+    OpenSearchResponse first = page(false);
+    OpenSearchResponse second = page(false);
+    OpenSearchResponse empty = page(true);
+    OpenSearchResponse otherEmpty = page(true);
+    when(client.search(request)).thenReturn(first, empty);
+    when(client.search(other)).thenReturn(second, otherEmpty);
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request, other), 2);
+    prefetcher.start();
+    assertEquals(Set.of(first, second), Set.of(prefetcher.nextPage(), prefetcher.nextPage()));
+    assertTrue(prefetcher.nextPage().isEmpty());
+    assertTrue(prefetcher.nextPage().isEmpty());
+    prefetcher.close();
+    verify(client, times(2)).search(request);
+    verify(client, times(2)).search(other);
+  }
+
+  @Test
+  void rethrow_search_failure_in_order() {
+    OpenSearchResponse first = page(false);
+    when(client.search(request)).thenReturn(first).thenThrow(new IllegalStateException("failed"));
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 2);
+    prefetcher.start();
+    assertSame(first, prefetcher.nextPage());
+    assertThrows(IllegalStateException.class, prefetcher::nextPage);
+    assertThrows(IllegalStateException.class, prefetcher::nextPage);
+    prefetcher.close();
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void buffer_at_most_capacity_pages_until_closed() {
+    OpenSearchResponse page = page(false);
+    when(client.search(request)).thenReturn(page);
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 1);
+    prefetcher.start();
+    // one page buffered and the next one waiting for room
+    verify(client, after(300).times(2)).search(request);
+    prefetcher.close();
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  @SneakyThrows
+  void drop_page_fetched_after_closed() {
+    CountDownLatch searchReleased = new CountDownLatch(1);
+    OpenSearchResponse page = page(false);
+    when(client.search(request))
+        .thenReturn(page)
+        .thenAnswer(
+            invocation -> {
+              searchReleased.await();
+              return page;
+            });
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 1);
+    prefetcher.start();
+    verify(client, timeout(1000).times(2)).search(request);
+    Thread closing = new Thread(prefetcher::close);
+    closing.start();
+    // close waits for the search in flight
+    while (closing.getState() != Thread.State.WAITING) {
+      Thread.sleep(10);
+    }
+    searchReleased.countDown();
+    closing.join();
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  @SneakyThrows
+  void stop_fetching_when_interrupted() {
+    OpenSearchResponse page = page(false);
+    when(client.search(request)).thenReturn(page);
+
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 1);
+    prefetcher.start();
+    verify(client, timeout(1000).times(2)).search(request);
+    background.interrupt();
+    background.join();
+    prefetcher.close();
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void throw_if_interrupted_while_waiting_for_page() {
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 1);
+    Thread.currentThread().interrupt();
+    assertThrows(IllegalStateException.class, prefetcher::nextPage);
+    assertTrue(Thread.interrupted());
+    verify(client, never()).search(any());
+  }
+
+  @Test
+  void keep_interrupt_status_if_interrupted_while_closing() {
+    PagePrefetcher prefetcher = new PagePrefetcher(client, List.of(request), 1);
+    Thread.currentThread().interrupt();
+    prefetcher.close();
+    assertTrue(Thread.interrupted());
+  }
+
+  private OpenSearchResponse page(boolean isEmpty) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    lenient().when(response.isEmpty()).thenReturn(isEmpty);
+    return response;
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,6 +35,7 @@ class PushDownQueryBuilderTest {
         () -> assertFalse(sample.pushDownSort(mock(LogicalSort.class))),
         () -> assertFalse(sample.pushDownNested(mock(LogicalNested.class))),
         () -> assertFalse(sample.pushDownLimit(mock(LogicalLimit.class))),
-        () -> assertFalse(sample.pushDownPageSize(mock(LogicalPaginate.class))));
+        () -> assertFalse(sample.pushDownPageSize(mock(LogicalPaginate.class))),
+        () -> assertFalse(sample.pushDownLateMaterialization(Set.of())));
   }
 }
@@ -59,6 +59,11 @@ class ExpressionAggregationScriptTest {
         .shouldMatch(30);
   }
 
+  @Test
+  void can_execute_expression_on_document_set() {
+    assertThat().docValues("age", 30L).evaluate(DSL.abs(ref("age", INTEGER)), 0).shouldMatch(30);
+  }
+
   @Test
   void can_execute_expression_with_integer_field_with_boolean_result() {
     assertThat()
@@ -188,6 +193,14 @@ class ExpressionAggregationScriptTest {
       return this;
     }
 
+    ExprScriptAssertion evaluate(Expression expr, int docId) {
+      ExpressionAggregationScript script =
+          new ExpressionAggregationScript(expr, lookup, context, emptyMap());
+      script.setDocument(docId);
+      actual = script.execute();
+      return this;
+    }
+
     void shouldMatch(Object expected) {
       assertEquals(expected, actual);
     }
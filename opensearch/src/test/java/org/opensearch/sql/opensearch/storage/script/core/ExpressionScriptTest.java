@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionScriptTest {
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  @Test
+  void look_up_doc_values_once_and_move_them_to_next_documents() {
+    ExpressionScript script =
+        script(
+            DSL.add(ref("age", INTEGER), literal(1)),
+            Map.of("age", new PerDocumentValues(List.of(30L, 40L))));
+
+    script.setDocument(0);
+    assertEquals(ExprValueUtils.integerValue(31), script.execute(ExpressionScriptTest::evaluate));
+    script.setDocument(1);
+    assertEquals(ExprValueUtils.integerValue(41), script.execute(ExpressionScriptTest::evaluate));
+    assertEquals(1, lookups.get());
+  }
+
+  @Test
+  void look_up_doc_values_on_every_document_if_not_set() {
+    ExpressionScript script =
+        script(ref("age", INTEGER), Map.of("age", new PerDocumentValues(List.of(30L))));
+
+    script.execute(ExpressionScriptTest::evaluate);
+    script.execute(ExpressionScriptTest::evaluate);
+    assertEquals(2, lookups.get());
+  }
+
+  @Test
+  void read_null_value_on_next_documents_if_no_doc_values() {
+    ExpressionScript script = script(ref("name", STRING), Map.of());
+
+    script.setDocument(0);
+    script.execute(ExpressionScriptTest::evaluate);
+    script.setDocument(1);
+    assertEquals(ExprValueUtils.nullValue(), script.execute(ExpressionScriptTest::evaluate));
+  }
+
+  @Test
+  void fail_to_move_doc_values_to_next_document() {
+    ScriptDocValues<Long> failing =
+        new PerDocumentValues(List.of(30L)) {
+          @Override
+          public void setNextDocId(int docId) throws IOException {
+            throw new IOException("read failure");
+          }
+        };
+    ExpressionScript script = script(ref("age", INTEGER), Map.of("age", failing));
+
+    script.setDocument(0);
+    script.execute(ExpressionScriptTest::evaluate);
+    script.setDocument(1);
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class, () -> script.execute(ExpressionScriptTest::evaluate));
+    assertEquals("Failed to read doc values of document 1", exception.getMessage());
+  }
+
+  @Test
+  void resolve_equal_reference_and_unknown_expression() {
+    ExpressionScript script =
+        script(ref("age", INTEGER), Map.of("age", new PerDocumentValues(List.of(30L))));
+
+    assertEquals(
+        ExprValueUtils.integerValue(30),
+        script.execute((expr, env) -> env.resolve(ref("age", INTEGER))));
+    assertNull(script.execute((expr, env) -> env.resolve(ref("name", STRING))));
+  }
+
+  private ExpressionScript script(Expression expression, Map<String, ScriptDocValues<?>> doc) {
+    return new ExpressionScript(
+        expression,
+        () -> {
+          lookups.incrementAndGet();
+          return doc;
+        });
+  }
+
+  private static ExprValue evaluate(
+      Expression expression, Environment<Expression, ExprValue> valueEnv) {
+    return expression.valueOf(valueEnv);
+  }
+
+  /** Doc values of a single valued field, positioned at the first document. */
+  private static class PerDocumentValues extends ScriptDocValues<Long> {
+    private final List<Long> values;
+    private int docId = 0;
+
+    PerDocumentValues(List<Long> values) {
+      this.values = values;
+    }
+
+    @Override
+    public void setNextDocId(int docId) throws IOException {
+      this.docId = docId;
+    }
+
+    @Override
+    public Long get(int index) {
+      return values.get(docId);
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
@@ -78,6 +78,14 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_on_document_set() {
+    assertThat()
+        .docValues("age", 30L)
+        .filterBy(DSL.greater(ref("age", INTEGER), literal(20)), 0)
+        .shouldMatch();
+  }
+
   @Test
   void can_execute_expression_with_text_keyword_field() {
     assertThat()
@@ -227,6 +235,13 @@ class ExpressionFilterScriptTest {
       return this;
     }
 
+    ExprScriptAssertion filterBy(Expression expr, int docId) {
+      ExpressionFilterScript script = new ExpressionFilterScript(expr, lookup, context, emptyMap());
+      script.setDocument(docId);
+      isMatched = script.execute();
+      return this;
+    }
+
     void shouldMatch() {
       Assertions.assertTrue(isMatched);
     }
@@ -120,6 +120,71 @@ class FilterQueryBuilderTest {
         buildQuery(DSL.equal(ref("name", STRING), literal("John"))));
   }
 
+  @Test
+  void should_build_terms_query_for_in_predicate() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"terms\" : {\n"
+            + "    \"name\" : [\n"
+            + "      \"John\",\n"
+            + "      \"Jane\"\n"
+            + "    ],\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(DSL.in(ref("name", STRING), literal("John"), literal("Jane"))));
+  }
+
+  @Test
+  void should_use_keyword_for_multi_field_in_in_predicate() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"terms\" : {\n"
+            + "    \"name.keyword\" : [\n"
+            + "      \"John\"\n"
+            + "    ],\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            DSL.in(
+                ref(
+                    "name",
+                    OpenSearchTextType.of(
+                        Map.of(
+                            "words",
+                            OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword)))),
+                literal("John"))));
+  }
+
+  @Test
+  void should_build_script_query_for_in_predicate_of_function() {
+    mockToStringSerializer();
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"in(abs(age), 30)\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(DSL.in(DSL.abs(ref("age", INTEGER)), literal(30))));
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"in(FunctionExpression(functionName=nested,"
+            + " arguments=[message.info]), \\\"a\\\")\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(DSL.in(DSL.nested(ref("message.info", STRING)), literal("a"))));
+  }
+
   @Test
   void should_build_range_query_for_comparison_expression() {
     Expression[] params = {ref("age", INTEGER), literal(30)};
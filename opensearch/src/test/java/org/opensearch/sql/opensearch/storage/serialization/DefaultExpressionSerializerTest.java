@@ -7,14 +7,19 @@ package org.opensearch.sql.opensearch.storage.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.ref;
 
+import java.util.Base64;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
@@ -54,6 +59,38 @@ class DefaultExpressionSerializerTest {
     assertEquals(original, actual);
   }
 
+  @Test
+  public void serialize_by_codec_if_encodable() {
+    ExpressionSerializer codecSerializer = new DefaultExpressionSerializer(true);
+    Expression original = DSL.abs(ref("age", INTEGER));
+    String code = codecSerializer.serialize(original);
+    assertEquals(ExpressionCodec.VERSION, Base64.getDecoder().decode(code)[0]);
+    assertEquals(original, codecSerializer.deserialize(code));
+  }
+
+  @Test
+  public void serialize_by_jdk_serialization_if_codec_disabled() {
+    Expression original = DSL.abs(ref("age", INTEGER));
+    String code = serializer.serialize(original);
+    assertTrue(code.startsWith("rO0"));
+    assertEquals(original, new DefaultExpressionSerializer(true).deserialize(code));
+  }
+
+  @Test
+  public void deserialize_codec_if_codec_disabled() {
+    Expression original = DSL.abs(ref("age", INTEGER));
+    String code = new DefaultExpressionSerializer(true).serialize(original);
+    assertEquals(original, serializer.deserialize(code));
+  }
+
+  @Test
+  public void serialize_by_jdk_serialization_if_not_encodable() {
+    Expression original = literal(ExprValueUtils.collectionValue(List.of(1, 2)));
+    String code = new DefaultExpressionSerializer(true).serialize(original);
+    assertTrue(code.startsWith("rO0"));
+    assertEquals(original, serializer.deserialize(code));
+  }
+
   @Test
   public void cannot_serialize_illegal_expression() {
     Expression illegalExpr =
@@ -81,5 +118,6 @@ class DefaultExpressionSerializerTest {
   @Test
   public void cannot_deserialize_illegal_expression_code() {
     assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(""));
   }
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DATE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCodecTest {
+
+  private final FunctionProperties functionProperties =
+      new FunctionProperties(Instant.parse("2023-01-01T10:00:00Z"), ZoneId.of("UTC"));
+
+  @Test
+  void encode_literals() throws IOException {
+    for (Expression literal :
+        List.of(
+            literal(ExprNullValue.of()),
+            literal(ExprMissingValue.of()),
+            literal(ExprBooleanValue.of(true)),
+            literal(new ExprByteValue(1)),
+            literal(new ExprShortValue(2)),
+            literal(new ExprIntegerValue(-3)),
+            literal(new ExprLongValue(4L)),
+            literal(new ExprFloatValue(5.5F)),
+            literal(new ExprDoubleValue(6.5)),
+            literal(new ExprStringValue("str")),
+            literal(new ExprDateValue("1969-12-31")),
+            literal(new ExprTimeValue("10:00:01.123")),
+            literal(new ExprDatetimeValue("2020-08-04 10:00:00.5")),
+            literal(new ExprTimestampValue("2020-08-04 10:00:00")))) {
+      assertEquals(literal, roundTrip(literal));
+    }
+  }
+
+  @Test
+  void encode_references() throws IOException {
+    OpenSearchTextType text =
+        OpenSearchTextType.of(Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword)));
+    for (Expression reference :
+        List.of(
+            ref("name", STRING),
+            ref("text", OpenSearchTextType.of()),
+            ref("text", text),
+            ref("date", OpenSearchDateType.of(DATE)),
+            ref("date", OpenSearchDateType.of("yyyy-MM-dd || epoch_millis")),
+            ref("ip", OpenSearchDataType.of(MappingType.Ip)),
+            ref("address.state", OpenSearchDataType.of(MappingType.Keyword)))) {
+      Expression actual = roundTrip(reference);
+      assertEquals(reference, actual);
+      assertEquals(reference.type(), actual.type());
+    }
+    assertEquals(
+        text.getFields(), ((OpenSearchTextType) roundTrip(ref("text", text)).type()).getFields());
+    assertEquals(
+        List.of("yyyy-MM-dd", "epoch_millis"),
+        ((OpenSearchDateType)
+                roundTrip(ref("date", OpenSearchDateType.of("yyyy-MM-dd||epoch_millis"))).type())
+            .getFormats());
+  }
+
+  @Test
+  void encode_functions() throws IOException {
+    Expression expression =
+        DSL.and(
+            DSL.greater(ref("age", INTEGER), literal(30)),
+            DSL.equal(DSL.abs(ref("balance", INTEGER)), literal(100L)));
+    assertEquals(expression, roundTrip(expression));
+  }
+
+  @Test
+  void encode_function_properties_once() throws IOException {
+    Expression expression = DSL.equal(DSL.now(functionProperties), DSL.sysdate(functionProperties));
+    byte[] bytes = ExpressionCodec.encode(expression).orElseThrow();
+    FunctionExpression actual = (FunctionExpression) ExpressionCodec.decode(bytes);
+
+    assertEquals(expression, actual);
+    assertSame(FunctionProperties.None, actual.getFunctionProperties());
+    FunctionExpression now = (FunctionExpression) actual.getArguments().get(0);
+    FunctionExpression sysdate = (FunctionExpression) actual.getArguments().get(1);
+    assertEquals(functionProperties, now.getFunctionProperties());
+    assertSame(now.getFunctionProperties(), sysdate.getFunctionProperties());
+  }
+
+  @Test
+  void encode_parse_expressions() throws IOException {
+    for (Expression expression :
+        List.of(
+            DSL.regex(ref("text", STRING), literal("(?<num>\\d+)"), literal("num")),
+            DSL.grok(ref("text", STRING), literal("%{NUMBER:num}"), literal("num")),
+            DSL.patterns(ref("text", STRING), literal(""), literal("pattern")))) {
+      assertEquals(expression, roundTrip(expression));
+    }
+  }
+
+  @Test
+  void encode_case_clauses() throws IOException {
+    for (Expression expression :
+        List.of(
+            DSL.cases(
+                literal("other"),
+                DSL.when(DSL.equal(ref("age", INTEGER), literal(30)), literal("thirty"))),
+            DSL.cases(null, DSL.when(ref("flag", BOOLEAN), literal("flag"))))) {
+      assertEquals(expression, roundTrip(expression));
+    }
+  }
+
+  @Test
+  void encode_in_predicate() throws IOException {
+    Expression expression = DSL.in(ref("age", INTEGER), literal(1), literal(2));
+    assertEquals(expression, roundTrip(expression));
+  }
+
+  @Test
+  void cannot_encode_unsupported_nodes() throws IOException {
+    Expression unsupported = new NamedExpression("name", literal(1));
+    FunctionExpression notCompiled = (FunctionExpression) DSL.abs(literal(1));
+    notCompiled.setFunctionProperties(null);
+    for (Expression expression :
+        List.of(
+            unsupported,
+            literal(ExprValueUtils.collectionValue(List.of(1))),
+            notCompiled,
+            DSL.abs(unsupported),
+            DSL.cases(literal(1), DSL.when(DSL.equal(unsupported, unsupported), literal(2))),
+            DSL.cases(literal(1), DSL.when(literal(true), unsupported)),
+            DSL.cases(unsupported, DSL.when(literal(true), literal(2))))) {
+      assertTrue(ExpressionCodec.encode(expression).isEmpty(), expression.toString());
+    }
+  }
+
+  @Test
+  void cannot_encode_unsupported_types() throws IOException {
+    OpenSearchDataType object =
+        OpenSearchDataType.of(
+            MappingType.Object, Map.of("properties", Map.of("city", Map.of("type", "keyword"))));
+    for (ExprType type :
+        List.of(
+            mock(ExprType.class),
+            OpenSearchDataType.of(STRING),
+            object,
+            new CustomType(),
+            OpenSearchTextType.of(Map.of("object", object)))) {
+      assertTrue(ExpressionCodec.encode(ref("field", type)).isEmpty(), type.toString());
+    }
+  }
+
+  @Test
+  void encode_field_types() throws IOException {
+    OpenSearchDataType object =
+        OpenSearchDataType.of(
+            MappingType.Object, Map.of("properties", Map.of("city", Map.of("type", "keyword"))));
+    Map<String, OpenSearchDataType> types =
+        Map.of(
+            "name", OpenSearchDataType.of(MappingType.Keyword),
+            "address", object,
+            "_id", OpenSearchDataType.of(STRING),
+            "text",
+            OpenSearchTextType.of(Map.of("words", OpenSearchDataType.of(MappingType.Keyword))),
+            "date", OpenSearchDateType.of("yyyy-MM-dd"));
+
+    Map<String, OpenSearchDataType> decoded =
+        ExpressionCodec.decodeTypes(ExpressionCodec.encodeTypes(types).orElseThrow());
+    assertEquals(types, decoded);
+    assertEquals(MappingType.Object, decoded.get("address").getMappingType());
+    assertEquals(
+        Map.of("city", OpenSearchDataType.of(MappingType.Keyword)),
+        decoded.get("address").getProperties());
+    assertEquals(
+        OpenSearchDataType.traverseAndFlatten(types),
+        OpenSearchDataType.traverseAndFlatten(decoded));
+  }
+
+  @Test
+  void cannot_encode_unsupported_field_types() throws IOException {
+    assertTrue(ExpressionCodec.encodeTypes(Map.of("field", new CustomType())).isEmpty());
+  }
+
+  @Test
+  void cannot_decode_unknown_version_or_tags() {
+    byte[] literal = encode(literal(1));
+    byte[] reference = encode(ref("name", STRING));
+    byte[] parse = encode(DSL.regex(ref("text", STRING), literal("(?<num>\\d+)"), literal("num")));
+
+    assertDecodeFailure("Unsupported expression encoding version 2", replace(literal, 0, 2));
+    assertDecodeFailure("Unknown expression tag 9", replace(literal, 2, 9));
+    assertDecodeFailure("Unknown literal value tag 99", replace(literal, 3, 99));
+    assertDecodeFailure("Unknown type tag 9", replace(reference, 8, 9));
+    assertDecodeFailure("Unknown parse function regey", replace(parse, 8, 'y'));
+
+    byte[] types =
+        ExpressionCodec.encodeTypes(Map.of("name", OpenSearchDataType.of(MappingType.Keyword)))
+            .orElseThrow();
+    IOException exception =
+        assertThrows(IOException.class, () -> ExpressionCodec.decodeTypes(replace(types, 0, 2)));
+    assertEquals("Unsupported type encoding version 2", exception.getMessage());
+  }
+
+  private static Expression roundTrip(Expression expression) throws IOException {
+    return ExpressionCodec.decode(encode(expression));
+  }
+
+  private static byte[] encode(Expression expression) {
+    try {
+      return ExpressionCodec.encode(expression).orElseThrow();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] replace(byte[] bytes, int index, int value) {
+    byte[] replaced = Arrays.copyOf(bytes, bytes.length);
+    replaced[index] = (byte) value;
+    return replaced;
+  }
+
+  private static void assertDecodeFailure(String message, byte[] bytes) {
+    IOException exception = assertThrows(IOException.class, () -> ExpressionCodec.decode(bytes));
+    assertEquals(message, exception.getMessage());
+  }
+
+  /** Type of a mapping type which isn't the one built from the mapping type. */
+  private static class CustomType extends OpenSearchDataType {
+    CustomType() {
+      super(MappingType.Keyword);
+    }
+  }
+}
@@ -59,15 +59,24 @@ import org.opensearch.sql.datasources.service.DataSourceMetadataStorage;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.datasources.storage.OpenSearchDataSourceMetadataStorage;
 import org.opensearch.sql.datasources.transport.*;
+import org.opensearch.sql.executor.pagination.CursorStore;
+import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.OpenSearchCursorStore;
+import org.opensearch.sql.opensearch.executor.cursor.CursorStoreAction;
+import org.opensearch.sql.opensearch.executor.cursor.TransportCursorStoreAction;
+import org.opensearch.sql.opensearch.executor.fragment.PlanFragmentAction;
+import org.opensearch.sql.opensearch.executor.fragment.TransportPlanFragmentAction;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
@@ -108,6 +117,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
   private org.opensearch.sql.common.setting.Settings pluginSettings;
 
   private NodeClient client;
+  private IndexMappingCache indexMappingCache;
+  private OpenSearchCursorStore cursorStore;
   private DataSourceServiceImpl dataSourceService;
   private Injector injector;
 
@@ -181,7 +192,9 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         new ActionHandler<>(
             new ActionType<>(
                 TransportCancelAsyncQueryRequestAction.NAME, CancelAsyncQueryActionResponse::new),
-            TransportCancelAsyncQueryRequestAction.class));
+            TransportCancelAsyncQueryRequestAction.class),
+        new ActionHandler<>(PlanFragmentAction.INSTANCE, TransportPlanFragmentAction.class),
+        new ActionHandler<>(CursorStoreAction.INSTANCE, TransportCursorStoreAction.class));
   }
 
   @Override
@@ -200,6 +213,17 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
     this.client = (NodeClient) client;
+    this.indexMappingCache = 
+        new IndexMappingCache(clusterService::state, indexNameResolver, environment.settings());
+    clusterService.addListener(indexMappingCache);
+    this.cursorStore =
+        new OpenSearchCursorStore(
+            pluginSettings,
+            this.client,
+            () -> clusterService.localNode().getId(),
+            new PlanSerializer(
+                new OpenSearchStorageEngine(
+                    new OpenSearchNodeClient(this.client), pluginSettings, indexMappingCache)));
     this.dataSourceService = createDataSourceService();
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
@@ -212,6 +236,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
           b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
           b.bind(DataSourceService.class).toInstance(dataSourceService);
           b.bind(ClusterService.class).toInstance(clusterService);
+          b.bind(IndexMappingCache.class).toInstance(indexMappingCache);
+          b.bind(CursorStore.class).toInstance(cursorStore);
         });
     modules.add(new AsyncExecutorServiceModule());
     injector = modules.createInjector();
@@ -232,6 +258,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
             injector.getInstance(EMRServerlessClientFactory.class));
     return ImmutableList.of(
         dataSourceService,
+        indexMappingCache,
+        cursorStore,
         injector.getInstance(AsyncQueryExecutorService.class),
         clusterManagerEventListener,
         pluginSettings);
@@ -283,7 +311,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(
                 new OpenSearchDataSourceFactory(
-                    new OpenSearchNodeClient(this.client), pluginSettings))
+                    new OpenSearchNodeClient(this.client), pluginSettings, indexMappingCache))
             .add(new PrometheusStorageFactory(pluginSettings))
             .add(new SparkStorageFactory(this.client, pluginSettings))
             .add(new GlueDataSourceFactory(pluginSettings))
@@ -18,6 +18,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.monitor.ResourceMonitor;
@@ -27,6 +28,7 @@ import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
@@ -53,14 +55,18 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public StorageEngine storageEngine(OpenSearchClient client, Settings settings) {
-    return new OpenSearchStorageEngine(client, settings);
+  public StorageEngine storageEngine(
+      OpenSearchClient client, Settings settings, IndexMappingCache mappingCache) {
+    return new OpenSearchStorageEngine(client, settings, mappingCache);
   }
 
   @Provides
   public ExecutionEngine executionEngine(
-      OpenSearchClient client, ExecutionProtector protector, PlanSerializer planSerializer) {
-    return new OpenSearchExecutionEngine(client, protector, planSerializer);
+      OpenSearchClient client,
+      ExecutionProtector protector,
+      PlanSerializer planSerializer,
+      CursorStore cursorStore) {
+    return new OpenSearchExecutionEngine(client, protector, planSerializer, cursorStore);
   }
 
   @Provides
@@ -69,8 +75,8 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(ResourceMonitor resourceMonitor, Settings settings) {
+    return new OpenSearchExecutionProtector(resourceMonitor, settings);
   }
 
   @Provides
@@ -97,12 +103,14 @@ public class OpenSearchPluginModule extends AbstractModule {
   /** {@link QueryPlanFactory}. */
   @Provides
   public QueryPlanFactory queryPlanFactory(
-      DataSourceService dataSourceService, ExecutionEngine executionEngine) {
+      DataSourceService dataSourceService,
+      ExecutionEngine executionEngine,
+      CursorStore cursorStore) {
     Analyzer analyzer =
         new Analyzer(
             new ExpressionAnalyzer(functionRepository), dataSourceService, functionRepository);
     Planner planner = new Planner(LogicalPlanOptimizer.create());
     QueryService queryService = new QueryService(analyzer, executionEngine, planner);
-    return new QueryPlanFactory(queryService);
+    return new QueryPlanFactory(queryService, cursorStore);
   }
 }